@@ -0,0 +1,36 @@
+package app.meads;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+@Slf4j
+@EnableAsync
+@Configuration(proxyBeanMethods = false)
+class AsyncConfiguration implements AsyncConfigurer {
+
+    private final BeanFactory beanFactory;
+
+    AsyncConfiguration(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> {
+            var async = AnnotatedElementUtils.findMergedAnnotation(method, Async.class);
+            var qualifier = async != null ? async.value() : "";
+            if (!qualifier.isEmpty() && beanFactory.containsBean(qualifier)
+                    && beanFactory.isTypeMatch(qualifier, ListenerExecutor.class)) {
+                beanFactory.getBean(qualifier, ListenerExecutor.class).recordFailure();
+            }
+            log.error("Async listener {}.{} failed", method.getDeclaringClass().getSimpleName(),
+                    method.getName(), ex);
+        };
+    }
+}
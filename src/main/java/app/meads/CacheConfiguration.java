@@ -0,0 +1,29 @@
+package app.meads;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration(proxyBeanMethods = false)
+class CacheConfiguration {
+
+    @Bean
+    CacheManager cacheManager(List<CacheSpec> specs) {
+        var manager = new CaffeineCacheManager();
+        // Static mode: a cache nobody declared is a programming error, not an unbounded map
+        manager.setCacheNames(List.of());
+        manager.setAllowNullValues(false);
+        for (var spec : specs) {
+            manager.registerCustomCache(spec.name(), Caffeine.newBuilder()
+                    .maximumSize(spec.maximumSize())
+                    .expireAfterWrite(spec.timeToLive())
+                    .recordStats()
+                    .build());
+        }
+        return manager;
+    }
+}
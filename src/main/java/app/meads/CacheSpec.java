@@ -0,0 +1,10 @@
+package app.meads;
+
+import java.time.Duration;
+
+/**
+ * Declares a bounded in-memory cache. Modules publish one bean per cache they own;
+ * {@link CacheConfiguration} registers them, and only them, with the cache manager.
+ */
+public record CacheSpec(String name, long maximumSize, Duration timeToLive) {
+}
@@ -0,0 +1,47 @@
+package app.meads;
+
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Read-through and eviction helpers shared by the module caches declared via {@link CacheSpec}.
+ */
+public final class Caches {
+
+    private Caches() {}
+
+    /**
+     * Returns the cached value for {@code key}, loading it on a miss. Runtime exceptions thrown by
+     * the loader (typically {@link BusinessRuleException} for a missing row) reach the caller
+     * unwrapped and nothing is cached.
+     */
+    public static <T> T get(Cache cache, Object key, Supplier<T> loader) {
+        try {
+            return cache.get(key, loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Evicts {@code key} now and again once the surrounding transaction completes, so a reader
+     * racing the writing transaction cannot leave the pre-commit value cached.
+     */
+    public static void evict(Cache cache, Object key) {
+        cache.evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evict(key);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package app.meads;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Runs a scheduled job on at most one application instance at a time. Every instance keeps
+ * its own {@code @Scheduled} trigger (configured per job through properties); when it fires,
+ * the job only runs if this instance wins a Postgres session-level advisory lock keyed by the
+ * job name. The lock lives on a dedicated connection held for the duration of the run, so it
+ * is released even if the instance dies mid-run. Each run that acquires the lock is recorded in
+ * {@code scheduled_job_runs}; losing instances skip silently.
+ * <p>
+ * The lock alone only keeps runs from overlapping: an instance whose trigger fires just after
+ * another instance finished would run the job again. Each job therefore holds a lease of at
+ * least {@code lockAtLeastFor} from the start of its last recorded run, checked under the lock,
+ * during which further triggers are skipped as well.
+ */
+@Slf4j
+@Component
+public class ClusterJobRunner {
+
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(hashtextextended(?, 0))";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(hashtextextended(?, 0))";
+
+    private static final String LEASE_HELD_SQL = """
+            SELECT EXISTS (SELECT 1 FROM scheduled_job_runs WHERE job_name = ? AND started_at > ?)""";
+    private static final String INSERT_RUN_SQL = """
+            INSERT INTO scheduled_job_runs (id, job_name, instance_id, status, started_at)
+            VALUES (?, ?, ?, 'RUNNING', ?)""";
+    private static final String FINISH_RUN_SQL = """
+            UPDATE scheduled_job_runs
+            SET status = ?, finished_at = ?, duration_ms = ?, error = ?
+            WHERE id = ?""";
+    private static final String PRUNE_RUNS_SQL = """
+            DELETE FROM scheduled_job_runs WHERE job_name = ? AND started_at < ?""";
+    private static final String RECENT_RUNS_SQL = """
+            SELECT id, job_name, instance_id, status, started_at, finished_at, duration_ms, error
+            FROM scheduled_job_runs
+            WHERE job_name = ?
+            ORDER BY started_at DESC, id DESC
+            LIMIT ?""";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId;
+    private final Duration historyRetention;
+
+    @Autowired
+    ClusterJobRunner(DataSource dataSource,
+                     @Value("${app.jobs.history-retention:P30D}") Duration historyRetention) {
+        this(dataSource, ManagementFactory.getRuntimeMXBean().getName(), historyRetention);
+    }
+
+    ClusterJobRunner(DataSource dataSource, String instanceId, Duration historyRetention) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.instanceId = instanceId;
+        this.historyRetention = historyRetention;
+    }
+
+    /**
+     * Runs {@code job} if no other instance is currently running a job of the same name and no
+     * run of it started within the last {@code lockAtLeastFor}. Pick a lease shorter than the
+     * trigger interval but longer than the clock skew between instances. A failing job is
+     * recorded and logged, not rethrown.
+     *
+     * @return {@code true} if this instance ran the job
+     */
+    public boolean run(String jobName, Duration lockAtLeastFor, Runnable job) {
+        try (var lockConnection = dataSource.getConnection()) {
+            if (!advisoryLock(lockConnection, TRY_LOCK_SQL, jobName)) {
+                log.debug("Skipping job {}: running on another instance", jobName);
+                return false;
+            }
+            try {
+                if (leaseHeld(jobName, lockAtLeastFor)) {
+                    log.debug("Skipping job {}: already ran within {}", jobName, lockAtLeastFor);
+                    return false;
+                }
+                execute(jobName, job);
+                return true;
+            } finally {
+                unlock(lockConnection, jobName);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Advisory lock for job " + jobName + " failed", e);
+        }
+    }
+
+    public List<JobRun> findRecentRuns(String jobName, int limit) {
+        return jdbcTemplate.query(RECENT_RUNS_SQL, (rs, rowNum) -> {
+            var finishedAt = rs.getTimestamp("finished_at");
+            var durationMs = rs.getObject("duration_ms", Long.class);
+            return new JobRun(rs.getObject("id", UUID.class), rs.getString("job_name"),
+                    rs.getString("instance_id"), JobRun.Status.valueOf(rs.getString("status")),
+                    rs.getTimestamp("started_at").toInstant(),
+                    finishedAt != null ? finishedAt.toInstant() : null,
+                    durationMs != null ? Duration.ofMillis(durationMs) : null,
+                    rs.getString("error"));
+        }, jobName, limit);
+    }
+
+    private void execute(String jobName, Runnable job) {
+        var runId = UuidV7.randomUUID();
+        var startedAt = Instant.now();
+        jdbcTemplate.update(INSERT_RUN_SQL, runId, jobName, instanceId, Timestamp.from(startedAt));
+        var status = JobRun.Status.SUCCEEDED;
+        String error = null;
+        try {
+            job.run();
+        } catch (RuntimeException e) {
+            status = JobRun.Status.FAILED;
+            error = e.toString();
+            log.error("Job {} failed", jobName, e);
+        }
+        var finishedAt = Instant.now();
+        var duration = Duration.between(startedAt, finishedAt);
+        jdbcTemplate.update(FINISH_RUN_SQL, status.name(), Timestamp.from(finishedAt),
+                duration.toMillis(), error, runId);
+        jdbcTemplate.update(PRUNE_RUNS_SQL, jobName, Timestamp.from(startedAt.minus(historyRetention)));
+        log.info("Job {} {} in {} ms", jobName, status, duration.toMillis());
+    }
+
+    private boolean leaseHeld(String jobName, Duration lockAtLeastFor) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(LEASE_HELD_SQL, Boolean.class,
+                jobName, Timestamp.from(Instant.now().minus(lockAtLeastFor))));
+    }
+
+    /**
+     * Releases the lock, or, if that fails, takes the connection out of the pool: returned as is,
+     * it would keep the session and its lock alive for whoever borrows it next.
+     */
+    private void unlock(Connection lockConnection, String jobName) {
+        try {
+            advisoryLock(lockConnection, UNLOCK_SQL, jobName);
+        } catch (SQLException e) {
+            log.warn("Releasing lock for job {} failed; discarding its connection", jobName, e);
+            discard(lockConnection);
+        }
+    }
+
+    private void discard(Connection connection) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+            } else {
+                connection.abort(Runnable::run);
+            }
+        } catch (SQLException e) {
+            log.warn("Discarding connection failed", e);
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql, String jobName)
+            throws SQLException {
+        try (var statement = connection.prepareStatement(sql)) {
+            statement.setString(1, jobName);
+            try (var rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package app.meads;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Reads an uploaded CSV file one record at a time, keyed by the (case-insensitive) header row.
+ * Accepts RFC 4180 quoting, an optional UTF-8 byte order mark and either comma or semicolon
+ * separators — spreadsheet applications in Portuguese and most European locales save with
+ * semicolons. Blank lines are skipped; line numbers refer to the file, header included.
+ */
+public final class CsvImport implements Closeable {
+
+    /** Upper bound on data rows per file, so one upload cannot hold a transaction for minutes. */
+    public static final int MAX_ROWS = 5000;
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private static final int HEADER_LOOKAHEAD = 8192;
+
+    private final BufferedReader reader;
+    private final char separator;
+    private final List<String> header;
+    private int line;
+    private int recordLine;
+    private int rows;
+    private int pending = -2;
+
+    public record Row(int line, Map<String, String> values) {
+
+        /**
+         * @return the stripped cell value, or an empty string when the column is absent or blank
+         */
+        public String get(String column) {
+            var value = values.get(column);
+            return value == null ? "" : value.strip();
+        }
+    }
+
+    private CsvImport(BufferedReader reader, List<String> requiredColumns) {
+        this.reader = reader;
+        this.separator = detectSeparator(reader);
+        var first = readRecord();
+        if (first == null) {
+            throw new BusinessRuleException("error.import.empty");
+        }
+        this.header = first.stream().map(column -> column.strip().toLowerCase(Locale.ROOT)).toList();
+        for (var column : requiredColumns) {
+            if (!header.contains(column)) {
+                throw new BusinessRuleException("error.import.missing-column", column);
+            }
+        }
+    }
+
+    /**
+     * Opens a UTF-8 CSV stream and checks that the header names every required column.
+     *
+     * @throws BusinessRuleException {@code error.import.empty} or {@code error.import.missing-column}
+     */
+    public static CsvImport open(InputStream in, String... requiredColumns) {
+        return new CsvImport(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)),
+                List.of(requiredColumns));
+    }
+
+    public static boolean isEmail(String value) {
+        return value != null && value.length() <= 255 && EMAIL.matcher(value).matches();
+    }
+
+    /**
+     * @return the next non-blank record, or {@code null} at the end of the file
+     * @throws BusinessRuleException {@code error.import.too-many-rows} past {@link #MAX_ROWS}
+     */
+    public Row next() {
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.stream().allMatch(String::isBlank));
+        if (++rows > MAX_ROWS) {
+            throw new BusinessRuleException("error.import.too-many-rows", MAX_ROWS);
+        }
+        var values = new HashMap<String, String>();
+        for (int i = 0; i < header.size() && i < record.size(); i++) {
+            values.putIfAbsent(header.get(i), record.get(i));
+        }
+        return new Row(recordLine, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static char detectSeparator(BufferedReader reader) {
+        try {
+            reader.mark(HEADER_LOOKAHEAD);
+            var firstLine = reader.readLine();
+            reader.reset();
+            return firstLine != null && firstLine.indexOf(';') >= 0 && firstLine.indexOf(',') < 0 ? ';' : ',';
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> readRecord() {
+        try {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = ++line;
+            if (c == '\uFEFF' && line == 1) {
+                c = read();
+            }
+            var fields = new ArrayList<String>();
+            var field = new StringBuilder();
+            boolean inQuotes = false;
+            while (c != -1) {
+                if (inQuotes) {
+                    if (c == '"') {
+                        int next = read();
+                        if (next != '"') {
+                            inQuotes = false;
+                            c = next;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.isEmpty()) {
+                    inQuotes = true;
+                } else if (c == separator) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n') {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') {
+                            pending = next;
+                        }
+                    }
+                    break;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+            fields.add(field.toString());
+            return fields;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,107 @@
+package app.meads;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.UUID;
+
+/**
+ * Turns sequence numbers into short, unpredictable-looking codes over
+ * {@link #ALPHABET}. A keyed Feistel network permutes the full code space
+ * ({@code 32^length} values), so distinct sequence numbers always give distinct codes —
+ * no database probes and no retries. An optional scope (e.g. a division id) tweaks the
+ * permutation so each scope gets its own ordering.
+ *
+ * <p>The key is derived from a configured secret. Changing the secret changes which
+ * codes future sequence numbers map to, so it should stay stable once codes are issued.
+ */
+public final class FeistelCodes {
+
+    public static final String ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+
+    private static final int BITS_PER_CHAR = 5;
+    private static final int ROUNDS = 6;
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final int length;
+    private final int halfBits;
+    private final long halfMask;
+
+    public FeistelCodes(String secret, String purpose, int length) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("Code secret must not be blank");
+        }
+        if (length <= 0 || length % 2 != 0 || length > 12) {
+            throw new IllegalArgumentException("Code length must be even and at most 12");
+        }
+        this.key = new SecretKeySpec(
+                hmac(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM),
+                        purpose.getBytes(StandardCharsets.UTF_8)),
+                ALGORITHM);
+        this.length = length;
+        this.halfBits = length * BITS_PER_CHAR / 2;
+        this.halfMask = (1L << halfBits) - 1;
+    }
+
+    public long capacity() {
+        return 1L << (2 * halfBits);
+    }
+
+    public String encode(long sequence, UUID scope) {
+        if (sequence < 0 || sequence >= capacity()) {
+            throw new IllegalArgumentException("Sequence " + sequence + " outside code space");
+        }
+        var mac = newMac();
+        long left = sequence >>> halfBits;
+        long right = sequence & halfMask;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ roundFunction(mac, scope, round, right);
+            left = right;
+            right = next;
+        }
+        return toCode((left << halfBits) | right);
+    }
+
+    private long roundFunction(Mac mac, UUID scope, int round, long value) {
+        var input = ByteBuffer.allocate(25);
+        if (scope != null) {
+            input.putLong(scope.getMostSignificantBits()).putLong(scope.getLeastSignificantBits());
+        } else {
+            input.putLong(0).putLong(0);
+        }
+        input.put((byte) round).putLong(value);
+        return ByteBuffer.wrap(mac.doFinal(input.array())).getLong() & halfMask;
+    }
+
+    private String toCode(long value) {
+        var chars = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt((int) (value & 0x1F));
+            value >>>= BITS_PER_CHAR;
+        }
+        return new String(chars);
+    }
+
+    private Mac newMac() {
+        try {
+            var mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        }
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] data) {
+        try {
+            var mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package app.meads;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.Paragraph;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.notification.NotificationVariant;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.server.streams.UploadHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ * Upload, preview and confirm steps of a bulk CSV import. The preview runs the import as a dry
+ * run and lists its {@link ImportReport} problems; the import button only commits the exact
+ * bytes that were previewed, even if another file is uploaded in between.
+ *
+ * <p>Texts are read from {@code <keyPrefix>.title}, {@code .instructions}, {@code .preview},
+ * {@code .button}, {@code .file.error} and {@code .column.line|email|problem}; component ids
+ * are {@code <idPrefix>-summary}, {@code -problems}, {@code -preview} and {@code -apply}.
+ */
+public class ImportDialog extends Dialog {
+
+    private final SerializableFunction<InputStream, ImportReport> commit;
+    private final SerializableConsumer<ImportReport> onImported;
+    private final Span summary = new Span();
+    private final Grid<ImportReport.Problem> problemsGrid = new Grid<>();
+    private final Button importButton;
+    private byte[] uploaded;
+    private byte[] previewed;
+
+    /**
+     * @param preview     runs the import as a dry run
+     * @param summaryText describes a previewed report
+     * @param commit      runs the import for real
+     * @param onImported  called with the applied report once the dialog has closed
+     */
+    public ImportDialog(String keyPrefix, String idPrefix,
+                        SerializableFunction<InputStream, ImportReport> preview,
+                        SerializableFunction<ImportReport, String> summaryText,
+                        SerializableFunction<InputStream, ImportReport> commit,
+                        SerializableConsumer<ImportReport> onImported) {
+        this.commit = commit;
+        this.onImported = onImported;
+        setHeaderTitle(getTranslation(keyPrefix + ".title"));
+        setWidth("640px");
+
+        var instructions = new Paragraph(getTranslation(keyPrefix + ".instructions"));
+
+        var upload = new Upload(UploadHandler.inMemory((metadata, data) -> uploaded = data));
+        upload.setMaxFiles(1);
+        upload.setMaxFileSize(1024 * 1024);
+        upload.setAcceptedFileTypes("text/csv", ".csv");
+        upload.addFileRejectedListener(e ->
+                Notification.show(e.getErrorMessage())
+                        .addThemeVariants(NotificationVariant.LUMO_ERROR));
+
+        summary.setId(idPrefix + "-summary");
+        problemsGrid.setId(idPrefix + "-problems");
+        problemsGrid.addColumn(ImportReport.Problem::line)
+                .setHeader(getTranslation(keyPrefix + ".column.line")).setAutoWidth(true);
+        problemsGrid.addColumn(ImportReport.Problem::email)
+                .setHeader(getTranslation(keyPrefix + ".column.email")).setFlexGrow(2);
+        problemsGrid.addColumn(problem -> getTranslation(problem.messageKey(), problem.params().toArray()))
+                .setHeader(getTranslation(keyPrefix + ".column.problem")).setFlexGrow(3);
+        problemsGrid.setAllRowsVisible(true);
+        problemsGrid.setVisible(false);
+
+        importButton = new Button(getTranslation(keyPrefix + ".button"), e -> applyImport());
+        importButton.setId(idPrefix + "-apply");
+        importButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+        importButton.setEnabled(false);
+
+        var previewButton = new Button(getTranslation(keyPrefix + ".preview"), e -> {
+            if (uploaded == null) {
+                Notification.show(getTranslation(keyPrefix + ".file.error"));
+                return;
+            }
+            try {
+                previewed = uploaded;
+                var report = preview.apply(new ByteArrayInputStream(previewed));
+                summary.setText(summaryText.apply(report));
+                problemsGrid.setItems(report.problems());
+                problemsGrid.setVisible(report.hasProblems());
+                importButton.setEnabled(!report.hasProblems() && report.changes() > 0);
+            } catch (BusinessRuleException ex) {
+                Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
+            }
+        });
+        previewButton.setId(idPrefix + "-preview");
+
+        var cancelButton = new Button(getTranslation("button.cancel"), e -> close());
+
+        var content = new VerticalLayout(instructions, upload, summary, problemsGrid);
+        content.setPadding(false);
+        add(content);
+        getFooter().add(cancelButton, previewButton, importButton);
+    }
+
+    private void applyImport() {
+        try {
+            var report = commit.apply(new ByteArrayInputStream(previewed));
+            if (!report.applied()) {
+                // Something changed since the preview
+                problemsGrid.setItems(report.problems());
+                problemsGrid.setVisible(true);
+                importButton.setEnabled(false);
+                return;
+            }
+            close();
+            onImported.accept(report);
+        } catch (BusinessRuleException ex) {
+            Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
+        }
+    }
+}
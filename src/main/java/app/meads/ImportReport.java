@@ -0,0 +1,36 @@
+package app.meads;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk CSV import. Every row is validated before anything is written: with any
+ * problem, or on a dry run, nothing is applied and the report is a preview of what would happen.
+ *
+ * @param rows      data rows read from the file
+ * @param newUsers  distinct emails without an account yet (created as pending users)
+ * @param changes   rows that add something (a role, a credit grant)
+ * @param unchanged rows that are already in place and are skipped
+ * @param applied   whether the changes were written
+ */
+public record ImportReport(int rows, int newUsers, int changes, int unchanged,
+                           List<Problem> problems, boolean applied) {
+
+    /**
+     * A row that blocks the import, with a message key and parameters like
+     * {@link BusinessRuleException}.
+     */
+    public record Problem(int line, String email, String messageKey, List<Object> params) {
+
+        public Problem {
+            params = List.copyOf(params);
+        }
+    }
+
+    public ImportReport {
+        problems = List.copyOf(problems);
+    }
+
+    public boolean hasProblems() {
+        return !problems.isEmpty();
+    }
+}
@@ -0,0 +1,19 @@
+package app.meads;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One recorded execution of a cluster-wide scheduled job.
+ *
+ * @param finishedAt {@code null} while the run is still in progress
+ * @param duration   {@code null} while the run is still in progress
+ */
+public record JobRun(UUID id, String jobName, String instanceId, Status status,
+                     Instant startedAt, Instant finishedAt, Duration duration, String error) {
+
+    public enum Status {
+        RUNNING, SUCCEEDED, FAILED
+    }
+}
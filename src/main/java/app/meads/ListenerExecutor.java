@@ -0,0 +1,164 @@
+package app.meads;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executes the async invocations of one module listener on virtual threads. A fair semaphore
+ * caps how many invocations run at once; invocations waiting for a permit form a queue bounded
+ * by {@code queueCapacity}. Submissions beyond that are rejected, which leaves the event
+ * publication incomplete in the registry so it is picked up again on resubmission instead of
+ * piling up in memory.
+ *
+ * <p>Listeners select their executor with {@code @Async("<bean name>")} next to
+ * {@code @ApplicationModuleListener}, so a slow mail server only delays its own listeners.
+ *
+ * <p>As a {@link MeterBinder} bean, each executor publishes its counters as
+ * {@code meads.listener.*} meters tagged with the listener name, with the lag and run time of
+ * every invocation recorded as timers.
+ */
+@Slf4j
+public class ListenerExecutor implements TaskExecutor, MeterBinder {
+
+    private final String name;
+    private final int concurrency;
+    private final int queueCapacity;
+    private final Semaphore permits;
+    private final ThreadFactory threadFactory;
+
+    // Submitted and not yet finished, whether running or waiting for a permit
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalLagNanos = new LongAdder();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+
+    // Set once bound to a registry
+    private volatile Timer lagTimer;
+    private volatile Timer durationTimer;
+
+    public ListenerExecutor(String name, int concurrency, int queueCapacity) {
+        if (concurrency < 1 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Listener " + name
+                    + " needs concurrency >= 1 and queue capacity >= 0");
+        }
+        this.name = name;
+        this.concurrency = concurrency;
+        this.queueCapacity = queueCapacity;
+        this.permits = new Semaphore(concurrency, true);
+        this.threadFactory = Thread.ofVirtual().name("listener-" + name + "-", 0).factory();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (inFlight.incrementAndGet() > concurrency + queueCapacity) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            log.warn("Rejected invocation of listener {}: {} running, queue of {} full",
+                    name, active.get(), queueCapacity);
+            throw new TaskRejectedException("Listener " + name + " is saturated");
+        }
+        long submittedAt = System.nanoTime();
+        threadFactory.newThread(() -> run(task, submittedAt)).start();
+    }
+
+    private void run(Runnable task, long submittedAt) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        active.incrementAndGet();
+        long startedAt = System.nanoTime();
+        long lag = startedAt - submittedAt;
+        totalLagNanos.add(lag);
+        maxLagNanos.accumulateAndGet(lag, Math::max);
+        var lagTimer = this.lagTimer;
+        if (lagTimer != null) {
+            lagTimer.record(lag, TimeUnit.NANOSECONDS);
+        }
+        try {
+            task.run();
+        } finally {
+            var durationTimer = this.durationTimer;
+            if (durationTimer != null) {
+                durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+            active.decrementAndGet();
+            inFlight.decrementAndGet();
+            processed.increment();
+            permits.release();
+        }
+    }
+
+    /**
+     * Counts a failed invocation. The async interceptor catches listener exceptions before they
+     * reach the executor, so failures are reported back by the uncaught exception handler.
+     */
+    public void recordFailure() {
+        failed.increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        var tags = Tags.of("listener", name);
+        Gauge.builder("meads.listener.active", active, AtomicInteger::get)
+                .tags(tags).description("Listener invocations running").register(registry);
+        Gauge.builder("meads.listener.waiting", this, executor -> executor.stats().waiting())
+                .tags(tags).description("Listener invocations waiting for a permit").register(registry);
+        FunctionCounter.builder("meads.listener.processed", processed, LongAdder::sum)
+                .tags(tags).description("Listener invocations that ran").register(registry);
+        FunctionCounter.builder("meads.listener.failed", failed, LongAdder::sum)
+                .tags(tags).description("Listener invocations that threw").register(registry);
+        FunctionCounter.builder("meads.listener.rejected", rejected, LongAdder::sum)
+                .tags(tags).description("Listener invocations rejected with a full queue").register(registry);
+        lagTimer = Timer.builder("meads.listener.lag")
+                .tags(tags).description("Time from submission to start of a listener invocation")
+                .register(registry);
+        durationTimer = Timer.builder("meads.listener.duration")
+                .tags(tags).description("Run time of a listener invocation").register(registry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Stats stats() {
+        long count = processed.sum();
+        int running = active.get();
+        return new Stats(name, running, Math.max(0, inFlight.get() - running), count,
+                failed.sum(), rejected.sum(),
+                Duration.ofNanos(count == 0 ? 0 : totalLagNanos.sum() / count),
+                Duration.ofNanos(maxLagNanos.get()));
+    }
+
+    /**
+     * Point-in-time counters for one listener.
+     *
+     * @param processed  invocations that ran to completion or failure
+     * @param averageLag mean time between submission and start of execution
+     */
+    public record Stats(String name, int active, int waiting, long processed, long failed,
+                        long rejected, Duration averageLag, Duration maxLag) {
+    }
+}
@@ -1,12 +1,14 @@
 package app.meads;
 
 import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 import com.vaadin.flow.theme.Theme;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
 @Theme("meads")
+@Push
 public class MeadsApplication implements AppShellConfigurator {
 
     public static void main(String[] args) {
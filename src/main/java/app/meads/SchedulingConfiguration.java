@@ -0,0 +1,9 @@
+package app.meads;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@EnableScheduling
+@Configuration(proxyBeanMethods = false)
+class SchedulingConfiguration {
+}
@@ -0,0 +1,127 @@
+package app.meads;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a {@link Scope} is
+ * open, grouped by statement shape. Registered through
+ * {@code hibernate.session_factory.statement_inspector}, so it sees every repository and JPQL
+ * query but not {@code JdbcTemplate} statements, which are the set-based batch writers anyway.
+ * Threads without an open scope pay a thread-local lookup per statement.
+ *
+ * <p>The query budget opens a scope around each web and Vaadin request; tests open one around a
+ * service call to pin how many statements it issues.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final Pattern COMMENTS = Pattern.compile("/\\*.*?\\*/");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(?:,\\s*\\?)+\\)");
+
+    /**
+     * Starts counting the statements of the current thread until the returned scope is closed.
+     * Statements of a nested scope count towards the enclosing ones too.
+     */
+    public static Scope open() {
+        var scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Reduces {@code sql} to its shape: comments dropped, whitespace collapsed and parameter
+     * lists of any length written as {@code (?...)}, so the same query for other ids or batch
+     * sizes counts as a repeat.
+     */
+    public static String shape(String sql) {
+        var shape = COMMENTS.matcher(sql).replaceAll(" ");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return PARAMETER_LIST.matcher(shape).replaceAll("(?...)");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        for (var scope = CURRENT.get(); scope != null; scope = scope.outer) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Statements counted on one thread between {@link #open()} and {@link #close()}.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        /**
+         * A statement shape and how often it was issued.
+         */
+        public record Shape(String sql, int count) {}
+
+        private final Scope outer;
+        private final long startNanos = System.nanoTime();
+        private final Map<String, Integer> shapes = new LinkedHashMap<>();
+        private int count;
+        private long endNanos;
+
+        private Scope(Scope outer) {
+            this.outer = outer;
+        }
+
+        private void record(String sql) {
+            count++;
+            shapes.merge(shape(sql), 1, Integer::sum);
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Returns how often each statement shape was issued, in order of first use.
+         */
+        public Map<String, Integer> shapes() {
+            return Collections.unmodifiableMap(shapes);
+        }
+
+        /**
+         * Returns the shape issued most often, or {@code null} when nothing was issued.
+         */
+        public Shape mostRepeated() {
+            Shape top = null;
+            for (var shape : shapes.entrySet()) {
+                if (top == null || shape.getValue() > top.count()) {
+                    top = new Shape(shape.getKey(), shape.getValue());
+                }
+            }
+            return top;
+        }
+
+        /**
+         * Returns the time from opening the scope until it was closed, or until now while open.
+         */
+        public Duration elapsed() {
+            return Duration.ofNanos((endNanos != 0 ? endNanos : System.nanoTime()) - startNanos);
+        }
+
+        @Override
+        public void close() {
+            if (endNanos == 0) {
+                endNanos = System.nanoTime();
+            }
+            if (CURRENT.get() == this) {
+                if (outer == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(outer);
+                }
+            }
+        }
+    }
+}
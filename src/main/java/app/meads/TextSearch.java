@@ -0,0 +1,36 @@
+package app.meads;
+
+import java.util.Locale;
+
+/**
+ * Turns the free-text filters of the admin grids into parameters for the search queries: a
+ * {@code LIKE} pattern matching the text anywhere, served by the {@code pg_trgm} indexes, and
+ * the trimmed text used to rank matches with {@code word_similarity}.
+ */
+public final class TextSearch {
+
+    private TextSearch() {}
+
+    /**
+     * Returns the trimmed, lower-cased filter, or an empty string when there is none.
+     */
+    public static String normalize(String filter) {
+        return filter == null ? "" : filter.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns a pattern matching values that contain {@code filter}, or {@code %} when it is
+     * blank. {@code LIKE} wildcards typed by the user are escaped.
+     */
+    public static String likePattern(String filter) {
+        var text = normalize(filter);
+        if (text.isEmpty()) {
+            return "%";
+        }
+        var escaped = text
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,50 @@
+package app.meads;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUID version 7 (RFC 9562) identifiers for entity primary keys.
+ * New ids sort after earlier ones, so inserts land at the right edge of B-tree indexes
+ * instead of scattering across them the way random version 4 ids do.
+ *
+ * <p>Layout: 48-bit Unix millisecond timestamp, version, 12-bit counter that keeps ids
+ * strictly increasing within the same millisecond (and across small clock regressions),
+ * variant, then 62 random bits.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+
+    // Last issued (timestamp << COUNTER_BITS | counter)
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {}
+
+    public static UUID randomUUID() {
+        long next;
+        long prev;
+        do {
+            prev = LAST.get();
+            next = Math.max(System.currentTimeMillis() << COUNTER_BITS, prev + 1);
+        } while (!LAST.compareAndSet(prev, next));
+        return build(next >>> COUNTER_BITS, next & ((1 << COUNTER_BITS) - 1), RANDOM.nextLong());
+    }
+
+    static UUID build(long timestampMillis, long counter, long random) {
+        long msb = (timestampMillis & 0xFFFF_FFFF_FFFFL) << 16
+                | 0x7000L
+                | (counter & 0x0FFFL);
+        long lsb = (random & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
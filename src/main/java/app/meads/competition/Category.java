@@ -1,5 +1,6 @@
 package app.meads.competition;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -33,7 +34,7 @@ public class Category {
 
     public Category(String code, String name, String description,
                     ScoringSystem scoringSystem, String parentCode) {
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.code = code;
         this.name = name;
         this.description = description;
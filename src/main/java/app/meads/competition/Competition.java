@@ -1,10 +1,14 @@
 package app.meads.competition;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.HexFormat;
 import java.util.Set;
 import java.util.UUID;
 
@@ -34,13 +38,12 @@ public class Competition {
 
     private String location;
 
-    @Basic(fetch = FetchType.LAZY)
-    @Column(length = 524288)
-    private byte[] logo;
-
     @Column(name = "logo_content_type", length = 100)
     private String logoContentType;
 
+    @Column(name = "logo_hash", length = 64)
+    private String logoHash;
+
     @Column(name = "contact_email")
     private String contactEmail;
 
@@ -63,7 +66,7 @@ public class Competition {
     public Competition(String name, String shortName, LocalDate startDate, LocalDate endDate, String location) {
         validateDateOrdering(startDate, endDate);
         validateShortName(shortName);
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.name = name;
         this.shortName = shortName;
         this.startDate = startDate;
@@ -106,8 +109,8 @@ public class Competition {
 
     public void updateLogo(byte[] logo, String contentType) {
         if (logo == null) {
-            this.logo = null;
             this.logoContentType = null;
+            this.logoHash = null;
             return;
         }
         if (logo.length > MAX_LOGO_SIZE) {
@@ -116,12 +119,31 @@ public class Competition {
         if (!ALLOWED_CONTENT_TYPES.contains(contentType)) {
             throw new IllegalArgumentException("Logo content type must be image/png or image/jpeg");
         }
-        this.logo = logo;
         this.logoContentType = contentType;
+        this.logoHash = sha256Hex(logo);
     }
 
     public boolean hasLogo() {
-        return logo != null;
+        return logoHash != null;
+    }
+
+    /**
+     * Relative URL of the header-sized logo. The hash makes the URL change whenever
+     * the logo does, so browsers can cache it indefinitely.
+     */
+    public String getLogoUrl() {
+        if (logoHash == null) {
+            return null;
+        }
+        return "competition-logos/" + id + "?v=" + logoHash;
+    }
+
+    static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     public void updateContactEmail(String contactEmail) {
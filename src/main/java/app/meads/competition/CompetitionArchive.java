@@ -0,0 +1,22 @@
+package app.meads.competition;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A competition moved out of the database into an archive file.
+ *
+ * @param rows       rows written to the archive, across all tables
+ * @param restoredAt {@code null} unless the archive was restored
+ */
+public record CompetitionArchive(UUID id, UUID competitionId, String shortName, String name,
+                                 String fileName, long sizeBytes, String sha256, long rows,
+                                 Status status, Instant archivedAt, Instant restoredAt) {
+
+    public enum Status {
+        /** The archive file is written and its rows are being deleted. */
+        PURGING,
+        ARCHIVED,
+        RESTORED
+    }
+}
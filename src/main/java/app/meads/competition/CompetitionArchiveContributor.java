@@ -0,0 +1,45 @@
+package app.meads.competition;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Extension interface for competition archiving.
+ * Modules that own rows tied to a competition (e.g., entries, credits, orders)
+ * implement this so that archiving a finished competition moves their rows into the
+ * archive file too, and restoring it puts them back.
+ */
+public interface CompetitionArchiveContributor {
+
+    /**
+     * A table whose rows belong to one competition.
+     *
+     * @param name      table name
+     * @param keyColumn UUID column identifying a row, used to purge exactly the archived rows
+     * @param scope     SQL condition on the table selecting the competition's rows, with a
+     *                  {@code :competitionId} parameter; outer columns are qualified by the
+     *                  table name
+     * @param orderBy   SQL ordering of the exported rows, so restoring them in file order
+     *                  satisfies any reference of the table to itself
+     */
+    record Table(String name, String keyColumn, String scope, String orderBy) {
+
+        public Table(String name, String keyColumn, String scope) {
+            this(name, keyColumn, scope, keyColumn);
+        }
+    }
+
+    /**
+     * Tables in insertion order: a table referencing another comes after it. They are purged
+     * in reverse order, after the competition module's own tables are archived and before they
+     * are purged.
+     */
+    List<Table> archivedTables();
+
+    /**
+     * Called before a competition is archived. Throw {@link app.meads.BusinessRuleException}
+     * to block it, e.g. when rows are shared with another competition.
+     */
+    default void checkArchiveAllowed(UUID competitionId) {
+    }
+}
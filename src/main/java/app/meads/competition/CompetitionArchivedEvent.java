@@ -0,0 +1,15 @@
+package app.meads.competition;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A competition and all its divisions were archived ({@code restored == false}) or restored
+ * from an archive. Published outside a transaction, so only plain {@code @EventListener}s see it.
+ */
+public record CompetitionArchivedEvent(UUID competitionId, List<UUID> divisionIds, boolean restored) {
+
+    public CompetitionArchivedEvent {
+        divisionIds = List.copyOf(divisionIds);
+    }
+}
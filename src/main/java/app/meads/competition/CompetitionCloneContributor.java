@@ -0,0 +1,17 @@
+package app.meads.competition;
+
+import java.util.UUID;
+
+/**
+ * Extension interface for cloning a competition.
+ * Modules that own configuration tied to divisions (e.g., product mappings) implement this
+ * so that cloning a competition for its next edition copies their configuration too.
+ */
+public interface CompetitionCloneContributor {
+
+    /**
+     * Called in the cloning transaction, once the target competition and its divisions exist.
+     * Each source division's copy is the target division with the same short name.
+     */
+    void copyConfiguration(UUID sourceCompetitionId, UUID targetCompetitionId);
+}
@@ -1,5 +1,6 @@
 package app.meads.competition;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -27,13 +28,15 @@ public class CompetitionDocument {
     @Column(nullable = false)
     private DocumentType type;
 
-    @Basic(fetch = FetchType.LAZY)
-    @Column(length = 10485760)
-    private byte[] data;
-
     @Column(name = "content_type", length = 100)
     private String contentType;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
     private String url;
 
     @Column(length = 5)
@@ -53,11 +56,14 @@ public class CompetitionDocument {
                                 byte[] data, String contentType, String url,
                                 int displayOrder, String language) {
         validateName(name);
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.competitionId = competitionId;
         this.name = name;
         this.type = type;
-        this.data = data;
+        if (data != null) {
+            this.contentHash = Competition.sha256Hex(data);
+            this.sizeBytes = (long) data.length;
+        }
         this.contentType = contentType;
         this.url = url;
         this.displayOrder = displayOrder;
@@ -89,6 +95,13 @@ public class CompetitionDocument {
                 null, null, url, displayOrder, language);
     }
 
+    /**
+     * Relative URL that streams a PDF document's bytes, or {@code null} for links.
+     */
+    public String getDownloadUrl() {
+        return type == DocumentType.PDF ? "competition-documents/" + id : null;
+    }
+
     public void updateName(String name) {
         validateName(name);
         this.name = name;
@@ -0,0 +1,71 @@
+package app.meads.competition;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Logo bytes for a competition, kept out of the {@code competitions} row so that loading
+ * a {@link Competition} never drags the image along. Holds the uploaded original plus a
+ * downscaled variant sized for page headers.
+ */
+@Entity
+@Table(name = "competition_logos")
+@Getter
+public class CompetitionLogo {
+
+    @Id
+    @Column(name = "competition_id")
+    private UUID competitionId;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private byte[] data;
+
+    @Column(name = "header_content_type", nullable = false, length = 100)
+    private String headerContentType;
+
+    @Column(name = "header_data", nullable = false)
+    private byte[] headerData;
+
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    protected CompetitionLogo() {} // JPA
+
+    public CompetitionLogo(UUID competitionId, byte[] data, String contentType,
+                           byte[] headerData, String headerContentType) {
+        this.competitionId = competitionId;
+        replace(data, contentType, headerData, headerContentType);
+    }
+
+    public void replace(byte[] data, String contentType, byte[] headerData, String headerContentType) {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("Logo data must not be empty");
+        }
+        this.data = data;
+        this.contentType = contentType;
+        this.headerData = headerData != null ? headerData : data;
+        this.headerContentType = headerData != null ? headerContentType : contentType;
+        this.hash = Competition.sha256Hex(data);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = Instant.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = Instant.now();
+    }
+}
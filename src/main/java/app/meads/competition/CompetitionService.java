@@ -1,6 +1,9 @@
 package app.meads.competition;
 
 import app.meads.BusinessRuleException;
+import app.meads.CsvImport;
+import app.meads.ImportReport;
+import app.meads.TextSearch;
 import app.meads.competition.internal.*;
 import app.meads.identity.Role;
 import app.meads.identity.UserService;
@@ -9,19 +12,33 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
-import java.security.SecureRandom;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -34,9 +51,7 @@ import java.util.stream.Collectors;
 @Validated
 public class CompetitionService {
 
-    private static final String ACCESS_CODE_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
-    private static final int ACCESS_CODE_LENGTH = 8;
-    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Set<CompetitionRole> COMBINABLE_ROLES = Set.of(CompetitionRole.JUDGE, CompetitionRole.ENTRANT);
 
     private final CompetitionRepository competitionRepository;
     private final DivisionRepository divisionRepository;
@@ -47,10 +62,19 @@ public class CompetitionService {
     private final UserService userService;
     private final ApplicationEventPublisher eventPublisher;
     private final CompetitionDocumentRepository competitionDocumentRepository;
+    private final CompetitionLogoRepository competitionLogoRepository;
+    private final DocumentContent documentContent;
+    private final AccessCodeAllocator accessCodeAllocator;
+    private final ParticipantBatchWriter participantBatchWriter;
+    private final DivisionReferenceCache divisionReferenceCache;
+    private final CompetitionArchiver competitionArchiver;
+    private final CompetitionCloner competitionCloner;
     private final List<DivisionRevertGuard> revertGuards;
     private final List<DivisionDeletionGuard> deletionGuards;
     private final List<ParticipantRemovalCleanup> removalCleanups;
     private final List<JudgingCategoryDeletionGuard> judgingCategoryDeletionGuards;
+    private final List<CompetitionArchiveContributor> archiveContributors;
+    private final List<CompetitionCloneContributor> cloneContributors;
 
     CompetitionService(CompetitionRepository competitionRepository,
                        DivisionRepository divisionRepository,
@@ -59,12 +83,21 @@ public class CompetitionService {
                        DivisionCategoryRepository divisionCategoryRepository,
                        CategoryRepository categoryRepository,
                        CompetitionDocumentRepository competitionDocumentRepository,
+                       CompetitionLogoRepository competitionLogoRepository,
+                       DocumentContent documentContent,
+                       AccessCodeAllocator accessCodeAllocator,
+                       ParticipantBatchWriter participantBatchWriter,
+                       DivisionReferenceCache divisionReferenceCache,
+                       CompetitionArchiver competitionArchiver,
+                       CompetitionCloner competitionCloner,
                        UserService userService,
                        ApplicationEventPublisher eventPublisher,
                        List<DivisionRevertGuard> revertGuards,
                        List<DivisionDeletionGuard> deletionGuards,
                        List<ParticipantRemovalCleanup> removalCleanups,
-                       List<JudgingCategoryDeletionGuard> judgingCategoryDeletionGuards) {
+                       List<JudgingCategoryDeletionGuard> judgingCategoryDeletionGuards,
+                       List<CompetitionArchiveContributor> archiveContributors,
+                       List<CompetitionCloneContributor> cloneContributors) {
         this.competitionRepository = competitionRepository;
         this.divisionRepository = divisionRepository;
         this.participantRepository = participantRepository;
@@ -72,12 +105,21 @@ public class CompetitionService {
         this.divisionCategoryRepository = divisionCategoryRepository;
         this.categoryRepository = categoryRepository;
         this.competitionDocumentRepository = competitionDocumentRepository;
+        this.competitionLogoRepository = competitionLogoRepository;
+        this.documentContent = documentContent;
+        this.accessCodeAllocator = accessCodeAllocator;
+        this.participantBatchWriter = participantBatchWriter;
+        this.divisionReferenceCache = divisionReferenceCache;
+        this.competitionArchiver = competitionArchiver;
+        this.competitionCloner = competitionCloner;
         this.userService = userService;
         this.eventPublisher = eventPublisher;
         this.revertGuards = revertGuards;
         this.deletionGuards = deletionGuards;
         this.removalCleanups = removalCleanups;
         this.judgingCategoryDeletionGuards = judgingCategoryDeletionGuards;
+        this.archiveContributors = archiveContributors;
+        this.cloneContributors = cloneContributors;
     }
 
     // --- Competition methods (were MeadEvent methods) ---
@@ -98,6 +140,35 @@ public class CompetitionService {
         return saved;
     }
 
+    /**
+     * Creates the next edition of a competition with the same settings, logo, divisions,
+     * categories and documents, plus whatever configuration other modules contribute.
+     * Divisions start as DRAFT and their registration deadlines move by the same number of
+     * days as the start date.
+     */
+    public Competition cloneCompetition(@NotNull UUID sourceCompetitionId,
+                                        @NotBlank String name,
+                                        @NotBlank String shortName,
+                                        @NotNull LocalDate startDate,
+                                        @NotNull LocalDate endDate,
+                                        @NotNull UUID requestingUserId) {
+        requireSystemAdmin(requestingUserId);
+        var source = competitionRepository.findById(sourceCompetitionId)
+                .orElseThrow(() -> new BusinessRuleException("error.competition.not-found"));
+        if (competitionRepository.existsByShortName(shortName)) {
+            throw new BusinessRuleException("error.competition.shortname-exists");
+        }
+        var target = new Competition(name, shortName, startDate, endDate, source.getLocation());
+        var shiftDays = Math.toIntExact(ChronoUnit.DAYS.between(source.getStartDate(), startDate));
+        var cloned = competitionCloner.copy(sourceCompetitionId, target, shiftDays);
+        cloneContributors.forEach(contributor ->
+                contributor.copyConfiguration(sourceCompetitionId, target.getId()));
+        log.info("Cloned competition {} into {} (shortName={}): {} divisions, {} categories, {} documents",
+                sourceCompetitionId, target.getId(), shortName,
+                cloned.divisions(), cloned.categories(), cloned.documents());
+        return competitionRepository.findById(target.getId()).orElseThrow();
+    }
+
     public Competition findCompetitionById(@NotNull UUID competitionId) {
         return competitionRepository.findById(competitionId)
                 .orElseThrow(() -> new BusinessRuleException("error.competition.not-found"));
@@ -112,13 +183,11 @@ public class CompetitionService {
         return competitionRepository.findAll(Sort.by("name"));
     }
 
+    /**
+     * Returns the competitions the user administers, sorted by name, in one query.
+     */
     public List<Competition> findCompetitionsByAdmin(@NotNull UUID userId) {
-        return participantRepository.findByUserId(userId).stream()
-                .filter(p -> participantRoleRepository.existsByParticipantIdAndRole(
-                        p.getId(), CompetitionRole.ADMIN))
-                .map(p -> competitionRepository.findById(p.getCompetitionId()))
-                .flatMap(Optional::stream)
-                .toList();
+        return competitionRepository.findByParticipantRole(userId, CompetitionRole.ADMIN);
     }
 
     public Competition updateCompetition(@NotNull UUID competitionId,
@@ -148,6 +217,15 @@ public class CompetitionService {
                 .orElseThrow(() -> new BusinessRuleException("error.competition.not-found"));
         requireAuthorized(competitionId, requestingUserId);
         competition.updateLogo(logo, contentType);
+        if (logo == null) {
+            competitionLogoRepository.deleteByCompetitionId(competitionId);
+        } else {
+            var headerData = LogoScaler.scaleToHeight(logo, contentType, LogoScaler.HEADER_HEIGHT);
+            competitionLogoRepository.findById(competitionId).ifPresentOrElse(
+                    existing -> existing.replace(logo, contentType, headerData, contentType),
+                    () -> competitionLogoRepository.save(
+                            new CompetitionLogo(competitionId, logo, contentType, headerData, contentType)));
+        }
         log.info("Updated logo for competition: {}", competitionId);
         return competitionRepository.save(competition);
     }
@@ -187,16 +265,91 @@ public class CompetitionService {
         }
         var documents = competitionDocumentRepository.findByCompetitionIdOrderByDisplayOrder(competitionId);
         competitionDocumentRepository.deleteAll(documents);
-        var participants = participantRepository.findByCompetitionId(competitionId);
-        for (var participant : participants) {
-            var roles = participantRoleRepository.findByParticipantId(participant.getId());
-            participantRoleRepository.deleteAll(roles);
-        }
-        participantRepository.deleteAll(participants);
+        deleteUnreferencedDocumentContent(documents);
+        competitionLogoRepository.deleteByCompetitionId(competitionId);
+        participantRoleRepository.deleteByCompetitionId(competitionId);
+        participantRepository.deleteByCompetitionId(competitionId);
         competitionRepository.delete(competition);
         log.info("Deleted competition: {} ({})", competitionId, competition.getShortName());
     }
 
+    /**
+     * Writes a finished competition and every row tied to it to an archive file, then purges
+     * those rows. Runs outside a transaction: the export reads one snapshot and the purge
+     * commits in batches. Calling it again for a competition whose purge was interrupted
+     * resumes the purge from the same file.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompetitionArchive archiveCompetition(@NotNull UUID competitionId,
+                                                 @NotNull UUID requestingUserId) {
+        requireSystemAdmin(requestingUserId);
+        var contributed = archivedTables();
+        var archive = competitionArchiver.findPurging(competitionId).orElse(null);
+        if (archive == null) {
+            var competition = competitionRepository.findById(competitionId)
+                    .orElseThrow(() -> new BusinessRuleException("error.competition.not-found"));
+            var divisions = divisionRepository.findByCompetitionId(competitionId);
+            if (divisions.isEmpty() || divisions.stream()
+                    .anyMatch(d -> d.getStatus() != DivisionStatus.RESULTS_PUBLISHED)) {
+                throw new BusinessRuleException("error.competition.archive-not-finished");
+            }
+            archiveContributors.forEach(contributor -> contributor.checkArchiveAllowed(competitionId));
+            archive = competitionArchiver.export(competition, contributed);
+        } else {
+            log.info("Resuming purge of competition {} from {}", archive.shortName(), archive.fileName());
+        }
+        var purged = competitionArchiver.purge(archive, competitionArchiver.knownTables(contributed));
+        documentContent.releaseAfterCommit(purged.documentHashes());
+        evictDivisions(purged.divisionIds());
+        eventPublisher.publishEvent(new CompetitionArchivedEvent(competitionId, purged.divisionIds(), false));
+        log.info("Archived competition: {} ({}) to {}", competitionId, archive.shortName(), archive.fileName());
+        return archive;
+    }
+
+    /**
+     * Puts an archived competition back. Allowed for a completed archive, and for one whose
+     * purge was interrupted after the competition itself was deleted.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void restoreCompetition(@NotNull UUID archiveId, @NotNull UUID requestingUserId) {
+        requireSystemAdmin(requestingUserId);
+        var archive = competitionArchiver.findById(archiveId)
+                .orElseThrow(() -> new BusinessRuleException("error.archive.not-found"));
+        var restorable = archive.status() == CompetitionArchive.Status.ARCHIVED
+                || (archive.status() == CompetitionArchive.Status.PURGING
+                        && !competitionRepository.existsById(archive.competitionId()));
+        if (!restorable) {
+            throw new BusinessRuleException("error.archive.not-restorable");
+        }
+        if (competitionRepository.existsByShortName(archive.shortName())) {
+            throw new BusinessRuleException("error.competition.shortname-exists");
+        }
+        var restored = competitionArchiver.restore(archive,
+                competitionArchiver.knownTables(archivedTables()));
+        evictDivisions(restored.divisionIds());
+        eventPublisher.publishEvent(new CompetitionArchivedEvent(
+                archive.competitionId(), restored.divisionIds(), true));
+        log.info("Restored competition: {} ({}) from {}",
+                archive.competitionId(), archive.shortName(), archive.fileName());
+    }
+
+    public List<CompetitionArchive> findCompetitionArchives() {
+        return competitionArchiver.findAll();
+    }
+
+    private List<CompetitionArchiveContributor.Table> archivedTables() {
+        return archiveContributors.stream()
+                .flatMap(contributor -> contributor.archivedTables().stream())
+                .toList();
+    }
+
+    private void evictDivisions(List<UUID> divisionIds) {
+        divisionIds.forEach(divisionId -> {
+            divisionReferenceCache.evictDivision(divisionId);
+            divisionReferenceCache.evictCategories(divisionId);
+        });
+    }
+
     // --- Division methods (were Competition methods) ---
 
     public Division createDivision(@NotNull UUID competitionId,
@@ -225,7 +378,22 @@ public class CompetitionService {
         return saved;
     }
 
+    /**
+     * Reads the division through the reference cache for display and other read-only uses. The
+     * cache keeps its own copy, so every call returns a detached instance that is not shared
+     * with other callers.
+     */
     public Division findDivisionById(@NotNull UUID divisionId) {
+        return new Division(divisionReferenceCache.getDivision(divisionId,
+                () -> new Division(findCurrentDivision(divisionId))));
+    }
+
+    /**
+     * Reads the division past the reference cache. Status transitions only evict the cache on the
+     * instance that made them, so writes, the checks that admit or reject them and event
+     * listeners must use this instead of {@link #findDivisionById}.
+     */
+    public Division findCurrentDivision(@NotNull UUID divisionId) {
         return divisionRepository.findById(divisionId)
                 .orElseThrow(() -> new BusinessRuleException("error.division.not-found"));
     }
@@ -244,6 +412,7 @@ public class CompetitionService {
         var previousStatus = division.getStatus();
         division.advanceStatus();
         var saved = divisionRepository.save(division);
+        divisionReferenceCache.evictDivision(divisionId);
         log.info("Advanced division status: {} ({} → {})", divisionId, previousStatus, saved.getStatus());
         eventPublisher.publishEvent(new DivisionStatusAdvancedEvent(
                 divisionId, previousStatus, saved.getStatus()));
@@ -261,8 +430,10 @@ public class CompetitionService {
         revertGuards.forEach(guard ->
                 guard.checkRevertAllowed(divisionId, previousStatus, targetStatus));
         division.revertStatus();
+        var saved = divisionRepository.save(division);
+        divisionReferenceCache.evictDivision(divisionId);
         log.info("Reverted division status: {} ({} → {})", divisionId, previousStatus, targetStatus);
-        return divisionRepository.save(division);
+        return saved;
     }
 
     public Division updateDivision(@NotNull UUID divisionId,
@@ -280,8 +451,10 @@ public class CompetitionService {
             throw new BusinessRuleException("error.division.shortname-exists");
         }
         division.updateDetails(name, shortName, scoringSystem, entryPrefix);
+        var saved = divisionRepository.save(division);
+        divisionReferenceCache.evictDivision(divisionId);
         log.debug("Updated division settings: {} (shortName={})", divisionId, shortName);
-        return divisionRepository.save(division);
+        return saved;
     }
 
     public void deleteDivision(@NotNull UUID divisionId,
@@ -296,6 +469,8 @@ public class CompetitionService {
         divisionCategoryRepository.deleteAll(children);
         divisionCategoryRepository.deleteAll(parents);
         divisionRepository.delete(division);
+        divisionReferenceCache.evictDivision(divisionId);
+        divisionReferenceCache.evictCategories(divisionId);
         log.info("Deleted division: {} ({})", divisionId, division.getShortName());
     }
 
@@ -308,20 +483,24 @@ public class CompetitionService {
                                               Integer maxEntriesPerMainCategory,
                                               Integer maxEntriesTotal,
                                               @NotNull UUID requestingUserId) {
-        var division = findDivisionById(divisionId);
+        var division = divisionRepository.findById(divisionId)
+                .orElseThrow(() -> new BusinessRuleException("error.division.not-found"));
         requireAuthorized(division.getCompetitionId(), requestingUserId);
         division.updateEntryLimits(maxEntriesPerSubcategory, maxEntriesPerMainCategory,
                 maxEntriesTotal);
+        var saved = divisionRepository.save(division);
+        divisionReferenceCache.evictDivision(divisionId);
         log.debug("Updated entry limits for division: {} (sub={}, main={}, total={})",
                 divisionId, maxEntriesPerSubcategory, maxEntriesPerMainCategory, maxEntriesTotal);
-        return divisionRepository.save(division);
+        return saved;
     }
 
     public Division updateDivisionDeadline(@NotNull UUID divisionId,
                                           @NotNull LocalDateTime deadline,
                                           @NotBlank String timezone,
                                           @NotNull UUID requestingUserId) {
-        var division = findDivisionById(divisionId);
+        var division = divisionRepository.findById(divisionId)
+                .orElseThrow(() -> new BusinessRuleException("error.division.not-found"));
         requireAuthorized(division.getCompetitionId(), requestingUserId);
         try {
             ZoneId.of(timezone);
@@ -329,25 +508,31 @@ public class CompetitionService {
             throw new BusinessRuleException("error.division.invalid-timezone", timezone);
         }
         division.updateRegistrationDeadline(deadline, timezone);
+        var saved = divisionRepository.save(division);
+        divisionReferenceCache.evictDivision(divisionId);
         log.debug("Updated registration deadline for division: {} ({} {})",
                 divisionId, deadline, timezone);
-        return divisionRepository.save(division);
+        return saved;
     }
 
     public Division updateDivisionMeaderyNameRequired(@NotNull UUID divisionId,
                                                        boolean meaderyNameRequired,
                                                        @NotNull UUID requestingUserId) {
-        var division = findDivisionById(divisionId);
+        var division = divisionRepository.findById(divisionId)
+                .orElseThrow(() -> new BusinessRuleException("error.division.not-found"));
         requireAuthorized(division.getCompetitionId(), requestingUserId);
         division.updateMeaderyNameRequired(meaderyNameRequired);
+        var saved = divisionRepository.save(division);
+        divisionReferenceCache.evictDivision(divisionId);
         log.debug("Division {} meaderyNameRequired set to {}", divisionId, meaderyNameRequired);
-        return divisionRepository.save(division);
+        return saved;
     }
 
     // --- Division Category methods ---
 
     public List<DivisionCategory> findDivisionCategories(@NotNull UUID divisionId) {
-        return divisionCategoryRepository.findByDivisionIdOrderByCode(divisionId);
+        return copyOf(divisionReferenceCache.getDivisionCategories(divisionId,
+                () -> copyOf(divisionCategoryRepository.findByDivisionIdOrderByCode(divisionId))));
     }
 
     public DivisionCategory addCatalogCategory(@NotNull UUID divisionId,
@@ -376,8 +561,10 @@ public class CompetitionService {
         var dc = new DivisionCategory(divisionId, catalogCategory.getId(),
                 catalogCategory.getCode(), catalogCategory.getName(),
                 catalogCategory.getDescription(), parentId, 0);
+        var saved = divisionCategoryRepository.save(dc);
+        divisionReferenceCache.evictCategories(divisionId);
         log.debug("Added catalog category {} to division {}", catalogCategory.getCode(), divisionId);
-        return divisionCategoryRepository.save(dc);
+        return saved;
     }
 
     public DivisionCategory addCustomCategory(@NotNull UUID divisionId,
@@ -400,8 +587,10 @@ public class CompetitionService {
                     .orElseThrow(() -> new BusinessRuleException("error.category.parent-not-found"));
         }
         var dc = new DivisionCategory(divisionId, null, code, name, description, parentId, 0);
+        var saved = divisionCategoryRepository.save(dc);
+        divisionReferenceCache.evictCategories(divisionId);
         log.debug("Added custom category {} to division {}", code, divisionId);
-        return divisionCategoryRepository.save(dc);
+        return saved;
     }
 
     public DivisionCategory updateDivisionCategory(@NotNull UUID divisionId,
@@ -419,7 +608,9 @@ public class CompetitionService {
         var category = divisionCategoryRepository.findById(categoryId)
                 .orElseThrow(() -> new BusinessRuleException("error.category.not-found"));
         category.updateDetails(code, name, description);
-        return divisionCategoryRepository.save(category);
+        var saved = divisionCategoryRepository.save(category);
+        divisionReferenceCache.evictCategories(divisionId);
+        return saved;
     }
 
     public void removeDivisionCategory(@NotNull UUID divisionId,
@@ -438,11 +629,19 @@ public class CompetitionService {
             divisionCategoryRepository.deleteAll(children);
         }
         divisionCategoryRepository.delete(category);
+        divisionReferenceCache.evictCategories(divisionId);
         log.debug("Removed category {} from division {}", category.getCode(), divisionId);
     }
 
     public List<DivisionCategory> findJudgingCategories(@NotNull UUID divisionId) {
-        return divisionCategoryRepository.findByDivisionIdAndScopeOrderByCode(divisionId, CategoryScope.JUDGING);
+        return copyOf(divisionReferenceCache.getJudgingCategories(divisionId,
+                () -> copyOf(divisionCategoryRepository.findByDivisionIdAndScopeOrderByCode(
+                        divisionId, CategoryScope.JUDGING))));
+    }
+
+    // Cached category lists hold detached copies and hand out fresh ones, like findDivisionById
+    private static List<DivisionCategory> copyOf(List<DivisionCategory> categories) {
+        return categories.stream().map(DivisionCategory::new).toList();
     }
 
     public List<DivisionCategory> initializeJudgingCategories(@NotNull UUID divisionId,
@@ -487,6 +686,7 @@ public class CompetitionService {
                 result.add(divisionCategoryRepository.save(clone));
             }
         }
+        divisionReferenceCache.evictCategories(divisionId);
         log.info("Initialized {} judging categories for division {}", result.size(), divisionId);
         return result;
     }
@@ -513,8 +713,10 @@ public class CompetitionService {
         }
         var dc = new DivisionCategory(divisionId, null, code, name, description, parentId, 0,
                 CategoryScope.JUDGING);
+        var saved = divisionCategoryRepository.save(dc);
+        divisionReferenceCache.evictCategories(divisionId);
         log.debug("Added judging category {} to division {}", code, divisionId);
-        return divisionCategoryRepository.save(dc);
+        return saved;
     }
 
     public DivisionCategory updateJudgingCategory(@NotNull UUID divisionId,
@@ -533,8 +735,10 @@ public class CompetitionService {
         var category = divisionCategoryRepository.findById(categoryId)
                 .orElseThrow(() -> new BusinessRuleException("error.category.not-found"));
         category.updateDetails(code, name, description);
+        var saved = divisionCategoryRepository.save(category);
+        divisionReferenceCache.evictCategories(divisionId);
         log.debug("Updated judging category {} in division {}", code, divisionId);
-        return divisionCategoryRepository.save(category);
+        return saved;
     }
 
     public void removeJudgingCategory(@NotNull UUID divisionId,
@@ -566,6 +770,7 @@ public class CompetitionService {
         for (int i = subtree.size() - 1; i >= 0; i--) {
             divisionCategoryRepository.delete(subtree.get(i));
         }
+        divisionReferenceCache.evictCategories(divisionId);
         log.debug("Removed judging category {} (subtree size {}) from division {}",
                 category.getCode(), subtree.size(), divisionId);
     }
@@ -608,6 +813,9 @@ public class CompetitionService {
             case PDF -> CompetitionDocument.createPdf(competitionId, name, data, contentType, nextOrder, language);
             case LINK -> CompetitionDocument.createLink(competitionId, name, url, nextOrder, language);
         };
+        if (doc.getContentHash() != null) {
+            documentContent.store(doc.getContentHash(), data);
+        }
         log.info("Added document '{}' (type={}) to competition {}", name, type, competitionId);
         return competitionDocumentRepository.save(doc);
     }
@@ -617,9 +825,17 @@ public class CompetitionService {
                 .orElseThrow(() -> new BusinessRuleException("error.document.not-found"));
         requireAuthorized(doc.getCompetitionId(), requestingUserId);
         competitionDocumentRepository.delete(doc);
+        deleteUnreferencedDocumentContent(List.of(doc));
         log.info("Removed document '{}' from competition {}", doc.getName(), doc.getCompetitionId());
     }
 
+    private void deleteUnreferencedDocumentContent(List<CompetitionDocument> removed) {
+        documentContent.releaseAfterCommit(removed.stream()
+                .map(CompetitionDocument::getContentHash)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
     public CompetitionDocument updateDocumentName(@NotNull UUID documentId,
                                                     @NotBlank String name,
                                                     @NotNull UUID requestingUserId) {
@@ -713,6 +929,16 @@ public class CompetitionService {
         }
     }
 
+    /**
+     * Bulk form of {@link #ensureEntrantParticipant}: two JDBC batches, whatever the number of
+     * users. No authorization and no role-combination check — callers validate first (e.g. a
+     * credit import checks {@code incompatibleRole} for every user).
+     */
+    public void ensureEntrantParticipants(@NotNull UUID competitionId, @NotNull Collection<UUID> userIds) {
+        participantBatchWriter.ensureRole(competitionId, userIds, CompetitionRole.ENTRANT);
+        log.debug("Ensured ENTRANT role for {} users: competition={}", userIds.size(), competitionId);
+    }
+
     public ParticipantRole addParticipantByEmail(@NotNull UUID competitionId,
                                                    @NotBlank @Email String email,
                                                    @NotNull CompetitionRole role,
@@ -721,6 +947,137 @@ public class CompetitionService {
         return addParticipant(competitionId, user.getId(), role, requestingUserId);
     }
 
+    /**
+     * Adds participants from a CSV file with columns {@code email}, {@code role} (e.g.
+     * {@code JUDGE} or {@code Steward}) and optionally {@code name}; one row per role. Needs one
+     * authorization check, one query for all emails and one each for the existing participants
+     * and their roles; missing users, participants and roles are then written in JDBC batches.
+     * Roles already in place are skipped. Nothing is written on a dry run or when any row has
+     * a problem.
+     */
+    public ImportReport importParticipants(@NotNull UUID competitionId,
+                                           @NotNull InputStream csv,
+                                           boolean dryRun,
+                                           @NotNull UUID requestingUserId) {
+        competitionRepository.findById(competitionId)
+                .orElseThrow(() -> new BusinessRuleException("error.competition.not-found"));
+        requireAuthorized(competitionId, requestingUserId);
+
+        var problems = new ArrayList<ImportReport.Problem>();
+        var lines = readParticipantImport(csv, problems);
+        int rows = lines.size() + problems.size();
+
+        var emails = lines.stream().map(ParticipantImportLine::email).collect(Collectors.toSet());
+        var userIds = userService.findIdsByEmail(emails);
+        var participantsByUser = userIds.isEmpty()
+                ? Map.<UUID, Participant>of()
+                : participantRepository.findByCompetitionIdAndUserIdIn(competitionId, List.copyOf(userIds.values())).stream()
+                .collect(Collectors.toMap(Participant::getUserId, Function.identity()));
+        var rolesByParticipant = participantsByUser.isEmpty()
+                ? Map.<UUID, Set<CompetitionRole>>of()
+                : participantRoleRepository.findByParticipantIdIn(
+                        participantsByUser.values().stream().map(Participant::getId).toList()).stream()
+                .collect(Collectors.groupingBy(ParticipantRole::getParticipantId,
+                        Collectors.mapping(ParticipantRole::getRole, Collectors.toSet())));
+
+        var rolesByEmail = new HashMap<String, Set<CompetitionRole>>();
+        var additions = new ArrayList<ParticipantImportLine>();
+        int unchanged = 0;
+        for (var line : lines) {
+            var roles = rolesByEmail.computeIfAbsent(line.email(), email -> {
+                var participant = Optional.ofNullable(userIds.get(email)).map(participantsByUser::get);
+                return new HashSet<>(participant
+                        .map(p -> rolesByParticipant.getOrDefault(p.getId(), Set.of()))
+                        .orElse(Set.of()));
+            });
+            if (roles.contains(line.role())) {
+                unchanged++;
+                continue;
+            }
+            var combined = new HashSet<>(roles);
+            combined.add(line.role());
+            if (!roles.isEmpty() && !COMBINABLE_ROLES.containsAll(combined)) {
+                problems.add(new ImportReport.Problem(line.line(), line.email(),
+                        "error.participant.incompatible-role", List.of(line.role().getDisplayName())));
+                continue;
+            }
+            roles.add(line.role());
+            additions.add(line);
+        }
+        problems.sort(Comparator.comparingInt(ImportReport.Problem::line));
+        int newUsers = (int) emails.stream().filter(email -> !userIds.containsKey(email)).count();
+
+        if (dryRun || !problems.isEmpty()) {
+            return new ImportReport(rows, newUsers, additions.size(), unchanged, problems, false);
+        }
+
+        var namesByEmail = new LinkedHashMap<String, String>();
+        additions.forEach(line -> namesByEmail.putIfAbsent(line.email(), line.name()));
+        var allUserIds = userService.findOrCreateIdsByEmail(namesByEmail);
+
+        var newParticipants = new LinkedHashMap<UUID, Participant>();
+        var needingCode = new LinkedHashSet<Participant>();
+        var newRoles = new ArrayList<ParticipantRole>();
+        for (var line : additions) {
+            var userId = allUserIds.get(line.email());
+            var participant = participantsByUser.get(userId);
+            if (participant == null) {
+                participant = newParticipants.computeIfAbsent(userId, id -> new Participant(competitionId, id));
+            }
+            if (line.role().requiresAccessCode() && participant.getAccessCode() == null) {
+                needingCode.add(participant);
+            }
+            newRoles.add(new ParticipantRole(participant.getId(), line.role()));
+        }
+        var codes = accessCodeAllocator.allocate(needingCode.size()).iterator();
+        var codesForExisting = new HashMap<UUID, String>();
+        for (var participant : needingCode) {
+            if (participantsByUser.containsKey(participant.getUserId())) {
+                codesForExisting.put(participant.getId(), codes.next());
+            } else {
+                participant.assignAccessCode(codes.next());
+            }
+        }
+
+        participantBatchWriter.insertParticipants(newParticipants.values());
+        participantBatchWriter.assignAccessCodes(codesForExisting);
+        participantBatchWriter.insertRoles(newRoles);
+        log.info("Imported participants: competition={}, roles added={}, new participants={}, new users={}",
+                competitionId, newRoles.size(), newParticipants.size(), newUsers);
+        return new ImportReport(rows, newUsers, additions.size(), unchanged, problems, true);
+    }
+
+    private record ParticipantImportLine(int line, String email, String name, CompetitionRole role) {}
+
+    private static List<ParticipantImportLine> readParticipantImport(InputStream in,
+                                                                     List<ImportReport.Problem> problems) {
+        var lines = new ArrayList<ParticipantImportLine>();
+        var seen = new HashSet<String>();
+        try (var csv = CsvImport.open(in, "email", "role")) {
+            CsvImport.Row row;
+            while ((row = csv.next()) != null) {
+                var email = row.get("email");
+                var roleName = row.get("role");
+                var role = Arrays.stream(CompetitionRole.values())
+                        .filter(r -> r.name().equalsIgnoreCase(roleName) || r.getDisplayName().equalsIgnoreCase(roleName))
+                        .findFirst();
+                if (!CsvImport.isEmail(email)) {
+                    problems.add(new ImportReport.Problem(row.line(), email, "error.import.invalid-email", List.of()));
+                } else if (role.isEmpty()) {
+                    problems.add(new ImportReport.Problem(row.line(), email, "error.import.invalid-role", List.of(roleName)));
+                } else if (!seen.add(email + " " + role.get())) {
+                    problems.add(new ImportReport.Problem(row.line(), email, "error.import.duplicate-row", List.of()));
+                } else {
+                    var name = row.get("name");
+                    lines.add(new ParticipantImportLine(row.line(), email, name.isEmpty() ? email : name, role.get()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return lines;
+    }
+
     public void removeParticipant(@NotNull UUID competitionId,
                                    @NotNull UUID participantId,
                                    @NotNull UUID requestingUserId) {
@@ -769,12 +1126,47 @@ public class CompetitionService {
     }
 
     public List<ParticipantRole> findRolesByCompetition(@NotNull UUID competitionId) {
-        var participants = participantRepository.findByCompetitionId(competitionId);
-        return participants.stream()
-                .flatMap(p -> participantRoleRepository.findByParticipantId(p.getId()).stream())
+        return participantRoleRepository.findByCompetitionId(competitionId);
+    }
+
+    /**
+     * Returns one page of participants joined with their user's profile and roles.
+     * Filtering (case-insensitive match on name or email) and sorting happen in the
+     * database; roles for the page are loaded with a single follow-up query.
+     * Sortable properties: {@code name}, {@code email}, {@code meaderyName}, {@code country};
+     * the participant id is always appended as a tie-breaker.
+     */
+    public List<ParticipantSummary> findParticipantSummaries(@NotNull UUID competitionId,
+                                                              String filter,
+                                                              @NotNull Pageable pageable) {
+        // Participant ids break ties, so rows with equal names cannot shift between pages
+        var sort = (pageable.getSort().isSorted() ? pageable.getSort() : Sort.by("name"))
+                .and(Sort.by("participantId"));
+        var page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+        var rows = participantRepository.findRowsByCompetitionId(
+                competitionId, TextSearch.likePattern(filter), page);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        var participantIds = rows.stream().map(ParticipantRow::getParticipantId).toList();
+        var rolesByParticipant = participantRoleRepository.findByParticipantIdIn(participantIds).stream()
+                .collect(Collectors.groupingBy(ParticipantRole::getParticipantId,
+                        Collectors.mapping(ParticipantRole::getRole, Collectors.toList())));
+        return rows.stream()
+                .map(row -> new ParticipantSummary(
+                        row.getParticipantId(), row.getUserId(), row.getName(), row.getEmail(),
+                        row.getMeaderyName(), row.getCountry(), row.getAccessCode(),
+                        row.getHasPassword(),
+                        rolesByParticipant.getOrDefault(row.getParticipantId(), List.of()).stream()
+                                .sorted(Comparator.comparing(CompetitionRole::getDisplayName))
+                                .toList()))
                 .toList();
     }
 
+    public long countParticipantSummaries(@NotNull UUID competitionId, String filter) {
+        return participantRepository.countRowsByCompetitionId(competitionId, TextSearch.likePattern(filter));
+    }
+
     public List<ParticipantRole> findRolesForParticipant(@NotNull UUID participantId) {
         return participantRoleRepository.findByParticipantId(participantId);
     }
@@ -796,8 +1188,7 @@ public class CompetitionService {
         if (!existingRoles.isEmpty()) {
             var combined = new HashSet<>(existingRoles);
             combined.add(newRole);
-            var allowedCombination = Set.of(CompetitionRole.JUDGE, CompetitionRole.ENTRANT);
-            if (!allowedCombination.containsAll(combined)) {
+            if (!COMBINABLE_ROLES.containsAll(combined)) {
                 throw new BusinessRuleException("error.participant.incompatible-role", newRole.getDisplayName());
             }
         }
@@ -829,20 +1220,6 @@ public class CompetitionService {
 
     // --- Private helpers ---
 
-    private String generateUniqueAccessCode() {
-        for (int attempt = 0; attempt < 10; attempt++) {
-            var sb = new StringBuilder(ACCESS_CODE_LENGTH);
-            for (int i = 0; i < ACCESS_CODE_LENGTH; i++) {
-                sb.append(ACCESS_CODE_CHARS.charAt(RANDOM.nextInt(ACCESS_CODE_CHARS.length())));
-            }
-            var code = sb.toString();
-            if (!participantRepository.existsByAccessCode(code)) {
-                return code;
-            }
-        }
-        throw new BusinessRuleException("error.accesscode.generation-failed");
-    }
-
     private void requireSystemAdmin(UUID userId) {
         var user = userService.findById(userId);
         if (user.getRole() != Role.SYSTEM_ADMIN) {
@@ -857,14 +1234,14 @@ public class CompetitionService {
         if (existing.isPresent()) {
             var participant = existing.get();
             if (role.requiresAccessCode() && participant.getAccessCode() == null) {
-                participant.assignAccessCode(generateUniqueAccessCode());
+                participant.assignAccessCode(accessCodeAllocator.allocate());
                 return participantRepository.save(participant);
             }
             return participant;
         }
         var p = new Participant(competitionId, userId);
         if (role.requiresAccessCode()) {
-            p.assignAccessCode(generateUniqueAccessCode());
+            p.assignAccessCode(accessCodeAllocator.allocate());
         }
         return participantRepository.save(p);
     }
@@ -903,11 +1280,8 @@ public class CompetitionService {
     }
 
     public List<String> findAdminEmailsByCompetitionId(@NotNull UUID competitionId) {
-        return participantRepository.findByCompetitionId(competitionId).stream()
-                .filter(p -> participantRoleRepository.existsByParticipantIdAndRole(
-                        p.getId(), CompetitionRole.ADMIN))
-                .map(p -> userService.findById(p.getUserId()).getEmail())
-                .toList();
+        return participantRepository.findUserEmailsByCompetitionIdAndRole(
+                competitionId, CompetitionRole.ADMIN);
     }
 
     private boolean isAuthorized(UUID competitionId, UUID userId) {
@@ -1,5 +1,6 @@
 package app.meads.competition;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -65,7 +66,7 @@ public class Division {
                     ScoringSystem scoringSystem,
                     LocalDateTime registrationDeadline, String registrationDeadlineTimezone) {
         Competition.validateShortName(shortName);
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.competitionId = competitionId;
         this.name = name;
         this.shortName = shortName;
@@ -76,6 +77,25 @@ public class Division {
         this.registrationDeadlineTimezone = registrationDeadlineTimezone;
     }
 
+    // A detached copy for the reference cache, which never hands out the instance it holds
+    Division(Division source) {
+        this.id = source.id;
+        this.competitionId = source.competitionId;
+        this.name = source.name;
+        this.shortName = source.shortName;
+        this.status = source.status;
+        this.scoringSystem = source.scoringSystem;
+        this.createdAt = source.createdAt;
+        this.maxEntriesPerSubcategory = source.maxEntriesPerSubcategory;
+        this.maxEntriesPerMainCategory = source.maxEntriesPerMainCategory;
+        this.maxEntriesTotal = source.maxEntriesTotal;
+        this.entryPrefix = source.entryPrefix;
+        this.meaderyNameRequired = source.meaderyNameRequired;
+        this.registrationDeadline = source.registrationDeadline;
+        this.registrationDeadlineTimezone = source.registrationDeadlineTimezone;
+        this.updatedAt = source.updatedAt;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = Instant.now();
@@ -1,5 +1,6 @@
 package app.meads.competition;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -56,7 +57,7 @@ public class DivisionCategory {
     public DivisionCategory(UUID divisionId, UUID catalogCategoryId,
                              String code, String name, String description,
                              UUID parentId, int sortOrder, CategoryScope scope) {
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.divisionId = divisionId;
         this.catalogCategoryId = catalogCategoryId;
         this.code = code;
@@ -67,6 +68,20 @@ public class DivisionCategory {
         this.scope = scope;
     }
 
+    // A detached copy for the reference cache, which never hands out the instance it holds
+    DivisionCategory(DivisionCategory source) {
+        this.id = source.id;
+        this.divisionId = source.divisionId;
+        this.catalogCategoryId = source.catalogCategoryId;
+        this.code = source.code;
+        this.name = source.name;
+        this.description = source.description;
+        this.parentId = source.parentId;
+        this.sortOrder = source.sortOrder;
+        this.scope = source.scope;
+        this.createdAt = source.createdAt;
+    }
+
     public void updateDetails(String code, String name, String description) {
         this.code = code;
         this.name = name;
@@ -10,8 +10,10 @@ import java.util.UUID;
 public interface DivisionRevertGuard {
 
     /**
-     * Called before a division status is reverted. Throw {@link IllegalStateException}
-     * to block the revert.
+     * Called before a division status is reverted, in the same transaction. Throw
+     * {@link IllegalStateException} to block the revert. Implementations may also undo work
+     * they did when the division advanced past {@code toStatus}; it is rolled back with the
+     * revert if another guard blocks it.
      */
     void checkRevertAllowed(UUID divisionId, DivisionStatus fromStatus, DivisionStatus toStatus);
 }
@@ -1,5 +1,6 @@
 package app.meads.competition;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -29,7 +30,7 @@ public class Participant {
     protected Participant() {} // JPA
 
     public Participant(UUID competitionId, UUID userId) {
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.competitionId = competitionId;
         this.userId = userId;
     }
@@ -1,5 +1,6 @@
 package app.meads.competition;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -29,7 +30,7 @@ public class ParticipantRole {
     protected ParticipantRole() {} // JPA
 
     public ParticipantRole(UUID participantId, CompetitionRole role) {
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.participantId = participantId;
         this.role = role;
     }
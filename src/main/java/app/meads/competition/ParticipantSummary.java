@@ -0,0 +1,8 @@
+package app.meads.competition;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ParticipantSummary(UUID participantId, UUID userId, String name, String email,
+                                  String meaderyName, String country, String accessCode,
+                                  boolean hasPassword, List<CompetitionRole> roles) {}
@@ -0,0 +1,57 @@
+package app.meads.competition.internal;
+
+import app.meads.FeistelCodes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Issues 8-character judge/steward access codes by permuting values from the
+ * {@code access_code_seq} database sequence. One {@code nextval} per code replaces the
+ * previous probe-and-retry loop, and permuted codes never collide with each other. Codes
+ * issued before, drawn at random or under another secret, can still match one; such a
+ * code is checked for and skipped in favour of the next sequence value.
+ */
+@Component
+public class AccessCodeAllocator {
+
+    static final int ACCESS_CODE_LENGTH = 8;
+
+    private final ParticipantRepository participantRepository;
+    private final FeistelCodes codes;
+
+    AccessCodeAllocator(ParticipantRepository participantRepository,
+                        @Value("${app.codes.secret}") String secret) {
+        this.participantRepository = participantRepository;
+        this.codes = new FeistelCodes(secret, "access-code", ACCESS_CODE_LENGTH);
+    }
+
+    public String allocate() {
+        String code;
+        do {
+            code = codes.encode(participantRepository.nextAccessCodeSequence(), null);
+        } while (participantRepository.existsByAccessCode(code));
+        return code;
+    }
+
+    /**
+     * Issues {@code count} codes with one sequence query and one check for taken codes,
+     * repeated only for the codes that turn out to be taken.
+     */
+    public List<String> allocate(int count) {
+        var allocated = new ArrayList<String>(Math.max(count, 0));
+        while (allocated.size() < count) {
+            var candidates = participantRepository.nextAccessCodeSequences(count - allocated.size()).stream()
+                    .map(value -> codes.encode(value, null))
+                    .toList();
+            var taken = new HashSet<>(participantRepository.findTakenAccessCodes(candidates));
+            candidates.stream()
+                    .filter(code -> !taken.contains(code))
+                    .forEach(allocated::add);
+        }
+        return List.copyOf(allocated);
+    }
+}
@@ -0,0 +1,619 @@
+package app.meads.competition.internal;
+
+import app.meads.BusinessRuleException;
+import app.meads.UuidV7;
+import app.meads.competition.Competition;
+import app.meads.competition.CompetitionArchive;
+import app.meads.competition.CompetitionArchiveContributor.Table;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes a finished competition to a self-describing ZIP archive, purges its rows, and puts
+ * them back on demand.
+ *
+ * <p>The archive holds a {@code manifest.json} (format version, schema version, and for every
+ * table its columns, key column and row count), one {@code tables/<table>.jsonl} file per
+ * table with each row as Postgres' own {@code row_to_json} rendering, and the uploaded
+ * document contents as {@code blobs/<sha256>}. Rows are exported from one repeatable-read
+ * snapshot; the purge then deletes exactly the keys in the archive, children first, in
+ * bounded batches that each commit on their own, so it never holds long locks and can resume
+ * after an interruption. A restore inserts everything in one transaction through
+ * {@code json_populate_record}, so columns added since the archive was written take their
+ * defaults.
+ *
+ * <p>Rows written after the snapshot are not in the archive. The purge looks for them before
+ * deleting anything, and a foreign key violation while deleting means one slipped in since; in
+ * both cases the deleted rows are put back, the archive is discarded and the caller gets
+ * {@code error.archive.competition-changed}, so a competition is never left half purged. The
+ * users the rows refer to are recorded with the archive, so they cannot be deleted while it
+ * may still be restored.
+ */
+@Slf4j
+@Component
+public class CompetitionArchiver {
+
+    static final String FORMAT = "meads-competition-archive";
+    static final int FORMAT_VERSION = 1;
+
+    private static final String MANIFEST = "manifest.json";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static final int RESTORE_BATCH_SIZE = 500;
+
+    private static final String COMPETITION_DIVISIONS =
+            "SELECT id FROM divisions WHERE competition_id = :competitionId";
+
+    /** The competition module's own tables, parents first. */
+    static final List<Table> COMPETITION_TABLES = List.of(
+            new Table("competitions", "id", "id = :competitionId"),
+            new Table("competition_logos", "competition_id", "competition_id = :competitionId"),
+            new Table("competition_documents", "id", "competition_id = :competitionId"),
+            new Table("divisions", "id", "competition_id = :competitionId"),
+            new Table("division_categories", "id",
+                    "division_id IN (" + COMPETITION_DIVISIONS + ")", "parent_id IS NOT NULL, id"),
+            new Table("participants", "id", "competition_id = :competitionId"),
+            new Table("participant_roles", "id",
+                    "participant_id IN (SELECT id FROM participants WHERE competition_id = :competitionId)"));
+
+    private static final String COLUMNS_SQL = """
+            SELECT column_name FROM information_schema.columns
+            WHERE table_schema = current_schema() AND table_name = ?
+            ORDER BY ordinal_position""";
+
+    private static final String SCHEMA_VERSION_SQL = """
+            SELECT version FROM flyway_schema_history
+            WHERE success AND version IS NOT NULL
+            ORDER BY installed_rank DESC LIMIT 1""";
+
+    private static final String DOCUMENT_HASHES_SQL = """
+            SELECT DISTINCT content_hash FROM competition_documents
+            WHERE competition_id = :competitionId AND content_hash IS NOT NULL""";
+
+    private static final String ARCHIVE_COLUMNS = """
+            id, competition_id, short_name, name, file_name, size_bytes, sha256, row_count,
+            status, archived_at, restored_at""";
+    private static final String INSERT_ARCHIVE_SQL = """
+            INSERT INTO competition_archives (%s)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NULL)""".formatted(ARCHIVE_COLUMNS);
+    private static final String INSERT_ARCHIVE_USER_SQL = """
+            INSERT INTO competition_archive_users (archive_id, user_id) VALUES (?, ?)""";
+    private static final String DELETE_ARCHIVE_SQL = """
+            DELETE FROM competition_archives WHERE id = ?""";
+    private static final String MARK_ARCHIVED_SQL = """
+            UPDATE competition_archives SET status = 'ARCHIVED' WHERE id = ?""";
+    private static final String MARK_RESTORED_SQL = """
+            UPDATE competition_archives SET status = 'RESTORED', restored_at = now() WHERE id = ?""";
+    private static final String FIND_ALL_SQL = """
+            SELECT %s FROM competition_archives ORDER BY archived_at DESC""".formatted(ARCHIVE_COLUMNS);
+    private static final String FIND_BY_ID_SQL = """
+            SELECT %s FROM competition_archives WHERE id = ?""".formatted(ARCHIVE_COLUMNS);
+    private static final String FIND_PURGING_SQL = """
+            SELECT %s FROM competition_archives WHERE competition_id = ? AND status = 'PURGING'
+            ORDER BY archived_at DESC LIMIT 1""".formatted(ARCHIVE_COLUMNS);
+    private static final String USER_ARCHIVED_SQL = """
+            SELECT EXISTS (
+                SELECT 1 FROM competition_archive_users au
+                JOIN competition_archives a ON a.id = au.archive_id
+                WHERE au.user_id = ? AND a.status <> 'RESTORED')""";
+
+    /** The columns of a table that reference users. */
+    private static final String USER_COLUMNS_SQL = """
+            SELECT a.attname FROM pg_constraint c
+            JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+            WHERE c.contype = 'f' AND c.conrelid = to_regclass(?) AND c.confrelid = 'users'::regclass
+            ORDER BY a.attname""";
+
+    private static final RowMapper<CompetitionArchive> ARCHIVE_MAPPER = (rs, rowNum) -> {
+        var restoredAt = rs.getTimestamp("restored_at");
+        return new CompetitionArchive(
+                rs.getObject("id", UUID.class),
+                rs.getObject("competition_id", UUID.class),
+                rs.getString("short_name"),
+                rs.getString("name"),
+                rs.getString("file_name"),
+                rs.getLong("size_bytes"),
+                rs.getString("sha256"),
+                rs.getLong("row_count"),
+                CompetitionArchive.Status.valueOf(rs.getString("status")),
+                rs.getTimestamp("archived_at").toInstant(),
+                restoredAt != null ? restoredAt.toInstant() : null);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate exportTemplate;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate transaction;
+    private final DocumentStore documentStore;
+    private final Path root;
+    private final int purgeBatchSize;
+
+    CompetitionArchiver(DataSource dataSource,
+                        PlatformTransactionManager transactionManager,
+                        DocumentStore documentStore,
+                        @Value("${app.archives.storage-dir:data/archives}") String storageDir,
+                        @Value("${app.archives.fetch-size:500}") int fetchSize,
+                        @Value("${app.archives.purge-batch-size:1000}") int purgeBatchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        var streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(fetchSize);
+        this.exportTemplate = new NamedParameterJdbcTemplate(streaming);
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        snapshotTransaction.setReadOnly(true);
+        snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.documentStore = documentStore;
+        this.root = Path.of(storageDir).toAbsolutePath().normalize();
+        this.purgeBatchSize = purgeBatchSize;
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create archive storage directory " + root, e);
+        }
+    }
+
+    public List<CompetitionArchive> findAll() {
+        return jdbcTemplate.query(FIND_ALL_SQL, ARCHIVE_MAPPER);
+    }
+
+    public Optional<CompetitionArchive> findById(UUID archiveId) {
+        return jdbcTemplate.query(FIND_BY_ID_SQL, ARCHIVE_MAPPER, archiveId).stream().findFirst();
+    }
+
+    /**
+     * @return the archive of this competition whose purge was interrupted, if any
+     */
+    public Optional<CompetitionArchive> findPurging(UUID competitionId) {
+        return jdbcTemplate.query(FIND_PURGING_SQL, ARCHIVE_MAPPER, competitionId).stream().findFirst();
+    }
+
+    /**
+     * @return whether an archive that has not been restored refers to this user
+     */
+    public boolean isUserArchived(UUID userId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(USER_ARCHIVED_SQL, Boolean.class, userId));
+    }
+
+    /**
+     * Writes the archive file and records it as {@link CompetitionArchive.Status#PURGING}.
+     *
+     * @param contributed tables of other modules, in insertion order
+     */
+    public CompetitionArchive export(Competition competition, List<Table> contributed) {
+        var tables = new ArrayList<>(COMPETITION_TABLES);
+        tables.addAll(contributed);
+        var fileName = competition.getShortName() + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".zip";
+        var target = root.resolve(fileName);
+        Written written;
+        String sha256;
+        try {
+            var temp = Files.createTempFile(root, competition.getShortName(), ".tmp");
+            try {
+                var digest = sha256();
+                try (var out = new ZipOutputStream(new BufferedOutputStream(
+                        new DigestOutputStream(Files.newOutputStream(temp), digest)))) {
+                    written = snapshotTransaction.execute(status -> writeArchive(out, competition, tables));
+                }
+                sha256 = HexFormat.of().formatHex(digest.digest());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            var archive = new CompetitionArchive(UuidV7.randomUUID(), competition.getId(),
+                    competition.getShortName(), competition.getName(), fileName, Files.size(target),
+                    sha256, written.rows(), CompetitionArchive.Status.PURGING, Instant.now(), null);
+            transaction.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_ARCHIVE_SQL, archive.id(), archive.competitionId(),
+                        archive.shortName(), archive.name(), archive.fileName(), archive.sizeBytes(),
+                        archive.sha256(), archive.rows(), archive.status().name(),
+                        Timestamp.from(archive.archivedAt()));
+                jdbcTemplate.batchUpdate(INSERT_ARCHIVE_USER_SQL, written.userIds().stream()
+                        .map(userId -> new Object[]{archive.id(), userId})
+                        .toList());
+            });
+            log.info("Wrote competition archive {} ({} rows, {} bytes)", fileName, written.rows(),
+                    archive.sizeBytes());
+            return archive;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write competition archive " + fileName, e);
+        }
+    }
+
+    /**
+     * The divisions and document contents of an archived competition, for the caller to evict
+     * caches and clean up files.
+     */
+    public record Contents(List<UUID> divisionIds, List<String> documentHashes) {}
+
+    /**
+     * Deletes the archived rows, children first, and marks the archive
+     * {@link CompetitionArchive.Status#ARCHIVED}. Safe to call again after an interruption.
+     *
+     * @param known every table that may appear in an archive, by name
+     * @throws BusinessRuleException {@code error.archive.competition-changed} if the competition
+     *                               has rows the archive does not hold; they are left in place
+     *                               and the archive is discarded
+     */
+    public Contents purge(CompetitionArchive archive, Map<String, Table> known) {
+        var divisionIds = new ArrayList<UUID>();
+        var documentHashes = new ArrayList<String>();
+        try (var zip = open(archive)) {
+            var manifest = readManifest(zip);
+            var tables = manifestTables(manifest, known);
+            var keys = new ArrayList<List<UUID>>();
+            for (var table : tables) {
+                var tableKeys = new ArrayList<UUID>();
+                readRows(zip, table.file(), row -> {
+                    tableKeys.add(UUID.fromString(row.get(table.definition().keyColumn()).asText()));
+                    collect(table.definition(), row, divisionIds, documentHashes);
+                });
+                keys.add(tableKeys);
+            }
+            for (int i = 0; i < tables.size(); i++) {
+                var table = tables.get(i).definition();
+                if (hasUnarchivedRows(archive.competitionId(), table, keys.get(i))) {
+                    log.warn("Table {} gained rows after competition {} was archived", table.name(),
+                            archive.shortName());
+                    throw discard(archive, zip, tables);
+                }
+            }
+            try {
+                for (int i = tables.size() - 1; i >= 0; i--) {
+                    deleteInBatches(tables.get(i).definition(), keys.get(i).reversed());
+                }
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Purge of competition {} hit rows written after it was archived: {}",
+                        archive.shortName(), e.getMessage());
+                throw discard(archive, zip, tables);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read competition archive " + archive.fileName(), e);
+        }
+        jdbcTemplate.update(MARK_ARCHIVED_SQL, archive.id());
+        log.info("Purged competition {} ({} rows)", archive.shortName(), archive.rows());
+        return new Contents(divisionIds, documentHashes);
+    }
+
+    /**
+     * Inserts every archived row in one transaction and marks the archive
+     * {@link CompetitionArchive.Status#RESTORED}.
+     *
+     * @throws BusinessRuleException {@code error.archive.corrupt} if the file does not match
+     *                               the checksum recorded when it was written
+     */
+    public Contents restore(CompetitionArchive archive, Map<String, Table> known) {
+        verifyChecksum(archive);
+        var divisionIds = new ArrayList<UUID>();
+        var documentHashes = new ArrayList<String>();
+        try (var zip = open(archive)) {
+            var manifest = readManifest(zip);
+            var tables = manifestTables(manifest, known);
+            writeBlobs(zip, manifest);
+            transaction.executeWithoutResult(status -> {
+                for (var table : tables) {
+                    insertRows(zip, table, false, divisionIds, documentHashes);
+                }
+                jdbcTemplate.update(MARK_RESTORED_SQL, archive.id());
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read competition archive " + archive.fileName(), e);
+        }
+        log.info("Restored competition {} from {}", archive.shortName(), archive.fileName());
+        return new Contents(divisionIds, documentHashes);
+    }
+
+    private record Written(long rows, Set<UUID> userIds) {}
+
+    private Written writeArchive(ZipOutputStream out, Competition competition, List<Table> tables) {
+        try {
+            var params = Map.of("competitionId", competition.getId());
+            var manifest = MAPPER.createObjectNode()
+                    .put("format", FORMAT)
+                    .put("version", FORMAT_VERSION)
+                    .put("schemaVersion", jdbcTemplate.queryForObject(SCHEMA_VERSION_SQL, String.class))
+                    .put("competitionId", competition.getId().toString())
+                    .put("shortName", competition.getShortName())
+                    .put("name", competition.getName())
+                    .put("createdAt", Instant.now().toString());
+            var tableNodes = manifest.putArray("tables");
+            long total = 0;
+            var userIds = new LinkedHashSet<UUID>();
+            for (var table : tables) {
+                var file = "tables/" + table.name() + ".jsonl";
+                out.putNextEntry(new ZipEntry(file));
+                long[] rows = {0};
+                var sql = "SELECT row_to_json(%1$s)::text FROM %1$s WHERE %2$s ORDER BY %3$s"
+                        .formatted(table.name(), table.scope(), table.orderBy());
+                exportTemplate.query(sql, params, rs -> {
+                    try {
+                        out.write(rs.getString(1).getBytes(StandardCharsets.UTF_8));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0]++;
+                });
+                out.closeEntry();
+                var node = tableNodes.addObject()
+                        .put("name", table.name())
+                        .put("file", file)
+                        .put("keyColumn", table.keyColumn())
+                        .put("rows", rows[0]);
+                var columns = node.putArray("columns");
+                columns(table.name()).forEach(columns::add);
+                total += rows[0];
+                for (var column : jdbcTemplate.queryForList(USER_COLUMNS_SQL, String.class, table.name())) {
+                    var sql = "SELECT DISTINCT \"%3$s\" FROM %1$s WHERE \"%3$s\" IS NOT NULL AND (%2$s)"
+                            .formatted(table.name(), table.scope(), column);
+                    userIds.addAll(exportTemplate.queryForList(sql, params, UUID.class));
+                }
+            }
+            var blobNodes = manifest.putArray("blobs");
+            for (var hash : exportTemplate.queryForList(DOCUMENT_HASHES_SQL, params, String.class)) {
+                if (!documentStore.exists(hash)) {
+                    log.warn("Document content {} of competition {} is missing; archiving without it",
+                            hash, competition.getShortName());
+                    continue;
+                }
+                var file = "blobs/" + hash;
+                out.putNextEntry(new ZipEntry(file));
+                Files.copy(documentStore.path(hash), out);
+                out.closeEntry();
+                blobNodes.addObject().put("hash", hash).put("file", file);
+            }
+            out.putNextEntry(new ZipEntry(MANIFEST));
+            out.write(MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(manifest));
+            out.closeEntry();
+            return new Written(total, userIds);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteInBatches(Table table, List<UUID> keys) {
+        var sql = "DELETE FROM %s WHERE %s = ANY (?)".formatted(table.name(), table.keyColumn());
+        for (int from = 0; from < keys.size(); from += purgeBatchSize) {
+            var batch = keys.subList(from, Math.min(from + purgeBatchSize, keys.size())).toArray(UUID[]::new);
+            transaction.executeWithoutResult(status -> jdbcTemplate.update(sql,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", batch))));
+        }
+        if (!keys.isEmpty()) {
+            log.debug("Purged {} rows from {}", keys.size(), table.name());
+        }
+    }
+
+    /**
+     * Rows a table has in the competition's scope that the archive does not hold.
+     */
+    private boolean hasUnarchivedRows(UUID competitionId, Table table, List<UUID> archivedKeys) {
+        var archived = new HashSet<>(archivedKeys);
+        var sql = "SELECT %s FROM %s WHERE %s".formatted(table.keyColumn(), table.name(), table.scope());
+        return exportTemplate.queryForList(sql, Map.of("competitionId", competitionId), UUID.class)
+                .stream()
+                .anyMatch(key -> !archived.contains(key));
+    }
+
+    /**
+     * Puts back whatever the purge already deleted and drops the archive, leaving the
+     * competition as it was before archiving was attempted.
+     */
+    private BusinessRuleException discard(CompetitionArchive archive, ZipFile zip, List<ManifestTable> tables) {
+        transaction.executeWithoutResult(status -> {
+            for (var table : tables) {
+                insertRows(zip, table, true, new ArrayList<>(), new ArrayList<>());
+            }
+            jdbcTemplate.update(DELETE_ARCHIVE_SQL, archive.id());
+        });
+        try {
+            Files.deleteIfExists(path(archive));
+        } catch (IOException e) {
+            log.warn("Failed to delete discarded competition archive {}: {}", archive.fileName(), e.getMessage());
+        }
+        log.info("Discarded archive {} of competition {}", archive.fileName(), archive.shortName());
+        return new BusinessRuleException("error.archive.competition-changed");
+    }
+
+    private void insertRows(ZipFile zip, ManifestTable table, boolean skipExisting,
+                            List<UUID> divisionIds, List<String> documentHashes) {
+        var current = columns(table.definition().name());
+        var columns = table.columns().stream().filter(current::contains)
+                .map(column -> '"' + column + '"')
+                .toList();
+        var columnList = String.join(", ", columns);
+        var sql = "INSERT INTO %1$s (%2$s) SELECT %2$s FROM json_populate_record(NULL::%1$s, ?::json)%3$s"
+                .formatted(table.definition().name(), columnList, skipExisting ? " ON CONFLICT DO NOTHING" : "");
+        var batch = new ArrayList<Object[]>(RESTORE_BATCH_SIZE);
+        try (var reader = reader(zip, table.file())) {
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                collect(table.definition(), (ObjectNode) MAPPER.readTree(line), divisionIds, documentHashes);
+                batch.add(new Object[]{line});
+                if (batch.size() == RESTORE_BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(sql, batch);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private static void collect(Table table, ObjectNode row, List<UUID> divisionIds, List<String> documentHashes) {
+        switch (table.name()) {
+            case "divisions" -> divisionIds.add(UUID.fromString(row.get("id").asText()));
+            case "competition_documents" -> {
+                if (row.hasNonNull("content_hash")) {
+                    documentHashes.add(row.get("content_hash").asText());
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void writeBlobs(ZipFile zip, JsonNode manifest) throws IOException {
+        for (var blob : manifest.path("blobs")) {
+            var hash = blob.path("hash").asText();
+            byte[] data;
+            try (var in = zip.getInputStream(entry(zip, blob.path("file").asText()))) {
+                data = in.readAllBytes();
+            }
+            if (!HexFormat.of().formatHex(sha256().digest(data)).equals(hash)) {
+                throw new BusinessRuleException("error.archive.corrupt");
+            }
+            documentStore.write(hash, data);
+        }
+    }
+
+    private void verifyChecksum(CompetitionArchive archive) {
+        var digest = sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(path(archive)), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read competition archive " + archive.fileName(), e);
+        }
+        if (!HexFormat.of().formatHex(digest.digest()).equals(archive.sha256())) {
+            log.warn("Checksum mismatch for competition archive {}", archive.fileName());
+            throw new BusinessRuleException("error.archive.corrupt");
+        }
+    }
+
+    private record ManifestTable(Table definition, String file, List<String> columns) {}
+
+    /**
+     * Matches the manifest's tables to the known definitions, so SQL is only ever built from
+     * table and key names this application declares, never from the file.
+     */
+    private static List<ManifestTable> manifestTables(JsonNode manifest, Map<String, Table> known) {
+        if (!FORMAT.equals(manifest.path("format").asText())
+                || manifest.path("version").asInt() > FORMAT_VERSION) {
+            throw new BusinessRuleException("error.archive.corrupt");
+        }
+        var tables = new ArrayList<ManifestTable>();
+        for (var node : manifest.path("tables")) {
+            var definition = known.get(node.path("name").asText());
+            if (definition == null || !definition.keyColumn().equals(node.path("keyColumn").asText())) {
+                throw new BusinessRuleException("error.archive.corrupt");
+            }
+            var columns = new ArrayList<String>();
+            node.path("columns").forEach(column -> columns.add(column.asText()));
+            tables.add(new ManifestTable(definition, node.path("file").asText(), columns));
+        }
+        return tables;
+    }
+
+    /**
+     * @return the tables of {@code contributed} and of this module, by name
+     */
+    public Map<String, Table> knownTables(List<Table> contributed) {
+        var known = new LinkedHashMap<String, Table>();
+        COMPETITION_TABLES.forEach(table -> known.put(table.name(), table));
+        contributed.forEach(table -> known.put(table.name(), table));
+        return known;
+    }
+
+    private List<String> columns(String table) {
+        return jdbcTemplate.queryForList(COLUMNS_SQL, String.class, table);
+    }
+
+    private ZipFile open(CompetitionArchive archive) throws IOException {
+        return new ZipFile(path(archive).toFile());
+    }
+
+    private Path path(CompetitionArchive archive) {
+        var path = root.resolve(archive.fileName()).normalize();
+        if (!path.getParent().equals(root) || !Files.isRegularFile(path)) {
+            throw new BusinessRuleException("error.archive.missing-file");
+        }
+        return path;
+    }
+
+    private static JsonNode readManifest(ZipFile zip) throws IOException {
+        try (var in = zip.getInputStream(entry(zip, MANIFEST))) {
+            return MAPPER.readTree(in);
+        }
+    }
+
+    private static void readRows(ZipFile zip, String file, Consumer<ObjectNode> consumer)
+            throws IOException {
+        try (var reader = reader(zip, file)) {
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank()) {
+                    consumer.accept((ObjectNode) MAPPER.readTree(line));
+                }
+            }
+        }
+    }
+
+    private static BufferedReader reader(ZipFile zip, String file) throws IOException {
+        return new BufferedReader(new InputStreamReader(zip.getInputStream(entry(zip, file)), StandardCharsets.UTF_8));
+    }
+
+    private static ZipEntry entry(ZipFile zip, String name) {
+        var entry = zip.getEntry(name);
+        if (entry == null) {
+            throw new BusinessRuleException("error.archive.corrupt");
+        }
+        return entry;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package app.meads.competition.internal;
+
+import app.meads.CacheSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration(proxyBeanMethods = false)
+class CompetitionCacheConfiguration {
+
+    @Bean
+    CacheSpec divisionCacheSpec(@Value("${app.competitions.reference-cache-ttl:10m}") Duration timeToLive) {
+        return new CacheSpec(DivisionReferenceCache.DIVISIONS, 1_000, timeToLive);
+    }
+
+    @Bean
+    CacheSpec divisionCategoryCacheSpec(@Value("${app.competitions.reference-cache-ttl:10m}") Duration timeToLive) {
+        return new CacheSpec(DivisionReferenceCache.DIVISION_CATEGORIES, 1_000, timeToLive);
+    }
+
+    @Bean
+    CacheSpec judgingCategoryCacheSpec(@Value("${app.competitions.reference-cache-ttl:10m}") Duration timeToLive) {
+        return new CacheSpec(DivisionReferenceCache.JUDGING_CATEGORIES, 1_000, timeToLive);
+    }
+}
@@ -0,0 +1,104 @@
+package app.meads.competition.internal;
+
+import app.meads.competition.Competition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Copies a competition's configuration into a new competition with one statement per table,
+ * whatever its size. New rows get their ids from Postgres' {@code uuidv7()}; divisions are
+ * matched to their copies by short name, which is unique within a competition, and
+ * categories are remapped through a single CTE so subcategories point at the copied parents.
+ * Documents share the source's content-addressed files, so only their rows are copied; their
+ * hashes are locked first through {@link DocumentContent}, so a concurrent removal of the
+ * source documents cannot delete a file the copies are about to reference.
+ */
+@Component
+public class CompetitionCloner {
+
+    private static final String COMPETITION_SQL = """
+            INSERT INTO competitions (id, name, short_name, start_date, end_date, location,
+                                      logo_content_type, logo_hash, contact_email, shipping_address,
+                                      phone_number, website, created_at)
+            SELECT ?, ?, ?, ?, ?, location, logo_content_type, logo_hash, contact_email,
+                   shipping_address, phone_number, website, now()
+            FROM competitions WHERE id = ?""";
+
+    private static final String LOGO_SQL = """
+            INSERT INTO competition_logos (competition_id, content_type, data, header_content_type,
+                                           header_data, hash, created_at)
+            SELECT ?, content_type, data, header_content_type, header_data, hash, now()
+            FROM competition_logos WHERE competition_id = ?""";
+
+    private static final String DIVISIONS_SQL = """
+            INSERT INTO divisions (id, competition_id, name, short_name, status, scoring_system,
+                                   max_entries_per_subcategory, max_entries_per_main_category,
+                                   max_entries_total, entry_prefix, meadery_name_required,
+                                   registration_deadline, registration_deadline_timezone, created_at)
+            SELECT uuidv7(), ?, name, short_name, 'DRAFT', scoring_system,
+                   max_entries_per_subcategory, max_entries_per_main_category,
+                   max_entries_total, entry_prefix, meadery_name_required,
+                   registration_deadline + make_interval(days => ?), registration_deadline_timezone, now()
+            FROM divisions WHERE competition_id = ?
+            ORDER BY created_at""";
+
+    // Foreign keys are checked at the end of the statement, so parents and subcategories can
+    // be inserted together
+    private static final String CATEGORIES_SQL = """
+            WITH remap AS MATERIALIZED (
+                SELECT c.id AS old_id, uuidv7() AS new_id, target.id AS division_id
+                FROM division_categories c
+                JOIN divisions source ON source.id = c.division_id
+                JOIN divisions target ON target.competition_id = ? AND target.short_name = source.short_name
+                WHERE source.competition_id = ?
+            )
+            INSERT INTO division_categories (id, division_id, catalog_category_id, code, name,
+                                             description, parent_id, sort_order, scope, created_at)
+            SELECT r.new_id, r.division_id, c.catalog_category_id, c.code, c.name,
+                   c.description, parent.new_id, c.sort_order, c.scope, now()
+            FROM remap r
+            JOIN division_categories c ON c.id = r.old_id
+            LEFT JOIN remap parent ON parent.old_id = c.parent_id""";
+
+    private static final String DOCUMENT_HASHES_SQL = """
+            SELECT DISTINCT content_hash FROM competition_documents
+            WHERE competition_id = ? AND content_hash IS NOT NULL""";
+
+    private static final String DOCUMENTS_SQL = """
+            INSERT INTO competition_documents (id, competition_id, name, type, content_type,
+                                               content_hash, size_bytes, url, language,
+                                               display_order, created_at)
+            SELECT uuidv7(), ?, name, type, content_type, content_hash, size_bytes, url, language,
+                   display_order, now()
+            FROM competition_documents WHERE competition_id = ?
+            ORDER BY display_order""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DocumentContent documentContent;
+
+    CompetitionCloner(JdbcTemplate jdbcTemplate, DocumentContent documentContent) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.documentContent = documentContent;
+    }
+
+    public record Cloned(int divisions, int categories, int documents) {}
+
+    /**
+     * Inserts {@code target}, which must not be persisted yet, with the settings, logo,
+     * divisions, categories and documents of {@code sourceCompetitionId}. Divisions start as
+     * DRAFT with their registration deadlines moved by {@code deadlineShiftDays}.
+     */
+    public Cloned copy(UUID sourceCompetitionId, Competition target, int deadlineShiftDays) {
+        jdbcTemplate.update(COMPETITION_SQL, target.getId(), target.getName(), target.getShortName(),
+                target.getStartDate(), target.getEndDate(), sourceCompetitionId);
+        jdbcTemplate.update(LOGO_SQL, target.getId(), sourceCompetitionId);
+        int divisions = jdbcTemplate.update(DIVISIONS_SQL, target.getId(), deadlineShiftDays, sourceCompetitionId);
+        int categories = jdbcTemplate.update(CATEGORIES_SQL, target.getId(), sourceCompetitionId);
+        documentContent.lock(jdbcTemplate.queryForList(DOCUMENT_HASHES_SQL, String.class, sourceCompetitionId));
+        // Read after the locks, so removals that released their content are no longer seen
+        int documents = jdbcTemplate.update(DOCUMENTS_SQL, target.getId(), sourceCompetitionId);
+        return new Cloned(divisions, categories, documents);
+    }
+}
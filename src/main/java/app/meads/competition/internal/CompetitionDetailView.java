@@ -1,6 +1,7 @@
 package app.meads.competition.internal;
 
 import app.meads.BusinessRuleException;
+import app.meads.ImportDialog;
 import app.meads.LanguageMapping;
 import app.meads.MainLayout;
 import app.meads.MeadsI18NProvider;
@@ -37,12 +38,12 @@ import com.vaadin.flow.component.textfield.IntegerField;
 import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.component.upload.Upload;
-import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.server.streams.UploadHandler;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import com.vaadin.flow.spring.security.AuthenticationContext;
 import jakarta.annotation.security.PermitAll;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -50,18 +51,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StringUtils;
 
 import java.util.Arrays;
-import java.io.ByteArrayInputStream;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Base64;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -79,10 +76,9 @@ public class CompetitionDetailView extends VerticalLayout implements BeforeEnter
     private HorizontalLayout header;
     private Nav breadcrumb;
     private Grid<Division> divisionsGrid;
-    private Grid<Participant> participantsGrid;
+    private Grid<ParticipantSummary> participantsGrid;
     private Grid<CompetitionDocument> documentsGrid;
-    private Map<UUID, User> userMap;
-    private Map<UUID, List<ParticipantRole>> rolesMap;
+    private String participantFilter;
 
     public CompetitionDetailView(CompetitionService competitionService,
                                   UserService userService,
@@ -152,9 +148,7 @@ public class CompetitionDetailView extends VerticalLayout implements BeforeEnter
         header.setWidthFull();
 
         if (competition.hasLogo()) {
-            var dataUri = "data:" + competition.getLogoContentType() + ";base64,"
-                    + Base64.getEncoder().encodeToString(competition.getLogo());
-            var logo = new Image(dataUri, competition.getName() + " logo");
+            var logo = new Image(competition.getLogoUrl(), competition.getName() + " logo");
             logo.setHeight("64px");
             header.add(logo);
         }
@@ -272,64 +266,60 @@ public class CompetitionDetailView extends VerticalLayout implements BeforeEnter
 
         var filterField = new TextField();
         filterField.setPlaceholder(getTranslation("competition-detail.participants.filter.placeholder"));
-        filterField.setValueChangeMode(ValueChangeMode.EAGER);
+        filterField.setValueChangeMode(ValueChangeMode.LAZY);
         filterField.setPrefixComponent(new Icon(VaadinIcon.SEARCH));
         filterField.setClearButtonVisible(true);
 
         var addButton = new Button(getTranslation("competition-detail.participants.add"), e -> openAddParticipantDialog());
+        var importButton = new Button(getTranslation("competition-detail.participants.import"),
+                new Icon(VaadinIcon.UPLOAD), e -> openImportParticipantsDialog());
+        importButton.setId("import-participants-button");
 
-        var toolbar = new HorizontalLayout(filterField, addButton);
+        var toolbar = new HorizontalLayout(filterField, addButton, importButton);
         toolbar.setWidthFull();
         toolbar.setFlexGrow(1, filterField);
         tab.add(toolbar);
 
         participantsGrid = new Grid<>();
-        participantsGrid.setAllRowsVisible(true);
+        participantsGrid.setPageSize(50);
+        participantsGrid.setHeight("600px");
+        participantsGrid.addColumn(ParticipantSummary::name)
+                .setHeader(getTranslation("competition-detail.participants.column.name"))
+                .setSortable(true).setSortProperty("name").setFlexGrow(2);
+        participantsGrid.addColumn(ParticipantSummary::email)
+                .setHeader(getTranslation("competition-detail.participants.column.email"))
+                .setSortable(true).setSortProperty("email").setFlexGrow(3);
+        participantsGrid.addColumn(p -> p.meaderyName() != null ? p.meaderyName() : "—")
+                .setHeader(getTranslation("competition-detail.participants.column.meadery"))
+                .setSortable(true).setSortProperty("meaderyName").setFlexGrow(2);
         participantsGrid.addColumn(p -> {
-            var user = userMap.get(p.getUserId());
-            return user != null ? user.getName() : getTranslation("competition-detail.participants.unknown");
-        }).setHeader(getTranslation("competition-detail.participants.column.name")).setSortable(true).setFlexGrow(2);
-        participantsGrid.addColumn(p -> {
-            var user = userMap.get(p.getUserId());
-            return user != null ? user.getEmail() : "—";
-        }).setHeader(getTranslation("competition-detail.participants.column.email")).setSortable(true).setFlexGrow(3);
-        participantsGrid.addColumn(p -> {
-            var user = userMap.get(p.getUserId());
-            return user != null && user.getMeaderyName() != null ? user.getMeaderyName() : "—";
-        }).setHeader(getTranslation("competition-detail.participants.column.meadery")).setSortable(true).setFlexGrow(2);
-        participantsGrid.addColumn(p -> {
-            var user = userMap.get(p.getUserId());
-            if (user == null || user.getCountry() == null) return "—";
-            return new Locale("", user.getCountry()).getDisplayCountry(Locale.ENGLISH);
-        }).setHeader(getTranslation("competition-detail.participants.column.country")).setSortable(true).setAutoWidth(true);
-        participantsGrid.addColumn(p -> {
-            var roles = rolesMap.getOrDefault(p.getId(), List.of());
-            return roles.stream()
-                    .map(r -> r.getRole().getDisplayName())
-                    .sorted()
-                    .collect(Collectors.joining(", "));
-        }).setHeader(getTranslation("competition-detail.participants.column.roles")).setSortable(true).setAutoWidth(true);
+            if (p.country() == null) return "—";
+            return new Locale("", p.country()).getDisplayCountry(Locale.ENGLISH);
+        }).setHeader(getTranslation("competition-detail.participants.column.country"))
+                .setSortable(true).setSortProperty("country").setAutoWidth(true);
+        participantsGrid.addColumn(p -> p.roles().stream()
+                .map(CompetitionRole::getDisplayName)
+                .collect(Collectors.joining(", "))
+        ).setHeader(getTranslation("competition-detail.participants.column.roles")).setAutoWidth(true);
         participantsGrid.addColumn(p ->
-            p.getAccessCode() != null ? p.getAccessCode() : "—"
+            p.accessCode() != null ? p.accessCode() : "—"
         ).setHeader(getTranslation("competition-detail.participants.column.access-code")).setAutoWidth(true);
         participantsGrid.addComponentColumn(p -> {
             var actions = new HorizontalLayout();
             actions.setSpacing(false);
             actions.getStyle().set("gap", "var(--lumo-space-xs)");
 
-            var user = userMap.get(p.getUserId());
-
             var editButton = new Button(new Icon(VaadinIcon.EDIT));
             editButton.addThemeVariants(ButtonVariant.LUMO_ICON, ButtonVariant.LUMO_TERTIARY_INLINE);
             editButton.setTooltipText(getTranslation("competition-detail.participants.action.edit.tooltip"));
             editButton.addClickListener(e -> openEditRolesDialog(p));
             actions.add(editButton);
 
-            if (user != null && user.getPasswordHash() == null) {
+            if (!p.hasPassword()) {
                 var sendLinkButton = new Button(new Icon(VaadinIcon.ENVELOPE));
                 sendLinkButton.addThemeVariants(ButtonVariant.LUMO_ICON, ButtonVariant.LUMO_TERTIARY_INLINE);
                 sendLinkButton.setTooltipText(getTranslation("competition-detail.participants.action.login-link.tooltip"));
-                sendLinkButton.addClickListener(e -> sendMagicLink(user));
+                sendLinkButton.addClickListener(e -> sendMagicLink(userService.findById(p.userId())));
                 actions.add(sendLinkButton);
             }
 
@@ -344,33 +334,25 @@ public class CompetitionDetailView extends VerticalLayout implements BeforeEnter
 
         participantsGrid.getColumns().forEach(col -> col.setResizable(true));
 
-        refreshParticipantsGrid();
+        // Paging, filtering and sorting all run in the database so large competitions open instantly
+        participantsGrid.setItems(
+                query -> competitionService.findParticipantSummaries(competitionId,
+                        participantFilter, VaadinSpringDataHelpers.toSpringPageRequest(query)).stream(),
+                query -> (int) competitionService.countParticipantSummaries(competitionId, participantFilter));
 
         filterField.addValueChangeListener(e -> {
-            var filterString = e.getValue().toLowerCase();
-            if (filterString.isBlank()) {
-                participantsGrid.getListDataView().removeFilters();
-            } else {
-                participantsGrid.getListDataView().setFilter(p -> {
-                    var user = userMap.get(p.getUserId());
-                    if (user == null) return false;
-                    return user.getName().toLowerCase().contains(filterString)
-                            || user.getEmail().toLowerCase().contains(filterString);
-                });
-            }
+            participantFilter = e.getValue();
+            refreshParticipantsGrid();
         });
 
         tab.add(participantsGrid);
         return tab;
     }
 
-    private void openRemoveParticipantDialog(Participant participant) {
-        var user = userMap.get(participant.getUserId());
-        var displayName = user != null ? user.getEmail() : getTranslation("competition-detail.participants.unknown");
-        var roles = rolesMap.getOrDefault(participant.getId(), List.of());
-        var rolesDisplay = roles.stream()
-                .map(r -> r.getRole().getDisplayName())
-                .sorted()
+    private void openRemoveParticipantDialog(ParticipantSummary participant) {
+        var displayName = participant.email();
+        var rolesDisplay = participant.roles().stream()
+                .map(CompetitionRole::getDisplayName)
                 .collect(Collectors.joining(", "));
 
         var dialog = new Dialog();
@@ -381,7 +363,7 @@ public class CompetitionDetailView extends VerticalLayout implements BeforeEnter
         var confirmButton = new Button(getTranslation("competition-detail.participants.remove.button"), e -> {
             try {
                 competitionService.removeParticipant(
-                        competitionId, participant.getId(), getCurrentUserId());
+                        competitionId, participant.participantId(), getCurrentUserId());
                 refreshParticipantsGrid();
                 var notification = Notification.show(getTranslation("competition-detail.participants.removed"));
                 notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
@@ -399,13 +381,9 @@ public class CompetitionDetailView extends VerticalLayout implements BeforeEnter
         dialog.open();
     }
 
-    private void openEditRolesDialog(Participant participant) {
-        var user = userMap.get(participant.getUserId());
-        var displayName = user != null ? user.getEmail() : getTranslation("competition-detail.participants.unknown");
-        var currentRoles = rolesMap.getOrDefault(participant.getId(), List.of());
-        var currentRoleSet = currentRoles.stream()
-                .map(ParticipantRole::getRole)
-                .collect(Collectors.toSet());
+    private void openEditRolesDialog(ParticipantSummary participant) {
+        var displayName = participant.email();
+        var currentRoleSet = Set.copyOf(participant.roles());
 
         var dialog = new Dialog();
         dialog.setHeaderTitle(getTranslation("competition-detail.participants.edit.title", displayName));
@@ -413,22 +391,22 @@ public class CompetitionDetailView extends VerticalLayout implements BeforeEnter
         var nameField = new TextField(getTranslation("competition-detail.participants.edit.name"));
         nameField.setMaxLength(255);
         nameField.setWidthFull();
-        if (user != null && StringUtils.hasText(user.getName()) && !user.getName().equals(user.getEmail())) {
-            nameField.setValue(user.getName());
+        if (StringUtils.hasText(participant.name()) && !participant.name().equals(participant.email())) {
+            nameField.setValue(participant.name());
             nameField.setReadOnly(true);
         }
 
         var meaderyField = new TextField(getTranslation("competition-detail.participants.edit.meadery"));
         meaderyField.setMaxLength(255);
         meaderyField.setWidthFull();
-        if (user != null && StringUtils.hasText(user.getMeaderyName())) {
-            meaderyField.setValue(user.getMeaderyName());
+        if (StringUtils.hasText(participant.meaderyName())) {
+            meaderyField.setValue(participant.meaderyName());
             meaderyField.setReadOnly(true);
         }
 
         var countryCombo = createCountryComboBox();
-        if (user != null && user.getCountry() != null) {
-            countryCombo.setValue(user.getCountry());
+        if (participant.country() != null) {
+            countryCombo.setValue(participant.country());
             countryCombo.setReadOnly(true);
         }
 
@@ -468,26 +446,23 @@ public class CompetitionDetailView extends VerticalLayout implements BeforeEnter
 
             try {
                 // Fill in blank user fields
-                if (user != null) {
-                    fillInBlankUserFields(user.getEmail(),
-                            nameField.isReadOnly() ? "" : nameField.getValue(),
-                            meaderyField.isReadOnly() ? "" : meaderyField.getValue(),
-                            countryCombo.isReadOnly() ? null : countryCombo.getValue());
-                }
+                fillInBlankUserFields(participant.email(),
+                        nameField.isReadOnly() ? "" : nameField.getValue(),
+                        meaderyField.isReadOnly() ? "" : meaderyField.getValue(),
+                        countryCombo.isReadOnly() ? null : countryCombo.getValue());
 
                 // Remove roles that were unchecked
                 for (var role : currentRoleSet) {
                     if (!selectedRoles.contains(role)) {
                         competitionService.removeParticipantRole(
-                                competitionId, participant.getId(), role, getCurrentUserId());
+                                competitionId, participant.participantId(), role, getCurrentUserId());
                     }
                 }
                 // Add roles that were checked
-                var userEmail = user != null ? user.getEmail() : null;
                 for (var role : selectedRoles) {
-                    if (!currentRoleSet.contains(role) && userEmail != null) {
+                    if (!currentRoleSet.contains(role)) {
                         competitionService.addParticipantByEmail(
-                                competitionId, userEmail, role, getCurrentUserId());
+                                competitionId, participant.email(), role, getCurrentUserId());
                     }
                 }
                 refreshParticipantsGrid();
@@ -567,22 +542,22 @@ public class CompetitionDetailView extends VerticalLayout implements BeforeEnter
         dialog.open();
     }
 
-    private void refreshParticipantsGrid() {
-        var participants = competitionService.findParticipantsByCompetition(competitionId);
-
-        rolesMap = participants.stream()
-                .collect(Collectors.toMap(
-                        Participant::getId,
-                        p -> competitionService.findRolesForParticipant(p.getId())));
-
-        var userIds = participants.stream()
-                .map(Participant::getUserId)
-                .distinct()
-                .toList();
-        userMap = userService.findAllByIds(userIds).stream()
-                .collect(Collectors.toMap(User::getId, Function.identity()));
+    private void openImportParticipantsDialog() {
+        new ImportDialog("competition-detail.participants.import", "import-participants",
+                csv -> competitionService.importParticipants(competitionId, csv, true, getCurrentUserId()),
+                report -> getTranslation("competition-detail.participants.import.summary",
+                        report.rows(), report.changes(), report.unchanged(), report.newUsers()),
+                csv -> competitionService.importParticipants(competitionId, csv, false, getCurrentUserId()),
+                report -> {
+                    refreshParticipantsGrid();
+                    var notification = Notification.show(getTranslation(
+                            "competition-detail.participants.imported", report.changes()));
+                    notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+                }).open();
+    }
 
-        participantsGrid.setItems(participants);
+    private void refreshParticipantsGrid() {
+        participantsGrid.getDataProvider().refreshAll();
     }
 
     private ComboBox<String> createCountryComboBox() {
@@ -1022,11 +997,7 @@ public class CompetitionDetailView extends VerticalLayout implements BeforeEnter
             layout.getStyle().set("gap", "var(--lumo-space-xs)");
 
             if (doc.getType() == DocumentType.PDF) {
-                var downloadAnchor = new Anchor(
-                        new StreamResource(doc.getName() + ".pdf",
-                                () -> new ByteArrayInputStream(
-                                        competitionService.getDocument(doc.getId()).getData())),
-                        "");
+                var downloadAnchor = new Anchor(doc.getDownloadUrl(), "");
                 downloadAnchor.getElement().setAttribute("download", true);
                 var downloadButton = new Button(new Icon(VaadinIcon.DOWNLOAD));
                 downloadButton.addThemeVariants(ButtonVariant.LUMO_ICON, ButtonVariant.LUMO_TERTIARY_INLINE);
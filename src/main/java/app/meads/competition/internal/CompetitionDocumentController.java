@@ -0,0 +1,93 @@
+package app.meads.competition.internal;
+
+import app.meads.BusinessRuleException;
+import app.meads.competition.DocumentType;
+import app.meads.identity.Role;
+import app.meads.identity.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Streams uploaded PDF documents from the {@link DocumentStore}. Returning a file
+ * {@link Resource} lets Spring MVC answer {@code Range} requests with 206 partial content
+ * and {@code If-None-Match} with 304, without ever holding the whole file in memory.
+ * Only participants of the document's competition, in any role, and system admins may
+ * download it.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/competition-documents")
+class CompetitionDocumentController {
+
+    private final CompetitionDocumentRepository competitionDocumentRepository;
+    private final DocumentStore documentStore;
+    private final ParticipantRepository participantRepository;
+    private final UserService userService;
+
+    CompetitionDocumentController(CompetitionDocumentRepository competitionDocumentRepository,
+                                  DocumentStore documentStore,
+                                  ParticipantRepository participantRepository,
+                                  UserService userService) {
+        this.competitionDocumentRepository = competitionDocumentRepository;
+        this.documentStore = documentStore;
+        this.participantRepository = participantRepository;
+        this.userService = userService;
+    }
+
+    @GetMapping("/{documentId}")
+    public ResponseEntity<Resource> getDocument(@PathVariable UUID documentId,
+                                                @AuthenticationPrincipal UserDetails principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        var doc = competitionDocumentRepository.findById(documentId).orElse(null);
+        if (doc == null || doc.getType() != DocumentType.PDF || doc.getContentHash() == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!mayRead(doc.getCompetitionId(), principal)) {
+            log.warn("Download of document {} rejected for {}", documentId, principal.getUsername());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (!documentStore.exists(doc.getContentHash())) {
+            return ResponseEntity.notFound().build();
+        }
+        var filename = doc.getName().endsWith(".pdf") ? doc.getName() : doc.getName() + ".pdf";
+        return ResponseEntity.ok()
+                .eTag("\"" + doc.getContentHash() + "\"")
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename, StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(doc.getContentType()))
+                .body(new FileSystemResource(documentStore.path(doc.getContentHash())));
+    }
+
+    private boolean mayRead(UUID competitionId, UserDetails principal) {
+        try {
+            var user = userService.findByEmail(principal.getUsername());
+            return user.getRole() == Role.SYSTEM_ADMIN
+                    || participantRepository.existsByCompetitionIdAndUserId(competitionId, user.getId());
+        } catch (BusinessRuleException e) {
+            return false;
+        }
+    }
+}
@@ -10,4 +10,5 @@ public interface CompetitionDocumentRepository extends JpaRepository<Competition
     List<CompetitionDocument> findByCompetitionIdOrderByDisplayOrder(UUID competitionId);
     int countByCompetitionId(UUID competitionId);
     boolean existsByCompetitionIdAndName(UUID competitionId, String name);
+    boolean existsByContentHash(String contentHash);
 }
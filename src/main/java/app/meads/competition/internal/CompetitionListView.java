@@ -3,6 +3,7 @@ package app.meads.competition.internal;
 import app.meads.BusinessRuleException;
 import app.meads.MainLayout;
 import app.meads.competition.Competition;
+import app.meads.competition.CompetitionArchive;
 import app.meads.competition.CompetitionService;
 import app.meads.identity.UserService;
 import com.vaadin.flow.component.button.Button;
@@ -11,6 +12,7 @@ import com.vaadin.flow.component.datepicker.DatePicker;
 import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.H2;
+import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.notification.Notification;
@@ -29,12 +31,17 @@ import jakarta.annotation.security.PermitAll;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
 @Route(value = "competitions", layout = MainLayout.class)
 @PermitAll
 public class CompetitionListView extends VerticalLayout implements BeforeEnterObserver {
 
+    private static final DateTimeFormatter ARCHIVED_AT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm").withZone(ZoneOffset.UTC);
+
     private final CompetitionService competitionService;
     private final UserService userService;
     private final transient AuthenticationContext authenticationContext;
@@ -58,7 +65,10 @@ public class CompetitionListView extends VerticalLayout implements BeforeEnterOb
 
         var createButton = new Button(getTranslation("competition-list.create"), e -> openCompetitionDialog(null));
 
-        var toolbar = new HorizontalLayout(filterField, createButton);
+        var archivesButton = new Button(getTranslation("competition-list.archives"),
+                new Icon(VaadinIcon.ARCHIVE), e -> openArchivesDialog());
+
+        var toolbar = new HorizontalLayout(filterField, archivesButton, createButton);
         toolbar.setWidthFull();
         toolbar.setFlexGrow(1, filterField);
         add(toolbar);
@@ -83,7 +93,19 @@ public class CompetitionListView extends VerticalLayout implements BeforeEnterOb
             deleteButton.setTooltipText(getTranslation("competition-list.action.delete"));
             deleteButton.addClickListener(e -> openDeleteCompetitionDialog(comp));
 
-            return new HorizontalLayout(editButton, deleteButton);
+            var cloneButton = new Button(new Icon(VaadinIcon.COPY));
+            cloneButton.addThemeVariants(ButtonVariant.LUMO_ICON, ButtonVariant.LUMO_TERTIARY_INLINE);
+            cloneButton.setAriaLabel(getTranslation("competition-list.action.clone"));
+            cloneButton.setTooltipText(getTranslation("competition-list.action.clone"));
+            cloneButton.addClickListener(e -> openCloneCompetitionDialog(comp));
+
+            var archiveButton = new Button(new Icon(VaadinIcon.ARCHIVE));
+            archiveButton.addThemeVariants(ButtonVariant.LUMO_ICON, ButtonVariant.LUMO_TERTIARY_INLINE);
+            archiveButton.setAriaLabel(getTranslation("competition-list.action.archive"));
+            archiveButton.setTooltipText(getTranslation("competition-list.action.archive"));
+            archiveButton.addClickListener(e -> openArchiveCompetitionDialog(comp));
+
+            return new HorizontalLayout(editButton, cloneButton, archiveButton, deleteButton);
         }).setHeader(getTranslation("competition-list.column.actions")).setAutoWidth(true);
 
         grid.addItemClickListener(e ->
@@ -280,6 +302,156 @@ public class CompetitionListView extends VerticalLayout implements BeforeEnterOb
         dialog.open();
     }
 
+    private void openCloneCompetitionDialog(Competition source) {
+        var dialog = new Dialog();
+        dialog.setHeaderTitle(getTranslation("competition-list.clone.title", source.getName()));
+
+        var nameField = new TextField(getTranslation("competition-list.dialog.name"));
+        nameField.setRequired(true);
+        nameField.setMaxLength(255);
+        nameField.setValue(source.getName());
+
+        var shortNameField = new TextField(getTranslation("competition-list.dialog.short-name"));
+        shortNameField.setRequired(true);
+        shortNameField.setMaxLength(100);
+        shortNameField.setHelperText(getTranslation("competition-list.dialog.short-name.helper"));
+        shortNameField.setPattern("[a-z0-9][a-z0-9-]*[a-z0-9]");
+
+        var startDatePicker = new DatePicker(getTranslation("competition-list.dialog.start-date"));
+        startDatePicker.setRequired(true);
+        startDatePicker.setValue(source.getStartDate().plusYears(1));
+
+        var endDatePicker = new DatePicker(getTranslation("competition-list.dialog.end-date"));
+        endDatePicker.setRequired(true);
+        endDatePicker.setValue(source.getEndDate().plusYears(1));
+
+        var submitButton = new Button(getTranslation("competition-list.action.clone"), e -> {
+            if (!StringUtils.hasText(nameField.getValue())) {
+                nameField.setInvalid(true);
+                nameField.setErrorMessage(getTranslation("competition-list.dialog.name.error"));
+                e.getSource().setEnabled(true);
+                return;
+            }
+            if (!StringUtils.hasText(shortNameField.getValue())) {
+                shortNameField.setInvalid(true);
+                shortNameField.setErrorMessage(getTranslation("competition-list.dialog.short-name.error"));
+                e.getSource().setEnabled(true);
+                return;
+            }
+            if (startDatePicker.getValue() == null || endDatePicker.getValue() == null) {
+                e.getSource().setEnabled(true);
+                return;
+            }
+            try {
+                competitionService.cloneCompetition(source.getId(), nameField.getValue(),
+                        shortNameField.getValue(), startDatePicker.getValue(), endDatePicker.getValue(),
+                        getCurrentUserId());
+                refreshGrid();
+                var notification = Notification.show(getTranslation("competition-list.cloned"));
+                notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+                dialog.close();
+            } catch (BusinessRuleException ex) {
+                e.getSource().setEnabled(true);
+                Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
+            }
+        });
+        submitButton.setDisableOnClick(true);
+
+        var cancelButton = new Button(getTranslation("button.cancel"), e -> dialog.close());
+
+        var form = new VerticalLayout(new Span(getTranslation("competition-list.clone.description")),
+                nameField, shortNameField, startDatePicker, endDatePicker);
+        form.setPadding(false);
+        dialog.add(form);
+        dialog.getFooter().add(cancelButton, submitButton);
+        dialog.open();
+    }
+
+    private void openArchiveCompetitionDialog(Competition competition) {
+        var dialog = new Dialog();
+        dialog.setHeaderTitle(getTranslation("competition-list.archive.title"));
+        dialog.add(getTranslation("competition-list.archive.confirm", competition.getName()));
+
+        var confirmButton = new Button(getTranslation("competition-list.action.archive"), e -> {
+            try {
+                competitionService.archiveCompetition(competition.getId(), getCurrentUserId());
+                refreshGrid();
+                var notification = Notification.show(getTranslation("competition-list.archived"));
+                notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+                dialog.close();
+            } catch (BusinessRuleException ex) {
+                Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
+                dialog.close();
+            }
+        });
+        confirmButton.setDisableOnClick(true);
+
+        var cancelButton = new Button(getTranslation("button.cancel"), e -> dialog.close());
+        dialog.getFooter().add(cancelButton, confirmButton);
+        dialog.open();
+    }
+
+    private void openArchivesDialog() {
+        var dialog = new Dialog();
+        dialog.setHeaderTitle(getTranslation("competition-list.archives.title"));
+        dialog.setWidth("900px");
+
+        var archivesGrid = new Grid<>(CompetitionArchive.class, false);
+        archivesGrid.setAllRowsVisible(true);
+        archivesGrid.addColumn(CompetitionArchive::name)
+                .setHeader(getTranslation("competition-list.column.name")).setFlexGrow(2);
+        archivesGrid.addColumn(archive -> ARCHIVED_AT.format(archive.archivedAt()) + " UTC")
+                .setHeader(getTranslation("competition-list.archives.column.archived-at")).setAutoWidth(true);
+        archivesGrid.addColumn(archive -> getTranslation(
+                        "competition-list.archives.status." + archive.status().name().toLowerCase()))
+                .setHeader(getTranslation("competition-list.archives.column.status")).setAutoWidth(true);
+        archivesGrid.addColumn(CompetitionArchive::rows)
+                .setHeader(getTranslation("competition-list.archives.column.rows")).setAutoWidth(true);
+        archivesGrid.addComponentColumn(archive -> {
+            var actions = new HorizontalLayout();
+            if (archive.status() == CompetitionArchive.Status.PURGING) {
+                var resumeButton = new Button(getTranslation("competition-list.archives.resume"), e -> {
+                    try {
+                        competitionService.archiveCompetition(archive.competitionId(), getCurrentUserId());
+                        archivesGrid.setItems(competitionService.findCompetitionArchives());
+                        refreshGrid();
+                        Notification.show(getTranslation("competition-list.archived"))
+                                .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+                    } catch (BusinessRuleException ex) {
+                        e.getSource().setEnabled(true);
+                        Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
+                    }
+                });
+                resumeButton.addThemeVariants(ButtonVariant.LUMO_SMALL);
+                resumeButton.setDisableOnClick(true);
+                actions.add(resumeButton);
+            }
+            if (archive.status() != CompetitionArchive.Status.RESTORED) {
+                var restoreButton = new Button(getTranslation("competition-list.archives.restore"), e -> {
+                    try {
+                        competitionService.restoreCompetition(archive.id(), getCurrentUserId());
+                        archivesGrid.setItems(competitionService.findCompetitionArchives());
+                        refreshGrid();
+                        Notification.show(getTranslation("competition-list.archives.restored", archive.name()))
+                                .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+                    } catch (BusinessRuleException ex) {
+                        e.getSource().setEnabled(true);
+                        Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
+                    }
+                });
+                restoreButton.addThemeVariants(ButtonVariant.LUMO_SMALL);
+                restoreButton.setDisableOnClick(true);
+                actions.add(restoreButton);
+            }
+            return actions;
+        }).setHeader(getTranslation("competition-list.column.actions")).setAutoWidth(true);
+        archivesGrid.setItems(competitionService.findCompetitionArchives());
+
+        dialog.add(archivesGrid);
+        dialog.getFooter().add(new Button(getTranslation("button.close"), e -> dialog.close()));
+        dialog.open();
+    }
+
     private void refreshGrid() {
         grid.setItems(competitionService.findAllCompetitions());
     }
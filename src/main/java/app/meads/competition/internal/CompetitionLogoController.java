@@ -0,0 +1,58 @@
+package app.meads.competition.internal;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/competition-logos")
+class CompetitionLogoController {
+
+    private final CompetitionLogoRepository competitionLogoRepository;
+
+    CompetitionLogoController(CompetitionLogoRepository competitionLogoRepository) {
+        this.competitionLogoRepository = competitionLogoRepository;
+    }
+
+    @GetMapping("/{competitionId}")
+    public ResponseEntity<byte[]> getLogo(@PathVariable UUID competitionId,
+                                          @RequestParam(value = "v", required = false) String version,
+                                          @RequestParam(value = "original", defaultValue = "false") boolean original,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                          String ifNoneMatch) {
+        var hash = competitionLogoRepository.findHashByCompetitionId(competitionId).orElse(null);
+        if (hash == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // Versioned URLs never change content; unversioned ones must revalidate
+        var cacheControl = hash.equals(version)
+                ? CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable()
+                : CacheControl.noCache().cachePrivate();
+        var etag = "\"" + hash + (original ? "-original" : "-header") + "\"";
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || ifNoneMatch.trim().equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        var content = original
+                ? competitionLogoRepository.findOriginalContentByCompetitionId(competitionId)
+                : competitionLogoRepository.findHeaderContentByCompetitionId(competitionId);
+        return content
+                .map(logo -> ResponseEntity.ok()
+                        .eTag(etag)
+                        .cacheControl(cacheControl)
+                        .contentType(MediaType.parseMediaType(logo.contentType()))
+                        .body(logo.data()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
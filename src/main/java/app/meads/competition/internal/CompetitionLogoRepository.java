@@ -0,0 +1,27 @@
+package app.meads.competition.internal;
+
+import app.meads.competition.CompetitionLogo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CompetitionLogoRepository extends JpaRepository<CompetitionLogo, UUID> {
+
+    @Query("SELECT l.hash FROM CompetitionLogo l WHERE l.competitionId = :competitionId")
+    Optional<String> findHashByCompetitionId(UUID competitionId);
+
+    @Query("SELECT new app.meads.competition.internal.LogoContent(l.headerContentType, l.headerData) "
+            + "FROM CompetitionLogo l WHERE l.competitionId = :competitionId")
+    Optional<LogoContent> findHeaderContentByCompetitionId(UUID competitionId);
+
+    @Query("SELECT new app.meads.competition.internal.LogoContent(l.contentType, l.data) "
+            + "FROM CompetitionLogo l WHERE l.competitionId = :competitionId")
+    Optional<LogoContent> findOriginalContentByCompetitionId(UUID competitionId);
+
+    @Modifying
+    @Query("DELETE FROM CompetitionLogo l WHERE l.competitionId = :competitionId")
+    int deleteByCompetitionId(UUID competitionId);
+}
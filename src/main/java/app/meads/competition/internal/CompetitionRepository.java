@@ -1,12 +1,21 @@
 package app.meads.competition.internal;
 
 import app.meads.competition.Competition;
+import app.meads.competition.CompetitionRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CompetitionRepository extends JpaRepository<Competition, UUID> {
     Optional<Competition> findByShortName(String shortName);
     boolean existsByShortName(String shortName);
+
+    @Query("SELECT c FROM Competition c WHERE EXISTS ("
+            + "SELECT 1 FROM Participant p JOIN ParticipantRole pr ON pr.participantId = p.id "
+            + "WHERE p.competitionId = c.id AND p.userId = :userId AND pr.role = :role) "
+            + "ORDER BY c.name")
+    List<Competition> findByParticipantRole(UUID userId, CompetitionRole role);
 }
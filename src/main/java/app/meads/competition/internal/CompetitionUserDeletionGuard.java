@@ -12,9 +12,12 @@ import java.util.UUID;
 class CompetitionUserDeletionGuard implements UserDeletionGuard {
 
     private final ParticipantRepository participantRepository;
+    private final CompetitionArchiver competitionArchiver;
 
-    CompetitionUserDeletionGuard(ParticipantRepository participantRepository) {
+    CompetitionUserDeletionGuard(ParticipantRepository participantRepository,
+                                 CompetitionArchiver competitionArchiver) {
         this.participantRepository = participantRepository;
+        this.competitionArchiver = competitionArchiver;
     }
 
     @Override
@@ -23,5 +26,9 @@ class CompetitionUserDeletionGuard implements UserDeletionGuard {
             log.warn("Blocked user deletion: user {} has participant records", userId);
             throw new BusinessRuleException("error.user.cannot-delete-has-data");
         }
+        if (competitionArchiver.isUserArchived(userId)) {
+            log.warn("Blocked user deletion: user {} is referenced by a competition archive", userId);
+            throw new BusinessRuleException("error.user.cannot-delete-has-data");
+        }
     }
 }
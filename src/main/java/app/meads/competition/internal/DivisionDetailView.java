@@ -139,9 +139,7 @@ public class DivisionDetailView extends VerticalLayout implements BeforeEnterObs
         header.setWidthFull();
 
         if (competition.hasLogo()) {
-            var dataUri = "data:" + competition.getLogoContentType() + ";base64,"
-                    + java.util.Base64.getEncoder().encodeToString(competition.getLogo());
-            var logo = new Image(dataUri, competition.getName() + " logo");
+            var logo = new Image(competition.getLogoUrl(), competition.getName() + " logo");
             logo.setHeight("64px");
             header.add(logo);
         }
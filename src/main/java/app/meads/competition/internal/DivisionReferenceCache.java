@@ -0,0 +1,65 @@
+package app.meads.competition.internal;
+
+import app.meads.Caches;
+import app.meads.competition.Division;
+import app.meads.competition.DivisionCategory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Divisions and their category trees, keyed by division id. These rows are read on every
+ * webhook line item, entry change and view build but only change through
+ * {@code CompetitionService}, which evicts the affected division after each mutation.
+ * Evictions are local to the instance, so another node may serve a stale status until the
+ * entry expires; writes, the checks that admit them and event listeners read through
+ * {@code CompetitionService.findCurrentDivision}. The service stores detached copies here and
+ * hands out a fresh copy on every hit, so no cached instance reaches a caller or a persistence
+ * context.
+ */
+@Component
+public class DivisionReferenceCache {
+
+    static final String DIVISIONS = "divisions";
+    static final String DIVISION_CATEGORIES = "division-categories";
+    static final String JUDGING_CATEGORIES = "judging-categories";
+
+    private final Cache divisions;
+    private final Cache divisionCategories;
+    private final Cache judgingCategories;
+
+    DivisionReferenceCache(CacheManager cacheManager) {
+        this.divisions = Objects.requireNonNull(cacheManager.getCache(DIVISIONS));
+        this.divisionCategories = Objects.requireNonNull(cacheManager.getCache(DIVISION_CATEGORIES));
+        this.judgingCategories = Objects.requireNonNull(cacheManager.getCache(JUDGING_CATEGORIES));
+    }
+
+    public Division getDivision(UUID divisionId, Supplier<Division> loader) {
+        return Caches.get(divisions, divisionId, loader);
+    }
+
+    public List<DivisionCategory> getDivisionCategories(UUID divisionId,
+                                                        Supplier<List<DivisionCategory>> loader) {
+        return Caches.get(divisionCategories, divisionId, loader);
+    }
+
+    public List<DivisionCategory> getJudgingCategories(UUID divisionId,
+                                                       Supplier<List<DivisionCategory>> loader) {
+        return Caches.get(judgingCategories, divisionId, loader);
+    }
+
+    public void evictDivision(UUID divisionId) {
+        Caches.evict(divisions, divisionId);
+    }
+
+    public void evictCategories(UUID divisionId) {
+        // Registration and judging categories share a table; the unscoped list holds both
+        Caches.evict(divisionCategories, divisionId);
+        Caches.evict(judgingCategories, divisionId);
+    }
+}
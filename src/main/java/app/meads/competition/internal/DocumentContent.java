@@ -0,0 +1,114 @@
+package app.meads.competition.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the {@link DocumentStore} in step with the document rows that reference its files.
+ * Storing and releasing the content of a hash are serialized by a Postgres advisory lock on
+ * that hash, and a file is only deleted while the lock is held and no committed row references
+ * it. Without the lock, an upload of the same bytes could find the file in place, skip its
+ * write and commit its row just as a concurrent removal deleted the file.
+ */
+@Slf4j
+@Component
+public class DocumentContent {
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtextextended(?, 0))";
+
+    private final DocumentStore documentStore;
+    private final CompetitionDocumentRepository documentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate releaseTransaction;
+
+    DocumentContent(DocumentStore documentStore,
+                    CompetitionDocumentRepository documentRepository,
+                    JdbcTemplate jdbcTemplate,
+                    PlatformTransactionManager transactionManager) {
+        this.documentStore = documentStore;
+        this.documentRepository = documentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.releaseTransaction = new TransactionTemplate(transactionManager);
+        this.releaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Writes the content for a row the current transaction is about to save. The hash stays
+     * locked until that transaction ends; if it rolls back, the file is released again.
+     */
+    public void store(String hash, byte[] data) {
+        lock(hash);
+        documentStore.write(hash, data);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        release(List.of(hash));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Deletes the files of the given hashes that no row references once the current transaction
+     * commits, so a rolled-back removal never loses the bytes. Outside a transaction the check
+     * runs right away.
+     */
+    public void releaseAfterCommit(Collection<String> hashes) {
+        var distinct = hashes.stream().distinct().toList();
+        if (distinct.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release(distinct);
+                }
+            });
+        } else {
+            release(distinct);
+        }
+    }
+
+    /**
+     * Holds the content of the given hashes until the current transaction ends, for rows that
+     * reference content already in the store. Hashes are locked in order, so two callers with
+     * overlapping sets cannot deadlock.
+     */
+    public void lock(Collection<String> hashes) {
+        hashes.stream().distinct().sorted().forEach(this::lock);
+    }
+
+    void release(Collection<String> hashes) {
+        // One short transaction per hash, so no lock is held while waiting for another
+        for (var hash : hashes) {
+            try {
+                releaseTransaction.executeWithoutResult(status -> {
+                    lock(hash);
+                    if (!documentRepository.existsByContentHash(hash)) {
+                        documentStore.delete(hash);
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.warn("Failed to release document content {}: {}", hash, e.getMessage());
+            }
+        }
+    }
+
+    private void lock(String hash) {
+        jdbcTemplate.query(LOCK_SQL, (RowCallbackHandler) rs -> { }, "document:" + hash);
+    }
+}
@@ -0,0 +1,96 @@
+package app.meads.competition.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed file store for uploaded competition documents. Files are named by
+ * the SHA-256 of their bytes and fanned out into two-character directories, so identical
+ * uploads share one file and a stored file never changes once written.
+ */
+@Slf4j
+@Component
+public class DocumentStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+
+    private final Path root;
+
+    DocumentStore(@Value("${app.documents.storage-dir:data/documents}") String storageDir) {
+        this.root = Path.of(storageDir).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create document storage directory " + root, e);
+        }
+        log.debug("Document storage directory: {}", root);
+    }
+
+    public void write(String hash, byte[] data) {
+        var target = resolve(hash);
+        if (Files.exists(target)) {
+            return;
+        }
+        try {
+            Files.createDirectories(target.getParent());
+            var temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+            try {
+                Files.write(temp, data);
+                moveIntoPlace(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store document " + hash, e);
+        }
+        log.debug("Stored document content {} ({} bytes)", hash, data.length);
+    }
+
+    public Path path(String hash) {
+        return resolve(hash);
+    }
+
+    public boolean exists(String hash) {
+        return Files.exists(resolve(hash));
+    }
+
+    public void delete(String hash) {
+        try {
+            Files.deleteIfExists(resolve(hash));
+            log.debug("Deleted document content {}", hash);
+        } catch (IOException e) {
+            log.warn("Failed to delete document content {}: {}", hash, e.getMessage());
+        }
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temp, target);
+            } catch (FileAlreadyExistsException ignored) {
+                // Another upload of the same content won the race; the bytes are identical
+            }
+        } catch (FileAlreadyExistsException ignored) {
+            // Same as above
+        }
+    }
+
+    private Path resolve(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid content hash: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+}
@@ -0,0 +1,43 @@
+package app.meads.competition.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Moves PDF bytes still held in {@code competition_documents.data} (uploads from before the
+ * document store existed) onto the filesystem, one row at a time to keep memory flat.
+ */
+@Slf4j
+@Component
+class LegacyDocumentContentMigrator implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DocumentStore documentStore;
+
+    LegacyDocumentContentMigrator(JdbcTemplate jdbcTemplate, DocumentStore documentStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.documentStore = documentStore;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var ids = jdbcTemplate.queryForList(
+                "SELECT id FROM competition_documents WHERE data IS NOT NULL", UUID.class);
+        for (var id : ids) {
+            jdbcTemplate.query(
+                    "SELECT content_hash, data FROM competition_documents WHERE id = ? AND data IS NOT NULL",
+                    rs -> {
+                        documentStore.write(rs.getString("content_hash"), rs.getBytes("data"));
+                    }, id);
+            jdbcTemplate.update("UPDATE competition_documents SET data = NULL WHERE id = ?", id);
+        }
+        if (!ids.isEmpty()) {
+            log.info("Moved {} legacy document(s) into the document store", ids.size());
+        }
+    }
+}
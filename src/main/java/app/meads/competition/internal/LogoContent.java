@@ -0,0 +1,4 @@
+package app.meads.competition.internal;
+
+public record LogoContent(String contentType, byte[] data) {
+}
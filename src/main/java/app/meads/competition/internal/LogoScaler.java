@@ -0,0 +1,56 @@
+package app.meads.competition.internal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.imageio.ImageIO;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Produces the header-sized logo variant at upload time. Headers render logos at 64px,
+ * so the variant is capped at twice that to stay sharp on high-density screens.
+ */
+@Slf4j
+public final class LogoScaler {
+
+    public static final int HEADER_HEIGHT = 128;
+
+    private LogoScaler() {}
+
+    /**
+     * Returns the image scaled down to {@code maxHeight}, encoded in the same format, or
+     * {@code null} when the original is already small enough or cannot be decoded.
+     */
+    public static byte[] scaleToHeight(byte[] data, String contentType, int maxHeight) {
+        try {
+            var source = ImageIO.read(new ByteArrayInputStream(data));
+            if (source == null || source.getHeight() <= maxHeight) {
+                return null;
+            }
+            var png = "image/png".equals(contentType);
+            var width = Math.max(1, Math.round(source.getWidth() * (maxHeight / (float) source.getHeight())));
+            var scaled = new BufferedImage(width, maxHeight,
+                    png ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            var graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(source, 0, 0, width, maxHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            var out = new ByteArrayOutputStream();
+            if (!ImageIO.write(scaled, png ? "png" : "jpeg", out)) {
+                return null;
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            log.debug("Could not downscale logo, keeping original: {}", e.getMessage());
+            return null;
+        }
+    }
+}
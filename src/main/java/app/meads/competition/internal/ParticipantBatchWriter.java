@@ -0,0 +1,104 @@
+package app.meads.competition.internal;
+
+import app.meads.UuidV7;
+import app.meads.competition.CompetitionRole;
+import app.meads.competition.Participant;
+import app.meads.competition.ParticipantRole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC batch writes for bulk participant imports and credit grants. Participants and roles
+ * get their id in the constructor, so {@code saveAll} would merge (one SELECT per row) before
+ * each INSERT; these statements send every row of a batch in one round trip instead.
+ */
+@Component
+public class ParticipantBatchWriter {
+
+    private static final String INSERT_PARTICIPANT_SQL = """
+            INSERT INTO participants (id, competition_id, user_id, access_code, created_at)
+            VALUES (?, ?, ?, ?, ?)""";
+
+    private static final String ASSIGN_ACCESS_CODE_SQL = """
+            UPDATE participants SET access_code = ? WHERE id = ? AND access_code IS NULL""";
+
+    private static final String INSERT_ROLE_SQL = """
+            INSERT INTO participant_roles (id, participant_id, role, created_at)
+            VALUES (?, ?, ?, ?)""";
+
+    private static final String ENSURE_PARTICIPANT_SQL = """
+            INSERT INTO participants (id, competition_id, user_id, created_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (competition_id, user_id) DO NOTHING""";
+
+    private static final String ENSURE_ROLE_SQL = """
+            INSERT INTO participant_roles (id, participant_id, role, created_at)
+            SELECT ?, p.id, ?, ? FROM participants p
+            WHERE p.competition_id = ? AND p.user_id = ?
+            ON CONFLICT (participant_id, role) DO NOTHING""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ParticipantBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertParticipants(Collection<Participant> participants) {
+        if (participants.isEmpty()) {
+            return;
+        }
+        var now = now();
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT_SQL, participants.stream()
+                .map(p -> new Object[]{p.getId(), p.getCompetitionId(), p.getUserId(), p.getAccessCode(), now})
+                .toList());
+    }
+
+    /**
+     * @param accessCodesByParticipantId codes for existing participants that have none yet
+     */
+    public void assignAccessCodes(Map<UUID, String> accessCodesByParticipantId) {
+        if (accessCodesByParticipantId.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ASSIGN_ACCESS_CODE_SQL, accessCodesByParticipantId.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList());
+    }
+
+    public void insertRoles(Collection<ParticipantRole> roles) {
+        if (roles.isEmpty()) {
+            return;
+        }
+        var now = now();
+        jdbcTemplate.batchUpdate(INSERT_ROLE_SQL, roles.stream()
+                .map(r -> new Object[]{r.getId(), r.getParticipantId(), r.getRole().name(), now})
+                .toList());
+    }
+
+    /**
+     * Gives every user a participant row and the given role in the competition, skipping
+     * users that already have them. Two batches, whatever the number of users.
+     */
+    public void ensureRole(UUID competitionId, Collection<UUID> userIds, CompetitionRole role) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        var now = now();
+        jdbcTemplate.batchUpdate(ENSURE_PARTICIPANT_SQL, userIds.stream()
+                .map(userId -> new Object[]{UuidV7.randomUUID(), competitionId, userId, now})
+                .toList());
+        jdbcTemplate.batchUpdate(ENSURE_ROLE_SQL, userIds.stream()
+                .map(userId -> new Object[]{UuidV7.randomUUID(), role.name(), now, competitionId, userId})
+                .toList());
+    }
+
+    private static Timestamp now() {
+        return Timestamp.from(Instant.now());
+    }
+}
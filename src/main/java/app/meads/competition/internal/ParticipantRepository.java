@@ -1,8 +1,13 @@
 package app.meads.competition.internal;
 
+import app.meads.competition.CompetitionRole;
 import app.meads.competition.Participant;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,7 +16,37 @@ public interface ParticipantRepository extends JpaRepository<Participant, UUID>
     List<Participant> findByCompetitionId(UUID competitionId);
     Optional<Participant> findByAccessCode(String accessCode);
     boolean existsByAccessCode(String accessCode);
+    @Query("SELECT p.accessCode FROM Participant p WHERE p.accessCode IN :accessCodes")
+    List<String> findTakenAccessCodes(Collection<String> accessCodes);
+    @Query(value = "SELECT nextval('access_code_seq')", nativeQuery = true)
+    long nextAccessCodeSequence();
+    @Query(value = "SELECT nextval('access_code_seq') FROM generate_series(1, :count)", nativeQuery = true)
+    List<Long> nextAccessCodeSequences(int count);
     Optional<Participant> findByCompetitionIdAndUserId(UUID competitionId, UUID userId);
-    List<Participant> findByUserId(UUID userId);
+    boolean existsByCompetitionIdAndUserId(UUID competitionId, UUID userId);
+    List<Participant> findByCompetitionIdAndUserIdIn(UUID competitionId, Collection<UUID> userIds);
     boolean existsByUserId(UUID userId);
+
+    @Query("SELECT p.id AS participantId, p.userId AS userId, p.accessCode AS accessCode, "
+            + "u.name AS name, u.email AS email, u.meaderyName AS meaderyName, u.country AS country, "
+            + "CASE WHEN u.passwordHash IS NULL THEN false ELSE true END AS hasPassword "
+            + "FROM Participant p JOIN User u ON u.id = p.userId "
+            + "WHERE p.competitionId = :competitionId "
+            + "AND (LOWER(u.name) LIKE :pattern OR LOWER(u.email) LIKE :pattern)")
+    List<ParticipantRow> findRowsByCompetitionId(UUID competitionId, String pattern, Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM Participant p JOIN User u ON u.id = p.userId "
+            + "WHERE p.competitionId = :competitionId "
+            + "AND (LOWER(u.name) LIKE :pattern OR LOWER(u.email) LIKE :pattern)")
+    long countRowsByCompetitionId(UUID competitionId, String pattern);
+
+    @Query("SELECT u.email FROM Participant p "
+            + "JOIN ParticipantRole pr ON pr.participantId = p.id "
+            + "JOIN User u ON u.id = p.userId "
+            + "WHERE p.competitionId = :competitionId AND pr.role = :role")
+    List<String> findUserEmailsByCompetitionIdAndRole(UUID competitionId, CompetitionRole role);
+
+    @Modifying
+    @Query("DELETE FROM Participant p WHERE p.competitionId = :competitionId")
+    int deleteByCompetitionId(UUID competitionId);
 }
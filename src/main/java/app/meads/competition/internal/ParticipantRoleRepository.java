@@ -3,11 +3,24 @@ package app.meads.competition.internal;
 import app.meads.competition.CompetitionRole;
 import app.meads.competition.ParticipantRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface ParticipantRoleRepository extends JpaRepository<ParticipantRole, UUID> {
     List<ParticipantRole> findByParticipantId(UUID participantId);
+    List<ParticipantRole> findByParticipantIdIn(Collection<UUID> participantIds);
     boolean existsByParticipantIdAndRole(UUID participantId, CompetitionRole role);
+
+    @Query("SELECT pr FROM ParticipantRole pr WHERE pr.participantId IN "
+            + "(SELECT p.id FROM Participant p WHERE p.competitionId = :competitionId)")
+    List<ParticipantRole> findByCompetitionId(UUID competitionId);
+
+    @Modifying
+    @Query("DELETE FROM ParticipantRole pr WHERE pr.participantId IN "
+            + "(SELECT p.id FROM Participant p WHERE p.competitionId = :competitionId)")
+    int deleteByCompetitionId(UUID competitionId);
 }
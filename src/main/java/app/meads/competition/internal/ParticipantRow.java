@@ -0,0 +1,18 @@
+package app.meads.competition.internal;
+
+import java.util.UUID;
+
+/**
+ * Projection of a participant joined with its user's profile fields,
+ * used for the paged participants grid.
+ */
+public interface ParticipantRow {
+    UUID getParticipantId();
+    UUID getUserId();
+    String getAccessCode();
+    String getName();
+    String getEmail();
+    String getMeaderyName();
+    String getCountry();
+    boolean getHasPassword();
+}
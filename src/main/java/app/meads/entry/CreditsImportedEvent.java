@@ -0,0 +1,17 @@
+package app.meads.entry;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published once per applied bulk credit import instead of one {@link CreditsAwardedEvent}
+ * per row, so the whole batch is a single event publication.
+ */
+public record CreditsImportedEvent(UUID divisionId, List<Grant> grants, String source) {
+
+    public record Grant(UUID userId, int amount) {}
+
+    public CreditsImportedEvent {
+        grants = List.copyOf(grants);
+    }
+}
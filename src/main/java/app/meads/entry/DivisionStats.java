@@ -0,0 +1,40 @@
+package app.meads.entry;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Entry and credit counts of a division, read from the {@code division_stats} projection. The
+ * projection is updated asynchronously after each change and reconciled nightly, so it may lag
+ * a moment behind the entries themselves. Status counts cover every entry; the category,
+ * country, sweetness and strength breakdowns leave withdrawn entries out.
+ *
+ * @param byCategory    active entries per registered division category id
+ * @param byCountry     active entries per entrant country code, {@code ""} when unknown
+ * @param creditBalance sum of all credit balances in the division
+ * @param entrants      entrants with a positive credit balance
+ */
+public record DivisionStats(Map<EntryStatus, Long> byStatus,
+                            Map<UUID, Long> byCategory,
+                            Map<String, Long> byCountry,
+                            Map<Sweetness, Long> bySweetness,
+                            Map<Strength, Long> byStrength,
+                            long creditBalance,
+                            long entrants) {
+
+    public DivisionStats {
+        byStatus = Map.copyOf(byStatus);
+        byCategory = Map.copyOf(byCategory);
+        byCountry = Map.copyOf(byCountry);
+        bySweetness = Map.copyOf(bySweetness);
+        byStrength = Map.copyOf(byStrength);
+    }
+
+    public long totalEntries() {
+        return byStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long activeEntries() {
+        return totalEntries() - byStatus.getOrDefault(EntryStatus.WITHDRAWN, 0L);
+    }
+}
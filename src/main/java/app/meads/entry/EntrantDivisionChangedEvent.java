@@ -0,0 +1,9 @@
+package app.meads.entry;
+
+import java.util.UUID;
+
+/**
+ * An entrant's credit balance or active entry count in a division changed by something other
+ * than a credit award (which publishes {@link CreditsAwardedEvent}).
+ */
+public record EntrantDivisionChangedEvent(UUID divisionId, UUID userId) {}
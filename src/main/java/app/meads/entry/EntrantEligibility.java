@@ -0,0 +1,53 @@
+package app.meads.entry;
+
+import app.meads.BusinessRuleException;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Point-in-time view of what an entrant may still do in one division: credit balance,
+ * active (non-withdrawn) entries per initial category, and the competition-level conflicts
+ * that block new credits. Loaded in a single round trip so entry creation, credit awards
+ * and the entrant's own views all check against the same numbers.
+ *
+ * @param activeEntriesByCategory active entries keyed by every category of the division
+ *                                (zero for categories without entries)
+ * @param mainCategoryIds         main category id for every category of the division
+ *                                (a main category maps to itself)
+ */
+public record EntrantEligibility(
+        UUID divisionId, UUID userId,
+        int creditBalance, long activeEntries,
+        Map<UUID, Long> activeEntriesByCategory,
+        Map<UUID, UUID> mainCategoryIds,
+        boolean creditConflict, boolean incompatibleRole) {
+
+    public EntrantEligibility {
+        activeEntriesByCategory = Map.copyOf(activeEntriesByCategory);
+        mainCategoryIds = Map.copyOf(mainCategoryIds);
+    }
+
+    public long remainingCredits() {
+        return creditBalance - activeEntries;
+    }
+
+    public boolean hasRemainingCredits() {
+        return creditBalance > activeEntries;
+    }
+
+    public long activeEntriesInCategory(UUID categoryId) {
+        return activeEntriesByCategory.getOrDefault(categoryId, 0L);
+    }
+
+    public long activeEntriesInMainCategoryGroup(UUID categoryId) {
+        var mainCategoryId = mainCategoryIds.get(categoryId);
+        if (mainCategoryId == null) {
+            throw new BusinessRuleException("error.category.not-found");
+        }
+        return mainCategoryIds.entrySet().stream()
+                .filter(e -> e.getValue().equals(mainCategoryId))
+                .mapToLong(e -> activeEntriesInCategory(e.getKey()))
+                .sum();
+    }
+}
@@ -0,0 +1,24 @@
+package app.meads.entry;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entries of a division were created, edited, moved to another status or deleted. Each change
+ * carries the entry's status before and after it: {@code previousStatus} is {@code null} for a
+ * created entry and {@code status} is {@code null} for a deleted one, so listeners can keep
+ * per-status counts without reading the division's entries again.
+ */
+public record EntriesChangedEvent(UUID divisionId, List<Change> changes) {
+
+    public record Change(UUID entryId, EntryStatus previousStatus, EntryStatus status) {}
+
+    public EntriesChangedEvent {
+        changes = List.copyOf(changes);
+    }
+
+    public static EntriesChangedEvent of(UUID divisionId, UUID entryId,
+                                         EntryStatus previousStatus, EntryStatus status) {
+        return new EntriesChangedEvent(divisionId, List.of(new Change(entryId, previousStatus, status)));
+    }
+}
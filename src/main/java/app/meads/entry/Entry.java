@@ -1,5 +1,6 @@
 package app.meads.entry;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -85,7 +86,7 @@ public class Entry {
                  boolean woodAged, String woodAgeingDetails,
                  String additionalInformation) {
         validateWoodAgeing(woodAged, woodAgeingDetails);
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.divisionId = divisionId;
         this.userId = userId;
         this.entryNumber = entryNumber;
@@ -1,5 +1,6 @@
 package app.meads.entry;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -39,7 +40,7 @@ public class EntryCredit {
         if (amount == 0) {
             throw new IllegalArgumentException("Credit amount must not be zero");
         }
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.divisionId = divisionId;
         this.userId = userId;
         this.amount = amount;
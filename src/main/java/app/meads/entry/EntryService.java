@@ -1,16 +1,26 @@
 package app.meads.entry;
 
 import app.meads.BusinessRuleException;
+import app.meads.CsvImport;
+import app.meads.ImportReport;
+import app.meads.TextSearch;
 import app.meads.competition.CategoryScope;
 import app.meads.competition.CompetitionRole;
 import app.meads.competition.CompetitionService;
 import app.meads.competition.Division;
 import app.meads.competition.DivisionCategory;
 import app.meads.competition.DivisionStatus;
+import app.meads.entry.internal.DivisionStatsProjection;
+import app.meads.entry.internal.EntrantEligibilityQuery;
+import app.meads.entry.internal.EntrantOverviewCache;
+import app.meads.entry.internal.EntryCreditBatchWriter;
+import app.meads.entry.internal.EntryCodeAllocator;
 import app.meads.entry.internal.EntryCreditRepository;
+import app.meads.entry.internal.EntryNumberAllocator;
 import app.meads.entry.internal.EntryRepository;
 import app.meads.entry.internal.JumpsellerOrderLineItemRepository;
 import app.meads.entry.internal.JumpsellerOrderRepository;
+import app.meads.entry.internal.ProductMappingCache;
 import app.meads.entry.internal.ProductMappingRepository;
 import app.meads.identity.Role;
 import app.meads.identity.UserService;
@@ -19,14 +29,25 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
-import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -37,10 +58,6 @@ import java.util.stream.Collectors;
 @Validated
 public class EntryService {
 
-    private static final String ENTRY_CODE_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
-    private static final int ENTRY_CODE_LENGTH = 6;
-    private static final SecureRandom RANDOM = new SecureRandom();
-
     private final ProductMappingRepository productMappingRepository;
     private final EntryCreditRepository creditRepository;
     private final EntryRepository entryRepository;
@@ -49,6 +66,13 @@ public class EntryService {
     private final CompetitionService competitionService;
     private final UserService userService;
     private final ApplicationEventPublisher eventPublisher;
+    private final EntryCodeAllocator entryCodeAllocator;
+    private final EntryNumberAllocator entryNumberAllocator;
+    private final EntrantEligibilityQuery entrantEligibilityQuery;
+    private final EntrantOverviewCache entrantOverviewCache;
+    private final ProductMappingCache productMappingCache;
+    private final EntryCreditBatchWriter creditBatchWriter;
+    private final DivisionStatsProjection divisionStatsProjection;
 
     EntryService(ProductMappingRepository productMappingRepository,
                  EntryCreditRepository creditRepository,
@@ -57,7 +81,14 @@ public class EntryService {
                  JumpsellerOrderLineItemRepository lineItemRepository,
                  CompetitionService competitionService,
                  UserService userService,
-                 ApplicationEventPublisher eventPublisher) {
+                 ApplicationEventPublisher eventPublisher,
+                 EntryCodeAllocator entryCodeAllocator,
+                 EntryNumberAllocator entryNumberAllocator,
+                 EntrantEligibilityQuery entrantEligibilityQuery,
+                 EntrantOverviewCache entrantOverviewCache,
+                 ProductMappingCache productMappingCache,
+                 EntryCreditBatchWriter creditBatchWriter,
+                 DivisionStatsProjection divisionStatsProjection) {
         this.productMappingRepository = productMappingRepository;
         this.creditRepository = creditRepository;
         this.entryRepository = entryRepository;
@@ -66,6 +97,13 @@ public class EntryService {
         this.competitionService = competitionService;
         this.userService = userService;
         this.eventPublisher = eventPublisher;
+        this.entryCodeAllocator = entryCodeAllocator;
+        this.entryNumberAllocator = entryNumberAllocator;
+        this.entrantEligibilityQuery = entrantEligibilityQuery;
+        this.entrantOverviewCache = entrantOverviewCache;
+        this.productMappingCache = productMappingCache;
+        this.creditBatchWriter = creditBatchWriter;
+        this.divisionStatsProjection = divisionStatsProjection;
     }
 
     // --- Product Mapping methods ---
@@ -77,7 +115,7 @@ public class EntryService {
                                                 int creditsPerUnit,
                                                 @NotNull UUID requestingUserId) {
         requireAuthorizedForDivision(divisionId, requestingUserId);
-        var division = competitionService.findDivisionById(divisionId);
+        var division = competitionService.findCurrentDivision(divisionId);
         if (!division.getStatus().allowsRegistrationActions()) {
             throw new BusinessRuleException("error.product.registration-closed");
         }
@@ -87,9 +125,11 @@ public class EntryService {
         }
         var mapping = new ProductMapping(divisionId, jumpsellerProductId, jumpsellerSku,
                 productName, creditsPerUnit);
+        var saved = productMappingRepository.save(mapping);
+        productMappingCache.evict(jumpsellerProductId);
         log.info("Created product mapping: productId={}, division={}, credits={}",
                 jumpsellerProductId, divisionId, creditsPerUnit);
-        return productMappingRepository.save(mapping);
+        return saved;
     }
 
     public ProductMapping updateProductMapping(@NotNull UUID mappingId,
@@ -99,13 +139,15 @@ public class EntryService {
         var mapping = productMappingRepository.findById(mappingId)
                 .orElseThrow(() -> new BusinessRuleException("error.product.not-found"));
         requireAuthorizedForDivision(mapping.getDivisionId(), requestingUserId);
-        var division = competitionService.findDivisionById(mapping.getDivisionId());
+        var division = competitionService.findCurrentDivision(mapping.getDivisionId());
         if (!division.getStatus().allowsRegistrationActions()) {
             throw new BusinessRuleException("error.product.registration-closed");
         }
         mapping.updateDetails(productName, creditsPerUnit);
+        var saved = productMappingRepository.save(mapping);
+        productMappingCache.evict(mapping.getJumpsellerProductId());
         log.debug("Updated product mapping: {}", mappingId);
-        return productMappingRepository.save(mapping);
+        return saved;
     }
 
     public void removeProductMapping(@NotNull UUID mappingId,
@@ -113,11 +155,12 @@ public class EntryService {
         var mapping = productMappingRepository.findById(mappingId)
                 .orElseThrow(() -> new BusinessRuleException("error.product.not-found"));
         requireAuthorizedForDivision(mapping.getDivisionId(), requestingUserId);
-        var division = competitionService.findDivisionById(mapping.getDivisionId());
+        var division = competitionService.findCurrentDivision(mapping.getDivisionId());
         if (!division.getStatus().allowsRegistrationActions()) {
             throw new BusinessRuleException("error.product.registration-closed");
         }
         productMappingRepository.delete(mapping);
+        productMappingCache.evict(mapping.getJumpsellerProductId());
         log.info("Removed product mapping: {}", mappingId);
     }
 
@@ -127,7 +170,8 @@ public class EntryService {
 
     public List<ProductMapping> findProductMappingsByProductId(
             @NotBlank String jumpsellerProductId) {
-        return productMappingRepository.findByJumpsellerProductId(jumpsellerProductId);
+        return productMappingCache.get(jumpsellerProductId,
+                () -> List.copyOf(productMappingRepository.findByJumpsellerProductId(jumpsellerProductId)));
     }
 
     // --- Credit methods ---
@@ -141,20 +185,20 @@ public class EntryService {
                             int amount,
                             @NotNull UUID requestingUserId) {
         requireAuthorizedForDivision(divisionId, requestingUserId);
-        var division = competitionService.findDivisionById(divisionId);
+        var division = competitionService.findCurrentDivision(divisionId);
         if (!division.getStatus().allowsRegistrationActions()) {
             throw new BusinessRuleException("error.credits.registration-closed");
         }
         var user = userService.findOrCreateByEmail(userEmail);
+        var eligibility = entrantEligibilityQuery.load(divisionId, user.getId());
 
         // Mutual exclusivity check
-        if (hasCreditConflict(user.getId(), divisionId, division.getCompetitionId())) {
+        if (eligibility.creditConflict()) {
             throw new BusinessRuleException("error.credits.mutual-exclusivity");
         }
 
         // Role compatibility check
-        if (competitionService.hasIncompatibleRolesForEntrant(
-                division.getCompetitionId(), user.getId())) {
+        if (eligibility.incompatibleRole()) {
             throw new BusinessRuleException("error.credits.incompatible-role");
         }
 
@@ -171,21 +215,109 @@ public class EntryService {
                 divisionId, user.getId(), amount, "ADMIN"));
     }
 
+    /**
+     * Grants credits from a CSV file with columns {@code email}, {@code credits} and optionally
+     * {@code name}, e.g. for entrants who paid offline. Needs one authorization check, one query
+     * for all emails and one for the mutual-exclusivity and role checks of every user; missing
+     * users, ledger rows and ENTRANT roles are then written in JDBC batches, and a single
+     * {@link CreditsImportedEvent} carries the notifications. Nothing is written on a dry run or
+     * when any row has a problem.
+     */
+    public ImportReport importCredits(@NotNull UUID divisionId,
+                                      @NotNull InputStream csv,
+                                      boolean dryRun,
+                                      @NotNull UUID requestingUserId) {
+        requireAuthorizedForDivision(divisionId, requestingUserId);
+        var division = competitionService.findCurrentDivision(divisionId);
+        if (!division.getStatus().allowsRegistrationActions()) {
+            throw new BusinessRuleException("error.credits.registration-closed");
+        }
+
+        var problems = new ArrayList<ImportReport.Problem>();
+        var lines = readCreditImport(csv, problems);
+        int rows = lines.size() + problems.size();
+
+        var emails = lines.stream().map(CreditImportLine::email).collect(Collectors.toSet());
+        var userIds = userService.findIdsByEmail(emails);
+        var blockers = entrantEligibilityQuery.findCreditBlockers(divisionId, List.copyOf(userIds.values()));
+        var grants = new ArrayList<CreditImportLine>();
+        for (var line : lines) {
+            var blocker = Optional.ofNullable(userIds.get(line.email())).map(blockers::get);
+            if (blocker.isPresent()) {
+                problems.add(new ImportReport.Problem(line.line(), line.email(), blocker.get(), List.of()));
+            } else {
+                grants.add(line);
+            }
+        }
+        problems.sort(Comparator.comparingInt(ImportReport.Problem::line));
+        int newUsers = (int) emails.stream().filter(email -> !userIds.containsKey(email)).count();
+
+        if (dryRun || !problems.isEmpty()) {
+            return new ImportReport(rows, newUsers, grants.size(), 0, problems, false);
+        }
+
+        var namesByEmail = new LinkedHashMap<String, String>();
+        grants.forEach(line -> namesByEmail.put(line.email(), line.name()));
+        var allUserIds = userService.findOrCreateIdsByEmail(namesByEmail);
+        var requesterEmail = userService.findById(requestingUserId).getEmail();
+        var credits = grants.stream()
+                .map(line -> new EntryCredit(divisionId, allUserIds.get(line.email()), line.amount(),
+                        "ADMIN", requesterEmail))
+                .toList();
+        creditBatchWriter.insert(credits);
+        competitionService.ensureEntrantParticipants(division.getCompetitionId(),
+                credits.stream().map(EntryCredit::getUserId).toList());
+        log.info("Imported {} credit grants: division={}, new users={}", credits.size(), divisionId, newUsers);
+
+        eventPublisher.publishEvent(new CreditsImportedEvent(divisionId, credits.stream()
+                .map(credit -> new CreditsImportedEvent.Grant(credit.getUserId(), credit.getAmount()))
+                .toList(), "ADMIN"));
+        return new ImportReport(rows, newUsers, grants.size(), 0, problems, true);
+    }
+
+    private record CreditImportLine(int line, String email, String name, int amount) {}
+
+    private static List<CreditImportLine> readCreditImport(InputStream in, List<ImportReport.Problem> problems) {
+        var lines = new ArrayList<CreditImportLine>();
+        var seen = new HashSet<String>();
+        try (var csv = CsvImport.open(in, "email", "credits")) {
+            CsvImport.Row row;
+            while ((row = csv.next()) != null) {
+                var email = row.get("email");
+                var credits = row.get("credits");
+                Integer amount = credits.matches("\\d{1,6}") ? Integer.valueOf(credits) : null;
+                if (!CsvImport.isEmail(email)) {
+                    problems.add(new ImportReport.Problem(row.line(), email, "error.import.invalid-email", List.of()));
+                } else if (amount == null || amount < 1) {
+                    problems.add(new ImportReport.Problem(row.line(), email, "error.import.invalid-amount", List.of(credits)));
+                } else if (!seen.add(email)) {
+                    problems.add(new ImportReport.Problem(row.line(), email, "error.import.duplicate-row", List.of()));
+                } else {
+                    var name = row.get("name");
+                    lines.add(new CreditImportLine(row.line(), email, name.isEmpty() ? email : name, amount));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return lines;
+    }
+
     public void removeCredits(@NotNull UUID divisionId,
                                @NotNull UUID userId,
                                int amount,
                                @NotNull UUID requestingUserId) {
         requireAuthorizedForDivision(divisionId, requestingUserId);
-        var division = competitionService.findDivisionById(divisionId);
+        var division = competitionService.findCurrentDivision(divisionId);
         if (!division.getStatus().allowsRegistrationActions()) {
             throw new BusinessRuleException("error.credits.registration-closed");
         }
-        var balance = creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId);
+        var eligibility = entrantEligibilityQuery.load(divisionId, userId);
+        var balance = eligibility.creditBalance();
         if (balance < amount) {
             throw new BusinessRuleException("error.credits.insufficient-balance", balance, amount);
         }
-        var activeEntries = entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN);
+        var activeEntries = eligibility.activeEntries();
         if (balance - amount < activeEntries) {
             throw new BusinessRuleException("error.credits.balance-below-entries", balance - amount, activeEntries);
         }
@@ -193,16 +325,48 @@ public class EntryService {
                 "ADMIN", userService.findById(requestingUserId).getEmail());
         creditRepository.save(credit);
         log.info("Removed {} credits: division={}, userId={}", amount, divisionId, userId);
+        eventPublisher.publishEvent(new EntrantDivisionChangedEvent(divisionId, userId));
     }
 
     public int getTotalCreditBalance(@NotNull UUID divisionId) {
         return creditRepository.sumAmountByDivisionId(divisionId);
     }
 
+    /**
+     * Returns the division's entry and credit counts in one query, from the statistics
+     * projection rather than its entries. The counts may trail the latest changes by a moment.
+     */
+    public DivisionStats getDivisionStats(@NotNull UUID divisionId) {
+        return divisionStatsProjection.load(divisionId);
+    }
+
+    /**
+     * Returns one page of the division's entrants holding credits or active entries, with
+     * their balance and entry count. A non-blank filter matches name, email or meadery
+     * anywhere and ranks the closest matches first; otherwise entrants are sorted by name.
+     */
+    public List<EntrantCreditSummary> findCreditSummaries(@NotNull UUID divisionId,
+                                                          String filter,
+                                                          @NotNull Pageable pageable) {
+        return creditRepository.findEntrantCreditRows(divisionId, TextSearch.normalize(filter),
+                        TextSearch.likePattern(filter), unsorted(pageable)).stream()
+                .map(row -> new EntrantCreditSummary(row.getUserId(), row.getEmail(), row.getName(),
+                        row.getCreditBalance(), row.getEntryCount()))
+                .toList();
+    }
+
+    public long countCreditSummaries(@NotNull UUID divisionId, String filter) {
+        return creditRepository.countEntrantCreditRows(divisionId, TextSearch.likePattern(filter));
+    }
+
     public boolean hasCreditsInOtherDivision(@NotNull UUID competitionId,
                                               @NotNull UUID divisionId,
                                               @NotNull UUID userId) {
-        return hasCreditConflict(userId, divisionId, competitionId);
+        return entrantEligibilityQuery.load(divisionId, userId).creditConflict();
+    }
+
+    public EntrantEligibility getEntrantEligibility(@NotNull UUID divisionId, @NotNull UUID userId) {
+        return entrantEligibilityQuery.load(divisionId, userId);
     }
 
     // --- Entry methods ---
@@ -219,7 +383,7 @@ public class EntryService {
                               boolean woodAged,
                               String woodAgeingDetails,
                               String additionalInformation) {
-        var division = competitionService.findDivisionById(divisionId);
+        var division = competitionService.findCurrentDivision(divisionId);
 
         // Division must be open for registration
         if (division.getStatus() != DivisionStatus.REGISTRATION_OPEN) {
@@ -227,19 +391,18 @@ public class EntryService {
         }
 
         // Credit check: must have available credits
-        var creditBalance = creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId);
-        var activeEntries = entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN);
-        if (creditBalance <= activeEntries) {
-            throw new BusinessRuleException("error.entry.no-credits", creditBalance, activeEntries);
+        var eligibility = entrantEligibilityQuery.load(divisionId, userId);
+        if (!eligibility.hasRemainingCredits()) {
+            throw new BusinessRuleException("error.entry.no-credits",
+                    eligibility.creditBalance(), eligibility.activeEntries());
         }
 
         // Entry limits
-        checkEntryLimits(divisionId, userId, initialCategoryId, division);
+        checkEntryLimits(eligibility, initialCategoryId, division);
 
         // Generate entry number and code
-        var entryNumber = entryRepository.findMaxEntryNumberByDivisionId(divisionId) + 1;
-        var entryCode = generateEntryCode(divisionId);
+        var entryNumber = entryNumberAllocator.next(divisionId);
+        var entryCode = entryCodeAllocator.allocate(divisionId, entryNumber);
 
         var entry = new Entry(divisionId, userId, entryNumber, entryCode,
                 meadName, initialCategoryId, sweetness, abv, carbonation,
@@ -248,6 +411,8 @@ public class EntryService {
         var saved = entryRepository.save(entry);
         log.info("Created entry: #{} (code={}, mead={}, division={}, userId={})",
                 entryNumber, entryCode, meadName, divisionId, userId);
+        eventPublisher.publishEvent(new EntrantDivisionChangedEvent(divisionId, userId));
+        publishEntryChange(entry, null);
         return saved;
     }
 
@@ -268,7 +433,7 @@ public class EntryService {
         if (!entry.getUserId().equals(userId)) {
             throw new BusinessRuleException("error.entry.not-owner");
         }
-        var division = competitionService.findDivisionById(entry.getDivisionId());
+        var division = competitionService.findCurrentDivision(entry.getDivisionId());
         if (division.getStatus() != DivisionStatus.REGISTRATION_OPEN) {
             throw new BusinessRuleException("error.entry.division-not-open");
         }
@@ -276,7 +441,9 @@ public class EntryService {
                 carbonation, honeyVarieties, otherIngredients, woodAged,
                 woodAgeingDetails, additionalInformation);
         log.debug("Updated entry: {} (mead={})", entryId, meadName);
-        return entryRepository.save(entry);
+        var saved = entryRepository.save(entry);
+        publishEntryChange(entry, entry.getStatus());
+        return saved;
     }
 
     public void deleteEntry(@NotNull UUID entryId, @NotNull UUID userId) {
@@ -290,6 +457,8 @@ public class EntryService {
         }
         entryRepository.delete(entry);
         log.info("Deleted entry: #{} ({})", entry.getEntryNumber(), entryId);
+        eventPublisher.publishEvent(new EntrantDivisionChangedEvent(entry.getDivisionId(), userId));
+        eventPublisher.publishEvent(EntriesChangedEvent.of(entry.getDivisionId(), entryId, entry.getStatus(), null));
     }
 
     public void submitEntry(@NotNull UUID entryId, @NotNull UUID userId) {
@@ -298,9 +467,11 @@ public class EntryService {
         if (!entry.getUserId().equals(userId)) {
             throw new BusinessRuleException("error.entry.not-owner");
         }
+        var previousStatus = entry.getStatus();
         entry.submit();
         entryRepository.save(entry);
         log.info("Submitted entry: #{} ({})", entry.getEntryNumber(), entryId);
+        publishEntryChange(entry, previousStatus);
         publishSubmissionEventIfComplete(entry.getDivisionId(), userId);
     }
 
@@ -315,6 +486,9 @@ public class EntryService {
             entryRepository.save(entry);
         }
         log.info("Submitted {} draft entries: division={}, userId={}", drafts.size(), divisionId, userId);
+        eventPublisher.publishEvent(new EntriesChangedEvent(divisionId, drafts.stream()
+                .map(entry -> new EntriesChangedEvent.Change(entry.getId(), EntryStatus.DRAFT, entry.getStatus()))
+                .toList()));
         publishSubmissionEventIfComplete(divisionId, userId);
     }
 
@@ -322,9 +496,11 @@ public class EntryService {
         var entry = entryRepository.findById(entryId)
                 .orElseThrow(() -> new BusinessRuleException("error.entry.not-found"));
         requireAuthorizedForDivision(entry.getDivisionId(), requestingUserId);
+        var previousStatus = entry.getStatus();
         entry.advanceStatus();
         var saved = entryRepository.save(entry);
         log.info("Advanced entry status to {}: #{} ({})", saved.getStatus(), saved.getEntryNumber(), entryId);
+        publishEntryChange(entry, previousStatus);
         if (saved.getStatus() == EntryStatus.SUBMITTED) {
             publishSubmissionEventIfComplete(saved.getDivisionId(), saved.getUserId());
         }
@@ -335,27 +511,64 @@ public class EntryService {
         var entry = entryRepository.findById(entryId)
                 .orElseThrow(() -> new BusinessRuleException("error.entry.not-found"));
         requireAuthorizedForDivision(entry.getDivisionId(), requestingUserId);
+        var previousStatus = entry.getStatus();
         entry.revertStatus();
         log.info("Reverted entry status to {}: #{} ({})", entry.getStatus(), entry.getEntryNumber(), entryId);
-        return entryRepository.save(entry);
+        var saved = entryRepository.save(entry);
+        publishEntryChange(entry, previousStatus);
+        if (previousStatus == EntryStatus.WITHDRAWN) {
+            eventPublisher.publishEvent(new EntrantDivisionChangedEvent(saved.getDivisionId(), saved.getUserId()));
+        }
+        return saved;
     }
 
     public Entry markReceived(@NotNull UUID entryId, @NotNull UUID requestingUserId) {
         var entry = entryRepository.findById(entryId)
                 .orElseThrow(() -> new BusinessRuleException("error.entry.not-found"));
         requireAuthorizedForDivision(entry.getDivisionId(), requestingUserId);
+        var previousStatus = entry.getStatus();
         entry.markReceived();
         log.info("Marked entry received: #{} ({})", entry.getEntryNumber(), entryId);
-        return entryRepository.save(entry);
+        var saved = entryRepository.save(entry);
+        publishEntryChange(entry, previousStatus);
+        return saved;
+    }
+
+    /**
+     * Marks a batch of scanned entries as received with one authorization check, one locking
+     * read and one set-based update. Entries that are not in the division or no longer
+     * SUBMITTED are left untouched.
+     *
+     * @return the number of entries that moved to RECEIVED
+     */
+    public int markReceived(@NotNull UUID divisionId, @NotNull Collection<UUID> entryIds,
+                            @NotNull UUID requestingUserId) {
+        requireAuthorizedForDivision(divisionId, requestingUserId);
+        if (entryIds.isEmpty()) {
+            return 0;
+        }
+        var submitted = entryRepository.lockSubmittedIds(divisionId, entryIds);
+        int received = submitted.isEmpty() ? 0 : entryRepository.markReceived(divisionId, submitted, Instant.now());
+        log.info("Marked {} of {} scanned entries received: division={}", received, entryIds.size(), divisionId);
+        if (received > 0) {
+            eventPublisher.publishEvent(new EntriesChangedEvent(divisionId, submitted.stream()
+                    .map(id -> new EntriesChangedEvent.Change(id, EntryStatus.SUBMITTED, EntryStatus.RECEIVED))
+                    .toList()));
+        }
+        return received;
     }
 
     public Entry withdrawEntry(@NotNull UUID entryId, @NotNull UUID requestingUserId) {
         var entry = entryRepository.findById(entryId)
                 .orElseThrow(() -> new BusinessRuleException("error.entry.not-found"));
         requireAuthorizedForDivision(entry.getDivisionId(), requestingUserId);
+        var previousStatus = entry.getStatus();
         entry.withdraw();
         log.info("Withdrew entry: #{} ({})", entry.getEntryNumber(), entryId);
-        return entryRepository.save(entry);
+        var saved = entryRepository.save(entry);
+        eventPublisher.publishEvent(new EntrantDivisionChangedEvent(saved.getDivisionId(), saved.getUserId()));
+        publishEntryChange(entry, previousStatus);
+        return saved;
     }
 
     public Entry adminUpdateEntry(@NotNull UUID entryId,
@@ -377,13 +590,54 @@ public class EntryService {
                 carbonation, honeyVarieties, otherIngredients, woodAged,
                 woodAgeingDetails, additionalInformation);
         log.debug("Admin updated entry: #{} ({})", entry.getEntryNumber(), entryId);
-        return entryRepository.save(entry);
+        var saved = entryRepository.save(entry);
+        publishEntryChange(entry, entry.getStatus());
+        return saved;
     }
 
     public List<Entry> findEntriesByDivision(@NotNull UUID divisionId) {
         return entryRepository.findByDivisionId(divisionId);
     }
 
+    /**
+     * Returns the division's entries in any of {@code statuses}, in entry number order.
+     */
+    public List<Entry> findEntriesByDivision(@NotNull UUID divisionId, @NotNull Collection<EntryStatus> statuses) {
+        return entryRepository.findByDivisionIdAndStatusInOrderByEntryNumber(divisionId, statuses);
+    }
+
+    public long countEntriesByStatus(@NotNull UUID divisionId, @NotNull Collection<EntryStatus> statuses) {
+        return entryRepository.countByDivisionIdAndStatusIn(divisionId, statuses);
+    }
+
+    public Optional<Entry> findEntryByNumber(@NotNull UUID divisionId, int entryNumber) {
+        return entryRepository.findByDivisionIdAndEntryNumber(divisionId, entryNumber);
+    }
+
+    /**
+     * Returns one page of the division's entries, optionally restricted to {@code status}.
+     * A non-blank filter matches mead name, honey varieties, entry code and the entrant's
+     * name, email or meadery anywhere, ranking the closest matches first; otherwise entries
+     * come in entry number order.
+     */
+    public List<Entry> searchEntries(@NotNull UUID divisionId, EntryStatus status, String filter,
+                                     @NotNull Pageable pageable) {
+        return entryRepository.search(divisionId, status != null ? status.name() : null,
+                TextSearch.normalize(filter), TextSearch.likePattern(filter), unsorted(pageable));
+    }
+
+    public long countEntries(@NotNull UUID divisionId, EntryStatus status, String filter) {
+        return entryRepository.countSearch(divisionId, status != null ? status.name() : null,
+                TextSearch.likePattern(filter));
+    }
+
+    public List<Entry> findEntriesByIds(@NotNull UUID divisionId, @NotNull Collection<UUID> entryIds) {
+        if (entryIds.isEmpty()) {
+            return List.of();
+        }
+        return entryRepository.findByDivisionIdAndIdIn(divisionId, entryIds);
+    }
+
     public List<Entry> findEntriesByDivisionAndUser(@NotNull UUID divisionId,
                                                       @NotNull UUID userId) {
         return entryRepository.findByDivisionIdAndUserId(divisionId, userId);
@@ -411,7 +665,9 @@ public class EntryService {
         }
         entry.assignFinalCategory(finalCategoryId);
         log.debug("Assigned final category {} to entry {}", finalCategoryId, entryId);
-        return entryRepository.save(entry);
+        var saved = entryRepository.save(entry);
+        publishEntryChange(entry, entry.getStatus());
+        return saved;
     }
 
     public long countActiveEntries(@NotNull UUID divisionId, @NotNull UUID userId) {
@@ -422,23 +678,8 @@ public class EntryService {
     // --- Entrant overview methods ---
 
     public List<EntrantDivisionOverview> findEntrantDivisionOverviews(@NotNull UUID userId) {
-        var divisionIds = creditRepository.findDistinctDivisionIdsByUserId(userId);
-        return divisionIds.stream()
-                .map(divisionId -> {
-                    var division = competitionService.findDivisionById(divisionId);
-                    var competition = competitionService.findCompetitionById(
-                            division.getCompetitionId());
-                    var creditBalance = creditRepository.sumAmountByDivisionIdAndUserId(
-                            divisionId, userId);
-                    var entryCount = entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                            divisionId, userId, EntryStatus.WITHDRAWN);
-                    return new EntrantDivisionOverview(
-                            competition.getId(), competition.getName(),
-                            competition.getShortName(),
-                            divisionId, division.getName(), division.getShortName(),
-                            creditBalance, entryCount);
-                })
-                .toList();
+        return entrantOverviewCache.get(userId,
+                () -> List.copyOf(creditRepository.findEntrantDivisionOverviews(userId)));
     }
 
     // --- Order methods ---
@@ -452,6 +693,21 @@ public class EntryService {
         return orderRepository.findAllById(orderIds);
     }
 
+    /**
+     * Returns one page of the orders with line items in the division. A non-blank filter
+     * matches the Jumpseller order id or the customer's email or name anywhere, ranking the
+     * closest matches first; otherwise the newest orders come first.
+     */
+    public List<JumpsellerOrder> searchOrders(@NotNull UUID divisionId, String filter,
+                                              @NotNull Pageable pageable) {
+        return orderRepository.searchByDivisionId(divisionId, TextSearch.normalize(filter),
+                TextSearch.likePattern(filter), unsorted(pageable));
+    }
+
+    public long countOrders(@NotNull UUID divisionId, String filter) {
+        return orderRepository.countSearchByDivisionId(divisionId, TextSearch.likePattern(filter));
+    }
+
     public List<JumpsellerOrderLineItem> findLineItemsByDivision(@NotNull UUID divisionId) {
         return lineItemRepository.findByDivisionId(divisionId);
     }
@@ -482,6 +738,11 @@ public class EntryService {
 
     // --- Private helpers ---
 
+    // Search results are ordered by rank in the query itself
+    private static Pageable unsorted(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+
     private void requireAuthorizedForDivision(UUID divisionId, UUID userId) {
         var user = userService.findById(userId);
         if (user.getRole() == Role.SYSTEM_ADMIN) {
@@ -492,66 +753,32 @@ public class EntryService {
         }
     }
 
-    private boolean hasCreditConflict(UUID userId, UUID divisionId, UUID competitionId) {
-        var existingDivisionIds = creditRepository.findDistinctDivisionIdsByUserId(userId);
-        if (existingDivisionIds.isEmpty()) {
-            return false;
-        }
-        if (existingDivisionIds.size() == 1 && existingDivisionIds.contains(divisionId)) {
-            return false; // Same division only — no conflict
-        }
-        var competitionDivisions = competitionService.findDivisionsByCompetition(competitionId);
-        var competitionDivisionIds = competitionDivisions.stream()
-                .map(Division::getId)
-                .toList();
-        return existingDivisionIds.stream()
-                .anyMatch(id -> competitionDivisionIds.contains(id) && !id.equals(divisionId));
-    }
-
-    private void checkEntryLimits(UUID divisionId, UUID userId,
-                                   UUID initialCategoryId, Division division) {
+    private void checkEntryLimits(EntrantEligibility eligibility, UUID initialCategoryId,
+                                   Division division) {
         // Total limit
-        if (division.getMaxEntriesTotal() != null) {
-            var totalCount = entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                    divisionId, userId, EntryStatus.WITHDRAWN);
-            if (totalCount >= division.getMaxEntriesTotal()) {
-                throw new BusinessRuleException("error.entry.limit-total", division.getMaxEntriesTotal());
-            }
+        if (division.getMaxEntriesTotal() != null
+                && eligibility.activeEntries() >= division.getMaxEntriesTotal()) {
+            throw new BusinessRuleException("error.entry.limit-total", division.getMaxEntriesTotal());
         }
 
         // Subcategory limit
-        if (division.getMaxEntriesPerSubcategory() != null) {
-            var count = entryRepository.countByDivisionIdAndUserIdAndInitialCategoryIdAndStatusNot(
-                    divisionId, userId, initialCategoryId, EntryStatus.WITHDRAWN);
-            if (count >= division.getMaxEntriesPerSubcategory()) {
-                throw new BusinessRuleException("error.entry.limit-subcategory", division.getMaxEntriesPerSubcategory());
-            }
+        if (division.getMaxEntriesPerSubcategory() != null
+                && eligibility.activeEntriesInCategory(initialCategoryId) >= division.getMaxEntriesPerSubcategory()) {
+            throw new BusinessRuleException("error.entry.limit-subcategory", division.getMaxEntriesPerSubcategory());
         }
 
         // Main category limit
-        if (division.getMaxEntriesPerMainCategory() != null) {
-            var categories = competitionService.findDivisionCategories(divisionId);
-            var category = categories.stream()
-                    .filter(c -> c.getId().equals(initialCategoryId))
-                    .findFirst()
-                    .orElseThrow(() -> new BusinessRuleException("error.category.not-found"));
-
-            var mainCategoryId = category.getParentId() != null
-                    ? category.getParentId() : category.getId();
-            var mainCategoryGroupIds = categories.stream()
-                    .filter(c -> c.getId().equals(mainCategoryId)
-                            || mainCategoryId.equals(c.getParentId()))
-                    .map(DivisionCategory::getId)
-                    .toList();
-
-            var count = entryRepository.countByDivisionIdAndUserIdAndInitialCategoryIdInAndStatusNot(
-                    divisionId, userId, mainCategoryGroupIds, EntryStatus.WITHDRAWN);
-            if (count >= division.getMaxEntriesPerMainCategory()) {
-                throw new BusinessRuleException("error.entry.limit-main-category", division.getMaxEntriesPerMainCategory());
-            }
+        if (division.getMaxEntriesPerMainCategory() != null
+                && eligibility.activeEntriesInMainCategoryGroup(initialCategoryId) >= division.getMaxEntriesPerMainCategory()) {
+            throw new BusinessRuleException("error.entry.limit-main-category", division.getMaxEntriesPerMainCategory());
         }
     }
 
+    private void publishEntryChange(Entry entry, EntryStatus previousStatus) {
+        eventPublisher.publishEvent(EntriesChangedEvent.of(entry.getDivisionId(), entry.getId(),
+                previousStatus, entry.getStatus()));
+    }
+
     private void publishSubmissionEventIfComplete(UUID divisionId, UUID userId) {
         var creditBalance = creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId);
         var activeEntries = entryRepository.countByDivisionIdAndUserIdAndStatusNot(
@@ -604,11 +831,11 @@ public class EntryService {
                                   String woodAgeingDetails,
                                   String additionalInformation,
                                   @NotNull UUID adminUserId) {
-        var division = competitionService.findDivisionById(divisionId);
+        var division = competitionService.findCurrentDivision(divisionId);
         var targetUser = userService.findByEmail(userEmail);
 
-        var entryNumber = entryRepository.findMaxEntryNumberByDivisionId(divisionId) + 1;
-        var entryCode = generateEntryCode(divisionId);
+        var entryNumber = entryNumberAllocator.next(divisionId);
+        var entryCode = entryCodeAllocator.allocate(divisionId, entryNumber);
 
         var entry = new Entry(divisionId, targetUser.getId(), entryNumber, entryCode,
                 meadName, initialCategoryId, sweetness, abv, carbonation,
@@ -617,20 +844,8 @@ public class EntryService {
         var saved = entryRepository.save(entry);
         log.info("Admin created entry: #{} (code={}, mead={}, division={}, userId={}, adminId={})",
                 entryNumber, entryCode, meadName, divisionId, targetUser.getId(), adminUserId);
+        eventPublisher.publishEvent(new EntrantDivisionChangedEvent(divisionId, targetUser.getId()));
+        publishEntryChange(entry, null);
         return saved;
     }
-
-    private String generateEntryCode(UUID divisionId) {
-        for (int attempt = 0; attempt < 10; attempt++) {
-            var sb = new StringBuilder(ENTRY_CODE_LENGTH);
-            for (int i = 0; i < ENTRY_CODE_LENGTH; i++) {
-                sb.append(ENTRY_CODE_CHARS.charAt(RANDOM.nextInt(ENTRY_CODE_CHARS.length())));
-            }
-            var code = sb.toString();
-            if (!entryRepository.existsByDivisionIdAndEntryCode(divisionId, code)) {
-                return code;
-            }
-        }
-        throw new BusinessRuleException("error.entry.code-generation-failed");
-    }
 }
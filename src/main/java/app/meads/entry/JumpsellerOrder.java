@@ -1,5 +1,6 @@
 package app.meads.entry;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -46,7 +47,7 @@ public class JumpsellerOrder {
 
     public JumpsellerOrder(String jumpsellerOrderId, String customerEmail,
                            String customerName, String rawPayload) {
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.jumpsellerOrderId = jumpsellerOrderId;
         this.customerEmail = customerEmail;
         this.customerName = customerName;
@@ -1,5 +1,6 @@
 package app.meads.entry;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -50,7 +51,7 @@ public class JumpsellerOrderLineItem {
     public JumpsellerOrderLineItem(UUID orderId, String jumpsellerProductId,
                                     String jumpsellerSku, String productName,
                                     int quantity) {
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.orderId = orderId;
         this.jumpsellerProductId = jumpsellerProductId;
         this.jumpsellerSku = jumpsellerSku;
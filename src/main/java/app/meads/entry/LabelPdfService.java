@@ -7,6 +7,9 @@ import com.google.zxing.BarcodeFormat;
 import com.google.zxing.WriterException;
 import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.qrcode.QRCodeWriter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.openpdf.text.Document;
 import org.openpdf.text.Element;
 import org.openpdf.text.Font;
@@ -65,9 +68,19 @@ public class LabelPdfService {
     private static final float TWO_LINE_HEIGHT = 21f; // 2 lines at 8pt font with 10pt leading
 
     private final MessageSource messageSource;
+    private final MeterRegistry meterRegistry;
+    private final Timer generateTimer;
+    private final DistributionSummary labelsPerPdf;
 
-    public LabelPdfService(MessageSource messageSource) {
+    public LabelPdfService(MessageSource messageSource, MeterRegistry meterRegistry) {
         this.messageSource = messageSource;
+        this.meterRegistry = meterRegistry;
+        this.generateTimer = Timer.builder("meads.labels.generate")
+                .description("Time to render a label PDF")
+                .register(meterRegistry);
+        this.labelsPerPdf = DistributionSummary.builder("meads.labels.entries")
+                .description("Entries per generated label PDF")
+                .register(meterRegistry);
     }
 
     public byte[] generateLabel(Entry entry, Competition competition,
@@ -90,6 +103,7 @@ public class LabelPdfService {
                                   Division division,
                                   Function<UUID, DivisionCategory> categoryResolver,
                                   Locale locale) {
+        var sample = Timer.start(meterRegistry);
         var baos = new ByteArrayOutputStream();
         var document = new Document(PageSize.A4.rotate(), 20, 20, 20, 20);
 
@@ -112,6 +126,8 @@ public class LabelPdfService {
             throw new RuntimeException("Failed to generate label PDF", e);
         }
 
+        sample.stop(generateTimer);
+        labelsPerPdf.record(entries.size());
         log.info("Generated label PDF for {} entries in division {} of competition {}",
                 entries.size(), division.getName(), competition.getShortName());
         return baos.toByteArray();
@@ -347,7 +363,7 @@ public class LabelPdfService {
         return String.valueOf(entry.getEntryNumber());
     }
 
-    String formatQrContent(Entry entry, Competition competition, Division division) {
+    public String formatQrContent(Entry entry, Competition competition, Division division) {
         var entryId = formatEntryId(entry, division);
         return competition.getShortName() + "-" + entryId;
     }
@@ -1,5 +1,6 @@
 package app.meads.entry;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -36,7 +37,7 @@ public class ProductMapping {
 
     public ProductMapping(UUID divisionId, String jumpsellerProductId, String jumpsellerSku,
                           String productName, int creditsPerUnit) {
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.divisionId = divisionId;
         this.jumpsellerProductId = jumpsellerProductId;
         this.jumpsellerSku = jumpsellerSku;
@@ -2,10 +2,12 @@ package app.meads.entry;
 
 import app.meads.BusinessRuleException;
 import app.meads.competition.CompetitionService;
-import app.meads.competition.Division;
+import app.meads.competition.DivisionStatus;
+import app.meads.entry.internal.EntrantEligibilityQuery;
 import app.meads.entry.internal.EntryCreditRepository;
 import app.meads.entry.internal.JumpsellerOrderLineItemRepository;
 import app.meads.entry.internal.JumpsellerOrderRepository;
+import app.meads.entry.internal.ProductMappingCache;
 import app.meads.entry.internal.ProductMappingRepository;
 import app.meads.identity.UserService;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -38,27 +40,33 @@ public class WebhookService {
     private final JumpsellerOrderRepository orderRepository;
     private final JumpsellerOrderLineItemRepository lineItemRepository;
     private final ProductMappingRepository productMappingRepository;
+    private final ProductMappingCache productMappingCache;
     private final EntryCreditRepository creditRepository;
     private final CompetitionService competitionService;
     private final UserService userService;
     private final ApplicationEventPublisher eventPublisher;
+    private final EntrantEligibilityQuery entrantEligibilityQuery;
     private final String hooksToken;
 
     WebhookService(JumpsellerOrderRepository orderRepository,
                    JumpsellerOrderLineItemRepository lineItemRepository,
                    ProductMappingRepository productMappingRepository,
+                   ProductMappingCache productMappingCache,
                    EntryCreditRepository creditRepository,
                    CompetitionService competitionService,
                    UserService userService,
                    ApplicationEventPublisher eventPublisher,
+                   EntrantEligibilityQuery entrantEligibilityQuery,
                    @Value("${app.jumpseller.hooks-token}") String hooksToken) {
         this.orderRepository = orderRepository;
         this.lineItemRepository = lineItemRepository;
         this.productMappingRepository = productMappingRepository;
+        this.productMappingCache = productMappingCache;
         this.creditRepository = creditRepository;
         this.competitionService = competitionService;
         this.userService = userService;
         this.eventPublisher = eventPublisher;
+        this.entrantEligibilityQuery = entrantEligibilityQuery;
         this.hooksToken = hooksToken;
     }
 
@@ -148,7 +156,8 @@ public class WebhookService {
                 var lineItem = new JumpsellerOrderLineItem(
                         order.getId(), productId, sku, productName, quantity);
 
-                var mappings = productMappingRepository.findByJumpsellerProductId(productId);
+                var mappings = productMappingCache.get(productId,
+                        () -> List.copyOf(productMappingRepository.findByJumpsellerProductId(productId)));
                 if (mappings.isEmpty()) {
                     lineItem.markIgnored();
                     lineItemRepository.save(lineItem);
@@ -157,13 +166,15 @@ public class WebhookService {
                     continue;
                 }
 
-                var mapping = mappings.getFirst();
+                var mapping = selectMapping(mappings);
                 var divisionId = mapping.getDivisionId();
-                var division = competitionService.findDivisionById(divisionId);
+                var division = competitionService.findCurrentDivision(divisionId);
                 affectedCompetitionIds.add(division.getCompetitionId());
 
+                var eligibility = entrantEligibilityQuery.load(divisionId, user.getId());
+
                 // Mutual exclusivity check
-                if (hasCreditConflict(user.getId(), divisionId, division.getCompetitionId())) {
+                if (eligibility.creditConflict()) {
                     var intendedCredits = quantity * mapping.getCreditsPerUnit();
                     lineItem.markNeedsReview(divisionId, intendedCredits, "Mutual exclusivity conflict: user already has credits in another division of the same competition");
                     lineItemRepository.save(lineItem);
@@ -175,8 +186,7 @@ public class WebhookService {
                 }
 
                 // Role compatibility check
-                if (competitionService.hasIncompatibleRolesForEntrant(
-                        division.getCompetitionId(), user.getId())) {
+                if (eligibility.incompatibleRole()) {
                     var intendedCredits = quantity * mapping.getCreditsPerUnit();
                     lineItem.markNeedsReview(divisionId, intendedCredits,
                             "Incompatible role conflict: user has a role in this competition that cannot be combined with Entrant");
@@ -255,6 +265,25 @@ public class WebhookService {
         }
     }
 
+    /**
+     * A product mapped in several editions (see cloneCompetition) credits the one open for
+     * registration, else a draft one such as next year's clone, else the earliest. Mappings come
+     * ordered by competition start date, so ties between editions resolve the same way each time.
+     */
+    private ProductMapping selectMapping(List<ProductMapping> mappings) {
+        ProductMapping draft = null;
+        for (var mapping : mappings) {
+            var status = competitionService.findCurrentDivision(mapping.getDivisionId()).getStatus();
+            if (status == DivisionStatus.REGISTRATION_OPEN) {
+                return mapping;
+            }
+            if (draft == null && status == DivisionStatus.DRAFT) {
+                draft = mapping;
+            }
+        }
+        return draft != null ? draft : mappings.getFirst();
+    }
+
     private String extractCustomerName(JsonNode order) {
         // Try shipping address first, then billing address
         for (var addressKey : List.of("shipping_address", "billing_address")) {
@@ -271,21 +300,4 @@ public class WebhookService {
         // Fallback to customer email prefix
         return order.get("customer").get("email").asText().split("@")[0];
     }
-
-    private boolean hasCreditConflict(UUID userId, UUID divisionId, UUID competitionId) {
-        var existingDivisionIds = creditRepository.findDistinctDivisionIdsByUserId(userId);
-        if (existingDivisionIds.isEmpty()) {
-            return false;
-        }
-        if (existingDivisionIds.size() == 1 && existingDivisionIds.contains(divisionId)) {
-            return false; // Same division only — no conflict
-        }
-        // Check if any existing divisions are in the same competition
-        var competitionDivisions = competitionService.findDivisionsByCompetition(competitionId);
-        var competitionDivisionIds = competitionDivisions.stream()
-                .map(Division::getId)
-                .toList();
-        return existingDivisionIds.stream()
-                .anyMatch(id -> competitionDivisionIds.contains(id) && !id.equals(divisionId));
-    }
 }
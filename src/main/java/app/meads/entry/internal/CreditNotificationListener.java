@@ -1,16 +1,23 @@
 package app.meads.entry.internal;
 
 import app.meads.LanguageMapping;
+import app.meads.competition.Competition;
 import app.meads.competition.CompetitionService;
+import app.meads.competition.Division;
 import app.meads.entry.CreditsAwardedEvent;
+import app.meads.entry.CreditsImportedEvent;
 import app.meads.identity.EmailService;
 import app.meads.identity.JwtMagicLinkService;
+import app.meads.identity.User;
 import app.meads.identity.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -34,20 +41,54 @@ public class CreditNotificationListener {
     }
 
     @ApplicationModuleListener
+    @Async(EntryListenerConfiguration.CREDIT_NOTIFICATIONS)
     public void on(CreditsAwardedEvent event) {
-        var division = competitionService.findDivisionById(event.divisionId());
+        var division = competitionService.findCurrentDivision(event.divisionId());
         var competition = competitionService.findCompetitionById(division.getCompetitionId());
         var user = userService.findById(event.userId());
+        send(user, event.amount(), division, competition);
+    }
+
+    /**
+     * Loads the division, competition and all recipients once for the whole import. A failed
+     * delivery is logged and skipped rather than failing the event, which would resend every
+     * other notification of the batch on resubmission.
+     */
+    @ApplicationModuleListener
+    @Async(EntryListenerConfiguration.CREDIT_NOTIFICATIONS)
+    public void on(CreditsImportedEvent event) {
+        var division = competitionService.findCurrentDivision(event.divisionId());
+        var competition = competitionService.findCompetitionById(division.getCompetitionId());
+        var usersById = userService.findAllByIds(event.grants().stream()
+                        .map(CreditsImportedEvent.Grant::userId).toList()).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        int sent = 0;
+        for (var grant : event.grants()) {
+            var user = usersById.get(grant.userId());
+            if (user == null) {
+                continue;
+            }
+            try {
+                send(user, grant.amount(), division, competition);
+                sent++;
+            } catch (RuntimeException e) {
+                log.warn("Failed to send credit notification to {}: {}", user.getEmail(), e.getMessage());
+            }
+        }
+        log.info("Sent {} of {} imported credit notifications for {}",
+                sent, event.grants().size(), division.getName());
+    }
 
+    private void send(User user, int amount, Division division, Competition competition) {
         var loginLink = jwtMagicLinkService.generateLink(user.getEmail(), LINK_VALIDITY);
 
         var locale = LanguageMapping.resolveLocale(user.getPreferredLanguage(), user.getCountry());
         emailService.sendCreditNotification(
                 user.getEmail(),
-                event.amount(), division.getName(),
+                amount, division.getName(),
                 competition.getName(), loginLink,
                 competition.getContactEmail(), locale);
         log.info("Sent credit notification to {} for {} credits in {}",
-                user.getEmail(), event.amount(), division.getName());
+                user.getEmail(), amount, division.getName());
     }
 }
@@ -1,6 +1,7 @@
 package app.meads.entry.internal;
 
 import app.meads.BusinessRuleException;
+import app.meads.ImportDialog;
 import app.meads.MainLayout;
 import app.meads.competition.Competition;
 import app.meads.competition.CompetitionService;
@@ -9,6 +10,10 @@ import app.meads.competition.DivisionCategory;
 import app.meads.entry.*;
 import app.meads.identity.Role;
 import app.meads.identity.UserService;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.dialog.Dialog;
@@ -34,14 +39,18 @@ import com.vaadin.flow.component.textfield.NumberField;
 import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.component.shared.Tooltip;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.shared.Registration;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import com.vaadin.flow.spring.security.AuthenticationContext;
 import jakarta.annotation.security.PermitAll;
 import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.util.StringUtils;
 
@@ -50,6 +59,8 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
@@ -59,13 +70,20 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Route(value = "competitions/:compShortName/divisions/:divShortName/entry-admin", layout = MainLayout.class)
+@Slf4j
 @PermitAll
 public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnterObserver {
 
+    private static final int RECEIVING_BATCH_SIZE = 25;
+    private static final int RECEIVING_LOG_SIZE = 50;
+    // Entries that have a label to print
+    private static final List<EntryStatus> LABELLED_STATUSES = List.of(EntryStatus.SUBMITTED, EntryStatus.RECEIVED);
+
     private final EntryService entryService;
     private final CompetitionService competitionService;
     private final UserService userService;
     private final LabelPdfService labelPdfService;
+    private final DivisionEntryBroadcaster broadcaster;
     private final transient AuthenticationContext authenticationContext;
 
     private UUID divisionId;
@@ -78,29 +96,51 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
     private Grid<EntrantCreditSummary> creditsGrid;
     private Grid<Entry> entriesGrid;
+    private CallbackDataProvider<Entry, Void> entriesDataProvider;
     private Grid<ProductMapping> productsGrid;
     private Grid<JumpsellerOrder> ordersGrid;
     private Map<UUID, List<JumpsellerOrderLineItem>> lineItemsByOrderId;
     private List<DivisionCategory> divisionCategories;
 
-    // Entries tab filter state
+    // Server-side filter state of the credits, entries and orders grids
+    private String creditsFilter;
     private String entriesNameFilter = "";
     private EntryStatus entriesStatusFilter;
+    private String ordersFilter;
 
-    // Entries tab summary
+    // Entries tab summary, from the division_stats projection
     private Span totalCreditsLabel;
     private Span entriesSummaryLabel;
+    private Map<EntryStatus, Long> entryCounts = Map.of();
+
+    // Receiving tab state
+    private final ReceivingQueue receivingQueue;
+    private final List<ReceivingQueue.Scan> receivingLog = new ArrayList<>();
+    private Grid<ReceivingQueue.Scan> receivingLogGrid;
+    private Span receivingFeedback;
+    private Span receivingStatusLabel;
+    private Button receivingApplyButton;
+
+    // Statistics tab state
+    private Grid<StatRow> statsGrid;
+    private Span statsSummaryLabel;
+
+    // Pushed changes from other sessions and background jobs, while attached
+    private Registration changesRegistration;
 
     public DivisionEntryAdminView(EntryService entryService,
                                    CompetitionService competitionService,
                                    UserService userService,
                                    LabelPdfService labelPdfService,
+                                   DivisionEntryBroadcaster broadcaster,
                                    AuthenticationContext authenticationContext) {
         this.entryService = entryService;
         this.competitionService = competitionService;
         this.userService = userService;
         this.labelPdfService = labelPdfService;
+        this.broadcaster = broadcaster;
         this.authenticationContext = authenticationContext;
+        this.receivingQueue = new ReceivingQueue(this::findScannedEntry);
     }
 
     @Override
@@ -147,6 +187,65 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
         add(createBreadcrumb());
         add(createHeader());
         add(createTabSheet());
+        getUI().ifPresent(this::subscribeToChanges);
+    }
+
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        subscribeToChanges(attachEvent.getUI());
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        unsubscribeFromChanges();
+        flushReceivingBatch();
+        super.onDetach(detachEvent);
+    }
+
+    private void subscribeToChanges(UI ui) {
+        unsubscribeFromChanges();
+        if (entriesGrid == null) {
+            return;
+        }
+        changesRegistration = broadcaster.subscribe(divisionId, competition.getId(), changes -> {
+            try {
+                ui.access(() -> applyChanges(changes));
+            } catch (UIDetachedException e) {
+                // The view is being closed; its detach listener removes the subscription
+            }
+        });
+    }
+
+    private void unsubscribeFromChanges() {
+        if (changesRegistration != null) {
+            changesRegistration.remove();
+            changesRegistration = null;
+        }
+    }
+
+    // Only the changed entries are read back; credit rows and orders are aggregates whose
+    // membership may change, so their visible page is reloaded
+    private void applyChanges(DivisionEntryBroadcaster.Changes changes) {
+        if (!changes.entries().isEmpty()) {
+            var removedIds = changes.entries().values().stream()
+                    .filter(change -> change.status() == null)
+                    .map(EntriesChangedEvent.Change::entryId)
+                    .toList();
+            var changedIds = changes.entries().values().stream()
+                    .filter(change -> change.status() != null)
+                    .map(EntriesChangedEvent.Change::entryId)
+                    .toList();
+            applyEntryChanges(entryService.findEntriesByIds(divisionId, changedIds), removedIds,
+                    changes.entriesAddedOrRemoved());
+        }
+        if (!changes.entrants().isEmpty()) {
+            refreshCreditsGrid();
+            refreshCreditsBalance();
+        }
+        if (changes.orders()) {
+            refreshOrdersGrid();
+        }
     }
 
     private Nav createBreadcrumb() {
@@ -175,9 +274,7 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
         header.setDefaultVerticalComponentAlignment(Alignment.CENTER);
 
         if (competition.hasLogo()) {
-            var dataUri = "data:" + competition.getLogoContentType() + ";base64,"
-                    + java.util.Base64.getEncoder().encodeToString(competition.getLogo());
-            var logo = new Image(dataUri, competition.getName() + " logo");
+            var logo = new Image(competition.getLogoUrl(), competition.getName() + " logo");
             logo.setHeight("64px");
             header.add(logo);
         }
@@ -192,8 +289,19 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
         tabSheet.add(getTranslation("entry-admin.tab.credits"), createCreditsTab());
         tabSheet.add(getTranslation("entry-admin.tab.entries"), createEntriesTab());
+        var receivingTab = tabSheet.add(getTranslation("entry-admin.tab.receiving"), createReceivingTab());
         tabSheet.add(getTranslation("entry-admin.tab.products"), createProductsTab());
         tabSheet.add(getTranslation("entry-admin.tab.orders"), createOrdersTab());
+        var statsTab = tabSheet.add(getTranslation("entry-admin.tab.stats"), createStatsTab());
+        tabSheet.addSelectedChangeListener(e -> {
+            // Queued scans are applied on leaving the tab rather than kept out of sight
+            if (e.getPreviousTab() == receivingTab) {
+                applyReceivingBatch();
+            }
+            if (e.getSelectedTab() == statsTab) {
+                refreshStats();
+            }
+        });
 
         return tabSheet;
     }
@@ -206,7 +314,7 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
         var filterField = new TextField();
         filterField.setPlaceholder(getTranslation("entry-admin.credits.filter.placeholder"));
-        filterField.setValueChangeMode(ValueChangeMode.EAGER);
+        filterField.setValueChangeMode(ValueChangeMode.LAZY);
         filterField.setPrefixComponent(new Icon(VaadinIcon.SEARCH));
         filterField.setClearButtonVisible(true);
 
@@ -223,18 +331,25 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
             addCreditsComponent = addCreditsButton;
         }
 
-        var toolbar = new HorizontalLayout(filterField, addCreditsComponent);
+        var importCreditsButton = new Button(getTranslation("entry-admin.credits.import"),
+                new Icon(VaadinIcon.UPLOAD), e -> openImportCreditsDialog());
+        importCreditsButton.setId("import-credits-button");
+        importCreditsButton.setEnabled(registrationOpen);
+
+        var toolbar = new HorizontalLayout(filterField, addCreditsComponent, importCreditsButton,
+                createExportLinks(EntryExporter.Dataset.CREDITS));
         toolbar.setWidthFull();
         toolbar.setFlexGrow(1, filterField);
         tab.add(toolbar);
 
         creditsGrid = new Grid<>(EntrantCreditSummary.class, false);
-        creditsGrid.setAllRowsVisible(true);
+        creditsGrid.setPageSize(50);
+        creditsGrid.setHeight("600px");
         creditsGrid.setId("credits-grid");
-        creditsGrid.addColumn(EntrantCreditSummary::name).setHeader(getTranslation("entry-admin.credits.column.name")).setSortable(true).setFlexGrow(2);
-        creditsGrid.addColumn(EntrantCreditSummary::email).setHeader(getTranslation("entry-admin.credits.column.email")).setSortable(true).setFlexGrow(3);
-        creditsGrid.addColumn(EntrantCreditSummary::creditBalance).setHeader(getTranslation("entry-admin.credits.column.credits")).setSortable(true).setAutoWidth(true);
-        creditsGrid.addColumn(EntrantCreditSummary::entryCount).setHeader(getTranslation("entry-admin.credits.column.entries")).setSortable(true).setAutoWidth(true);
+        creditsGrid.addColumn(EntrantCreditSummary::name).setHeader(getTranslation("entry-admin.credits.column.name")).setFlexGrow(2);
+        creditsGrid.addColumn(EntrantCreditSummary::email).setHeader(getTranslation("entry-admin.credits.column.email")).setFlexGrow(3);
+        creditsGrid.addColumn(EntrantCreditSummary::creditBalance).setHeader(getTranslation("entry-admin.credits.column.credits")).setAutoWidth(true);
+        creditsGrid.addColumn(EntrantCreditSummary::entryCount).setHeader(getTranslation("entry-admin.credits.column.entries")).setAutoWidth(true);
         creditsGrid.addComponentColumn(summary -> {
             var editButton = new Button(new Icon(VaadinIcon.EDIT));
             editButton.addThemeVariants(ButtonVariant.LUMO_ICON, ButtonVariant.LUMO_TERTIARY_INLINE);
@@ -255,17 +370,14 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
         creditsGrid.getColumns().forEach(col -> col.setResizable(true));
 
-        refreshCreditsGrid();
+        creditsGrid.setItems(
+                query -> entryService.findCreditSummaries(divisionId, creditsFilter,
+                        VaadinSpringDataHelpers.toSpringPageRequest(query)).stream(),
+                query -> (int) entryService.countCreditSummaries(divisionId, creditsFilter));
 
         filterField.addValueChangeListener(e -> {
-            var filterString = e.getValue().toLowerCase();
-            if (filterString.isBlank()) {
-                creditsGrid.getListDataView().removeFilters();
-            } else {
-                creditsGrid.getListDataView().setFilter(s ->
-                        s.name().toLowerCase().contains(filterString)
-                                || s.email().toLowerCase().contains(filterString));
-            }
+            creditsFilter = e.getValue();
+            refreshCreditsGrid();
         });
 
         tab.add(creditsGrid);
@@ -273,19 +385,7 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
     }
 
     private void refreshCreditsGrid() {
-        var participants = competitionService.findParticipantsByCompetition(
-                division.getCompetitionId());
-        var summaries = participants.stream()
-                .map(p -> {
-                    var user = userService.findById(p.getUserId());
-                    var credits = entryService.getCreditBalance(divisionId, p.getUserId());
-                    var entries = entryService.countActiveEntries(divisionId, p.getUserId());
-                    return new EntrantCreditSummary(
-                            p.getUserId(), user.getEmail(), user.getName(), credits, entries);
-                })
-                .filter(s -> s.creditBalance() > 0 || s.entryCount() > 0)
-                .toList();
-        creditsGrid.setItems(summaries);
+        creditsGrid.getDataProvider().refreshAll();
     }
 
     private void openAddCreditsDialog() {
@@ -340,6 +440,20 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
         dialog.open();
     }
 
+    private void openImportCreditsDialog() {
+        new ImportDialog("entry-admin.credits.import", "import-credits",
+                csv -> entryService.importCredits(divisionId, csv, true, currentUserId),
+                report -> getTranslation("entry-admin.credits.import.summary",
+                        report.rows(), report.changes(), report.newUsers()),
+                csv -> entryService.importCredits(divisionId, csv, false, currentUserId),
+                report -> {
+                    var notification = Notification.show(getTranslation("entry-admin.credits.imported", report.changes()));
+                    notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+                    refreshCreditsGrid();
+                    refreshCreditsBalance();
+                }).open();
+    }
+
     private void openEditCreditsDialog(EntrantCreditSummary summary) {
         var dialog = new Dialog();
         dialog.setHeaderTitle(getTranslation("entry-admin.credits.adjust.title", summary.name()));
@@ -389,32 +503,30 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
         var filterField = new TextField();
         filterField.setPlaceholder(getTranslation("entry-admin.entries.filter.placeholder"));
-        filterField.setValueChangeMode(ValueChangeMode.EAGER);
+        filterField.setValueChangeMode(ValueChangeMode.LAZY);
         filterField.setPrefixComponent(new Icon(VaadinIcon.SEARCH));
         filterField.setClearButtonVisible(true);
 
         var downloadAllBtn = new Button(getTranslation("entry-admin.entries.download-all"), new Icon(VaadinIcon.DOWNLOAD_ALT));
         downloadAllBtn.addClickListener(e -> {
-            var allEntries = entryService.findEntriesByDivision(divisionId);
-            var qualifyingEntries = allEntries.stream()
-                    .filter(entry -> entry.getStatus() == EntryStatus.SUBMITTED
-                            || entry.getStatus() == EntryStatus.RECEIVED)
-                    .toList();
-            if (qualifyingEntries.isEmpty()) {
+            var qualifying = entryService.countEntriesByStatus(divisionId, LABELLED_STATUSES);
+            if (qualifying == 0) {
                 Notification.show(getTranslation("entry-admin.entries.download-all.empty"));
                 return;
             }
             var dialog = new Dialog();
             dialog.setHeaderTitle(getTranslation("entry-admin.entries.download-all.confirm.title"));
-            dialog.add(new Span(getTranslation("entry-admin.entries.download-all.confirm.body", qualifyingEntries.size())));
+            dialog.add(new Span(getTranslation("entry-admin.entries.download-all.confirm.body", qualifying)));
 
+            // Read when the download starts rather than kept with the dialog
             var resource = new StreamResource("all-labels.pdf", () -> {
                 Function<UUID, DivisionCategory> resolver = id ->
                         divisionCategories.stream()
                                 .filter(c -> c.getId().equals(id)).findFirst().orElse(null);
                 return new ByteArrayInputStream(
-                        labelPdfService.generateLabels(qualifyingEntries, competition,
-                                division, resolver));
+                        labelPdfService.generateLabels(
+                                entryService.findEntriesByDivision(divisionId, LABELLED_STATUSES),
+                                competition, division, resolver));
             });
             resource.setContentType("application/pdf");
             var downloadAnchor = new Anchor(resource, getTranslation("entry-admin.entries.download-all.anchor"));
@@ -438,7 +550,8 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
         var addEntryButton = new Button(getTranslation("entry-admin.entries.add"), e -> openAdminAddEntryConfirmDialog());
 
-        var toolbar = new HorizontalLayout(filterField, statusSelect, addEntryButton, downloadAllBtn);
+        var toolbar = new HorizontalLayout(filterField, statusSelect, addEntryButton, downloadAllBtn,
+                createExportLinks(EntryExporter.Dataset.ENTRIES));
         toolbar.setWidthFull();
         toolbar.setFlexGrow(1, filterField);
         toolbar.setDefaultVerticalComponentAlignment(Alignment.BASELINE);
@@ -456,41 +569,39 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
         tab.add(summary);
 
         entriesGrid = new Grid<>(Entry.class, false);
-        entriesGrid.setAllRowsVisible(true);
+        entriesGrid.setPageSize(50);
+        entriesGrid.setHeight("600px");
         entriesGrid.setId("entries-grid");
         entriesGrid.addColumn(entry -> formatEntryNumber(entry.getEntryNumber()))
-                .setHeader(getTranslation("entry-admin.entries.column.number")).setSortable(true).setAutoWidth(true);
-        entriesGrid.addColumn(Entry::getEntryCode).setHeader(getTranslation("entry-admin.entries.column.code")).setSortable(true).setAutoWidth(true);
+                .setHeader(getTranslation("entry-admin.entries.column.number")).setAutoWidth(true);
+        entriesGrid.addColumn(Entry::getEntryCode).setHeader(getTranslation("entry-admin.entries.column.code")).setAutoWidth(true);
         entriesGrid.addComponentColumn(entry -> {
             var span = new Span(entry.getMeadName());
             span.setTitle(entry.getMeadName());
             return span;
-        }).setHeader(getTranslation("entry-admin.entries.column.mead-name")).setSortable(true).setFlexGrow(2)
-                .setComparator((a, b) -> a.getMeadName().compareToIgnoreCase(b.getMeadName()));
+        }).setHeader(getTranslation("entry-admin.entries.column.mead-name")).setFlexGrow(2);
         entriesGrid.addComponentColumn(entry -> createCategorySpan(entry.getInitialCategoryId()))
-                .setHeader(getTranslation("entry-admin.entries.column.category")).setSortable(true)
-                .setComparator((a, b) -> resolveCategoryCode(a.getInitialCategoryId())
-                        .compareTo(resolveCategoryCode(b.getInitialCategoryId())));
+                .setHeader(getTranslation("entry-admin.entries.column.category"));
         entriesGrid.addComponentColumn(entry -> {
             if (entry.getFinalCategoryId() == null) {
                 return new Span("—");
             }
             return createCategorySpan(entry.getFinalCategoryId());
-        }).setHeader(getTranslation("entry-admin.entries.column.final-category")).setSortable(true);
+        }).setHeader(getTranslation("entry-admin.entries.column.final-category"));
         entriesGrid.addColumn(entry -> userService.findById(entry.getUserId()).getEmail())
-                .setHeader(getTranslation("entry-admin.entries.column.entrant")).setSortable(true).setFlexGrow(2);
+                .setHeader(getTranslation("entry-admin.entries.column.entrant")).setFlexGrow(2);
         entriesGrid.addColumn(entry -> {
             var user = userService.findById(entry.getUserId());
             return user.getMeaderyName() != null ? user.getMeaderyName() : "";
-        }).setHeader(getTranslation("entry-admin.entries.column.meadery")).setSortable(true).setAutoWidth(true);
+        }).setHeader(getTranslation("entry-admin.entries.column.meadery")).setAutoWidth(true);
         entriesGrid.addColumn(entry -> {
             var user = userService.findById(entry.getUserId());
             return user.getCountry() != null
                     ? new Locale("", user.getCountry()).getDisplayCountry(Locale.ENGLISH)
                     : "";
-        }).setHeader(getTranslation("entry-admin.entries.column.country")).setSortable(true).setAutoWidth(true);
+        }).setHeader(getTranslation("entry-admin.entries.column.country")).setAutoWidth(true);
         entriesGrid.addColumn(entry -> entry.getStatus().name())
-                .setHeader(getTranslation("entry-admin.entries.column.status")).setSortable(true).setAutoWidth(true);
+                .setHeader(getTranslation("entry-admin.entries.column.status")).setAutoWidth(true);
         entriesGrid.addComponentColumn(entry -> {
             var viewButton = new Button(new Icon(VaadinIcon.EYE));
             viewButton.addThemeVariants(ButtonVariant.LUMO_ICON, ButtonVariant.LUMO_TERTIARY_INLINE);
@@ -566,6 +677,12 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
         entriesGrid.getColumns().forEach(col -> col.setResizable(true));
 
+        entriesDataProvider = new CallbackDataProvider<>(
+                query -> entryService.searchEntries(divisionId, entriesStatusFilter, entriesNameFilter,
+                        VaadinSpringDataHelpers.toSpringPageRequest(query)).stream(),
+                query -> (int) entryService.countEntries(divisionId, entriesStatusFilter, entriesNameFilter),
+                Entry::getId);
+        entriesGrid.setItems(entriesDataProvider);
         refreshEntriesGrid();
 
         filterField.addValueChangeListener(e -> {
@@ -578,19 +695,20 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
     }
 
     private void applyEntriesFilters() {
-        entriesGrid.getListDataView().setFilter(entry -> {
-            if (entriesStatusFilter != null && entry.getStatus() != entriesStatusFilter) {
-                return false;
-            }
-            if (entriesNameFilter != null && !entriesNameFilter.isBlank()) {
-                var filterString = entriesNameFilter.toLowerCase();
-                return entry.getMeadName().toLowerCase().contains(filterString)
-                        || entry.getEntryCode().toLowerCase().contains(filterString)
-                        || userService.findById(entry.getUserId()).getEmail()
-                                .toLowerCase().contains(filterString);
-            }
-            return true;
-        });
+        entriesDataProvider.refreshAll();
+    }
+
+    private HorizontalLayout createExportLinks(EntryExporter.Dataset dataset) {
+        var links = new HorizontalLayout();
+        for (var format : ExportFormat.values()) {
+            var link = new Anchor("api/exports/" + dataset.fileName() + "?divisionId=" + divisionId
+                    + "&format=" + format.extension(),
+                    getTranslation("entry-admin.export", format.name()));
+            link.setRouterIgnore(true);
+            link.getElement().setAttribute("download", true);
+            links.add(link);
+        }
+        return links;
     }
 
     private String formatEntryNumber(int entryNumber) {
@@ -641,22 +759,37 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
     }
 
     private void refreshEntriesGrid() {
-        var entries = entryService.findEntriesByDivision(divisionId).stream()
-                .sorted(Comparator.comparingInt(Entry::getEntryNumber))
-                .toList();
-        entriesGrid.setItems(entries);
-        updateEntriesSummary(entries);
+        receivingQueue.refresh(entryService.findEntriesByIds(divisionId, receivingQueue.pending()));
+        entriesDataProvider.refreshAll();
+        updateEntriesSummary();
+        refreshCreditsBalance();
+        updateReceivingStatus();
     }
 
-    private void updateEntriesSummary(List<Entry> entries) {
-        int creditsBalance = entryService.getTotalCreditBalance(divisionId);
-        var countByStatus = entries.stream().collect(Collectors.groupingBy(Entry::getStatus, Collectors.counting()));
-        long draft = countByStatus.getOrDefault(EntryStatus.DRAFT, 0L);
-        long submitted = countByStatus.getOrDefault(EntryStatus.SUBMITTED, 0L);
-        long received = countByStatus.getOrDefault(EntryStatus.RECEIVED, 0L);
-        long withdrawn = countByStatus.getOrDefault(EntryStatus.WITHDRAWN, 0L);
-        long total = entries.size();
-        totalCreditsLabel.setText(getTranslation("entry-admin.entries.summary.credits", creditsBalance));
+    /**
+     * Applies changed and removed entries to the receiving queue, the summary and the grid
+     * without reloading the division. Visible rows are refreshed in place unless rows were
+     * added or removed, or a status filter may now exclude them.
+     */
+    private void applyEntryChanges(List<Entry> changed, Collection<UUID> removedIds, boolean rowsAddedOrRemoved) {
+        changed.forEach(receivingQueue::update);
+        removedIds.forEach(receivingQueue::remove);
+        if (rowsAddedOrRemoved || entriesStatusFilter != null) {
+            entriesDataProvider.refreshAll();
+        } else {
+            changed.forEach(entriesDataProvider::refreshItem);
+        }
+        updateEntriesSummary();
+        updateReceivingStatus();
+    }
+
+    private void updateEntriesSummary() {
+        entryCounts = entryService.getDivisionStats(divisionId).byStatus();
+        long draft = entryCounts.getOrDefault(EntryStatus.DRAFT, 0L);
+        long submitted = entryCounts.getOrDefault(EntryStatus.SUBMITTED, 0L);
+        long received = entryCounts.getOrDefault(EntryStatus.RECEIVED, 0L);
+        long withdrawn = entryCounts.getOrDefault(EntryStatus.WITHDRAWN, 0L);
+        long total = draft + submitted + received + withdrawn;
         entriesSummaryLabel.setText(getTranslation("entry-admin.entries.summary.entries", total, draft, submitted, received, withdrawn));
     }
 
@@ -804,7 +937,7 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
                 return;
             }
             try {
-                entryService.adminCreateEntry(divisionId, emailField.getValue().trim(),
+                var created = entryService.adminCreateEntry(divisionId, emailField.getValue().trim(),
                         meadNameField.getValue().trim(), categorySelect.getValue().getId(),
                         sweetnessSelect.getValue(), BigDecimal.valueOf(abvField.getValue()),
                         carbonationSelect.getValue(),
@@ -817,7 +950,7 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
                 var notification = Notification.show(getTranslation("entry-admin.entries.added"));
                 notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
                 dialog.close();
-                refreshEntriesGrid();
+                applyEntryChanges(List.of(created), List.of(), true);
                 refreshCreditsGrid();
             } catch (BusinessRuleException ex) {
                 Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
@@ -1069,11 +1202,11 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
                         currentUserId);
                 var finalCategoryId = finalCategorySelect.getValue() != null
                         ? finalCategorySelect.getValue().getId() : null;
-                entryService.assignFinalCategory(entry.getId(), finalCategoryId, currentUserId);
+                var updated = entryService.assignFinalCategory(entry.getId(), finalCategoryId, currentUserId);
                 var notification = Notification.show(getTranslation("entry-admin.entries.updated"));
                 notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
                 dialog.close();
-                refreshEntriesGrid();
+                applyEntryChanges(List.of(updated), List.of(), false);
             } catch (BusinessRuleException ex) {
                 Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
                 e.getSource().setEnabled(true);
@@ -1099,7 +1232,7 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
                 var notification = Notification.show(getTranslation("entry-admin.entries.deleted"));
                 notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
                 dialog.close();
-                refreshEntriesGrid();
+                applyEntryChanges(List.of(), List.of(entry.getId()), true);
                 refreshCreditsGrid();
             } catch (BusinessRuleException ex) {
                 Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
@@ -1125,11 +1258,11 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
         var confirmButton = new Button(targetLabel, e -> {
             try {
-                entryService.advanceEntryStatus(entry.getId(), currentUserId);
+                var advanced = entryService.advanceEntryStatus(entry.getId(), currentUserId);
                 var notification = Notification.show(getTranslation("entry-admin.entries.status-updated"));
                 notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
                 dialog.close();
-                refreshEntriesGrid();
+                applyEntryChanges(List.of(advanced), List.of(), false);
             } catch (BusinessRuleException ex) {
                 Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
                 e.getSource().setEnabled(true);
@@ -1158,11 +1291,11 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
         var confirmButton = new Button(targetLabel, e -> {
             try {
-                entryService.revertEntryStatus(entry.getId(), currentUserId);
+                var reverted = entryService.revertEntryStatus(entry.getId(), currentUserId);
                 var notification = Notification.show(getTranslation("entry-admin.entries.status-updated"));
                 notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
                 dialog.close();
-                refreshEntriesGrid();
+                applyEntryChanges(List.of(reverted), List.of(), false);
                 refreshCreditsGrid();
             } catch (BusinessRuleException ex) {
                 Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
@@ -1190,11 +1323,11 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
         var confirmButton = new Button(getTranslation("entry-admin.entries.withdraw.button"), e -> {
             try {
-                entryService.withdrawEntry(entry.getId(), currentUserId);
+                var withdrawn = entryService.withdrawEntry(entry.getId(), currentUserId);
                 var notification = Notification.show(getTranslation("entry-admin.entries.withdrawn"));
                 notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
                 dialog.close();
-                refreshEntriesGrid();
+                applyEntryChanges(List.of(withdrawn), List.of(), false);
                 refreshCreditsGrid();
             } catch (BusinessRuleException ex) {
                 Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
@@ -1208,6 +1341,174 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
         dialog.open();
     }
 
+    // --- Receiving Tab ---
+
+    private VerticalLayout createReceivingTab() {
+        var tab = new VerticalLayout();
+        tab.setPadding(false);
+        receivingLog.clear();
+
+        tab.add(new Span(getTranslation("entry-admin.receiving.instructions", RECEIVING_BATCH_SIZE)));
+
+        var scanField = new TextField();
+        scanField.setId("receiving-scan-field");
+        scanField.setPlaceholder(getTranslation("entry-admin.receiving.scan.placeholder"));
+        scanField.setPrefixComponent(new Icon(VaadinIcon.BARCODE));
+        scanField.setAutofocus(true);
+        // Scanners type the code and press Enter, which commits the value
+        scanField.setValueChangeMode(ValueChangeMode.ON_CHANGE);
+        scanField.addValueChangeListener(e -> {
+            if (!StringUtils.hasText(e.getValue())) {
+                return;
+            }
+            handleScan(e.getValue());
+            scanField.clear();
+            scanField.focus();
+        });
+
+        receivingApplyButton = new Button(new Icon(VaadinIcon.CHECK), e -> applyReceivingBatch());
+        receivingApplyButton.setId("receiving-apply-button");
+        receivingApplyButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+
+        var toolbar = new HorizontalLayout(scanField, receivingApplyButton);
+        toolbar.setWidthFull();
+        toolbar.setFlexGrow(1, scanField);
+        toolbar.setDefaultVerticalComponentAlignment(Alignment.BASELINE);
+        tab.add(toolbar);
+
+        receivingFeedback = new Span();
+        receivingFeedback.setId("receiving-feedback");
+        receivingStatusLabel = new Span();
+        receivingStatusLabel.setId("receiving-status-label");
+        receivingStatusLabel.getStyle().set("color", "var(--lumo-secondary-text-color)").set("font-size", "var(--lumo-font-size-s)");
+        tab.add(receivingFeedback, receivingStatusLabel);
+
+        receivingLogGrid = new Grid<>();
+        receivingLogGrid.setId("receiving-log-grid");
+        receivingLogGrid.setAllRowsVisible(true);
+        receivingLogGrid.addColumn(ReceivingQueue.Scan::code)
+                .setHeader(getTranslation("entry-admin.receiving.column.code")).setAutoWidth(true);
+        receivingLogGrid.addColumn(scan -> scan.entry() != null ? scan.entry().getMeadName() : "—")
+                .setHeader(getTranslation("entry-admin.receiving.column.mead-name")).setFlexGrow(2);
+        receivingLogGrid.addColumn(scan -> scan.entry() != null ? resolveCategoryCode(scan.entry().getInitialCategoryId()) : "—")
+                .setHeader(getTranslation("entry-admin.receiving.column.category")).setAutoWidth(true);
+        receivingLogGrid.addColumn(this::describeScan)
+                .setHeader(getTranslation("entry-admin.receiving.column.result")).setFlexGrow(2);
+        tab.add(receivingLogGrid);
+
+        updateReceivingStatus();
+        return tab;
+    }
+
+    /**
+     * Finds the entry whose label QR code reads {@code code}: the competition short name, the
+     * division's entry prefix if it has one, and the entry number, as written by
+     * {@link LabelPdfService#formatQrContent}.
+     */
+    private Entry findScannedEntry(String code) {
+        var number = stripPrefix(code, competition.getShortName());
+        var prefix = division.getEntryPrefix();
+        if (number != null && prefix != null && !prefix.isBlank()) {
+            number = stripPrefix(number, prefix);
+        }
+        if (number == null || number.isEmpty() || number.length() > 9
+                || !number.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            return null;
+        }
+        return entryService.findEntryByNumber(divisionId, Integer.parseInt(number)).orElse(null);
+    }
+
+    private static String stripPrefix(String code, String prefix) {
+        var head = ReceivingQueue.normalize(prefix) + "-";
+        return code.startsWith(head) ? code.substring(head.length()) : null;
+    }
+
+    private void handleScan(String code) {
+        var scan = receivingQueue.scan(code);
+        receivingLog.addFirst(scan);
+        if (receivingLog.size() > RECEIVING_LOG_SIZE) {
+            receivingLog.removeLast();
+        }
+        receivingLogGrid.setItems(receivingLog);
+
+        receivingFeedback.setText(describeScan(scan));
+        receivingFeedback.getElement().getThemeList().clear();
+        receivingFeedback.getElement().getThemeList().add(switch (scan.outcome()) {
+            case QUEUED -> "badge success";
+            case ALREADY_QUEUED, ALREADY_RECEIVED -> "badge contrast";
+            case NOT_SUBMITTED, UNKNOWN -> "badge error";
+        });
+
+        if (receivingQueue.pending().size() >= RECEIVING_BATCH_SIZE) {
+            applyReceivingBatch();
+        } else {
+            updateReceivingStatus();
+        }
+    }
+
+    private String describeScan(ReceivingQueue.Scan scan) {
+        return switch (scan.outcome()) {
+            case QUEUED -> getTranslation("entry-admin.receiving.result.queued",
+                    formatEntryNumber(scan.entry().getEntryNumber()));
+            case ALREADY_QUEUED -> getTranslation("entry-admin.receiving.result.already-queued",
+                    formatEntryNumber(scan.entry().getEntryNumber()));
+            case ALREADY_RECEIVED -> getTranslation("entry-admin.receiving.result.already-received",
+                    formatEntryNumber(scan.entry().getEntryNumber()));
+            case NOT_SUBMITTED -> getTranslation("entry-admin.receiving.result.not-submitted",
+                    formatEntryNumber(scan.entry().getEntryNumber()), scan.entry().getStatus().getDisplayName());
+            case UNKNOWN -> getTranslation("entry-admin.receiving.result.unknown", scan.code());
+        };
+    }
+
+    private void applyReceivingBatch() {
+        var pending = receivingQueue.pending();
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            int received = entryService.markReceived(divisionId, pending, currentUserId);
+            if (received == pending.size()) {
+                var notification = Notification.show(getTranslation("entry-admin.receiving.applied", received));
+                notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+            } else {
+                Notification.show(getTranslation("entry-admin.receiving.applied-partially",
+                        received, pending.size() - received));
+            }
+            applyEntryChanges(entryService.findEntriesByIds(divisionId, pending), List.of(), false);
+        } catch (BusinessRuleException ex) {
+            Notification.show(getTranslation(ex.getMessageKey(), ex.getParams()));
+        }
+    }
+
+    /**
+     * Applies the queued scans when the view goes away, where no notification can be shown,
+     * so leaving the page never drops up to a batch of scanned bottles.
+     */
+    private void flushReceivingBatch() {
+        var pending = receivingQueue.pending();
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            int received = entryService.markReceived(divisionId, pending, currentUserId);
+            log.info("Applied {} of {} queued receiving scans on leaving division {}", received, pending.size(), divisionId);
+        } catch (BusinessRuleException ex) {
+            log.warn("Failed to apply {} queued receiving scans of division {}: {}", pending.size(), divisionId, ex.getMessageKey());
+        }
+        pending.forEach(receivingQueue::remove);
+    }
+
+    private void updateReceivingStatus() {
+        if (receivingStatusLabel == null) {
+            return;
+        }
+        int queued = receivingQueue.pending().size();
+        long awaiting = Math.max(0, entryCounts.getOrDefault(EntryStatus.SUBMITTED, 0L) - queued);
+        receivingStatusLabel.setText(getTranslation("entry-admin.receiving.status", queued, awaiting));
+        receivingApplyButton.setText(getTranslation("entry-admin.receiving.apply", queued));
+        receivingApplyButton.setEnabled(queued > 0);
+    }
+
     // --- Products Tab ---
 
     private VerticalLayout createProductsTab() {
@@ -1410,40 +1711,41 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
         var filterField = new TextField();
         filterField.setPlaceholder(getTranslation("entry-admin.orders.filter.placeholder"));
-        filterField.setValueChangeMode(ValueChangeMode.EAGER);
+        filterField.setValueChangeMode(ValueChangeMode.LAZY);
         filterField.setPrefixComponent(new Icon(VaadinIcon.SEARCH));
         filterField.setClearButtonVisible(true);
 
-        var toolbar = new HorizontalLayout(filterField);
+        var toolbar = new HorizontalLayout(filterField, createExportLinks(EntryExporter.Dataset.ORDERS));
         toolbar.setWidthFull();
         toolbar.setFlexGrow(1, filterField);
         tab.add(toolbar);
 
         ordersGrid = new Grid<>(JumpsellerOrder.class, false);
-        ordersGrid.setAllRowsVisible(true);
+        ordersGrid.setPageSize(50);
+        ordersGrid.setHeight("600px");
         ordersGrid.setId("orders-grid");
         ordersGrid.setColumnReorderingAllowed(true);
         ordersGrid.addColumn(JumpsellerOrder::getJumpsellerOrderId)
-                .setHeader(getTranslation("entry-admin.orders.column.order-id")).setSortable(true);
+                .setHeader(getTranslation("entry-admin.orders.column.order-id"));
         ordersGrid.addColumn(JumpsellerOrder::getCustomerEmail)
-                .setHeader(getTranslation("entry-admin.orders.column.customer")).setSortable(true).setFlexGrow(2)
+                .setHeader(getTranslation("entry-admin.orders.column.customer")).setFlexGrow(2)
                 .setTooltipGenerator(JumpsellerOrder::getCustomerEmail);
         ordersGrid.addColumn(order -> order.getStatus().name())
-                .setHeader(getTranslation("entry-admin.orders.column.status")).setSortable(true).setAutoWidth(true);
+                .setHeader(getTranslation("entry-admin.orders.column.status")).setAutoWidth(true);
         ordersGrid.addColumn(order -> {
             var items = lineItemsByOrderId.getOrDefault(order.getId(), List.of());
             return items.stream()
                     .filter(i -> i.getStatus() == LineItemStatus.PROCESSED)
                     .mapToInt(JumpsellerOrderLineItem::getCreditsAwarded)
                     .sum();
-        }).setHeader(getTranslation("entry-admin.orders.column.awarded")).setSortable(true).setAutoWidth(true);
+        }).setHeader(getTranslation("entry-admin.orders.column.awarded")).setAutoWidth(true);
         ordersGrid.addColumn(order -> {
             var items = lineItemsByOrderId.getOrDefault(order.getId(), List.of());
             return items.stream()
                     .filter(i -> i.getStatus() == LineItemStatus.NEEDS_REVIEW)
                     .mapToInt(JumpsellerOrderLineItem::getCreditsAwarded)
                     .sum();
-        }).setHeader(getTranslation("entry-admin.orders.column.pending")).setSortable(true).setAutoWidth(true);
+        }).setHeader(getTranslation("entry-admin.orders.column.pending")).setAutoWidth(true);
         ordersGrid.addColumn(order -> {
             var items = lineItemsByOrderId.getOrDefault(order.getId(), List.of());
             return items.stream()
@@ -1451,7 +1753,7 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
                     .map(JumpsellerOrderLineItem::getReviewReason)
                     .distinct()
                     .collect(Collectors.joining("; "));
-        }).setHeader(getTranslation("entry-admin.orders.column.review")).setSortable(true).setFlexGrow(2)
+        }).setHeader(getTranslation("entry-admin.orders.column.review")).setFlexGrow(2)
                 .setTooltipGenerator(order -> {
                     var items = lineItemsByOrderId.getOrDefault(order.getId(), List.of());
                     var reason = items.stream()
@@ -1462,9 +1764,9 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
                     return reason.isEmpty() ? null : reason;
                 });
         ordersGrid.addColumn(order -> formatInstant(order.getCreatedAt()))
-                .setHeader(getTranslation("entry-admin.orders.column.date")).setSortable(true).setAutoWidth(true);
+                .setHeader(getTranslation("entry-admin.orders.column.date")).setAutoWidth(true);
         ordersGrid.addColumn(JumpsellerOrder::getAdminNote)
-                .setHeader(getTranslation("entry-admin.orders.column.note")).setSortable(true).setFlexGrow(2)
+                .setHeader(getTranslation("entry-admin.orders.column.note")).setFlexGrow(2)
                 .setTooltipGenerator(order -> order.getAdminNote());
         ordersGrid.addComponentColumn(order -> {
             var editButton = new Button(new Icon(VaadinIcon.EDIT));
@@ -1477,17 +1779,15 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
 
         ordersGrid.getColumns().forEach(col -> col.setResizable(true));
 
+        ordersGrid.setItems(
+                query -> entryService.searchOrders(divisionId, ordersFilter,
+                        VaadinSpringDataHelpers.toSpringPageRequest(query)).stream(),
+                query -> (int) entryService.countOrders(divisionId, ordersFilter));
         refreshOrdersGrid();
 
         filterField.addValueChangeListener(e -> {
-            var filterString = e.getValue().toLowerCase();
-            if (filterString.isBlank()) {
-                ordersGrid.getListDataView().removeFilters();
-            } else {
-                ordersGrid.getListDataView().setFilter(order ->
-                        order.getJumpsellerOrderId().toLowerCase().contains(filterString)
-                                || order.getCustomerEmail().toLowerCase().contains(filterString));
-            }
+            ordersFilter = e.getValue();
+            ordersGrid.getDataProvider().refreshAll();
         });
 
         tab.add(ordersGrid);
@@ -1497,7 +1797,7 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
     private void refreshOrdersGrid() {
         lineItemsByOrderId = entryService.findLineItemsByDivision(divisionId).stream()
                 .collect(Collectors.groupingBy(JumpsellerOrderLineItem::getOrderId));
-        ordersGrid.setItems(entryService.findOrdersByDivision(divisionId));
+        ordersGrid.getDataProvider().refreshAll();
     }
 
     private void openEditOrderDialog(JumpsellerOrder order) {
@@ -1539,6 +1839,73 @@ public class DivisionEntryAdminView extends VerticalLayout implements BeforeEnte
         dialog.open();
     }
 
+    // --- Statistics Tab ---
+
+    private record StatRow(String group, String label, long count) {}
+
+    // Read from the division_stats projection when the tab is opened, not on every push
+    private VerticalLayout createStatsTab() {
+        var tab = new VerticalLayout();
+        tab.setPadding(false);
+
+        statsSummaryLabel = new Span();
+        statsSummaryLabel.setId("stats-summary-label");
+        var refreshButton = new Button(new Icon(VaadinIcon.REFRESH), e -> refreshStats());
+        refreshButton.addThemeVariants(ButtonVariant.LUMO_ICON, ButtonVariant.LUMO_TERTIARY);
+        refreshButton.setAriaLabel(getTranslation("entry-admin.stats.refresh"));
+        refreshButton.setTooltipText(getTranslation("entry-admin.stats.refresh"));
+        var toolbar = new HorizontalLayout(statsSummaryLabel, refreshButton);
+        toolbar.setDefaultVerticalComponentAlignment(Alignment.CENTER);
+        tab.add(toolbar);
+
+        statsGrid = new Grid<>(StatRow.class, false);
+        statsGrid.setAllRowsVisible(true);
+        statsGrid.setId("stats-grid");
+        statsGrid.addColumn(StatRow::group)
+                .setHeader(getTranslation("entry-admin.stats.column.group")).setAutoWidth(true);
+        statsGrid.addColumn(StatRow::label)
+                .setHeader(getTranslation("entry-admin.stats.column.value")).setFlexGrow(2);
+        statsGrid.addColumn(StatRow::count)
+                .setHeader(getTranslation("entry-admin.stats.column.count")).setAutoWidth(true);
+        tab.add(statsGrid);
+        return tab;
+    }
+
+    private void refreshStats() {
+        var stats = entryService.getDivisionStats(divisionId);
+        statsSummaryLabel.setText(getTranslation("entry-admin.stats.summary",
+                stats.totalEntries(), stats.activeEntries(), stats.entrants(), stats.creditBalance()));
+
+        var rows = new ArrayList<StatRow>();
+        var statusGroup = getTranslation("entry-admin.stats.group.status");
+        for (var status : EntryStatus.values()) {
+            rows.add(new StatRow(statusGroup, status.getDisplayName(), stats.byStatus().getOrDefault(status, 0L)));
+        }
+        var categoryGroup = getTranslation("entry-admin.stats.group.category");
+        divisionCategories.stream()
+                .filter(c -> stats.byCategory().containsKey(c.getId()))
+                .map(c -> new StatRow(categoryGroup, c.getCode() + " — " + c.getName(), stats.byCategory().get(c.getId())))
+                .forEach(rows::add);
+        var countryGroup = getTranslation("entry-admin.stats.group.country");
+        stats.byCountry().entrySet().stream()
+                .map(e -> new StatRow(countryGroup, e.getKey().isEmpty()
+                        ? getTranslation("entry-admin.stats.country.unknown")
+                        : new Locale("", e.getKey()).getDisplayCountry(Locale.ENGLISH), e.getValue()))
+                .sorted(Comparator.comparingLong(StatRow::count).reversed().thenComparing(StatRow::label))
+                .forEach(rows::add);
+        var sweetnessGroup = getTranslation("entry-admin.stats.group.sweetness");
+        for (var sweetness : Sweetness.values()) {
+            rows.add(new StatRow(sweetnessGroup, sweetness.getDisplayName(),
+                    stats.bySweetness().getOrDefault(sweetness, 0L)));
+        }
+        var strengthGroup = getTranslation("entry-admin.stats.group.strength");
+        for (var strength : Strength.values()) {
+            rows.add(new StatRow(strengthGroup, strength.getDisplayName(),
+                    stats.byStrength().getOrDefault(strength, 0L)));
+        }
+        statsGrid.setItems(rows);
+    }
+
     private UUID getCurrentUserId() {
         var email = authenticationContext.getAuthenticatedUser(UserDetails.class)
                 .map(UserDetails::getUsername)
@@ -0,0 +1,216 @@
+package app.meads.entry.internal;
+
+import app.meads.entry.CreditsAwardedEvent;
+import app.meads.entry.CreditsImportedEvent;
+import app.meads.entry.EntrantDivisionChangedEvent;
+import app.meads.entry.EntriesChangedEvent;
+import app.meads.entry.OrderRequiresReviewEvent;
+import com.vaadin.flow.shared.Registration;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Pushes entry, credit and order changes to the {@link DivisionEntryAdminView}s open on a
+ * division. Events are collected per division once their transaction commits and handed to
+ * the subscribers as one {@link Changes} after {@code app.entry-admin.push-delay}, so a burst
+ * such as a receiving batch or registration closing reaches each view as a single push.
+ * Divisions nobody is watching cost a map lookup per event. Only views on this instance are
+ * reached, since domain events are published in-process.
+ *
+ * <p>Pushes run on a scheduler of their own ({@code app.entry-admin.push-threads}) rather than
+ * the application's, whose single thread also runs the {@code @Scheduled} cluster jobs: a
+ * statistics rebuild or event purge would otherwise hold every view's updates until it ends,
+ * and a push waiting on a slow UI lock would delay the jobs.
+ */
+@Slf4j
+@Component
+class DivisionEntryBroadcaster {
+
+    /**
+     * What changed in a division since the last push.
+     *
+     * @param entries  the net change per entry over the window; an entry created and deleted
+     *                 within it is left out
+     * @param entrants users whose credit balance or entry count may have changed
+     * @param orders   whether orders were added or changed
+     */
+    record Changes(Map<UUID, EntriesChangedEvent.Change> entries, Set<UUID> entrants, boolean orders) {
+
+        Changes {
+            entries = Map.copyOf(entries);
+            entrants = Set.copyOf(entrants);
+        }
+
+        boolean entriesAddedOrRemoved() {
+            return entries.values().stream()
+                    .anyMatch(change -> change.previousStatus() == null || change.status() == null);
+        }
+    }
+
+    private record Subscriber(UUID competitionId, Consumer<Changes> listener) {
+    }
+
+    private static final class PendingChanges {
+
+        private final Map<UUID, EntriesChangedEvent.Change> entries = new LinkedHashMap<>();
+        private final Set<UUID> entrants = new LinkedHashSet<>();
+        private boolean orders;
+
+        void entry(EntriesChangedEvent.Change change) {
+            var earlier = entries.remove(change.entryId());
+            var merged = earlier == null ? change
+                    : new EntriesChangedEvent.Change(change.entryId(), earlier.previousStatus(), change.status());
+            if (merged.previousStatus() != null || merged.status() != null) {
+                entries.put(change.entryId(), merged);
+            }
+        }
+    }
+
+    private final TaskScheduler taskScheduler;
+    private final Duration pushDelay;
+    private final Map<UUID, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<UUID, PendingChanges> pending = new HashMap<>();
+
+    @Autowired
+    DivisionEntryBroadcaster(@Value("${app.entry-admin.push-threads:2}") int pushThreads,
+                             @Value("${app.entry-admin.push-delay:500ms}") Duration pushDelay) {
+        this(pushScheduler(pushThreads), pushDelay);
+    }
+
+    DivisionEntryBroadcaster(TaskScheduler taskScheduler, Duration pushDelay) {
+        this.taskScheduler = taskScheduler;
+        this.pushDelay = pushDelay;
+    }
+
+    private static TaskScheduler pushScheduler(int threads) {
+        var scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(threads);
+        scheduler.setThreadNamePrefix("entry-push-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (taskScheduler instanceof ThreadPoolTaskScheduler scheduler) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * Calls {@code listener} with the changes to {@code divisionId}, on a scheduler thread,
+     * until the returned registration is removed.
+     */
+    Registration subscribe(UUID divisionId, UUID competitionId, Consumer<Changes> listener) {
+        var subscriber = new Subscriber(competitionId, listener);
+        subscribers.compute(divisionId, (id, list) -> {
+            var updated = list != null ? list : new CopyOnWriteArrayList<Subscriber>();
+            updated.add(subscriber);
+            return updated;
+        });
+        return () -> subscribers.computeIfPresent(divisionId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    @EventListener
+    void on(EntriesChangedEvent event) {
+        collect(event.divisionId(), changes -> event.changes().forEach(changes::entry));
+    }
+
+    @EventListener
+    void on(CreditsAwardedEvent event) {
+        collect(event.divisionId(), changes -> {
+            changes.entrants.add(event.userId());
+            // Webhook credits come with a new order
+            changes.orders |= "WEBHOOK".equals(event.source());
+        });
+    }
+
+    @EventListener
+    void on(CreditsImportedEvent event) {
+        collect(event.divisionId(), changes ->
+                event.grants().forEach(grant -> changes.entrants.add(grant.userId())));
+    }
+
+    @EventListener
+    void on(EntrantDivisionChangedEvent event) {
+        collect(event.divisionId(), changes -> changes.entrants.add(event.userId()));
+    }
+
+    // The event names competitions rather than divisions, so every watched division of them is told
+    @EventListener
+    void on(OrderRequiresReviewEvent event) {
+        subscribers.forEach((divisionId, list) -> {
+            if (list.stream().anyMatch(s -> event.affectedCompetitionIds().contains(s.competitionId()))) {
+                collect(divisionId, changes -> changes.orders = true);
+            }
+        });
+    }
+
+    private void collect(UUID divisionId, Consumer<PendingChanges> change) {
+        if (!subscribers.containsKey(divisionId)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    merge(divisionId, change);
+                }
+            });
+        } else {
+            merge(divisionId, change);
+        }
+    }
+
+    private synchronized void merge(UUID divisionId, Consumer<PendingChanges> change) {
+        var changes = pending.get(divisionId);
+        if (changes == null) {
+            changes = new PendingChanges();
+            pending.put(divisionId, changes);
+            taskScheduler.schedule(() -> flush(divisionId), Instant.now().plus(pushDelay));
+        }
+        change.accept(changes);
+    }
+
+    private void flush(UUID divisionId) {
+        PendingChanges changes;
+        synchronized (this) {
+            changes = pending.remove(divisionId);
+        }
+        if (changes == null || (changes.entries.isEmpty() && changes.entrants.isEmpty() && !changes.orders)) {
+            return;
+        }
+        var pushed = new Changes(changes.entries, changes.entrants, changes.orders);
+        for (var subscriber : subscribers.getOrDefault(divisionId, List.of())) {
+            try {
+                subscriber.listener().accept(pushed);
+            } catch (RuntimeException e) {
+                log.warn("Failed to push changes of division {}", divisionId, e);
+            }
+        }
+    }
+}
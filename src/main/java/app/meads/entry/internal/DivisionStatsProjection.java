@@ -0,0 +1,340 @@
+package app.meads.entry.internal;
+
+import app.meads.ClusterJobRunner;
+import app.meads.competition.CompetitionArchivedEvent;
+import app.meads.entry.CreditsAwardedEvent;
+import app.meads.entry.CreditsImportedEvent;
+import app.meads.entry.DivisionStats;
+import app.meads.entry.EntrantDivisionChangedEvent;
+import app.meads.entry.EntriesChangedEvent;
+import app.meads.entry.EntryStatus;
+import app.meads.entry.Strength;
+import app.meads.entry.Sweetness;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains the {@code division_stats} counters behind {@link DivisionStats}, so the statistics
+ * dashboard reads a division in one query instead of grouping its entries.
+ *
+ * <p>Each entry and entrant has a contribution row recording what it is currently counted
+ * under. An update deletes the contribution rows of the changed entries (or entrants),
+ * subtracts them from the counters, then snapshots the current rows and adds them back, all
+ * set-based. Updates therefore need no previous values from the event, and a redelivered or
+ * concurrently processed event nets out to nothing: the second transaction finds the
+ * contribution already replaced. The listeners run on their own executor after the changing
+ * transaction commits, so entry writes never queue on the shared counter rows.
+ *
+ * <p>Changes that publish no event (an entrant moving country, rows restored from an archive)
+ * are caught by the nightly rebuild, which recomputes every division from scratch and logs
+ * how many counters it had to correct.
+ */
+@Slf4j
+@Component
+public class DivisionStatsProjection {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    // The counters an entry contributes to; withdrawn entries only count towards their status
+    private static final String ENTRY_FACETS = """
+            CROSS JOIN LATERAL (VALUES
+                ('STATUS', c.status),
+                ('CATEGORY', CASE WHEN c.status <> 'WITHDRAWN' THEN c.category_id::text END),
+                ('COUNTRY', CASE WHEN c.status <> 'WITHDRAWN' THEN c.country END),
+                ('SWEETNESS', CASE WHEN c.status <> 'WITHDRAWN' THEN c.sweetness END),
+                ('STRENGTH', CASE WHEN c.status <> 'WITHDRAWN' THEN c.strength END)
+            ) AS f(dimension, bucket)""";
+
+    private static final String ENTRANT_FACETS = """
+            CROSS JOIN LATERAL (VALUES
+                ('BALANCE', c.credit_balance),
+                ('ENTRANTS', CASE WHEN c.credit_balance > 0 THEN 1 ELSE 0 END)
+            ) AS f(bucket, value)""";
+
+    // Counter rows are locked in key order, so concurrent updates cannot deadlock on them
+    private static final String ADD_TO_COUNTERS = """
+            ORDER BY 1, 2, 3
+            ON CONFLICT (division_id, dimension, bucket)
+            DO UPDATE SET value = division_stats.value + EXCLUDED.value""";
+
+    private static final String SNAPSHOT_ENTRIES = """
+            INSERT INTO division_stats_entries (entry_id, division_id, status, category_id, country,
+                                                sweetness, strength)
+            SELECT e.id, e.division_id, e.status, e.initial_category_id, COALESCE(u.country, ''),
+                   e.sweetness, e.strength
+            FROM entries e
+            JOIN users u ON u.id = e.user_id""";
+
+    private static final String SNAPSHOT_ENTRANTS = """
+            INSERT INTO division_stats_entrants (division_id, user_id, credit_balance)
+            SELECT division_id, user_id, SUM(amount)
+            FROM entry_credits""";
+
+    private static final String SUBTRACT_ENTRIES_SQL = """
+            WITH c AS (
+                DELETE FROM division_stats_entries WHERE entry_id IN (:ids) RETURNING *
+            )
+            INSERT INTO division_stats (division_id, dimension, bucket, value)
+            SELECT c.division_id, f.dimension, f.bucket, -COUNT(*)
+            FROM c
+            %s
+            WHERE f.bucket IS NOT NULL
+            GROUP BY c.division_id, f.dimension, f.bucket
+            %s""".formatted(ENTRY_FACETS, ADD_TO_COUNTERS);
+
+    private static final String ADD_ENTRIES_SQL = """
+            WITH c AS (
+                %s
+                WHERE e.id IN (:ids)
+                ON CONFLICT (entry_id) DO NOTHING
+                RETURNING *
+            )
+            INSERT INTO division_stats (division_id, dimension, bucket, value)
+            SELECT c.division_id, f.dimension, f.bucket, COUNT(*)
+            FROM c
+            %s
+            WHERE f.bucket IS NOT NULL
+            GROUP BY c.division_id, f.dimension, f.bucket
+            %s""".formatted(SNAPSHOT_ENTRIES, ENTRY_FACETS, ADD_TO_COUNTERS);
+
+    private static final String SUBTRACT_ENTRANTS_SQL = """
+            WITH c AS (
+                DELETE FROM division_stats_entrants
+                WHERE division_id = :divisionId AND user_id IN (:userIds)
+                RETURNING *
+            )
+            INSERT INTO division_stats (division_id, dimension, bucket, value)
+            SELECT c.division_id, 'CREDITS', f.bucket, -SUM(f.value)
+            FROM c
+            %s
+            GROUP BY c.division_id, f.bucket
+            %s""".formatted(ENTRANT_FACETS, ADD_TO_COUNTERS);
+
+    private static final String ADD_ENTRANTS_SQL = """
+            WITH c AS (
+                %s
+                WHERE division_id = :divisionId AND user_id IN (:userIds)
+                GROUP BY division_id, user_id
+                ON CONFLICT (division_id, user_id) DO NOTHING
+                RETURNING *
+            )
+            INSERT INTO division_stats (division_id, dimension, bucket, value)
+            SELECT c.division_id, 'CREDITS', f.bucket, SUM(f.value)
+            FROM c
+            %s
+            GROUP BY c.division_id, f.bucket
+            %s""".formatted(SNAPSHOT_ENTRANTS, ENTRANT_FACETS, ADD_TO_COUNTERS);
+
+    // Taken in the order the incremental updates touch the tables, so a rebuild waits for
+    // running updates instead of deadlocking with them; dashboard reads are not blocked
+    private static final String LOCK_SQL = """
+            LOCK TABLE division_stats_entries, division_stats_entrants, division_stats
+            IN SHARE ROW EXCLUSIVE MODE""";
+
+    private static final String CLEAR_ENTRIES_SQL =
+            "DELETE FROM division_stats_entries WHERE division_id = :divisionId";
+
+    private static final String REBUILD_ENTRIES_SQL = """
+            %s
+            WHERE e.division_id = :divisionId""".formatted(SNAPSHOT_ENTRIES);
+
+    private static final String CLEAR_ENTRANTS_SQL =
+            "DELETE FROM division_stats_entrants WHERE division_id = :divisionId";
+
+    private static final String REBUILD_ENTRANTS_SQL = """
+            %s
+            WHERE division_id = :divisionId
+            GROUP BY division_id, user_id""".formatted(SNAPSHOT_ENTRANTS);
+
+    private static final String RECONCILE_SQL = """
+            WITH fresh AS (
+                SELECT f.dimension, f.bucket, COUNT(*) AS value
+                FROM division_stats_entries c
+                %s
+                WHERE c.division_id = :divisionId AND f.bucket IS NOT NULL
+                GROUP BY f.dimension, f.bucket
+                UNION ALL
+                SELECT 'CREDITS', f.bucket, SUM(f.value)
+                FROM division_stats_entrants c
+                %s
+                WHERE c.division_id = :divisionId
+                GROUP BY f.bucket
+            ),
+            stale AS (
+                DELETE FROM division_stats s
+                WHERE s.division_id = :divisionId
+                  AND NOT EXISTS (SELECT 1 FROM fresh
+                                  WHERE fresh.dimension = s.dimension AND fresh.bucket = s.bucket)
+                RETURNING s.value
+            ),
+            corrected AS (
+                INSERT INTO division_stats (division_id, dimension, bucket, value)
+                SELECT :divisionId, dimension, bucket, value FROM fresh
+                ON CONFLICT (division_id, dimension, bucket)
+                DO UPDATE SET value = EXCLUDED.value WHERE division_stats.value <> EXCLUDED.value
+                RETURNING 1
+            )
+            SELECT (SELECT COUNT(*) FROM stale WHERE value <> 0) + (SELECT COUNT(*) FROM corrected)""".formatted(
+            ENTRY_FACETS, ENTRANT_FACETS);
+
+    private static final String LOAD_SQL = """
+            SELECT dimension, bucket, value FROM division_stats
+            WHERE division_id = :divisionId AND value <> 0""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate rebuildTransaction;
+    private final ClusterJobRunner jobRunner;
+    private final Duration rebuildLease;
+
+    // One rebuild per trigger across instances, so the lease must be shorter than the cron period
+    DivisionStatsProjection(NamedParameterJdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ClusterJobRunner jobRunner,
+                            @Value("${app.stats.rebuild-lease:PT1H}") Duration rebuildLease) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.jobRunner = jobRunner;
+        this.rebuildLease = rebuildLease;
+    }
+
+    @ApplicationModuleListener
+    @Async(EntryListenerConfiguration.DIVISION_STATS)
+    public void on(EntriesChangedEvent event) {
+        applyEntries(event.changes().stream().map(EntriesChangedEvent.Change::entryId).toList());
+    }
+
+    @ApplicationModuleListener
+    @Async(EntryListenerConfiguration.DIVISION_STATS)
+    public void on(CreditsAwardedEvent event) {
+        applyEntrants(event.divisionId(), List.of(event.userId()));
+    }
+
+    @ApplicationModuleListener
+    @Async(EntryListenerConfiguration.DIVISION_STATS)
+    public void on(CreditsImportedEvent event) {
+        applyEntrants(event.divisionId(),
+                event.grants().stream().map(CreditsImportedEvent.Grant::userId).distinct().toList());
+    }
+
+    @ApplicationModuleListener
+    @Async(EntryListenerConfiguration.DIVISION_STATS)
+    public void on(EntrantDivisionChangedEvent event) {
+        applyEntrants(event.divisionId(), List.of(event.userId()));
+    }
+
+    // Restored rows come back without events; archived ones leave with their divisions
+    @EventListener
+    void on(CompetitionArchivedEvent event) {
+        if (event.restored()) {
+            event.divisionIds().forEach(this::rebuild);
+        }
+    }
+
+    @Scheduled(cron = "${app.stats.rebuild-cron:0 0 4 * * *}")
+    void scheduledRebuild() {
+        jobRunner.run("division-stats-rebuild", rebuildLease, this::rebuildAll);
+    }
+
+    /**
+     * Re-counts the given entries (in whichever divisions they are) under their current state.
+     * Entries that no longer exist are only subtracted.
+     */
+    void applyEntries(Collection<UUID> entryIds) {
+        for (var chunk : chunks(entryIds)) {
+            var params = Map.of("ids", chunk);
+            jdbcTemplate.update(SUBTRACT_ENTRIES_SQL, params);
+            jdbcTemplate.update(ADD_ENTRIES_SQL, params);
+        }
+    }
+
+    /** Re-counts the credit balances of the given users in {@code divisionId}. */
+    void applyEntrants(UUID divisionId, Collection<UUID> userIds) {
+        for (var chunk : chunks(userIds)) {
+            var params = Map.of("divisionId", divisionId, "userIds", chunk);
+            jdbcTemplate.update(SUBTRACT_ENTRANTS_SQL, params);
+            jdbcTemplate.update(ADD_ENTRANTS_SQL, params);
+        }
+    }
+
+    /**
+     * Recomputes a division's contributions and counters from its entries and credits, in its
+     * own transaction.
+     *
+     * @return the number of counters that were wrong
+     */
+    long rebuild(UUID divisionId) {
+        return rebuildTransaction.execute(status -> {
+            var params = Map.of("divisionId", divisionId);
+            jdbcTemplate.getJdbcOperations().execute(LOCK_SQL);
+            jdbcTemplate.update(CLEAR_ENTRIES_SQL, params);
+            jdbcTemplate.update(REBUILD_ENTRIES_SQL, params);
+            jdbcTemplate.update(CLEAR_ENTRANTS_SQL, params);
+            jdbcTemplate.update(REBUILD_ENTRANTS_SQL, params);
+            return jdbcTemplate.queryForObject(RECONCILE_SQL, params, Long.class);
+        });
+    }
+
+    void rebuildAll() {
+        var divisionIds = jdbcTemplate.queryForList("SELECT id FROM divisions ORDER BY id", Map.of(), UUID.class);
+        long corrected = 0;
+        for (var divisionId : divisionIds) {
+            long divisionCorrected = rebuild(divisionId);
+            if (divisionCorrected > 0) {
+                log.warn("Corrected {} statistics counters of division {}", divisionCorrected, divisionId);
+            }
+            corrected += divisionCorrected;
+        }
+        log.info("Rebuilt statistics of {} divisions, {} counters corrected", divisionIds.size(), corrected);
+    }
+
+    /** Reads a division's counters in one query. */
+    public DivisionStats load(UUID divisionId) {
+        var byStatus = new EnumMap<EntryStatus, Long>(EntryStatus.class);
+        var byCategory = new HashMap<UUID, Long>();
+        var byCountry = new HashMap<String, Long>();
+        var bySweetness = new EnumMap<Sweetness, Long>(Sweetness.class);
+        var byStrength = new EnumMap<Strength, Long>(Strength.class);
+        var credits = new HashMap<String, Long>();
+        jdbcTemplate.query(LOAD_SQL, Map.of("divisionId", divisionId), rs -> {
+            var bucket = rs.getString("bucket");
+            var value = rs.getLong("value");
+            switch (rs.getString("dimension")) {
+                case "STATUS" -> byStatus.put(EntryStatus.valueOf(bucket), value);
+                case "CATEGORY" -> byCategory.put(UUID.fromString(bucket), value);
+                case "COUNTRY" -> byCountry.put(bucket, value);
+                case "SWEETNESS" -> bySweetness.put(Sweetness.valueOf(bucket), value);
+                case "STRENGTH" -> byStrength.put(Strength.valueOf(bucket), value);
+                case "CREDITS" -> credits.put(bucket, value);
+                default -> log.warn("Ignoring unknown statistics dimension {}", rs.getString("dimension"));
+            }
+        });
+        return new DivisionStats(byStatus, byCategory, byCountry, bySweetness, byStrength,
+                credits.getOrDefault("BALANCE", 0L), credits.getOrDefault("ENTRANTS", 0L));
+    }
+
+    private static List<List<UUID>> chunks(Collection<UUID> ids) {
+        var list = List.copyOf(ids);
+        var chunks = new ArrayList<List<UUID>>();
+        for (int from = 0; from < list.size(); from += CHUNK_SIZE) {
+            chunks.add(list.subList(from, Math.min(from + CHUNK_SIZE, list.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,113 @@
+package app.meads.entry.internal;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves a division's unsubmitted drafts to {@code discarded_draft_entries} when registration
+ * closes, and back when the division is reverted to REGISTRATION_OPEN. Each direction is a
+ * fixed number of statements whatever the number of drafts, and running it twice is a no-op.
+ */
+@Component
+public class DraftEntryArchive {
+
+    private static final String COLUMNS = """
+            id, division_id, user_id, entry_number, entry_code, mead_name, initial_category_id,
+            final_category_id, sweetness, strength, abv, carbonation, honey_varieties,
+            other_ingredients, wood_aged, wood_ageing_details, additional_information, status,
+            created_at, updated_at""";
+
+    // Locks the drafts so a submission racing the close waits for this transaction instead of
+    // leaving an archived copy of an entry that was submitted after all
+    private static final String ARCHIVE_SQL = """
+            INSERT INTO discarded_draft_entries (%s, discarded_at)
+            SELECT e.*, now() FROM (
+                SELECT %s FROM entries draft
+                WHERE draft.division_id = ? AND draft.status = 'DRAFT'
+                  AND EXISTS (SELECT 1 FROM divisions d
+                              WHERE d.id = draft.division_id
+                                AND d.status NOT IN ('DRAFT', 'REGISTRATION_OPEN'))
+                FOR UPDATE
+            ) e
+            ON CONFLICT (id) DO NOTHING""".formatted(COLUMNS, COLUMNS);
+
+    private static final String DELETE_ARCHIVED_SQL = """
+            DELETE FROM entries e
+            USING discarded_draft_entries a
+            WHERE a.id = e.id AND e.division_id = ? AND e.status = 'DRAFT'
+            RETURNING e.id, e.user_id, e.entry_number, e.mead_name""";
+
+    private static final String RESTORE_SQL = """
+            WITH restored AS (
+                INSERT INTO entries (%s)
+                SELECT %s FROM discarded_draft_entries WHERE division_id = ?
+                ON CONFLICT DO NOTHING
+                RETURNING id
+            )
+            DELETE FROM discarded_draft_entries a
+            USING restored r
+            WHERE a.id = r.id
+            RETURNING a.id, a.user_id, a.entry_number, a.mead_name""".formatted(COLUMNS, COLUMNS);
+
+    private static final String EXISTS_SQL = """
+            SELECT EXISTS (SELECT 1 FROM discarded_draft_entries WHERE division_id = ?)""";
+
+    private static final String DELETE_FOR_PARTICIPANT_SQL = """
+            DELETE FROM discarded_draft_entries a
+            USING divisions d
+            WHERE d.id = a.division_id AND a.user_id = ? AND d.competition_id = ?""";
+
+    private static final RowMapper<DiscardedDraft> DRAFT_MAPPER = (rs, rowNum) -> new DiscardedDraft(
+            rs.getObject("id", UUID.class), rs.getObject("user_id", UUID.class),
+            rs.getInt("entry_number"), rs.getString("mead_name"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    DraftEntryArchive(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    public record DiscardedDraft(UUID entryId, UUID userId, int entryNumber, String meadName) {}
+
+    /**
+     * Archives and deletes the division's drafts, provided registration is no longer open.
+     *
+     * @return the drafts discarded by this call; empty when they were already discarded
+     */
+    public List<DiscardedDraft> discard(UUID divisionId) {
+        flush();
+        jdbcTemplate.update(ARCHIVE_SQL, divisionId);
+        return jdbcTemplate.query(DELETE_ARCHIVED_SQL, DRAFT_MAPPER, divisionId);
+    }
+
+    /**
+     * Puts the division's archived drafts back into {@code entries}.
+     *
+     * @return the drafts restored by this call
+     */
+    public List<DiscardedDraft> restore(UUID divisionId) {
+        flush();
+        return jdbcTemplate.query(RESTORE_SQL, DRAFT_MAPPER, divisionId);
+    }
+
+    public boolean existsByDivisionId(UUID divisionId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, divisionId));
+    }
+
+    public void deleteByUserIdAndCompetitionId(UUID userId, UUID competitionId) {
+        jdbcTemplate.update(DELETE_FOR_PARTICIPANT_SQL, userId, competitionId);
+    }
+
+    private void flush() {
+        if (entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+        }
+    }
+}
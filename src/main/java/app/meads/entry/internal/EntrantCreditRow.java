@@ -0,0 +1,15 @@
+package app.meads.entry.internal;
+
+import java.util.UUID;
+
+/**
+ * Projection of an entrant's credit balance and active entry count in one division,
+ * used for the paged credits grid.
+ */
+public interface EntrantCreditRow {
+    UUID getUserId();
+    String getEmail();
+    String getName();
+    int getCreditBalance();
+    long getEntryCount();
+}
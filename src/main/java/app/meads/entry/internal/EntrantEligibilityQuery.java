@@ -0,0 +1,147 @@
+package app.meads.entry.internal;
+
+import app.meads.entry.EntrantEligibility;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Loads an {@link EntrantEligibility} in one statement. The scalar aggregates are joined onto
+ * one row per division category, so a division without categories still yields a single row.
+ * Pending JPA changes are flushed first, so credits saved earlier in the same transaction
+ * (e.g. by a previous line item of the same order) are counted.
+ */
+@Component
+public class EntrantEligibilityQuery {
+
+    private static final String SQL = """
+            WITH target AS (
+                SELECT d.id, d.competition_id FROM divisions d WHERE d.id = :divisionId
+            ),
+            balance AS (
+                SELECT COALESCE(SUM(c.amount), 0) AS credit_balance
+                FROM entry_credits c
+                WHERE c.division_id = :divisionId AND c.user_id = :userId
+            ),
+            active AS (
+                SELECT COUNT(*) AS active_entries
+                FROM entries e
+                WHERE e.division_id = :divisionId AND e.user_id = :userId AND e.status <> 'WITHDRAWN'
+            ),
+            conflict AS (
+                SELECT EXISTS (
+                    SELECT 1 FROM entry_credits c
+                    JOIN divisions d ON d.id = c.division_id
+                    JOIN target t ON t.competition_id = d.competition_id
+                    WHERE c.user_id = :userId AND c.division_id <> t.id
+                ) AS credit_conflict
+            ),
+            roles AS (
+                SELECT COALESCE(BOOL_OR(r.role = 'ENTRANT'), FALSE) AS has_entrant,
+                       COALESCE(BOOL_OR(r.role NOT IN ('ENTRANT', 'JUDGE')), FALSE) AS has_other
+                FROM participants p
+                JOIN target t ON t.competition_id = p.competition_id
+                JOIN participant_roles r ON r.participant_id = p.id
+                WHERE p.user_id = :userId
+            ),
+            categories AS (
+                SELECT dc.id AS category_id,
+                       COALESCE(dc.parent_id, dc.id) AS main_category_id,
+                       COUNT(e.id) AS category_entries
+                FROM division_categories dc
+                LEFT JOIN entries e ON e.initial_category_id = dc.id
+                        AND e.user_id = :userId AND e.status <> 'WITHDRAWN'
+                WHERE dc.division_id = :divisionId
+                GROUP BY dc.id, dc.parent_id
+            )
+            SELECT b.credit_balance, a.active_entries, c.credit_conflict,
+                   (r.has_other AND NOT r.has_entrant) AS incompatible_role,
+                   cat.category_id, cat.main_category_id, cat.category_entries
+            FROM balance b
+            CROSS JOIN active a
+            CROSS JOIN conflict c
+            CROSS JOIN roles r
+            LEFT JOIN categories cat ON TRUE""";
+
+    private static final String CREDIT_BLOCKERS_SQL = """
+            SELECT u.id AS user_id,
+                   EXISTS (
+                       SELECT 1 FROM entry_credits c
+                       JOIN divisions d ON d.id = c.division_id
+                       WHERE c.user_id = u.id AND d.competition_id = t.competition_id
+                         AND c.division_id <> t.id
+                   ) AS credit_conflict,
+                   COALESCE((
+                       SELECT BOOL_OR(r.role NOT IN ('ENTRANT', 'JUDGE')) AND NOT BOOL_OR(r.role = 'ENTRANT')
+                       FROM participants p
+                       JOIN participant_roles r ON r.participant_id = p.id
+                       WHERE p.user_id = u.id AND p.competition_id = t.competition_id
+                   ), FALSE) AS incompatible_role
+            FROM users u
+            CROSS JOIN (SELECT d.id, d.competition_id FROM divisions d WHERE d.id = :divisionId) t
+            WHERE u.id IN (:userIds)""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    EntrantEligibilityQuery(NamedParameterJdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    public EntrantEligibility load(UUID divisionId, UUID userId) {
+        if (entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+        }
+        var params = Map.of("divisionId", divisionId, "userId", userId);
+        return jdbcTemplate.query(SQL, params, rs -> {
+            rs.next();
+            int creditBalance = rs.getInt("credit_balance");
+            long activeEntries = rs.getLong("active_entries");
+            boolean creditConflict = rs.getBoolean("credit_conflict");
+            boolean incompatibleRole = rs.getBoolean("incompatible_role");
+            var entriesByCategory = new HashMap<UUID, Long>();
+            var mainCategoryIds = new HashMap<UUID, UUID>();
+            do {
+                var categoryId = rs.getObject("category_id", UUID.class);
+                if (categoryId != null) {
+                    entriesByCategory.put(categoryId, rs.getLong("category_entries"));
+                    mainCategoryIds.put(categoryId, rs.getObject("main_category_id", UUID.class));
+                }
+            } while (rs.next());
+            return new EntrantEligibility(divisionId, userId, creditBalance, activeEntries,
+                    entriesByCategory, mainCategoryIds, creditConflict, incompatibleRole);
+        });
+    }
+
+    /**
+     * Set-based form of the {@link EntrantEligibility#creditConflict()} and
+     * {@link EntrantEligibility#incompatibleRole()} checks for a bulk credit import.
+     *
+     * @return the error key blocking new credits, for each user that has one
+     */
+    public Map<UUID, String> findCreditBlockers(UUID divisionId, Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        if (entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+        }
+        var params = Map.of("divisionId", divisionId, "userIds", userIds);
+        var blockers = new HashMap<UUID, String>();
+        jdbcTemplate.query(CREDIT_BLOCKERS_SQL, params, rs -> {
+            var userId = rs.getObject("user_id", UUID.class);
+            if (rs.getBoolean("credit_conflict")) {
+                blockers.put(userId, "error.credits.mutual-exclusivity");
+            } else if (rs.getBoolean("incompatible_role")) {
+                blockers.put(userId, "error.credits.incompatible-role");
+            }
+        });
+        return blockers;
+    }
+}
@@ -0,0 +1,63 @@
+package app.meads.entry.internal;
+
+import app.meads.Caches;
+import app.meads.competition.CompetitionArchivedEvent;
+import app.meads.entry.CreditsAwardedEvent;
+import app.meads.entry.CreditsImportedEvent;
+import app.meads.entry.EntrantDivisionChangedEvent;
+import app.meads.entry.EntrantDivisionOverview;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Per-user cache of the entrant landing page rows. Credit and entry change events evict the
+ * user's row set immediately and again once the writing transaction completes, so a reader
+ * racing that transaction cannot keep a stale list cached; the TTL only bounds staleness for changes that
+ * publish no event (e.g. a division being renamed).
+ */
+@Component
+public class EntrantOverviewCache {
+
+    static final String CACHE_NAME = "entrant-overviews";
+
+    private final Cache cache;
+
+    EntrantOverviewCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+
+    public List<EntrantDivisionOverview> get(UUID userId, Supplier<List<EntrantDivisionOverview>> loader) {
+        return cache.get(userId, loader::get);
+    }
+
+    @EventListener
+    void on(CreditsAwardedEvent event) {
+        evict(event.userId());
+    }
+
+    @EventListener
+    void on(CreditsImportedEvent event) {
+        event.grants().forEach(grant -> evict(grant.userId()));
+    }
+
+    @EventListener
+    void on(EntrantDivisionChangedEvent event) {
+        evict(event.userId());
+    }
+
+    @EventListener
+    void on(CompetitionArchivedEvent event) {
+        cache.clear();
+    }
+
+    private void evict(UUID userId) {
+        Caches.evict(cache, userId);
+    }
+}
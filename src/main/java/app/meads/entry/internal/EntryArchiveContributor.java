@@ -0,0 +1,63 @@
+package app.meads.entry.internal;
+
+import app.meads.BusinessRuleException;
+import app.meads.competition.CompetitionArchiveContributor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Archives the entry module's rows with their competition. An order belongs to the
+ * competition whose divisions its line items were credited to; orders that also credited
+ * another competition block the archive, since they cannot be moved with either.
+ */
+@Slf4j
+@Component
+class EntryArchiveContributor implements CompetitionArchiveContributor {
+
+    private static final String DIVISIONS =
+            "SELECT id FROM divisions WHERE competition_id = :competitionId";
+
+    private static final String ORDERS = """
+            SELECT li.order_id FROM jumpseller_order_line_items li
+            WHERE li.division_id IN (%s)""".formatted(DIVISIONS);
+
+    private static final List<Table> TABLES = List.of(
+            new Table("product_mappings", "id", "division_id IN (" + DIVISIONS + ")"),
+            new Table("division_entry_counters", "division_id", "division_id IN (" + DIVISIONS + ")"),
+            new Table("jumpseller_orders", "id", "id IN (" + ORDERS + ")"),
+            new Table("jumpseller_order_line_items", "id", "order_id IN (" + ORDERS + ")"),
+            new Table("entry_credits", "id", "division_id IN (" + DIVISIONS + ")"),
+            new Table("entries", "id", "division_id IN (" + DIVISIONS + ")"),
+            new Table("discarded_draft_entries", "id", "division_id IN (" + DIVISIONS + ")"));
+
+    private static final String SHARED_ORDERS_SQL = """
+            SELECT EXISTS (
+                SELECT 1 FROM jumpseller_order_line_items mine
+                JOIN divisions d ON d.id = mine.division_id
+                JOIN jumpseller_order_line_items other ON other.order_id = mine.order_id
+                JOIN divisions od ON od.id = other.division_id
+                WHERE d.competition_id = ? AND od.competition_id <> d.competition_id)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    EntryArchiveContributor(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Table> archivedTables() {
+        return TABLES;
+    }
+
+    @Override
+    public void checkArchiveAllowed(UUID competitionId) {
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(SHARED_ORDERS_SQL, Boolean.class, competitionId))) {
+            log.warn("Blocked archive of competition {}: orders also credit other competitions", competitionId);
+            throw new BusinessRuleException("error.competition.archive-shared-orders");
+        }
+    }
+}
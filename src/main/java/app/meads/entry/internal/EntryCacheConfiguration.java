@@ -0,0 +1,22 @@
+package app.meads.entry.internal;
+
+import app.meads.CacheSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration(proxyBeanMethods = false)
+class EntryCacheConfiguration {
+
+    @Bean
+    CacheSpec entrantOverviewCacheSpec(@Value("${app.entries.overview-cache-ttl:60s}") Duration timeToLive) {
+        return new CacheSpec(EntrantOverviewCache.CACHE_NAME, 10_000, timeToLive);
+    }
+
+    @Bean
+    CacheSpec productMappingCacheSpec(@Value("${app.entries.product-mapping-cache-ttl:10m}") Duration timeToLive) {
+        return new CacheSpec(ProductMappingCache.CACHE_NAME, 1_000, timeToLive);
+    }
+}
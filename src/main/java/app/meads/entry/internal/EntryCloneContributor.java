@@ -0,0 +1,45 @@
+package app.meads.entry.internal;
+
+import app.meads.competition.CompetitionCloneContributor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Copies the product mappings of a cloned competition's divisions. The copies keep the
+ * Jumpseller product ids, so the webhook prefers whichever mapped division is open for
+ * registration.
+ */
+@Slf4j
+@Component
+class EntryCloneContributor implements CompetitionCloneContributor {
+
+    private static final String COPY_PRODUCT_MAPPINGS_SQL = """
+            INSERT INTO product_mappings (id, division_id, jumpseller_product_id, jumpseller_sku,
+                                          product_name, credits_per_unit, created_at)
+            SELECT uuidv7(), target.id, pm.jumpseller_product_id, pm.jumpseller_sku,
+                   pm.product_name, pm.credits_per_unit, now()
+            FROM product_mappings pm
+            JOIN divisions source ON source.id = pm.division_id
+            JOIN divisions target ON target.competition_id = ? AND target.short_name = source.short_name
+            WHERE source.competition_id = ?
+            RETURNING jumpseller_product_id""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductMappingCache productMappingCache;
+
+    EntryCloneContributor(JdbcTemplate jdbcTemplate, ProductMappingCache productMappingCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productMappingCache = productMappingCache;
+    }
+
+    @Override
+    public void copyConfiguration(UUID sourceCompetitionId, UUID targetCompetitionId) {
+        var productIds = jdbcTemplate.queryForList(COPY_PRODUCT_MAPPINGS_SQL, String.class,
+                targetCompetitionId, sourceCompetitionId);
+        productIds.stream().distinct().forEach(productMappingCache::evict);
+        log.debug("Copied {} product mappings to competition {}", productIds.size(), targetCompetitionId);
+    }
+}
@@ -0,0 +1,51 @@
+package app.meads.entry.internal;
+
+import app.meads.FeistelCodes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Derives an entry's 6-character code from its entry number. Entry numbers are unique per
+ * division and the permutation is scoped to the division, so derived codes never collide with
+ * each other. They can collide with codes the division already holds from before, either drawn
+ * at random or derived under another secret; such a code is skipped for one permuted from the
+ * top of the code space, far above any entry number. Every fallback probes the same sequence,
+ * so fallbacks in a division are serialized by a Postgres advisory lock held until the
+ * allocating transaction ends; the next one then sees the code the previous one took.
+ */
+@Component
+public class EntryCodeAllocator {
+
+    static final int ENTRY_CODE_LENGTH = 6;
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtextextended(?, 0))";
+
+    private final EntryRepository entryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final FeistelCodes codes;
+
+    EntryCodeAllocator(EntryRepository entryRepository,
+                       JdbcTemplate jdbcTemplate,
+                       @Value("${app.codes.secret}") String secret) {
+        this.entryRepository = entryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.codes = new FeistelCodes(secret, "entry-code", ENTRY_CODE_LENGTH);
+    }
+
+    public String allocate(UUID divisionId, int entryNumber) {
+        var code = codes.encode(entryNumber, divisionId);
+        if (!entryRepository.existsByDivisionIdAndEntryCode(divisionId, code)) {
+            return code;
+        }
+        jdbcTemplate.query(LOCK_SQL, (RowCallbackHandler) rs -> { }, "entry-code:" + divisionId);
+        long fallback = codes.capacity() - 1;
+        do {
+            code = codes.encode(fallback--, divisionId);
+        } while (entryRepository.existsByDivisionIdAndEntryCode(divisionId, code));
+        return code;
+    }
+}
@@ -0,0 +1,38 @@
+package app.meads.entry.internal;
+
+import app.meads.entry.EntryCredit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Writes the ledger rows of a bulk credit import in one JDBC batch. Credits get their id in
+ * the constructor, so {@code saveAll} would merge (one SELECT per credit) before each INSERT.
+ */
+@Component
+public class EntryCreditBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO entry_credits (id, division_id, user_id, amount, source_type, source_reference, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    EntryCreditBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insert(Collection<EntryCredit> credits) {
+        if (credits.isEmpty()) {
+            return;
+        }
+        var now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, credits.stream()
+                .map(c -> new Object[]{c.getId(), c.getDivisionId(), c.getUserId(), c.getAmount(),
+                        c.getSourceType(), c.getSourceReference(), now})
+                .toList());
+    }
+}
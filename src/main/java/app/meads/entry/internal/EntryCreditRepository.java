@@ -1,6 +1,8 @@
 package app.meads.entry.internal;
 
+import app.meads.entry.EntrantDivisionOverview;
 import app.meads.entry.EntryCredit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,4 +28,48 @@ public interface EntryCreditRepository extends JpaRepository<EntryCredit, UUID>
             + "(SELECT d.id FROM Division d WHERE d.competitionId = :competitionId)")
     List<EntryCredit> findByUserIdAndCompetitionId(@Param("userId") UUID userId,
                                                     @Param("competitionId") UUID competitionId);
+
+    @Query("SELECT new app.meads.entry.EntrantDivisionOverview("
+            + "co.id, co.name, co.shortName, d.id, d.name, d.shortName, "
+            + "CAST(SUM(c.amount) AS Integer), "
+            + "(SELECT COUNT(e) FROM Entry e WHERE e.divisionId = d.id AND e.userId = :userId "
+            + "AND e.status <> app.meads.entry.EntryStatus.WITHDRAWN)) "
+            + "FROM EntryCredit c JOIN Division d ON d.id = c.divisionId "
+            + "JOIN Competition co ON co.id = d.competitionId "
+            + "WHERE c.userId = :userId "
+            + "GROUP BY co.id, co.name, co.shortName, d.id, d.name, d.shortName "
+            + "ORDER BY co.name, d.name")
+    List<EntrantDivisionOverview> findEntrantDivisionOverviews(@Param("userId") UUID userId);
+
+    @Query(value = "SELECT u.id AS \"userId\", u.email AS \"email\", u.name AS \"name\", "
+            + "CAST(COALESCE(c.balance, 0) AS integer) AS \"creditBalance\", "
+            + "COALESCE(n.entries, 0) AS \"entryCount\" "
+            + "FROM participants p "
+            + "JOIN divisions d ON d.competition_id = p.competition_id AND d.id = :divisionId "
+            + "JOIN users u ON u.id = p.user_id "
+            + "LEFT JOIN (SELECT user_id, SUM(amount) AS balance FROM entry_credits "
+            + "WHERE division_id = :divisionId GROUP BY user_id) c ON c.user_id = u.id "
+            + "LEFT JOIN (SELECT user_id, COUNT(*) AS entries FROM entries "
+            + "WHERE division_id = :divisionId AND status <> 'WITHDRAWN' GROUP BY user_id) n ON n.user_id = u.id "
+            + "WHERE (c.balance > 0 OR n.entries > 0) "
+            + "AND (:pattern = '%' OR u.name ILIKE :pattern OR u.email ILIKE :pattern "
+            + "OR u.meadery_name ILIKE :pattern) "
+            + "ORDER BY CASE WHEN :query = '' THEN 0 ELSE GREATEST(word_similarity(:query, u.name), "
+            + "word_similarity(:query, u.email), word_similarity(:query, COALESCE(u.meadery_name, ''))) END DESC, "
+            + "u.name, u.id",
+            nativeQuery = true)
+    List<EntrantCreditRow> findEntrantCreditRows(UUID divisionId, String query, String pattern, Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM participants p "
+            + "JOIN divisions d ON d.competition_id = p.competition_id AND d.id = :divisionId "
+            + "JOIN users u ON u.id = p.user_id "
+            + "LEFT JOIN (SELECT user_id, SUM(amount) AS balance FROM entry_credits "
+            + "WHERE division_id = :divisionId GROUP BY user_id) c ON c.user_id = u.id "
+            + "LEFT JOIN (SELECT user_id, COUNT(*) AS entries FROM entries "
+            + "WHERE division_id = :divisionId AND status <> 'WITHDRAWN' GROUP BY user_id) n ON n.user_id = u.id "
+            + "WHERE (c.balance > 0 OR n.entries > 0) "
+            + "AND (:pattern = '%' OR u.name ILIKE :pattern OR u.email ILIKE :pattern "
+            + "OR u.meadery_name ILIKE :pattern)",
+            nativeQuery = true)
+    long countEntrantCreditRows(UUID divisionId, String pattern);
 }
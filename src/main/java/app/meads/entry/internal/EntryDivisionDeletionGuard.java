@@ -14,13 +14,16 @@ class EntryDivisionDeletionGuard implements DivisionDeletionGuard {
     private final EntryRepository entryRepository;
     private final EntryCreditRepository entryCreditRepository;
     private final ProductMappingRepository productMappingRepository;
+    private final DraftEntryArchive draftEntryArchive;
 
     EntryDivisionDeletionGuard(EntryRepository entryRepository,
                                 EntryCreditRepository entryCreditRepository,
-                                ProductMappingRepository productMappingRepository) {
+                                ProductMappingRepository productMappingRepository,
+                                DraftEntryArchive draftEntryArchive) {
         this.entryRepository = entryRepository;
         this.entryCreditRepository = entryCreditRepository;
         this.productMappingRepository = productMappingRepository;
+        this.draftEntryArchive = draftEntryArchive;
     }
 
     @Override
@@ -33,6 +36,10 @@ class EntryDivisionDeletionGuard implements DivisionDeletionGuard {
             log.warn("Blocked division deletion: division {} has credits", divisionId);
             throw new BusinessRuleException("error.division.cannot-delete-has-data");
         }
+        if (draftEntryArchive.existsByDivisionId(divisionId)) {
+            log.warn("Blocked division deletion: division {} has discarded drafts", divisionId);
+            throw new BusinessRuleException("error.division.cannot-delete-has-data");
+        }
         if (productMappingRepository.existsByDivisionId(divisionId)) {
             log.warn("Blocked division deletion: division {} has product mappings", divisionId);
             throw new BusinessRuleException("error.division.cannot-delete-has-data");
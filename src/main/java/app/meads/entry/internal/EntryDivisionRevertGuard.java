@@ -3,7 +3,11 @@ package app.meads.entry.internal;
 import app.meads.BusinessRuleException;
 import app.meads.competition.DivisionRevertGuard;
 import app.meads.competition.DivisionStatus;
+import app.meads.entry.EntrantDivisionChangedEvent;
+import app.meads.entry.EntriesChangedEvent;
+import app.meads.entry.EntryStatus;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -13,9 +17,15 @@ import java.util.UUID;
 class EntryDivisionRevertGuard implements DivisionRevertGuard {
 
     private final EntryRepository entryRepository;
+    private final DraftEntryArchive draftEntryArchive;
+    private final ApplicationEventPublisher eventPublisher;
 
-    EntryDivisionRevertGuard(EntryRepository entryRepository) {
+    EntryDivisionRevertGuard(EntryRepository entryRepository,
+                             DraftEntryArchive draftEntryArchive,
+                             ApplicationEventPublisher eventPublisher) {
         this.entryRepository = entryRepository;
+        this.draftEntryArchive = draftEntryArchive;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -24,5 +34,19 @@ class EntryDivisionRevertGuard implements DivisionRevertGuard {
             log.warn("Blocked division revert to DRAFT: division {} has entries", divisionId);
             throw new BusinessRuleException("error.division.cannot-revert-has-entries");
         }
+        if (toStatus == DivisionStatus.REGISTRATION_OPEN) {
+            // Reopening registration undoes the draft cleanup done when it closed
+            var restored = draftEntryArchive.restore(divisionId);
+            if (restored.isEmpty()) {
+                return;
+            }
+            var entrants = restored.stream().map(DraftEntryArchive.DiscardedDraft::userId).distinct().toList();
+            entrants.forEach(userId ->
+                    eventPublisher.publishEvent(new EntrantDivisionChangedEvent(divisionId, userId)));
+            eventPublisher.publishEvent(new EntriesChangedEvent(divisionId, restored.stream()
+                    .map(draft -> new EntriesChangedEvent.Change(draft.entryId(), null, EntryStatus.DRAFT))
+                    .toList()));
+            log.info("Restored discarded drafts of {} entrants in division {}", entrants.size(), divisionId);
+        }
     }
 }
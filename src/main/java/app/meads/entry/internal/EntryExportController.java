@@ -0,0 +1,118 @@
+package app.meads.entry.internal;
+
+import app.meads.BusinessRuleException;
+import app.meads.competition.CompetitionService;
+import app.meads.identity.Role;
+import app.meads.identity.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.util.UUID;
+
+/**
+ * Download endpoints for {@link EntryExporter}, e.g.
+ * {@code /api/exports/entries?divisionId=…&format=xlsx}. Access is checked once before the
+ * response starts. The export is then written to a temporary file and copied to the client
+ * from there, so the read-only transaction and its connection are released before any byte
+ * goes over the network and a slow client cannot hold them. The asynchronous response is
+ * bounded by {@code spring.mvc.async.request-timeout}.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/exports")
+class EntryExportController {
+
+    private final EntryExporter exporter;
+    private final CompetitionService competitionService;
+    private final UserService userService;
+
+    EntryExportController(EntryExporter exporter,
+                          CompetitionService competitionService,
+                          UserService userService) {
+        this.exporter = exporter;
+        this.competitionService = competitionService;
+        this.userService = userService;
+    }
+
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable("dataset") String datasetName,
+            @RequestParam(value = "divisionId", required = false) UUID divisionId,
+            @RequestParam(value = "competitionId", required = false) UUID competitionId,
+            @RequestParam(value = "format", defaultValue = "csv") String formatName,
+            @AuthenticationPrincipal UserDetails principal) {
+
+        var dataset = EntryExporter.Dataset.fromFileName(datasetName).orElse(null);
+        var format = ExportFormat.fromExtension(formatName).orElse(null);
+        if (dataset == null || format == null || (divisionId == null) == (competitionId == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        EntryExporter.Scope scope;
+        UUID scopeId;
+        String scopeName;
+        try {
+            var user = userService.findByEmail(principal.getUsername());
+            var systemAdmin = user.getRole() == Role.SYSTEM_ADMIN;
+            if (divisionId != null) {
+                var division = competitionService.findCurrentDivision(divisionId);
+                var competition = competitionService.findCompetitionById(division.getCompetitionId());
+                requireAuthorized(systemAdmin
+                        || competitionService.isAuthorizedForDivision(divisionId, user.getId()));
+                scope = EntryExporter.Scope.DIVISION;
+                scopeId = divisionId;
+                scopeName = competition.getShortName() + "-" + division.getShortName();
+            } else {
+                var competition = competitionService.findCompetitionById(competitionId);
+                requireAuthorized(systemAdmin
+                        || competitionService.isAuthorizedForCompetition(competitionId, user.getId()));
+                scope = EntryExporter.Scope.COMPETITION;
+                scopeId = competitionId;
+                scopeName = competition.getShortName();
+            }
+        } catch (BusinessRuleException e) {
+            log.warn("Export of {} rejected: {}", datasetName, e.getMessageKey());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        var fileName = dataset.fileName() + "-" + scopeName + "." + format.extension();
+        StreamingResponseBody body = out -> {
+            var spool = Files.createTempFile("meads-export-", "." + format.extension());
+            try {
+                try (var file = Files.newOutputStream(spool);
+                     var writer = format.open(file, dataset.fileName())) {
+                    exporter.export(dataset, scope, scopeId, writer);
+                }
+                Files.copy(spool, out);
+            } finally {
+                Files.deleteIfExists(spool);
+            }
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.contentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    private static void requireAuthorized(boolean authorized) {
+        if (!authorized) {
+            throw new BusinessRuleException("error.auth.unauthorized");
+        }
+    }
+}
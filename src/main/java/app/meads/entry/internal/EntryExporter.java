@@ -0,0 +1,154 @@
+package app.meads.entry.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Streams entries, credit ledgers and Jumpseller order lines of a division or competition
+ * straight from a forward-only JDBC cursor into an {@link ExportWriter}. The Postgres driver
+ * only fetches {@code fetch-size} rows at a time when a fetch size is set and autocommit is
+ * off, so every export runs inside a read-only transaction; memory stays flat regardless of
+ * the number of rows. Column labels of the query become the header row.
+ */
+@Slf4j
+@Component
+class EntryExporter {
+
+    enum Dataset {
+
+        ENTRIES("""
+                SELECT d.short_name AS division, e.entry_number, e.entry_code, e.mead_name,
+                       ic.code AS category_code, ic.name AS category_name,
+                       fc.code AS final_category_code, fc.name AS final_category_name,
+                       e.sweetness, e.strength, e.abv, e.carbonation, e.honey_varieties,
+                       e.other_ingredients, e.wood_aged, e.wood_ageing_details,
+                       e.additional_information, e.status,
+                       u.name AS entrant_name, u.email AS entrant_email,
+                       u.meadery_name, u.country,
+                       e.created_at, e.updated_at
+                FROM entries e
+                JOIN divisions d ON d.id = e.division_id
+                JOIN users u ON u.id = e.user_id
+                JOIN division_categories ic ON ic.id = e.initial_category_id
+                LEFT JOIN division_categories fc ON fc.id = e.final_category_id
+                WHERE %s = :scopeId
+                ORDER BY d.short_name, e.entry_number"""),
+
+        CREDITS("""
+                SELECT d.short_name AS division, u.name AS entrant_name, u.email AS entrant_email,
+                       c.amount, c.source_type, c.source_reference, c.created_at
+                FROM entry_credits c
+                JOIN divisions d ON d.id = c.division_id
+                JOIN users u ON u.id = c.user_id
+                WHERE %s = :scopeId
+                ORDER BY d.short_name, c.created_at, c.id"""),
+
+        ORDERS("""
+                SELECT o.jumpseller_order_id, o.customer_name, o.customer_email, o.customer_country,
+                       o.status AS order_status, o.created_at AS order_created_at, o.processed_at,
+                       d.short_name AS division, li.jumpseller_product_id, li.jumpseller_sku,
+                       li.product_name, li.quantity, li.status AS line_item_status,
+                       li.credits_awarded, li.review_reason, o.admin_note
+                FROM jumpseller_order_line_items li
+                JOIN jumpseller_orders o ON o.id = li.order_id
+                JOIN divisions d ON d.id = li.division_id
+                WHERE %s = :scopeId
+                ORDER BY o.created_at, o.id, li.created_at, li.id""");
+
+        private final String sql;
+
+        Dataset(String sql) {
+            this.sql = sql;
+        }
+
+        String fileName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        static Optional<Dataset> fromFileName(String fileName) {
+            return Arrays.stream(values())
+                    .filter(dataset -> dataset.fileName().equalsIgnoreCase(fileName))
+                    .findFirst();
+        }
+    }
+
+    enum Scope {
+
+        DIVISION("d.id"),
+        COMPETITION("d.competition_id");
+
+        private final String column;
+
+        Scope(String column) {
+            this.column = column;
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    EntryExporter(DataSource dataSource,
+                  PlatformTransactionManager transactionManager,
+                  @Value("${app.exports.fetch-size:500}") int fetchSize) {
+        var template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @return the number of data rows written, excluding the header
+     */
+    long export(Dataset dataset, Scope scope, UUID scopeId, ExportWriter writer) {
+        var sql = dataset.sql.formatted(scope.column);
+        ResultSetExtractor<Long> extractor = rs -> writeRows(rs, writer);
+        var rows = readOnlyTransaction.execute(status ->
+                jdbcTemplate.query(sql, Map.of("scopeId", scopeId), extractor));
+        log.info("Exported {} {} rows: {}={}", rows, dataset.fileName(), scope, scopeId);
+        return rows;
+    }
+
+    private static long writeRows(ResultSet rs, ExportWriter writer) throws SQLException {
+        var metaData = rs.getMetaData();
+        int columns = metaData.getColumnCount();
+        try {
+            var header = new ArrayList<String>(columns);
+            for (int i = 1; i <= columns; i++) {
+                header.add(metaData.getColumnLabel(i));
+            }
+            writer.row(header);
+            long rows = 0;
+            var values = new ArrayList<>(columns);
+            while (rs.next()) {
+                values.clear();
+                for (int i = 1; i <= columns; i++) {
+                    values.add(rs.getObject(i));
+                }
+                writer.row(values);
+                rows++;
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package app.meads.entry.internal;
+
+import app.meads.ListenerExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * One {@link ListenerExecutor} per entry module listener. Mail-sending listeners get a few
+ * concurrent deliveries each; draft cleanup on registration close and the statistics projection
+ * run one event at a time.
+ */
+@Configuration(proxyBeanMethods = false)
+class EntryListenerConfiguration {
+
+    static final String CREDIT_NOTIFICATIONS = "creditNotificationExecutor";
+    static final String SUBMISSION_CONFIRMATIONS = "submissionConfirmationExecutor";
+    static final String ORDER_REVIEW_NOTIFICATIONS = "orderReviewNotificationExecutor";
+    static final String REGISTRATION_CLOSED = "registrationClosedExecutor";
+    static final String DIVISION_STATS = "divisionStatsExecutor";
+
+    @Bean(CREDIT_NOTIFICATIONS)
+    ListenerExecutor creditNotificationExecutor(
+            @Value("${app.listeners.credit-notification.concurrency:4}") int concurrency,
+            @Value("${app.listeners.credit-notification.queue-capacity:500}") int queueCapacity) {
+        return new ListenerExecutor("credit-notification", concurrency, queueCapacity);
+    }
+
+    @Bean(SUBMISSION_CONFIRMATIONS)
+    ListenerExecutor submissionConfirmationExecutor(
+            @Value("${app.listeners.submission-confirmation.concurrency:4}") int concurrency,
+            @Value("${app.listeners.submission-confirmation.queue-capacity:500}") int queueCapacity) {
+        return new ListenerExecutor("submission-confirmation", concurrency, queueCapacity);
+    }
+
+    @Bean(ORDER_REVIEW_NOTIFICATIONS)
+    ListenerExecutor orderReviewNotificationExecutor(
+            @Value("${app.listeners.order-review-notification.concurrency:2}") int concurrency,
+            @Value("${app.listeners.order-review-notification.queue-capacity:100}") int queueCapacity) {
+        return new ListenerExecutor("order-review-notification", concurrency, queueCapacity);
+    }
+
+    @Bean(REGISTRATION_CLOSED)
+    ListenerExecutor registrationClosedExecutor(
+            @Value("${app.listeners.registration-closed.concurrency:1}") int concurrency,
+            @Value("${app.listeners.registration-closed.queue-capacity:50}") int queueCapacity) {
+        return new ListenerExecutor("registration-closed", concurrency, queueCapacity);
+    }
+
+    @Bean(DIVISION_STATS)
+    ListenerExecutor divisionStatsExecutor(
+            @Value("${app.listeners.division-stats.concurrency:1}") int concurrency,
+            @Value("${app.listeners.division-stats.queue-capacity:1000}") int queueCapacity) {
+        return new ListenerExecutor("division-stats", concurrency, queueCapacity);
+    }
+}
@@ -0,0 +1,51 @@
+package app.meads.entry.internal;
+
+import app.meads.entry.CreditsAwardedEvent;
+import app.meads.entry.CreditsImportedEvent;
+import app.meads.entry.EntriesChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Counts entry status transitions and awarded credits once their transaction commits, so the
+ * counters only move for changes that actually happened. {@code meads.entries.changes} is tagged
+ * with the operation and the status the entry ended up in ({@code none} once deleted);
+ * {@code meads.credits.awarded} counts credits, not grants, per source.
+ */
+@Component
+class EntryMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    EntryMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(EntriesChangedEvent event) {
+        for (var change : event.changes()) {
+            var operation = change.previousStatus() == null ? "created"
+                    : change.status() == null ? "deleted" : "updated";
+            var status = change.status() == null ? "none" : change.status().name();
+            meterRegistry.counter("meads.entries.changes", "operation", operation, "status", status).increment();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(CreditsAwardedEvent event) {
+        countCredits(event.source(), event.amount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(CreditsImportedEvent event) {
+        countCredits(event.source(), event.grants().stream().mapToInt(CreditsImportedEvent.Grant::amount).sum());
+    }
+
+    private void countCredits(String source, int amount) {
+        // Counters only go up; corrections are visible in the division statistics instead
+        if (amount > 0) {
+            meterRegistry.counter("meads.credits.awarded", "source", source).increment(amount);
+        }
+    }
+}
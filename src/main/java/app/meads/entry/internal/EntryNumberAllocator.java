@@ -0,0 +1,80 @@
+package app.meads.entry.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out per-division entry numbers from the {@code division_entry_counters} row, bumped
+ * with a single {@code INSERT ... ON CONFLICT ... RETURNING}.
+ *
+ * <p>With the default block size of 1 the counter is bumped inside the caller's transaction:
+ * concurrent registrations queue on the row lock instead of colliding on
+ * {@code uq_entries_division_number}, and a rolled-back entry gives its number back.
+ * A larger {@code app.entries.number-block-size} reserves blocks in their own transaction
+ * and serves numbers from memory (hi/lo), trading gaps after restarts or rollbacks for
+ * fewer round trips.
+ */
+@Slf4j
+@Component
+public class EntryNumberAllocator {
+
+    private static final String RESERVE_SQL = """
+            INSERT INTO division_entry_counters (division_id, last_number) VALUES (?, ?)
+            ON CONFLICT (division_id)
+            DO UPDATE SET last_number = division_entry_counters.last_number + EXCLUDED.last_number
+            RETURNING last_number""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate reservationTransaction;
+    private final int blockSize;
+    private final Map<UUID, Block> blocks = new ConcurrentHashMap<>();
+
+    EntryNumberAllocator(JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${app.entries.number-block-size:1}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Entry number block size must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.reservationTransaction = new TransactionTemplate(transactionManager);
+        this.reservationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+        log.debug("Entry number block size: {}", blockSize);
+    }
+
+    public int next(UUID divisionId) {
+        if (blockSize == 1) {
+            return reserve(divisionId, 1);
+        }
+        return blocks.compute(divisionId, (id, block) -> {
+            if (block == null || block.exhausted()) {
+                int last = reservationTransaction.execute(status -> reserve(id, blockSize));
+                return new Block(last - blockSize + 1, last);
+            }
+            return block.advance();
+        }).current();
+    }
+
+    private int reserve(UUID divisionId, int count) {
+        return jdbcTemplate.queryForObject(RESERVE_SQL, Integer.class, divisionId, count);
+    }
+
+    private record Block(int current, int last) {
+        boolean exhausted() {
+            return current >= last;
+        }
+
+        Block advance() {
+            return new Block(current + 1, last);
+        }
+    }
+}
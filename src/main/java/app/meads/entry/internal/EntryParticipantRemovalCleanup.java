@@ -1,10 +1,17 @@
 package app.meads.entry.internal;
 
 import app.meads.competition.ParticipantRemovalCleanup;
+import app.meads.entry.EntrantDivisionChangedEvent;
+import app.meads.entry.EntriesChangedEvent;
+import app.meads.entry.Entry;
+import app.meads.entry.EntryCredit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -12,11 +19,17 @@ class EntryParticipantRemovalCleanup implements ParticipantRemovalCleanup {
 
     private final EntryRepository entryRepository;
     private final EntryCreditRepository entryCreditRepository;
+    private final DraftEntryArchive draftEntryArchive;
+    private final ApplicationEventPublisher eventPublisher;
 
     EntryParticipantRemovalCleanup(EntryRepository entryRepository,
-                                    EntryCreditRepository entryCreditRepository) {
+                                    EntryCreditRepository entryCreditRepository,
+                                    DraftEntryArchive draftEntryArchive,
+                                    ApplicationEventPublisher eventPublisher) {
         this.entryRepository = entryRepository;
         this.entryCreditRepository = entryCreditRepository;
+        this.draftEntryArchive = draftEntryArchive;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -25,6 +38,18 @@ class EntryParticipantRemovalCleanup implements ParticipantRemovalCleanup {
         var credits = entryCreditRepository.findByUserIdAndCompetitionId(userId, competitionId);
         entryRepository.deleteAll(entries);
         entryCreditRepository.deleteAll(credits);
+        draftEntryArchive.deleteByUserIdAndCompetitionId(userId, competitionId);
+        credits.stream()
+                .map(EntryCredit::getDivisionId)
+                .distinct()
+                .forEach(divisionId -> eventPublisher.publishEvent(
+                        new EntrantDivisionChangedEvent(divisionId, userId)));
+        entries.stream()
+                .collect(Collectors.groupingBy(Entry::getDivisionId, LinkedHashMap::new, Collectors.mapping(
+                        entry -> new EntriesChangedEvent.Change(entry.getId(), entry.getStatus(), null),
+                        Collectors.toList())))
+                .forEach((divisionId, changes) -> eventPublisher.publishEvent(
+                        new EntriesChangedEvent(divisionId, changes)));
         if (!entries.isEmpty() || !credits.isEmpty()) {
             log.info("Cleaned up participant data: userId={}, competitionId={}, entries={}, credits={}",
                     userId, competitionId, entries.size(), credits.size());
@@ -2,15 +2,25 @@ package app.meads.entry.internal;
 
 import app.meads.entry.Entry;
 import app.meads.entry.EntryStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface EntryRepository extends JpaRepository<Entry, UUID> {
 
+    // Entrant fields are matched on users alone, so the trigram indexes of users answer it in one
+    // bitmap scan; ORed across a join, the condition is only checked row by row after the join
+    String MATCHING_USERS = "SELECT mu.id FROM users mu WHERE mu.email ILIKE :pattern "
+            + "OR mu.name ILIKE :pattern OR mu.meadery_name ILIKE :pattern";
+
     List<Entry> findByDivisionIdAndUserId(UUID divisionId, UUID userId);
 
     List<Entry> findByDivisionId(UUID divisionId);
@@ -21,23 +31,55 @@ public interface EntryRepository extends JpaRepository<Entry, UUID> {
     long countByDivisionIdAndUserIdAndStatusNot(UUID divisionId, UUID userId,
                                                  EntryStatus status);
 
-    long countByDivisionIdAndUserIdAndInitialCategoryIdAndStatusNot(
-            UUID divisionId, UUID userId, UUID initialCategoryId, EntryStatus status);
+    List<Entry> findByDivisionIdAndIdIn(UUID divisionId, Collection<UUID> ids);
 
-    long countByDivisionIdAndUserIdAndInitialCategoryIdInAndStatusNot(
-            UUID divisionId, UUID userId, List<UUID> initialCategoryIds, EntryStatus status);
+    Optional<Entry> findByDivisionIdAndEntryNumber(UUID divisionId, int entryNumber);
 
-    boolean existsByDivisionIdAndEntryCode(UUID divisionId, String entryCode);
+    List<Entry> findByDivisionIdAndStatusInOrderByEntryNumber(UUID divisionId, Collection<EntryStatus> statuses);
+
+    long countByDivisionIdAndStatusIn(UUID divisionId, Collection<EntryStatus> statuses);
 
     boolean existsByDivisionId(UUID divisionId);
+    boolean existsByDivisionIdAndEntryCode(UUID divisionId, String entryCode);
 
     boolean existsByFinalCategoryId(UUID finalCategoryId);
 
-    @Query("SELECT COALESCE(MAX(e.entryNumber), 0) FROM Entry e WHERE e.divisionId = :divisionId")
-    int findMaxEntryNumberByDivisionId(@Param("divisionId") UUID divisionId);
-
     @Query("SELECT e FROM Entry e WHERE e.userId = :userId AND e.divisionId IN "
             + "(SELECT d.id FROM Division d WHERE d.competitionId = :competitionId)")
     List<Entry> findByUserIdAndCompetitionId(@Param("userId") UUID userId,
                                              @Param("competitionId") UUID competitionId);
+
+    // Locks the rows so the update that follows changes exactly the returned entries
+    @Query(value = "SELECT id FROM entries WHERE division_id = :divisionId AND id IN (:ids) "
+            + "AND status = 'SUBMITTED' ORDER BY id FOR UPDATE",
+            nativeQuery = true)
+    List<UUID> lockSubmittedIds(UUID divisionId, Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Entry e SET e.status = app.meads.entry.EntryStatus.RECEIVED, e.updatedAt = :now "
+            + "WHERE e.divisionId = :divisionId AND e.id IN :ids "
+            + "AND e.status = app.meads.entry.EntryStatus.SUBMITTED")
+    int markReceived(@Param("divisionId") UUID divisionId,
+                     @Param("ids") Collection<UUID> ids,
+                     @Param("now") Instant now);
+
+    @Query(value = "SELECT e.* FROM entries e JOIN users u ON u.id = e.user_id "
+            + "WHERE e.division_id = :divisionId "
+            + "AND (CAST(:status AS varchar) IS NULL OR e.status = CAST(:status AS varchar)) "
+            + "AND (:pattern = '%' OR e.mead_name ILIKE :pattern OR e.honey_varieties ILIKE :pattern "
+            + "OR e.entry_code ILIKE :pattern OR e.user_id IN (" + MATCHING_USERS + ")) "
+            + "ORDER BY CASE WHEN :query = '' THEN 0 ELSE GREATEST(word_similarity(:query, e.mead_name), "
+            + "word_similarity(:query, e.honey_varieties), word_similarity(:query, u.email), "
+            + "word_similarity(:query, u.name), word_similarity(:query, COALESCE(u.meadery_name, ''))) END DESC, "
+            + "e.entry_number",
+            nativeQuery = true)
+    List<Entry> search(UUID divisionId, String status, String query, String pattern, Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM entries e "
+            + "WHERE e.division_id = :divisionId "
+            + "AND (CAST(:status AS varchar) IS NULL OR e.status = CAST(:status AS varchar)) "
+            + "AND (:pattern = '%' OR e.mead_name ILIKE :pattern OR e.honey_varieties ILIKE :pattern "
+            + "OR e.entry_code ILIKE :pattern OR e.user_id IN (" + MATCHING_USERS + "))",
+            nativeQuery = true)
+    long countSearch(UUID divisionId, String status, String pattern);
 }
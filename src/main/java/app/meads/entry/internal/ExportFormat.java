@@ -0,0 +1,39 @@
+package app.meads.entry.internal;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+enum ExportFormat {
+
+    CSV("text/csv;charset=UTF-8"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    String extension() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    ExportWriter open(OutputStream out, String sheetName) {
+        return switch (this) {
+            case CSV -> new CsvExportWriter(out);
+            case XLSX -> new XlsxExportWriter(out, sheetName);
+        };
+    }
+
+    static Optional<ExportFormat> fromExtension(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension().equalsIgnoreCase(extension))
+                .findFirst();
+    }
+}
@@ -0,0 +1,29 @@
+package app.meads.entry.internal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Row-at-a-time tabular writer used by the exports. Implementations keep at most a small,
+ * fixed window of rows in memory; {@link #close()} finishes the document without closing the
+ * underlying stream.
+ */
+interface ExportWriter extends Closeable {
+
+    void row(List<?> values) throws IOException;
+
+    static String text(Object value) {
+        return switch (value) {
+            case null -> "";
+            case Timestamp timestamp -> text(timestamp.toInstant());
+            case OffsetDateTime dateTime -> text(dateTime.toInstant());
+            case Instant instant -> instant.truncatedTo(ChronoUnit.SECONDS).toString();
+            default -> value.toString();
+        };
+    }
+}
@@ -2,7 +2,9 @@ package app.meads.entry.internal;
 
 import app.meads.entry.JumpsellerOrder;
 import app.meads.entry.OrderStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +14,23 @@ public interface JumpsellerOrderRepository extends JpaRepository<JumpsellerOrder
     Optional<JumpsellerOrder> findByJumpsellerOrderId(String jumpsellerOrderId);
     boolean existsByJumpsellerOrderId(String jumpsellerOrderId);
     List<JumpsellerOrder> findByStatus(OrderStatus status);
+
+    @Query(value = "SELECT o.* FROM jumpseller_orders o "
+            + "WHERE o.id IN (SELECT li.order_id FROM jumpseller_order_line_items li "
+            + "WHERE li.division_id = :divisionId) "
+            + "AND (:pattern = '%' OR o.jumpseller_order_id ILIKE :pattern "
+            + "OR o.customer_email ILIKE :pattern OR o.customer_name ILIKE :pattern) "
+            + "ORDER BY CASE WHEN :query = '' THEN 0 ELSE GREATEST(word_similarity(:query, o.jumpseller_order_id), "
+            + "word_similarity(:query, o.customer_email), word_similarity(:query, o.customer_name)) END DESC, "
+            + "o.created_at DESC",
+            nativeQuery = true)
+    List<JumpsellerOrder> searchByDivisionId(UUID divisionId, String query, String pattern, Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM jumpseller_orders o "
+            + "WHERE o.id IN (SELECT li.order_id FROM jumpseller_order_line_items li "
+            + "WHERE li.division_id = :divisionId) "
+            + "AND (:pattern = '%' OR o.jumpseller_order_id ILIKE :pattern "
+            + "OR o.customer_email ILIKE :pattern OR o.customer_name ILIKE :pattern)",
+            nativeQuery = true)
+    long countSearchByDivisionId(UUID divisionId, String pattern);
 }
@@ -1,6 +1,8 @@
 package app.meads.entry.internal;
 
 import app.meads.entry.WebhookService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,9 +19,11 @@ import org.springframework.web.bind.annotation.RestController;
 class JumpsellerWebhookController {
 
     private final WebhookService webhookService;
+    private final MeterRegistry meterRegistry;
 
-    JumpsellerWebhookController(WebhookService webhookService) {
+    JumpsellerWebhookController(WebhookService webhookService, MeterRegistry meterRegistry) {
         this.webhookService = webhookService;
+        this.meterRegistry = meterRegistry;
     }
 
     @RequestMapping(value = "/order-paid", method = {RequestMethod.GET, RequestMethod.PUT,
@@ -34,12 +38,24 @@ class JumpsellerWebhookController {
             @RequestBody String rawPayload) {
 
         log.debug("Received webhook: order-paid");
-        if (signature == null || !webhookService.verifySignature(rawPayload, signature)) {
-            log.warn("Webhook rejected: {} HMAC signature", signature == null ? "missing" : "invalid");
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        // Timed here rather than in the service so the commit is included
+        var sample = Timer.start(meterRegistry);
+        var outcome = "failed";
+        try {
+            if (signature == null || !webhookService.verifySignature(rawPayload, signature)) {
+                log.warn("Webhook rejected: {} HMAC signature", signature == null ? "missing" : "invalid");
+                outcome = "unauthorized";
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+            }
+
+            webhookService.processOrderPaid(rawPayload);
+            outcome = "processed";
+            return ResponseEntity.ok().build();
+        } finally {
+            sample.stop(Timer.builder("meads.webhook.order-paid")
+                    .description("Jumpseller order-paid webhook handling, including the commit")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
-
-        webhookService.processOrderPaid(rawPayload);
-        return ResponseEntity.ok().build();
     }
 }
@@ -75,6 +75,7 @@ public class MyEntriesView extends VerticalLayout implements BeforeEnterObserver
     private String divShortName;
     private String competitionName;
     private UUID currentUserId;
+    private EntrantEligibility eligibility;
     private Grid<Entry> entriesGrid;
     private Map<UUID, DivisionCategory> categoriesById;
     private List<Entry> entries;
@@ -123,12 +124,13 @@ public class MyEntriesView extends VerticalLayout implements BeforeEnterObserver
         }
 
         currentUserId = getCurrentUserId();
+        eligibility = entryService.getEntrantEligibility(divisionId, currentUserId);
 
         // Authorization: SYSTEM_ADMIN, competition ADMIN, or has credits in this division
         var user = userService.findById(currentUserId);
         if (user.getRole() != Role.SYSTEM_ADMIN
                 && !competitionService.isAuthorizedForDivision(divisionId, currentUserId)
-                && entryService.getCreditBalance(divisionId, currentUserId) == 0) {
+                && eligibility.creditBalance() == 0) {
             beforeEnterEvent.forwardTo("");
             return;
         }
@@ -200,9 +202,7 @@ public class MyEntriesView extends VerticalLayout implements BeforeEnterObserver
         header.setDefaultVerticalComponentAlignment(Alignment.CENTER);
 
         if (competition.hasLogo()) {
-            var dataUri = "data:" + competition.getLogoContentType() + ";base64,"
-                    + java.util.Base64.getEncoder().encodeToString(competition.getLogo());
-            var logo = new Image(dataUri, competition.getName() + " logo");
+            var logo = new Image(competition.getLogoUrl(), competition.getName() + " logo");
             logo.setHeight("64px");
             header.add(logo);
         }
@@ -231,10 +231,7 @@ public class MyEntriesView extends VerticalLayout implements BeforeEnterObserver
                 anchor.setTarget("_blank");
                 section.add(anchor);
             } else {
-                var streamResource = new StreamResource(doc.getName() + ".pdf",
-                        () -> new ByteArrayInputStream(
-                                competitionService.getDocument(doc.getId()).getData()));
-                var anchor = new Anchor(streamResource, doc.getName());
+                var anchor = new Anchor(doc.getDownloadUrl(), doc.getName());
                 anchor.getElement().setAttribute("download", true);
                 section.add(anchor);
             }
@@ -281,9 +278,9 @@ public class MyEntriesView extends VerticalLayout implements BeforeEnterObserver
                 .set("border-radius", "var(--lumo-border-radius-m)")
                 .set("padding", "var(--lumo-space-s) var(--lumo-space-m)");
 
-        var creditBalance = entryService.getCreditBalance(divisionId, currentUserId);
-        var activeEntries = entryService.countActiveEntries(divisionId, currentUserId);
-        var remaining = creditBalance - activeEntries;
+        var creditBalance = eligibility.creditBalance();
+        var activeEntries = eligibility.activeEntries();
+        var remaining = eligibility.remainingCredits();
 
         var creditsLabel = new Span(getTranslation("entries.credits.label"));
         creditsLabel.getStyle().set("font-weight", "600");
@@ -362,12 +359,10 @@ public class MyEntriesView extends VerticalLayout implements BeforeEnterObserver
         });
 
         // Action buttons (right)
-        var creditBalance = entryService.getCreditBalance(divisionId, currentUserId);
-        var activeEntries = entryService.countActiveEntries(divisionId, currentUserId);
         var isOpen = division.getStatus() == DivisionStatus.REGISTRATION_OPEN;
 
         var addButton = new Button(getTranslation("entries.add"), e -> openEntryDialog(null));
-        addButton.setEnabled(isOpen && creditBalance > activeEntries);
+        addButton.setEnabled(isOpen && eligibility.hasRemainingCredits());
 
         var entries = entryService.findEntriesByDivisionAndUser(divisionId, currentUserId);
         var hasDrafts = entries.stream().anyMatch(en -> en.getStatus() == EntryStatus.DRAFT);
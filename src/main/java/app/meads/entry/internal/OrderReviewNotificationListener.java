@@ -5,6 +5,7 @@ import app.meads.entry.OrderRequiresReviewEvent;
 import app.meads.identity.EmailService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -21,6 +22,7 @@ public class OrderReviewNotificationListener {
     }
 
     @ApplicationModuleListener
+    @Async(EntryListenerConfiguration.ORDER_REVIEW_NOTIFICATIONS)
     public void on(OrderRequiresReviewEvent event) {
         var divisionNames = String.join(", ", event.affectedDivisionNames());
         for (var competitionId : event.affectedCompetitionIds()) {
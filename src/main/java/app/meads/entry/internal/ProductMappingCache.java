@@ -0,0 +1,43 @@
+package app.meads.entry.internal;
+
+import app.meads.Caches;
+import app.meads.competition.CompetitionArchivedEvent;
+import app.meads.entry.ProductMapping;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Product mappings keyed by Jumpseller product id, looked up for every webhook line item.
+ * {@code EntryService} evicts a product id whenever one of its mappings is created, updated
+ * or removed; archiving or restoring a competition clears it. Cached instances are shared between callers and must be treated as read-only.
+ */
+@Component
+public class ProductMappingCache {
+
+    static final String CACHE_NAME = "product-mappings";
+
+    private final Cache cache;
+
+    ProductMappingCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+    }
+
+    public List<ProductMapping> get(String jumpsellerProductId, Supplier<List<ProductMapping>> loader) {
+        return Caches.get(cache, jumpsellerProductId, loader);
+    }
+
+    public void evict(String jumpsellerProductId) {
+        Caches.evict(cache, jumpsellerProductId);
+    }
+
+    @EventListener
+    void on(CompetitionArchivedEvent event) {
+        cache.clear();
+    }
+}
@@ -2,6 +2,8 @@ package app.meads.entry.internal;
 
 import app.meads.entry.ProductMapping;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
@@ -10,5 +12,10 @@ public interface ProductMappingRepository extends JpaRepository<ProductMapping,
     boolean existsByDivisionIdAndJumpsellerProductId(UUID divisionId, String jumpsellerProductId);
     boolean existsByDivisionId(UUID divisionId);
     List<ProductMapping> findByDivisionId(UUID divisionId);
-    List<ProductMapping> findByJumpsellerProductId(String jumpsellerProductId);
+
+    @Query("SELECT m FROM ProductMapping m JOIN Division d ON d.id = m.divisionId "
+            + "JOIN Competition co ON co.id = d.competitionId "
+            + "WHERE m.jumpsellerProductId = :jumpsellerProductId "
+            + "ORDER BY co.startDate, m.createdAt, m.id")
+    List<ProductMapping> findByJumpsellerProductId(@Param("jumpsellerProductId") String jumpsellerProductId);
 }
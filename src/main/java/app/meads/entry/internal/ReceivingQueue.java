@@ -0,0 +1,99 @@
+package app.meads.entry.internal;
+
+import app.meads.entry.Entry;
+import app.meads.entry.EntryStatus;
+import com.vaadin.flow.function.SerializableFunction;
+
+import java.io.Serializable;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Scans of the receiving station in {@link DivisionEntryAdminView}, queued in a buffer that
+ * the view applies in batches through
+ * {@link app.meads.entry.EntryService#markReceived(UUID, java.util.Collection, UUID)}. Each
+ * scan looks its entry up by the content of the label QR code, one indexed read, so the queue
+ * holds no more than the ids of a batch however large the division is.
+ * Not thread-safe; each view instance owns its queue.
+ */
+class ReceivingQueue implements Serializable {
+
+    enum Outcome {
+        QUEUED,
+        ALREADY_QUEUED,
+        ALREADY_RECEIVED,
+        NOT_SUBMITTED,
+        UNKNOWN
+    }
+
+    /**
+     * @param entry the scanned entry, {@code null} when the code is not in the division
+     */
+    record Scan(String code, Outcome outcome, Entry entry) {
+    }
+
+    private final SerializableFunction<String, Entry> lookup;
+    private final Set<UUID> pending = new LinkedHashSet<>();
+
+    /**
+     * @param lookup finds the division's entry labelled with a normalized (trimmed, upper-case)
+     *               code, or returns {@code null}
+     */
+    ReceivingQueue(SerializableFunction<String, Entry> lookup) {
+        this.lookup = lookup;
+    }
+
+    Scan scan(String rawCode) {
+        var code = normalize(rawCode);
+        var entry = code.isEmpty() ? null : lookup.apply(code);
+        if (entry == null) {
+            return new Scan(code, Outcome.UNKNOWN, null);
+        }
+        var outcome = switch (entry.getStatus()) {
+            case SUBMITTED -> pending.add(entry.getId()) ? Outcome.QUEUED : Outcome.ALREADY_QUEUED;
+            case RECEIVED -> Outcome.ALREADY_RECEIVED;
+            case DRAFT, WITHDRAWN -> Outcome.NOT_SUBMITTED;
+        };
+        return new Scan(code, outcome, entry);
+    }
+
+    /**
+     * Keeps the queued scans whose entry is among {@code queued} and still SUBMITTED, so
+     * applied batches and entries changed or deleted elsewhere drop out of the buffer.
+     *
+     * @param queued the current state of the {@link #pending()} entries that still exist
+     */
+    void refresh(List<Entry> queued) {
+        var submitted = new LinkedHashSet<UUID>();
+        for (var entry : queued) {
+            if (entry.getStatus() == EntryStatus.SUBMITTED) {
+                submitted.add(entry.getId());
+            }
+        }
+        pending.retainAll(submitted);
+    }
+
+    /**
+     * Drops a queued scan once its entry is no longer SUBMITTED.
+     */
+    void update(Entry entry) {
+        if (entry.getStatus() != EntryStatus.SUBMITTED) {
+            pending.remove(entry.getId());
+        }
+    }
+
+    void remove(UUID entryId) {
+        pending.remove(entryId);
+    }
+
+    List<UUID> pending() {
+        return List.copyOf(pending);
+    }
+
+    static String normalize(String code) {
+        return code == null ? "" : code.strip().toUpperCase(Locale.ROOT);
+    }
+}
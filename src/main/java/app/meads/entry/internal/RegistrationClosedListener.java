@@ -1,21 +1,105 @@
 package app.meads.entry.internal;
 
+import app.meads.LanguageMapping;
+import app.meads.competition.CompetitionService;
 import app.meads.competition.DivisionStatus;
 import app.meads.competition.DivisionStatusAdvancedEvent;
+import app.meads.entry.EntrantDivisionChangedEvent;
+import app.meads.entry.EntriesChangedEvent;
+import app.meads.entry.EntryStatus;
+import app.meads.identity.EmailService;
+import app.meads.identity.JwtMagicLinkService;
+import app.meads.identity.User;
+import app.meads.identity.UserService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Discards the drafts left in a division once registration closes, then sends each affected
+ * entrant one email listing all of their discarded drafts. Redelivery of the event finds no
+ * drafts left and sends nothing.
+ */
 @Slf4j
 @Component
 public class RegistrationClosedListener {
 
+    private static final Duration LINK_VALIDITY = Duration.ofDays(7);
+
+    private final DraftEntryArchive draftEntryArchive;
+    private final CompetitionService competitionService;
+    private final UserService userService;
+    private final EmailService emailService;
+    private final JwtMagicLinkService jwtMagicLinkService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    RegistrationClosedListener(DraftEntryArchive draftEntryArchive,
+                                CompetitionService competitionService,
+                                UserService userService,
+                                EmailService emailService,
+                                JwtMagicLinkService jwtMagicLinkService,
+                                ApplicationEventPublisher eventPublisher) {
+        this.draftEntryArchive = draftEntryArchive;
+        this.competitionService = competitionService;
+        this.userService = userService;
+        this.emailService = emailService;
+        this.jwtMagicLinkService = jwtMagicLinkService;
+        this.eventPublisher = eventPublisher;
+    }
 
     @ApplicationModuleListener
+    @Async(EntryListenerConfiguration.REGISTRATION_CLOSED)
     public void on(DivisionStatusAdvancedEvent event) {
-        if (event.newStatus() == DivisionStatus.REGISTRATION_CLOSED) {
-            log.info("Registration closed for division {}. TODO: discard unsubmitted drafts.",
-                    event.divisionId());
+        if (event.newStatus() != DivisionStatus.REGISTRATION_CLOSED) {
+            return;
+        }
+        var discarded = draftEntryArchive.discard(event.divisionId());
+        if (discarded.isEmpty()) {
+            log.info("Registration closed for division {}: no drafts to discard", event.divisionId());
+            return;
+        }
+        var draftsByUser = discarded.stream().collect(Collectors.groupingBy(
+                DraftEntryArchive.DiscardedDraft::userId, LinkedHashMap::new, Collectors.toList()));
+        draftsByUser.keySet().forEach(userId ->
+                eventPublisher.publishEvent(new EntrantDivisionChangedEvent(event.divisionId(), userId)));
+        eventPublisher.publishEvent(new EntriesChangedEvent(event.divisionId(), discarded.stream()
+                .map(draft -> new EntriesChangedEvent.Change(draft.entryId(), EntryStatus.DRAFT, null))
+                .toList()));
+        log.info("Registration closed for division {}: discarded {} drafts of {} entrants",
+                event.divisionId(), discarded.size(), draftsByUser.size());
+
+        var division = competitionService.findCurrentDivision(event.divisionId());
+        var competition = competitionService.findCompetitionById(division.getCompetitionId());
+        var usersById = userService.findAllByIds(List.copyOf(draftsByUser.keySet())).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        int sent = 0;
+        for (var drafts : draftsByUser.entrySet()) {
+            var user = usersById.get(drafts.getKey());
+            if (user == null) {
+                continue;
+            }
+            var entryLines = drafts.getValue().stream()
+                    .map(d -> "#" + d.entryNumber() + " — " + d.meadName())
+                    .toList();
+            try {
+                var locale = LanguageMapping.resolveLocale(user.getPreferredLanguage(), user.getCountry());
+                emailService.sendDraftsDiscarded(user.getEmail(), competition.getName(),
+                        division.getName(), entryLines,
+                        jwtMagicLinkService.generateLink(user.getEmail(), LINK_VALIDITY),
+                        competition.getContactEmail(), locale);
+                sent++;
+            } catch (RuntimeException e) {
+                log.warn("Failed to send discarded drafts notice to {}: {}", user.getEmail(), e.getMessage());
+            }
         }
+        log.info("Sent {} of {} discarded drafts notices for {}", sent, draftsByUser.size(), division.getName());
     }
 }
@@ -9,6 +9,7 @@ import app.meads.identity.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -38,8 +39,9 @@ public class SubmissionConfirmationListener {
     }
 
     @ApplicationModuleListener
+    @Async(EntryListenerConfiguration.SUBMISSION_CONFIRMATIONS)
     public void on(EntriesSubmittedEvent event) {
-        var division = competitionService.findDivisionById(event.divisionId());
+        var division = competitionService.findCurrentDivision(event.divisionId());
         var competition = competitionService.findCompetitionById(division.getCompetitionId());
         var user = userService.findById(event.userId());
 
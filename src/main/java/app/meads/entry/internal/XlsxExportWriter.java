@@ -0,0 +1,57 @@
+package app.meads.entry.internal;
+
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Single-sheet XLSX on POI's streaming {@link SXSSFWorkbook}: only the last
+ * {@value #ROW_WINDOW} rows stay in memory, older ones are flushed to a compressed temporary
+ * file until {@link #close()} zips the document into the output stream.
+ */
+final class XlsxExportWriter implements ExportWriter {
+
+    static final int ROW_WINDOW = 100;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private int rowIndex;
+
+    XlsxExportWriter(OutputStream out, String sheetName) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(WorkbookUtil.createSafeSheetName(sheetName));
+    }
+
+    @Override
+    public void row(List<?> values) {
+        var row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.size(); i++) {
+            var cell = row.createCell(i);
+            switch (values.get(i)) {
+                case null -> { }
+                case Number number -> cell.setCellValue(number.doubleValue());
+                case Boolean bool -> cell.setCellValue(bool);
+                case Object value -> cell.setCellValue(ExportWriter.text(value));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            // Deletes the temporary files backing the flushed rows
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
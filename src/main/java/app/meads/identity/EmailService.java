@@ -26,4 +26,8 @@ public interface EmailService {
                                 int credits, String divisionName,
                                 String competitionName, String myEntriesUrl,
                                 String contactEmail, Locale locale);
+
+    void sendDraftsDiscarded(String recipientEmail, String competitionName,
+                             String divisionName, java.util.List<String> entryLines,
+                             String myEntriesUrl, String contactEmail, Locale locale);
 }
@@ -1,5 +1,6 @@
 package app.meads.identity;
 
+import app.meads.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -54,7 +55,7 @@ public class User {
     protected User() {} // JPA
 
     public User(String email, String name, UserStatus status, Role role) {
-        this.id = UUID.randomUUID();
+        this.id = UuidV7.randomUUID();
         this.email = email;
         this.name = name;
         this.status = status;
@@ -1,6 +1,8 @@
 package app.meads.identity;
 
 import app.meads.BusinessRuleException;
+import app.meads.TextSearch;
+import app.meads.identity.internal.PendingUserBatchWriter;
 import app.meads.identity.internal.TotpService;
 import app.meads.identity.internal.UserRepository;
 import io.jsonwebtoken.JwtException;
@@ -8,6 +10,8 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,10 +20,14 @@ import org.springframework.validation.annotation.Validated;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -34,15 +42,17 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final List<UserDeletionGuard> deletionGuards;
     private final TotpService totpService;
+    private final PendingUserBatchWriter pendingUserBatchWriter;
 
     public UserService(UserRepository userRepository, JwtMagicLinkService jwtMagicLinkService,
                        PasswordEncoder passwordEncoder, List<UserDeletionGuard> deletionGuards,
-                       TotpService totpService) {
+                       TotpService totpService, PendingUserBatchWriter pendingUserBatchWriter) {
         this.userRepository = userRepository;
         this.jwtMagicLinkService = jwtMagicLinkService;
         this.passwordEncoder = passwordEncoder;
         this.deletionGuards = deletionGuards;
         this.totpService = totpService;
+        this.pendingUserBatchWriter = pendingUserBatchWriter;
     }
 
     public User createUser(@Email @NotBlank String email, @NotBlank String name, @NotNull UserStatus status, @NotNull Role role) {
@@ -75,6 +85,27 @@ public class UserService {
         return userRepository.findAll(Sort.by("name"));
     }
 
+    /**
+     * Returns one page of users, optionally restricted to a status, role and country. A
+     * non-blank filter matches name, email or meadery anywhere and ranks the closest matches
+     * first; otherwise users are sorted by name.
+     */
+    public List<User> searchUsers(String filter, UserStatus status, Role role, String country,
+                                  @NotNull Pageable pageable) {
+        return userRepository.search(nameOf(status), nameOf(role), country,
+                TextSearch.normalize(filter), TextSearch.likePattern(filter),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    public long countUsers(String filter, UserStatus status, Role role, String country) {
+        return userRepository.countSearch(nameOf(status), nameOf(role), country,
+                TextSearch.likePattern(filter));
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
     public User findById(UUID userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessRuleException("error.user.not-found"));
@@ -102,6 +133,41 @@ public class UserService {
                 });
     }
 
+    /**
+     * Resolves many emails with one query; emails without an account are absent from the result.
+     */
+    public Map<String, UUID> findIdsByEmail(@NotNull Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(User::getEmail, User::getId));
+    }
+
+    /**
+     * Bulk counterpart of {@link #findOrCreateByEmail(String, String)}: one query resolves the
+     * existing accounts, the missing ones are created as pending users in one JDBC batch and
+     * read back with a second query.
+     *
+     * @param namesByEmail display name to use for each email that has no account yet
+     * @return user id for every email
+     */
+    public Map<String, UUID> findOrCreateIdsByEmail(@NotNull Map<String, String> namesByEmail) {
+        var ids = new HashMap<>(findIdsByEmail(namesByEmail.keySet()));
+        var missing = new LinkedHashMap<String, String>();
+        namesByEmail.forEach((email, name) -> {
+            if (!ids.containsKey(email)) {
+                missing.put(email, name);
+            }
+        });
+        if (!missing.isEmpty()) {
+            pendingUserBatchWriter.insert(missing);
+            ids.putAll(findIdsByEmail(missing.keySet()));
+            log.info("Auto-created {} users from bulk import", missing.size());
+        }
+        return ids;
+    }
+
     public User updateProfile(@NotNull UUID userId, @NotBlank String name,
                                String meaderyName, String country, String preferredLanguage) {
         if (country != null && !VALID_COUNTRY_CODES.contains(country)) {
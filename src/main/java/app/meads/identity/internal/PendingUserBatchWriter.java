@@ -0,0 +1,46 @@
+package app.meads.identity.internal;
+
+import app.meads.UuidV7;
+import app.meads.identity.Role;
+import app.meads.identity.UserStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Creates pending accounts for bulk imports with one JDBC batch. Users get their id in the
+ * constructor, so {@code saveAll} would merge (one SELECT per user) before each INSERT;
+ * {@code ON CONFLICT DO NOTHING} leaves accounts created concurrently in place.
+ */
+@Component
+public class PendingUserBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO users (id, email, name, status, role, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (email) DO NOTHING""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PendingUserBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param namesByEmail display name for every email to create
+     */
+    public void insert(Map<String, String> namesByEmail) {
+        if (namesByEmail.isEmpty()) {
+            return;
+        }
+        var now = Timestamp.from(Instant.now());
+        var args = new ArrayList<Object[]>(namesByEmail.size());
+        namesByEmail.forEach((email, name) -> args.add(new Object[]{
+                UuidV7.randomUUID(), email, name, UserStatus.PENDING.name(), Role.USER.name(), now}));
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+}
@@ -33,6 +33,17 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // Health and Prometheus are served on management.server.port, which is only reachable
+    // from inside the deployment network; the main port has no actuator endpoints
+    @Bean
+    @Order(2)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher("/actuator/**")
+            .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http,
                                                    JwtMagicLinkService jwtMagicLinkService,
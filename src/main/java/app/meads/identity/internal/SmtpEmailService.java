@@ -3,6 +3,8 @@ package app.meads.identity.internal;
 import app.meads.PluralRules;
 import app.meads.identity.EmailService;
 import app.meads.identity.JwtMagicLinkService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -39,6 +41,7 @@ class SmtpEmailService implements EmailService {
     private final String fromAddress;
     private final int rateLimitMinutes;
     private final int dailyWarningThreshold;
+    private final MeterRegistry meterRegistry;
 
     private final ConcurrentHashMap<String, Instant> rateLimitMap = new ConcurrentHashMap<>();
     private final AtomicInteger dailyCount = new AtomicInteger(0);
@@ -50,7 +53,8 @@ class SmtpEmailService implements EmailService {
                      MessageSource messageSource,
                      @Value("${app.email.from}") String fromAddress,
                      @Value("${app.email.rate-limit-minutes:5}") int rateLimitMinutes,
-                     @Value("${app.email.daily-warning-threshold:50}") int dailyWarningThreshold) {
+                     @Value("${app.email.daily-warning-threshold:50}") int dailyWarningThreshold,
+                     MeterRegistry meterRegistry) {
         this.mailSender = mailSender;
         this.jwtMagicLinkService = jwtMagicLinkService;
         this.templateEngine = templateEngine;
@@ -58,6 +62,7 @@ class SmtpEmailService implements EmailService {
         this.fromAddress = fromAddress;
         this.rateLimitMinutes = rateLimitMinutes;
         this.dailyWarningThreshold = dailyWarningThreshold;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -210,6 +215,25 @@ class SmtpEmailService implements EmailService {
         sendEmail(recipientEmail, subject, ctx, myEntriesUrl);
     }
 
+    @Override
+    public void sendDraftsDiscarded(String recipientEmail, String competitionName,
+                                    String divisionName, java.util.List<String> entryLines,
+                                    String myEntriesUrl, String contactEmail, Locale locale) {
+        var subject = msg("email.drafts-discarded.subject", locale, divisionName);
+        var ctx = new Context();
+        ctx.setVariable("subject", subject);
+        ctx.setVariable("heading", msg("email.drafts-discarded.heading", locale));
+        ctx.setVariable("bodyText", msg("email.drafts-discarded.body", locale, divisionName, competitionName));
+        ctx.setVariable("entryLines", entryLines);
+        ctx.setVariable("ctaLabel", msg("email.drafts-discarded.cta", locale));
+        ctx.setVariable("ctaUrl", myEntriesUrl);
+        ctx.setVariable("fallbackText", msg("email.fallback", locale));
+        ctx.setVariable("footerText", msg("email.footer", locale));
+        ctx.setVariable("contactText", msg("email.contact", locale));
+        ctx.setVariable("contactEmail", contactEmail);
+        sendEmail(recipientEmail, subject, ctx, myEntriesUrl);
+    }
+
     private String msg(String key, Locale locale, Object... args) {
         return messageSource.getMessage(key, args, key, locale);
     }
@@ -230,6 +254,7 @@ class SmtpEmailService implements EmailService {
         var lastSent = rateLimitMap.get(key);
         if (lastSent != null && now.isBefore(lastSent.plus(Duration.ofMinutes(rateLimitMinutes)))) {
             log.info("Rate limited: email type '{}' for {} (cooldown {} min)", type, email, rateLimitMinutes);
+            meterRegistry.counter("meads.email.rate-limited", "type", type).increment();
             return true;
         }
         rateLimitMap.put(key, now);
@@ -249,6 +274,8 @@ class SmtpEmailService implements EmailService {
     }
 
     private void sendEmail(String to, String subject, Context thymeleafContext, String fallbackLink) {
+        var sample = Timer.start(meterRegistry);
+        var outcome = "failed";
         try {
             var htmlBody = templateEngine.process(TEMPLATE_NAME, thymeleafContext);
             var message = mailSender.createMimeMessage();
@@ -262,10 +289,13 @@ class SmtpEmailService implements EmailService {
                     "image/png");
             mailSender.send(message);
             trackDailyCount();
+            outcome = "sent";
             log.info("Email sent: subject='{}', to={}", subject, to);
         } catch (MailException | MessagingException e) {
             log.warn("Failed to send email to {} (subject='{}'): {}. Link: {}",
                     to, subject, e.getMessage(), fallbackLink);
+        } finally {
+            sample.stop(meterRegistry.timer("meads.email.send", "outcome", outcome));
         }
     }
 }
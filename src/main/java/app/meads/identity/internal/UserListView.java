@@ -27,10 +27,12 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.component.textfield.EmailField;
 import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.CallbackDataProvider;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.BeforeEnterEvent;
 import com.vaadin.flow.router.BeforeEnterObserver;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.spring.data.VaadinSpringDataHelpers;
 import com.vaadin.flow.spring.security.AuthenticationContext;
 import jakarta.annotation.security.PermitAll;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -45,6 +47,13 @@ public class UserListView extends VerticalLayout implements BeforeEnterObserver
     private final EmailService emailService;
     private final transient AuthenticationContext authenticationContext;
     private final Grid<User> grid;
+    private final CallbackDataProvider<User, Void> dataProvider;
+
+    // Server-side filter state
+    private String textFilter;
+    private UserStatus statusFilter;
+    private Role roleFilter;
+    private String countryFilter;
 
     public UserListView(UserService userService, EmailService emailService, AuthenticationContext authenticationContext) {
         this.userService = userService;
@@ -54,31 +63,48 @@ public class UserListView extends VerticalLayout implements BeforeEnterObserver
 
         TextField filterField = new TextField();
         filterField.setPlaceholder(getTranslation("user-list.filter.placeholder"));
-        filterField.setValueChangeMode(ValueChangeMode.EAGER);
+        filterField.setValueChangeMode(ValueChangeMode.LAZY);
         filterField.setWidthFull();
         filterField.setPrefixComponent(new Icon(VaadinIcon.SEARCH));
         filterField.setClearButtonVisible(true);
 
+        var statusFilterSelect = new Select<UserStatus>();
+        statusFilterSelect.setPlaceholder(getTranslation("user-list.filter.status.all"));
+        statusFilterSelect.setItems(UserStatus.values());
+        statusFilterSelect.setEmptySelectionAllowed(true);
+        statusFilterSelect.setEmptySelectionCaption(getTranslation("user-list.filter.status.all"));
+
+        var roleFilterSelect = new Select<Role>();
+        roleFilterSelect.setPlaceholder(getTranslation("user-list.filter.role.all"));
+        roleFilterSelect.setItems(Role.values());
+        roleFilterSelect.setEmptySelectionAllowed(true);
+        roleFilterSelect.setEmptySelectionCaption(getTranslation("user-list.filter.role.all"));
+
+        var countryFilterCombo = createCountryComboBox();
+        countryFilterCombo.setPlaceholder(getTranslation("user-list.filter.country.all"));
+
         Button createUserButton = new Button(getTranslation("user-list.create"));
         createUserButton.addClickListener(e -> openCreateUserDialog());
 
-        var toolbar = new HorizontalLayout(filterField, createUserButton);
+        var toolbar = new HorizontalLayout(filterField, statusFilterSelect, roleFilterSelect,
+                countryFilterCombo, createUserButton);
         toolbar.setWidthFull();
         toolbar.setFlexGrow(1, filterField);
         add(toolbar);
 
         grid = new Grid<>(User.class, false);
-        grid.setAllRowsVisible(true);
-        grid.addColumn(User::getName).setHeader(getTranslation("user-list.column.name")).setSortable(true).setFlexGrow(2);
-        grid.addColumn(User::getEmail).setHeader(getTranslation("user-list.column.email")).setSortable(true).setFlexGrow(3);
+        grid.setPageSize(50);
+        grid.setHeight("600px");
+        grid.addColumn(User::getName).setHeader(getTranslation("user-list.column.name")).setFlexGrow(2);
+        grid.addColumn(User::getEmail).setHeader(getTranslation("user-list.column.email")).setFlexGrow(3);
         grid.addColumn(user -> user.getMeaderyName() != null ? user.getMeaderyName() : "—")
-                .setHeader(getTranslation("user-list.column.meadery")).setSortable(true).setFlexGrow(2);
+                .setHeader(getTranslation("user-list.column.meadery")).setFlexGrow(2);
         grid.addColumn(user -> {
             if (user.getCountry() == null) return "—";
             return new Locale("", user.getCountry()).getDisplayCountry(Locale.ENGLISH);
-        }).setHeader(getTranslation("user-list.column.country")).setSortable(true).setAutoWidth(true);
-        grid.addColumn(User::getRole).setHeader(getTranslation("user-list.column.role")).setSortable(true).setAutoWidth(true);
-        grid.addColumn(User::getStatus).setHeader(getTranslation("user-list.column.status")).setSortable(true).setAutoWidth(true);
+        }).setHeader(getTranslation("user-list.column.country")).setAutoWidth(true);
+        grid.addColumn(User::getRole).setHeader(getTranslation("user-list.column.role")).setAutoWidth(true);
+        grid.addColumn(User::getStatus).setHeader(getTranslation("user-list.column.status")).setAutoWidth(true);
         grid.addComponentColumn(user -> {
             Button editButton = new Button(new Icon(VaadinIcon.EDIT));
             editButton.addThemeVariants(ButtonVariant.LUMO_ICON, ButtonVariant.LUMO_TERTIARY_INLINE);
@@ -115,16 +141,29 @@ public class UserListView extends VerticalLayout implements BeforeEnterObserver
 
         grid.getColumns().forEach(col -> col.setResizable(true));
 
-        var dataView = grid.setItems(userService.findAll());
+        // Keyed by id so an edited user replaces its row without reloading the page
+        dataProvider = new CallbackDataProvider<>(
+                query -> userService.searchUsers(textFilter, statusFilter, roleFilter, countryFilter,
+                        VaadinSpringDataHelpers.toSpringPageRequest(query)).stream(),
+                query -> (int) userService.countUsers(textFilter, statusFilter, roleFilter, countryFilter),
+                User::getId);
+        grid.setItems(dataProvider);
+
         filterField.addValueChangeListener(e -> {
-            var filterString = e.getValue().toLowerCase();
-            if (filterString.isBlank()) {
-                dataView.removeFilters();
-            } else {
-                dataView.setFilter(user ->
-                        user.getEmail().toLowerCase().contains(filterString) ||
-                        user.getName().toLowerCase().contains(filterString));
-            }
+            textFilter = e.getValue();
+            dataProvider.refreshAll();
+        });
+        statusFilterSelect.addValueChangeListener(e -> {
+            statusFilter = e.getValue();
+            dataProvider.refreshAll();
+        });
+        roleFilterSelect.addValueChangeListener(e -> {
+            roleFilter = e.getValue();
+            dataProvider.refreshAll();
+        });
+        countryFilterCombo.addValueChangeListener(e -> {
+            countryFilter = e.getValue();
+            dataProvider.refreshAll();
         });
 
         add(grid);
@@ -193,7 +232,11 @@ public class UserListView extends VerticalLayout implements BeforeEnterObserver
 
         boolean isSoftDelete = user.getStatus() != UserStatus.INACTIVE;
         userService.removeUser(user.getId(), currentUserEmail);
-        grid.setItems(userService.findAll());
+        if (isSoftDelete) {
+            dataProvider.refreshItem(userService.findById(user.getId()));
+        } else {
+            dataProvider.refreshAll();
+        }
         var notification = Notification.show(isSoftDelete ? getTranslation("user-list.deactivated") : getTranslation("user-list.deleted"));
         notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
     }
@@ -244,15 +287,8 @@ public class UserListView extends VerticalLayout implements BeforeEnterObserver
             meaderyField.setValue(existingUser.getMeaderyName());
         }
 
-        var countryCombo = new ComboBox<String>(getTranslation("user-list.dialog.country.label"));
-        var countries = Arrays.stream(Locale.getISOCountries())
-                .sorted((a, b) -> new Locale("", a).getDisplayCountry(Locale.ENGLISH)
-                        .compareTo(new Locale("", b).getDisplayCountry(Locale.ENGLISH)))
-                .toList();
-        countryCombo.setItems(countries);
-        countryCombo.setItemLabelGenerator(code ->
-                new Locale("", code).getDisplayCountry(Locale.ENGLISH));
-        countryCombo.setClearButtonVisible(true);
+        var countryCombo = createCountryComboBox();
+        countryCombo.setLabel(getTranslation("user-list.dialog.country.label"));
         countryCombo.setWidthFull();
         if (!isCreate && existingUser.getCountry() != null) {
             countryCombo.setValue(existingUser.getCountry());
@@ -327,7 +363,11 @@ public class UserListView extends VerticalLayout implements BeforeEnterObserver
                             meadery != null && !meadery.isBlank() ? meadery.trim() : null,
                             countryCombo.getValue(), null);
                 }
-                grid.setItems(userService.findAll());
+                if (isCreate) {
+                    dataProvider.refreshAll();
+                } else {
+                    dataProvider.refreshItem(userService.findById(existingUser.getId()));
+                }
                 var notification = Notification.show(isCreate ? getTranslation("user-list.dialog.created") : getTranslation("user-list.dialog.saved"));
                 notification.addThemeVariants(NotificationVariant.LUMO_SUCCESS);
                 generatePasswordSetupLinkIfNeeded(savedUser);
@@ -376,6 +416,19 @@ public class UserListView extends VerticalLayout implements BeforeEnterObserver
         }
     }
 
+    private ComboBox<String> createCountryComboBox() {
+        var combo = new ComboBox<String>();
+        var countries = Arrays.stream(Locale.getISOCountries())
+                .sorted((a, b) -> new Locale("", a).getDisplayCountry(Locale.ENGLISH)
+                        .compareTo(new Locale("", b).getDisplayCountry(Locale.ENGLISH)))
+                .toList();
+        combo.setItems(countries);
+        combo.setItemLabelGenerator(code ->
+                new Locale("", code).getDisplayCountry(Locale.ENGLISH));
+        combo.setClearButtonVisible(true);
+        return combo;
+    }
+
     private String getCurrentUserEmail() {
         return authenticationContext.getAuthenticatedUser(UserDetails.class)
                 .map(UserDetails::getUsername)
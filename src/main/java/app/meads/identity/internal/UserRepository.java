@@ -2,13 +2,40 @@ package app.meads.identity.internal;
 
 import app.meads.identity.Role;
 import app.meads.identity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
+    List<User> findByEmailIn(Collection<String> emails);
     boolean existsByRole(Role role);
     boolean existsByEmail(String email);
+
+    @Query(value = "SELECT u.* FROM users u "
+            + "WHERE (CAST(:status AS varchar) IS NULL OR u.status = CAST(:status AS varchar)) "
+            + "AND (CAST(:role AS varchar) IS NULL OR u.role = CAST(:role AS varchar)) "
+            + "AND (CAST(:country AS varchar) IS NULL OR u.country = CAST(:country AS varchar)) "
+            + "AND (:pattern = '%' OR u.name ILIKE :pattern OR u.email ILIKE :pattern "
+            + "OR u.meadery_name ILIKE :pattern) "
+            + "ORDER BY CASE WHEN :query = '' THEN 0 ELSE GREATEST(word_similarity(:query, u.name), "
+            + "word_similarity(:query, u.email), word_similarity(:query, COALESCE(u.meadery_name, ''))) END DESC, "
+            + "u.name, u.id",
+            nativeQuery = true)
+    List<User> search(String status, String role, String country, String query, String pattern,
+                      Pageable pageable);
+
+    @Query(value = "SELECT COUNT(*) FROM users u "
+            + "WHERE (CAST(:status AS varchar) IS NULL OR u.status = CAST(:status AS varchar)) "
+            + "AND (CAST(:role AS varchar) IS NULL OR u.role = CAST(:role AS varchar)) "
+            + "AND (CAST(:country AS varchar) IS NULL OR u.country = CAST(:country AS varchar)) "
+            + "AND (:pattern = '%' OR u.name ILIKE :pattern OR u.email ILIKE :pattern "
+            + "OR u.meadery_name ILIKE :pattern)",
+            nativeQuery = true)
+    long countSearch(String status, String role, String country, String pattern);
 }
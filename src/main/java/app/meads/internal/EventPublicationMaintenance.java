@@ -0,0 +1,233 @@
+package app.meads.internal;
+
+import app.meads.ClusterJobRunner;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the Spring Modulith {@code event_publication} table small and its backlog moving.
+ * Completed publications past the retention window are deleted in bounded batches, each in
+ * its own transaction. Incomplete publications older than {@code resubmit-after} are handed
+ * back to their listeners with exponential backoff, up to {@code max-attempts} per publication.
+ * Attempts are kept on the publication row itself ({@code completion_attempts} and
+ * {@code last_resubmission_date}), so the backoff holds across restarts and whichever instance
+ * runs the next pass.
+ * Both jobs run through {@link ClusterJobRunner}, so only one instance performs each pass.
+ * The backlog is also published as gauges, read from the table on each scrape.
+ */
+@Slf4j
+@Component
+class EventPublicationMaintenance implements MeterBinder {
+
+    private static final String PURGE_SQL = """
+            DELETE FROM event_publication
+            WHERE id IN (
+                SELECT id FROM event_publication
+                WHERE completion_date < :cutoff
+                ORDER BY completion_date
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED)""";
+
+    private static final String ATTEMPTS_SQL = """
+            SELECT id, COALESCE(completion_attempts, 0) AS attempts, last_resubmission_date
+            FROM event_publication
+            WHERE completion_date IS NULL AND publication_date <= :cutoff""";
+
+    private static final String RECORD_ATTEMPT_SQL = """
+            UPDATE event_publication
+            SET completion_attempts = :attempts, last_resubmission_date = :resubmittedAt
+            WHERE id = :id""";
+
+    private static final String BACKLOG_SQL = """
+            SELECT COUNT(*) AS incomplete, MIN(publication_date) AS oldest
+            FROM event_publication
+            WHERE completion_date IS NULL""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final IncompleteEventPublications incompletePublications;
+    private final ClusterJobRunner jobRunner;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration resubmitAfter;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Duration purgeLease;
+    private final Duration resubmissionLease;
+
+    // The leases keep to one pass per trigger across instances, so each must be shorter than its trigger
+    EventPublicationMaintenance(NamedParameterJdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                IncompleteEventPublications incompletePublications,
+                                ClusterJobRunner jobRunner,
+                                @Value("${app.events.retention:P30D}") Duration retention,
+                                @Value("${app.events.purge-batch-size:1000}") int batchSize,
+                                @Value("${app.events.resubmit-after:PT5M}") Duration resubmitAfter,
+                                @Value("${app.events.resubmit-max-backoff:PT6H}") Duration maxBackoff,
+                                @Value("${app.events.resubmit-max-attempts:10}") int maxAttempts,
+                                @Value("${app.events.purge-lease:PT1H}") Duration purgeLease,
+                                @Value("${app.events.resubmit-lease:PT30S}") Duration resubmissionLease) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Event publication purge batch size must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.incompletePublications = incompletePublications;
+        this.jobRunner = jobRunner;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.resubmitAfter = resubmitAfter;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.purgeLease = purgeLease;
+        this.resubmissionLease = resubmissionLease;
+    }
+
+    @Scheduled(cron = "${app.events.purge-cron:0 30 3 * * *}")
+    void scheduledPurge() {
+        jobRunner.run("event-publication-purge", purgeLease, this::purgeCompleted);
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.resubmit-interval:PT1M}",
+            initialDelayString = "${app.events.resubmit-interval:PT1M}")
+    void scheduledResubmission() {
+        jobRunner.run("event-publication-resubmission", resubmissionLease, this::resubmitIncomplete);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("meads.events.incomplete", this, maintenance -> maintenance.backlog().incomplete())
+                .description("Event publications not yet completed by their listener")
+                .register(registry);
+        Gauge.builder("meads.events.oldest.incomplete.age", this, maintenance -> {
+                    var oldest = maintenance.backlog().oldestPublication();
+                    return oldest == null ? 0 : Duration.between(oldest, Instant.now()).toMillis() / 1000.0;
+                })
+                .description("Age of the oldest incomplete event publication")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    void purgeCompleted() {
+        var cutoff = Timestamp.from(Instant.now().minus(retention));
+        long total = 0;
+        int deleted;
+        do {
+            deleted = batchTransaction.execute(status -> jdbcTemplate.update(PURGE_SQL,
+                    Map.of("cutoff", cutoff, "batchSize", batchSize)));
+            total += deleted;
+        } while (deleted == batchSize);
+        log.info("Purged {} completed event publications older than {}", total, retention);
+    }
+
+    void resubmitIncomplete() {
+        var now = Instant.now();
+        var attempts = loadAttempts(now);
+        var resubmitted = new HashMap<UUID, Integer>();
+        incompletePublications.resubmitIncompletePublications(publication -> {
+            var previous = attempts.getOrDefault(publication.getIdentifier(), Attempts.NONE);
+            if (!isDue(publication, previous, now)) {
+                return false;
+            }
+            resubmitted.put(publication.getIdentifier(), previous.count() + 1);
+            return true;
+        });
+        // Written once the resubmission returns, as absolute values, so this pass counts once
+        recordAttempts(resubmitted, now);
+        var backlog = backlog();
+        if (backlog.incomplete() > 0) {
+            log.info("Event publication backlog: {} incomplete, oldest published {}",
+                    backlog.incomplete(), backlog.oldestPublication());
+        }
+    }
+
+    Map<UUID, Attempts> loadAttempts(Instant now) {
+        var attempts = new HashMap<UUID, Attempts>();
+        jdbcTemplate.query(ATTEMPTS_SQL, Map.of("cutoff", Timestamp.from(now.minus(resubmitAfter))), rs -> {
+            var lastResubmission = rs.getTimestamp("last_resubmission_date");
+            attempts.put(rs.getObject("id", UUID.class), new Attempts(rs.getInt("attempts"),
+                    lastResubmission != null ? lastResubmission.toInstant() : null));
+        });
+        return attempts;
+    }
+
+    void recordAttempts(Map<UUID, Integer> attempts, Instant resubmittedAt) {
+        if (attempts.isEmpty()) {
+            return;
+        }
+        var batch = attempts.entrySet().stream()
+                .map(attempt -> new MapSqlParameterSource()
+                        .addValue("id", attempt.getKey())
+                        .addValue("attempts", attempt.getValue())
+                        .addValue("resubmittedAt", Timestamp.from(resubmittedAt)))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(RECORD_ATTEMPT_SQL, batch);
+    }
+
+    boolean isDue(EventPublication publication, Attempts previous, Instant now) {
+        // Younger publications may still be running on their listener executor
+        if (publication.getPublicationDate().plus(resubmitAfter).isAfter(now)) {
+            return false;
+        }
+        if (previous.count() >= maxAttempts || previous.nextDue(resubmitAfter, maxBackoff).isAfter(now)) {
+            return false;
+        }
+        if (previous.count() + 1 == maxAttempts) {
+            log.error("Resubmitting event publication {} ({}) for the last time",
+                    publication.getIdentifier(), publication.getEvent().getClass().getSimpleName());
+        }
+        return true;
+    }
+
+    Backlog backlog() {
+        return jdbcTemplate.queryForObject(BACKLOG_SQL, Map.of(), (rs, rowNum) -> {
+            var oldest = rs.getTimestamp("oldest");
+            return new Backlog(rs.getLong("incomplete"), oldest != null ? oldest.toInstant() : null);
+        });
+    }
+
+    /**
+     * @param oldestPublication publication date of the oldest incomplete publication,
+     *                          {@code null} when there is none
+     */
+    record Backlog(long incomplete, Instant oldestPublication) {
+    }
+
+    /**
+     * @param lastResubmission when the publication was last handed back, {@code null} if never
+     */
+    record Attempts(int count, Instant lastResubmission) {
+
+        static final Attempts NONE = new Attempts(0, null);
+
+        Instant nextDue(Duration initialBackoff, Duration maxBackoff) {
+            if (count == 0 || lastResubmission == null) {
+                return Instant.MIN;
+            }
+            // initialBackoff * 2^(count - 1), capped; the shift is bounded to keep it from overflowing
+            var backoff = initialBackoff.multipliedBy(1L << Math.min(count - 1, 20));
+            if (backoff.compareTo(maxBackoff) > 0) {
+                backoff = maxBackoff;
+            }
+            return lastResubmission.plus(backoff);
+        }
+    }
+}
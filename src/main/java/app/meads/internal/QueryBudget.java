@@ -0,0 +1,94 @@
+package app.meads.internal;
+
+import app.meads.StatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Checks each web request, Vaadin navigation and Vaadin UI event against a statement and
+ * latency budget. A request over {@code max-statements}, repeating one statement shape more than
+ * {@code max-repeats} times (the signature of a query per grid row) or slower than
+ * {@code max-duration} is logged with the view or endpoint and its most repeated statement,
+ * and counted in {@code meads.request.over-budget} per budget it broke. Statement counts of all
+ * requests that issued any go to {@code meads.request.statements}.
+ */
+@Slf4j
+@Component
+class QueryBudget {
+
+    private static final int MAX_LOGGED_SHAPE_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int maxRepeats;
+    private final Duration maxDuration;
+
+    QueryBudget(MeterRegistry meterRegistry,
+                @Value("${app.query-budget.max-statements:50}") int maxStatements,
+                @Value("${app.query-budget.max-repeats:10}") int maxRepeats,
+                @Value("${app.query-budget.max-duration:PT1S}") Duration maxDuration) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * Closes {@code scope} and reports it.
+     *
+     * @param kind           {@code http}, {@code navigation} or {@code ui-event}
+     * @param targetResolver the endpoint pattern or view class the request was handled by, only
+     *                       resolved for requests that issued statements or ran over time
+     */
+    void finish(StatementCounter.Scope scope, String kind, Supplier<String> targetResolver) {
+        scope.close();
+        var elapsed = scope.elapsed();
+        var mostRepeated = scope.mostRepeated();
+        if (mostRepeated == null && elapsed.compareTo(maxDuration) <= 0) {
+            return;
+        }
+        var target = targetResolver.get();
+
+        if (mostRepeated != null) {
+            DistributionSummary.builder("meads.request.statements")
+                    .description("SQL statements issued per request")
+                    .tags("kind", kind, "target", target)
+                    .register(meterRegistry)
+                    .record(scope.count());
+        }
+
+        var broken = new ArrayList<String>(3);
+        if (scope.count() > maxStatements) {
+            broken.add("statements");
+        }
+        if (mostRepeated != null && mostRepeated.count() > maxRepeats) {
+            broken.add("repeats");
+        }
+        if (elapsed.compareTo(maxDuration) > 0) {
+            broken.add("duration");
+        }
+        if (broken.isEmpty()) {
+            return;
+        }
+
+        for (var budget : broken) {
+            meterRegistry.counter("meads.request.over-budget",
+                    "kind", kind, "target", target, "budget", budget).increment();
+        }
+        log.warn("{} {} over {} budget: {} statements in {} ms, most repeated {}x: {}",
+                kind, target, String.join("/", broken), scope.count(), elapsed.toMillis(),
+                mostRepeated != null ? mostRepeated.count() : 0,
+                mostRepeated != null ? abbreviate(mostRepeated.sql()) : "-");
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SHAPE_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SHAPE_LENGTH) + "...";
+    }
+}
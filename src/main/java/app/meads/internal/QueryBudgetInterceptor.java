@@ -0,0 +1,56 @@
+package app.meads.internal;
+
+import app.meads.StatementCounter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Opens a {@link StatementCounter} scope around a controller request and reports it to the
+ * {@link QueryBudget}. An asynchronous handler (a {@code Callable}, {@code StreamingResponseBody}
+ * and the like) hands the request thread back to the container once it returns, so the scope is
+ * finished right there, covering the part that ran on that thread; leaving it open would leak it
+ * into whatever request the thread serves next. The async dispatch that completes the response
+ * is not counted again.
+ */
+class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = QueryBudgetInterceptor.class.getName() + ".scope";
+
+    private final QueryBudget queryBudget;
+
+    QueryBudgetInterceptor(QueryBudget queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            request.setAttribute(SCOPE_ATTRIBUTE, StatementCounter.open());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        finish(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        finish(request);
+    }
+
+    private void finish(HttpServletRequest request) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof StatementCounter.Scope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            queryBudget.finish(scope, "http", () -> request.getMethod() + " "
+                    + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package app.meads.internal;
+
+import app.meads.StatementCounter;
+import com.vaadin.flow.router.AfterNavigationEvent;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinRequestInterceptor;
+import com.vaadin.flow.server.VaadinResponse;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.shared.ApplicationConstants;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Holds Vaadin requests to the {@link QueryBudget}. A request that navigated is reported as a
+ * {@code navigation} of the view it ended on; any other request, such as a button click or a
+ * grid fetching its next page, as a {@code ui-event} of the view its UI was showing. Push
+ * updates from background threads run outside a request and are not checked.
+ */
+@Component
+class QueryBudgetVaadinListener implements VaadinServiceInitListener, VaadinRequestInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = QueryBudgetVaadinListener.class.getName() + ".scope";
+    private static final String VIEW_ATTRIBUTE = QueryBudgetVaadinListener.class.getName() + ".view";
+    private static final String UNKNOWN_VIEW = "unknown";
+
+    private final QueryBudget queryBudget;
+
+    QueryBudgetVaadinListener(QueryBudget queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        event.addVaadinRequestInterceptor(this);
+        event.getSource().addUIInitListener(init ->
+                init.getUI().addAfterNavigationListener(this::afterNavigation));
+    }
+
+    private void afterNavigation(AfterNavigationEvent event) {
+        var request = VaadinRequest.getCurrent();
+        if (request != null && !event.getActiveChain().isEmpty()) {
+            request.setAttribute(VIEW_ATTRIBUTE, viewName(event.getActiveChain().getFirst()));
+        }
+    }
+
+    @Override
+    public void requestStart(VaadinRequest request, VaadinResponse response) {
+        request.setAttribute(SCOPE_ATTRIBUTE, StatementCounter.open());
+    }
+
+    @Override
+    public void handleException(VaadinRequest request, VaadinResponse response,
+                                VaadinSession session, Exception exception) {
+        // Reported in requestEnd like any other request
+    }
+
+    @Override
+    public void requestEnd(VaadinRequest request, VaadinResponse response, VaadinSession session) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof StatementCounter.Scope scope)) {
+            return;
+        }
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        if (request.getAttribute(VIEW_ATTRIBUTE) instanceof String view) {
+            queryBudget.finish(scope, "navigation", () -> view);
+        } else {
+            queryBudget.finish(scope, "ui-event", () -> currentView(request, session));
+        }
+    }
+
+    private static String currentView(VaadinRequest request, VaadinSession session) {
+        var uiId = request.getParameter(ApplicationConstants.UI_ID_PARAMETER);
+        if (session == null || uiId == null) {
+            return UNKNOWN_VIEW;
+        }
+        session.lock();
+        try {
+            var ui = session.getUIById(Integer.parseInt(uiId));
+            if (ui == null) {
+                return UNKNOWN_VIEW;
+            }
+            var chain = ui.getInternals().getActiveRouterTargetsChain();
+            return chain.isEmpty() ? UNKNOWN_VIEW : viewName(chain.getFirst());
+        } catch (NumberFormatException e) {
+            return UNKNOWN_VIEW;
+        } finally {
+            session.unlock();
+        }
+    }
+
+    private static String viewName(Object view) {
+        return ClassUtils.getUserClass(view).getSimpleName();
+    }
+}
@@ -0,0 +1,24 @@
+package app.meads.internal;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Holds the controller endpoints to the {@link QueryBudget}. Requests forwarded to the Vaadin
+ * servlet have no handler method and are checked by {@link QueryBudgetVaadinListener} instead.
+ */
+@Configuration
+class QueryBudgetWebConfiguration implements WebMvcConfigurer {
+
+    private final QueryBudget queryBudget;
+
+    QueryBudgetWebConfiguration(QueryBudget queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor(queryBudget));
+    }
+}
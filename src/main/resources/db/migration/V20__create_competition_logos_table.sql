@@ -0,0 +1,26 @@
+CREATE TABLE competition_logos (
+    competition_id UUID PRIMARY KEY REFERENCES competitions(id),
+    content_type VARCHAR(100) NOT NULL,
+    data BYTEA NOT NULL,
+    header_content_type VARCHAR(100) NOT NULL,
+    header_data BYTEA NOT NULL,
+    hash VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE
+);
+
+-- Existing logos have no downscaled variant yet; the original doubles as the header
+-- variant until the logo is re-uploaded.
+INSERT INTO competition_logos (competition_id, content_type, data, header_content_type, header_data, hash, created_at)
+SELECT id, logo_content_type, logo, logo_content_type, logo, encode(sha256(logo), 'hex'), NOW()
+FROM competitions
+WHERE logo IS NOT NULL;
+
+ALTER TABLE competitions ADD COLUMN logo_hash VARCHAR(64);
+
+UPDATE competitions c
+SET logo_hash = l.hash
+FROM competition_logos l
+WHERE l.competition_id = c.id;
+
+ALTER TABLE competitions DROP COLUMN logo;
@@ -0,0 +1,13 @@
+ALTER TABLE competition_documents ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE competition_documents ADD COLUMN size_bytes BIGINT;
+
+UPDATE competition_documents
+SET content_hash = encode(sha256(data), 'hex'),
+    size_bytes = length(data)
+WHERE data IS NOT NULL;
+
+CREATE INDEX idx_competition_documents_content_hash ON competition_documents(content_hash);
+
+-- The data column is no longer mapped. LegacyDocumentContentMigrator copies any remaining
+-- bytes into the document store on startup and clears them; the column can be dropped
+-- once every environment has run it.
@@ -0,0 +1,7 @@
+-- Feeds AccessCodeAllocator; each value is permuted into a distinct 8-character code
+CREATE SEQUENCE access_code_seq;
+
+-- Codes were previously probed for uniqueness in the application; enforce it here instead
+DROP INDEX idx_participants_access_code;
+CREATE UNIQUE INDEX uq_participants_access_code ON participants(access_code)
+    WHERE access_code IS NOT NULL;
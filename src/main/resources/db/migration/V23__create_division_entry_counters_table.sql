@@ -0,0 +1,9 @@
+CREATE TABLE division_entry_counters (
+    division_id  UUID PRIMARY KEY REFERENCES divisions(id) ON DELETE CASCADE,
+    last_number  INT  NOT NULL
+);
+
+INSERT INTO division_entry_counters (division_id, last_number)
+SELECT division_id, MAX(entry_number)
+FROM entries
+GROUP BY division_id;
@@ -0,0 +1,5 @@
+-- Incomplete publications are a small, hot subset of event_publication; a partial index
+-- keeps resubmission and backlog scans independent of how many completed rows remain
+CREATE INDEX idx_event_publication_incomplete
+    ON event_publication (publication_date)
+    WHERE completion_date IS NULL;
@@ -0,0 +1,13 @@
+CREATE TABLE scheduled_job_runs (
+    id UUID PRIMARY KEY,
+    job_name VARCHAR(100) NOT NULL,
+    instance_id VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    started_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    finished_at TIMESTAMP WITH TIME ZONE,
+    duration_ms BIGINT,
+    error TEXT
+);
+
+CREATE INDEX idx_scheduled_job_runs_job_started
+    ON scheduled_job_runs (job_name, started_at DESC);
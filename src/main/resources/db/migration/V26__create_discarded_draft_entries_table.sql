@@ -0,0 +1,27 @@
+-- Drafts left unsubmitted when registration closes are moved here rather than deleted, so
+-- reverting the division to REGISTRATION_OPEN can put them back unchanged
+CREATE TABLE discarded_draft_entries (
+    id                      UUID            PRIMARY KEY,
+    division_id             UUID            NOT NULL REFERENCES divisions(id),
+    user_id                 UUID            NOT NULL REFERENCES users(id),
+    entry_number            INT             NOT NULL,
+    entry_code              VARCHAR(6)      NOT NULL,
+    mead_name               VARCHAR(255)    NOT NULL,
+    initial_category_id     UUID            NOT NULL,
+    final_category_id       UUID,
+    sweetness               VARCHAR(50)     NOT NULL,
+    strength                VARCHAR(50)     NOT NULL,
+    abv                     DECIMAL(4,1)    NOT NULL,
+    carbonation             VARCHAR(50)     NOT NULL,
+    honey_varieties         TEXT            NOT NULL,
+    other_ingredients       TEXT,
+    wood_aged               BOOLEAN         NOT NULL,
+    wood_ageing_details     TEXT,
+    additional_information  TEXT,
+    status                  VARCHAR(50)     NOT NULL,
+    created_at              TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at              TIMESTAMP WITH TIME ZONE,
+    discarded_at            TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_discarded_draft_entries_division_user ON discarded_draft_entries(division_id, user_id);
@@ -0,0 +1,17 @@
+-- One row per archive file written by CompetitionArchiver. The competition itself is purged,
+-- so competition_id, short_name and name are copies rather than references.
+CREATE TABLE competition_archives (
+    id              UUID            PRIMARY KEY,
+    competition_id  UUID            NOT NULL,
+    short_name      VARCHAR(100)    NOT NULL,
+    name            VARCHAR(255)    NOT NULL,
+    file_name       VARCHAR(255)    NOT NULL,
+    size_bytes      BIGINT          NOT NULL,
+    sha256          VARCHAR(64)     NOT NULL,
+    row_count       BIGINT          NOT NULL,
+    status          VARCHAR(20)     NOT NULL,
+    archived_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+    restored_at     TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_competition_archives_competition_id ON competition_archives(competition_id);
@@ -0,0 +1,13 @@
+-- Substring search in the admin grids: gin_trgm_ops indexes serve ILIKE '%text%' and
+-- word_similarity ranking without scanning the tables
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_entries_mead_name_trgm ON entries USING gin (mead_name gin_trgm_ops);
+CREATE INDEX idx_entries_honey_varieties_trgm ON entries USING gin (honey_varieties gin_trgm_ops);
+
+CREATE INDEX idx_users_name_trgm ON users USING gin (name gin_trgm_ops);
+CREATE INDEX idx_users_email_trgm ON users USING gin (email gin_trgm_ops);
+CREATE INDEX idx_users_meadery_name_trgm ON users USING gin (meadery_name gin_trgm_ops);
+
+CREATE INDEX idx_jumpseller_orders_order_id_trgm ON jumpseller_orders USING gin (jumpseller_order_id gin_trgm_ops);
+CREATE INDEX idx_jumpseller_orders_customer_email_trgm ON jumpseller_orders USING gin (customer_email gin_trgm_ops);
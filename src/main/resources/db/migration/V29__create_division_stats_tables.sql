@@ -0,0 +1,65 @@
+-- Per-division counters for the statistics dashboard, kept up to date from entry and credit
+-- events. division_stats holds one value per dimension and bucket (e.g. STATUS/SUBMITTED,
+-- COUNTRY/PT) so the dashboard reads a division in one index range scan. The contribution
+-- tables record what each entry and entrant is currently counted under, so an update can take
+-- the old contribution back out without the event carrying the previous values.
+CREATE TABLE division_stats (
+    division_id  UUID            NOT NULL REFERENCES divisions(id) ON DELETE CASCADE,
+    dimension    VARCHAR(20)     NOT NULL,
+    bucket       VARCHAR(100)    NOT NULL,
+    value        BIGINT          NOT NULL,
+    PRIMARY KEY (division_id, dimension, bucket)
+);
+
+-- No foreign key to entries: the row has to outlive a deleted entry until its contribution
+-- has been subtracted
+CREATE TABLE division_stats_entries (
+    entry_id     UUID            PRIMARY KEY,
+    division_id  UUID            NOT NULL REFERENCES divisions(id) ON DELETE CASCADE,
+    status       VARCHAR(50)     NOT NULL,
+    category_id  UUID            NOT NULL,
+    country      VARCHAR(2)      NOT NULL,
+    sweetness    VARCHAR(50)     NOT NULL,
+    strength     VARCHAR(50)     NOT NULL
+);
+
+CREATE INDEX idx_division_stats_entries_division ON division_stats_entries(division_id);
+
+CREATE TABLE division_stats_entrants (
+    division_id     UUID        NOT NULL REFERENCES divisions(id) ON DELETE CASCADE,
+    user_id         UUID        NOT NULL,
+    credit_balance  INT         NOT NULL,
+    PRIMARY KEY (division_id, user_id)
+);
+
+INSERT INTO division_stats_entries (entry_id, division_id, status, category_id, country, sweetness, strength)
+SELECT e.id, e.division_id, e.status, e.initial_category_id, COALESCE(u.country, ''), e.sweetness, e.strength
+FROM entries e
+JOIN users u ON u.id = e.user_id;
+
+INSERT INTO division_stats_entrants (division_id, user_id, credit_balance)
+SELECT division_id, user_id, SUM(amount)
+FROM entry_credits
+GROUP BY division_id, user_id;
+
+INSERT INTO division_stats (division_id, dimension, bucket, value)
+SELECT c.division_id, f.dimension, f.bucket, COUNT(*)
+FROM division_stats_entries c
+CROSS JOIN LATERAL (VALUES
+    ('STATUS', c.status),
+    ('CATEGORY', CASE WHEN c.status <> 'WITHDRAWN' THEN c.category_id::text END),
+    ('COUNTRY', CASE WHEN c.status <> 'WITHDRAWN' THEN c.country END),
+    ('SWEETNESS', CASE WHEN c.status <> 'WITHDRAWN' THEN c.sweetness END),
+    ('STRENGTH', CASE WHEN c.status <> 'WITHDRAWN' THEN c.strength END)
+) AS f(dimension, bucket)
+WHERE f.bucket IS NOT NULL
+GROUP BY c.division_id, f.dimension, f.bucket;
+
+INSERT INTO division_stats (division_id, dimension, bucket, value)
+SELECT c.division_id, 'CREDITS', f.bucket, SUM(f.value)
+FROM division_stats_entrants c
+CROSS JOIN LATERAL (VALUES
+    ('BALANCE', c.credit_balance),
+    ('ENTRANTS', CASE WHEN c.credit_balance > 0 THEN 1 ELSE 0 END)
+) AS f(bucket, value)
+GROUP BY c.division_id, f.bucket;
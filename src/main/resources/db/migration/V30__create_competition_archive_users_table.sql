@@ -0,0 +1,11 @@
+-- Users referenced by the rows of an archive. Users are not archived themselves, so deleting
+-- one while an archive still refers to it would make that archive impossible to restore; the
+-- competition module's user deletion guard checks this table. No foreign key to users, for the
+-- same reason competition_archives keeps copies instead of references.
+CREATE TABLE competition_archive_users (
+    archive_id  UUID    NOT NULL REFERENCES competition_archives(id) ON DELETE CASCADE,
+    user_id     UUID    NOT NULL,
+    PRIMARY KEY (archive_id, user_id)
+);
+
+CREATE INDEX idx_competition_archive_users_user_id ON competition_archive_users(user_id);
@@ -0,0 +1,137 @@
+package app.meads;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class ClusterJobRunnerTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    String jobName;
+
+    @BeforeEach
+    void setUp() {
+        // Runs commit for real; a unique name keeps history and locks apart between tests
+        jobName = "test-job-" + UUID.randomUUID();
+    }
+
+    private ClusterJobRunner instance(String instanceId) {
+        return new ClusterJobRunner(dataSource, instanceId, Duration.ofDays(30));
+    }
+
+    @Test
+    void shouldRunJobOnOnlyOneInstanceAtATime() throws Exception {
+        var instances = new ArrayList<ClusterJobRunner>();
+        for (int i = 0; i < 4; i++) {
+            instances.add(instance("instance-" + i));
+        }
+        var start = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var ran = new AtomicInteger();
+
+        try (var pool = Executors.newFixedThreadPool(instances.size())) {
+            var results = new ArrayList<Future<Boolean>>();
+            for (var instance : instances) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return instance.run(jobName, Duration.ZERO, () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        ran.incrementAndGet();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        running.decrementAndGet();
+                    });
+                }));
+            }
+            start.countDown();
+            // Losers return immediately; the winner holds the lock until released
+            Thread.sleep(500);
+            release.countDown();
+            long winners = 0;
+            for (var result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    winners++;
+                }
+            }
+            assertThat(winners).isEqualTo(1);
+        }
+
+        assertThat(ran).hasValue(1);
+        assertThat(maxRunning).hasValue(1);
+        var runs = instances.getFirst().findRecentRuns(jobName, 10);
+        assertThat(runs).singleElement().satisfies(run -> {
+            assertThat(run.status()).isEqualTo(JobRun.Status.SUCCEEDED);
+            assertThat(run.instanceId()).startsWith("instance-");
+            assertThat(run.duration()).isGreaterThanOrEqualTo(Duration.ZERO);
+        });
+    }
+
+    @Test
+    void shouldReleaseLockAfterRunSoNextTriggerRuns() {
+        var first = instance("instance-a");
+        var second = instance("instance-b");
+
+        assertThat(first.run(jobName, Duration.ZERO, () -> { })).isTrue();
+        assertThat(second.run(jobName, Duration.ZERO, () -> { })).isTrue();
+
+        assertThat(first.findRecentRuns(jobName, 10))
+                .extracting(JobRun::instanceId)
+                .containsExactly("instance-b", "instance-a");
+    }
+
+    @Test
+    void shouldSkipTriggerThatFiresAgainWithinTheLease() {
+        var first = instance("instance-a");
+        var second = instance("instance-b");
+        var ran = new AtomicInteger();
+
+        // Another instance's trigger for the same slot fires after the first run finished
+        assertThat(first.run(jobName, Duration.ofMinutes(1), ran::incrementAndGet)).isTrue();
+        assertThat(second.run(jobName, Duration.ofMinutes(1), ran::incrementAndGet)).isFalse();
+
+        assertThat(ran).hasValue(1);
+        assertThat(first.findRecentRuns(jobName, 10))
+                .extracting(JobRun::instanceId)
+                .containsExactly("instance-a");
+    }
+
+    @Test
+    void shouldRecordFailedRunAndReleaseLock() {
+        var runner = instance("instance-a");
+
+        var ran = runner.run(jobName, Duration.ZERO, () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThat(ran).isTrue();
+        assertThat(runner.findRecentRuns(jobName, 1)).singleElement().satisfies(run -> {
+            assertThat(run.status()).isEqualTo(JobRun.Status.FAILED);
+            assertThat(run.error()).contains("boom");
+            assertThat(run.finishedAt()).isNotNull();
+        });
+        assertThat(runner.run(jobName, Duration.ZERO, () -> { })).isTrue();
+    }
+}
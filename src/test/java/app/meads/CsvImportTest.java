@@ -0,0 +1,94 @@
+package app.meads;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvImportTest {
+
+    private static CsvImport open(String content, String... requiredColumns) {
+        return CsvImport.open(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                requiredColumns);
+    }
+
+    private static List<CsvImport.Row> readAll(CsvImport csv) {
+        var rows = new ArrayList<CsvImport.Row>();
+        for (var row = csv.next(); row != null; row = csv.next()) {
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    void shouldReadRowsByCaseInsensitiveHeader() {
+        var rows = readAll(open("Email,Credits\r\nana@test.com, 2 \r\nrui@test.com,1\r\n", "email", "credits"));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.getFirst().get("email")).isEqualTo("ana@test.com");
+        assertThat(rows.getFirst().get("credits")).isEqualTo("2");
+        assertThat(rows.getFirst().get("name")).isEmpty();
+        assertThat(rows.get(1).line()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDetectSemicolonSeparatorAndSkipByteOrderMark() {
+        var rows = readAll(open("\uFEFFemail;name\nana@test.com;Ana Sá\n", "email"));
+
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.get("email")).isEqualTo("ana@test.com");
+            assertThat(row.get("name")).isEqualTo("Ana Sá");
+        });
+    }
+
+    @Test
+    void shouldHandleQuotedFieldsAndCountTheirLines() {
+        var rows = readAll(open("""
+                email,name
+                ana@test.com,"Silva, ""Ana""
+                Maria"
+
+                rui@test.com,Rui
+                """, "email"));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.getFirst().get("name")).isEqualTo("Silva, \"Ana\"\nMaria");
+        assertThat(rows.get(1).line()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldRejectEmptyFileOrMissingColumn() {
+        assertThatThrownBy(() -> open("", "email"))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessage("error.import.empty");
+        assertThatThrownBy(() -> open("email,name\n", "email", "role"))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessage("error.import.missing-column");
+    }
+
+    @Test
+    void shouldRejectFilesPastRowLimit() {
+        var content = new StringBuilder("email\n");
+        for (int i = 0; i <= CsvImport.MAX_ROWS; i++) {
+            content.append("user").append(i).append("@test.com\n");
+        }
+        var csv = open(content.toString(), "email");
+
+        assertThatThrownBy(() -> readAll(csv))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessage("error.import.too-many-rows");
+    }
+
+    @Test
+    void shouldValidateEmails() {
+        assertThat(CsvImport.isEmail("ana@test.com")).isTrue();
+        assertThat(CsvImport.isEmail("ana@test")).isFalse();
+        assertThat(CsvImport.isEmail("ana test@test.com")).isFalse();
+        assertThat(CsvImport.isEmail(null)).isFalse();
+    }
+}
@@ -0,0 +1,74 @@
+package app.meads;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.security.SecureRandom;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares code allocation latency at high fill ratios: random draw + existence probe
+ * (the previous approach, with an in-memory set standing in for the database) against
+ * the Feistel permutation. Uses 4-character codes so high fill ratios are reachable.
+ * Excluded from the default build; run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class FeistelCodesBenchmarkTest {
+
+    private static final int LENGTH = 4;
+    private static final int ALLOCATIONS = 5_000;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Test
+    void shouldAllocateWithoutRetriesAtHighFillRatios() {
+        var codes = new FeistelCodes("benchmark-secret-key-minimum-32-characters", "benchmark", LENGTH);
+        var scope = UUID.randomUUID();
+        var capacity = codes.capacity();
+
+        for (var fill : new double[]{0.5, 0.9, 0.99}) {
+            var issued = (long) (capacity * fill);
+            var used = new HashSet<String>();
+            for (long i = 0; i < issued; i++) {
+                used.add(codes.encode(i, scope));
+            }
+
+            var probes = 0L;
+            var start = System.nanoTime();
+            var probeSet = new HashSet<>(used);
+            for (int i = 0; i < ALLOCATIONS; i++) {
+                probes += randomProbeAllocate(probeSet);
+            }
+            var probeNanos = (System.nanoTime() - start) / ALLOCATIONS;
+
+            start = System.nanoTime();
+            for (int i = 0; i < ALLOCATIONS; i++) {
+                var code = codes.encode(issued + i, scope);
+                assertThat(used.add(code)).isTrue();
+            }
+            var feistelNanos = (System.nanoTime() - start) / ALLOCATIONS;
+
+            log.info("fill={}: random+probe {} ns/op ({} probes/op), feistel {} ns/op (1 step/op)",
+                    fill, probeNanos, String.format("%.1f", probes / (double) ALLOCATIONS), feistelNanos);
+        }
+    }
+
+    private static int randomProbeAllocate(Set<String> used) {
+        var probes = 0;
+        while (true) {
+            probes++;
+            var sb = new StringBuilder(LENGTH);
+            for (int i = 0; i < LENGTH; i++) {
+                sb.append(FeistelCodes.ALPHABET.charAt(RANDOM.nextInt(FeistelCodes.ALPHABET.length())));
+            }
+            if (used.add(sb.toString())) {
+                return probes;
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package app.meads;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeistelCodesTest {
+
+    private static final String SECRET = "test-secret-key-minimum-32-characters-long";
+
+    @Test
+    void shouldProduceCodesOfRequestedLengthFromAlphabet() {
+        var codes = new FeistelCodes(SECRET, "test", 6);
+
+        var code = codes.encode(42, UUID.randomUUID());
+
+        assertThat(code).matches("[ABCDEFGHJKLMNPQRSTUVWXYZ23456789]{6}");
+    }
+
+    @Test
+    void shouldBeDeterministicForSameInputs() {
+        var scope = UUID.randomUUID();
+
+        assertThat(new FeistelCodes(SECRET, "test", 6).encode(7, scope))
+                .isEqualTo(new FeistelCodes(SECRET, "test", 6).encode(7, scope));
+    }
+
+    @Test
+    void shouldBeBijectiveOverWholeCodeSpace() {
+        var codes = new FeistelCodes(SECRET, "test", 4);
+        var scope = UUID.randomUUID();
+        var seen = new HashSet<String>();
+
+        for (long i = 0; i < codes.capacity(); i++) {
+            seen.add(codes.encode(i, scope));
+        }
+
+        assertThat(seen).hasSize((int) codes.capacity());
+    }
+
+    @Test
+    void shouldVaryByScopeAndPurpose() {
+        var scopeA = UUID.randomUUID();
+        var scopeB = UUID.randomUUID();
+        var entryCodes = new FeistelCodes(SECRET, "entry-code", 6);
+        var otherCodes = new FeistelCodes(SECRET, "access-code", 6);
+
+        assertThat(entryCodes.encode(1, scopeA)).isNotEqualTo(entryCodes.encode(1, scopeB));
+        assertThat(entryCodes.encode(1, scopeA)).isNotEqualTo(otherCodes.encode(1, scopeA));
+    }
+
+    @Test
+    void shouldNotExposeSequenceOrder() {
+        var codes = new FeistelCodes(SECRET, "test", 6);
+
+        assertThat(codes.encode(1, null)).isNotEqualTo("AAAAAB");
+        assertThat(codes.encode(2, null)).isNotEqualTo("AAAAAC");
+    }
+
+    @Test
+    void shouldRejectSequenceOutsideCodeSpace() {
+        var codes = new FeistelCodes(SECRET, "test", 6);
+
+        assertThatThrownBy(() -> codes.encode(codes.capacity(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codes.encode(-1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectOddLength() {
+        assertThatThrownBy(() -> new FeistelCodes(SECRET, "test", 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectBlankSecret() {
+        assertThatThrownBy(() -> new FeistelCodes(" ", "test", 6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
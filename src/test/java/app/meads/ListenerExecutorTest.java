@@ -0,0 +1,135 @@
+package app.meads;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class ListenerExecutorTest {
+
+    @Test
+    void shouldRunTasksOnVirtualThreads() throws InterruptedException {
+        var executor = new ListenerExecutor("test", 2, 10);
+        var virtual = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            if (Thread.currentThread().isVirtual()) {
+                virtual.countDown();
+            }
+        });
+
+        assertThat(virtual.await(5, TimeUnit.SECONDS)).isTrue();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(executor.stats().processed()).isEqualTo(1));
+    }
+
+    @Test
+    void shouldCapConcurrentInvocations() {
+        var executor = new ListenerExecutor("test", 2, 10);
+        var release = new CountDownLatch(1);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        for (int i = 0; i < 6; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            });
+        }
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(executor.stats().active()).isEqualTo(2));
+        assertThat(executor.stats().waiting()).isEqualTo(4);
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(executor.stats().processed()).isEqualTo(6));
+        assertThat(maxRunning).hasValue(2);
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() {
+        var executor = new ListenerExecutor("test", 1, 1);
+        var release = new CountDownLatch(1);
+        Runnable blocked = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        executor.execute(blocked);
+        executor.execute(blocked);
+
+        assertThatThrownBy(() -> executor.execute(blocked))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(executor.stats().rejected()).isEqualTo(1);
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(executor.stats().processed()).isEqualTo(2));
+    }
+
+    @Test
+    void shouldRecordLagAndFailures() {
+        var executor = new ListenerExecutor("test", 1, 10);
+        var release = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> { });
+        await().during(Duration.ofMillis(50)).atMost(Duration.ofSeconds(5))
+                .until(() -> executor.stats().waiting() == 1);
+        release.countDown();
+        executor.recordFailure();
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(executor.stats().processed()).isEqualTo(2));
+        var stats = executor.stats();
+        assertThat(stats.maxLag()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(stats.failed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishMetersTaggedWithListenerName() {
+        var executor = new ListenerExecutor("test", 1, 10);
+        var registry = new SimpleMeterRegistry();
+        executor.bindTo(registry);
+
+        executor.execute(() -> { });
+        executor.recordFailure();
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(executor.stats().processed()).isEqualTo(1));
+        assertThat(registry.get("meads.listener.duration").tag("listener", "test").timer().count()).isEqualTo(1);
+        assertThat(registry.get("meads.listener.lag").tag("listener", "test").timer().count()).isEqualTo(1);
+        assertThat(registry.get("meads.listener.processed").tag("listener", "test").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("meads.listener.failed").tag("listener", "test").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("meads.listener.waiting").tag("listener", "test").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new ListenerExecutor("test", 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package app.meads;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementCounterTest {
+
+    StatementCounter inspector = new StatementCounter();
+
+    @Test
+    void shouldCountStatementsPerShapeWhileScopeIsOpen() {
+        inspector.inspect("select 1");
+        try (var scope = StatementCounter.open()) {
+            inspector.inspect("select c from credits c where c.user_id=?");
+            inspector.inspect("select c from credits c\n    where c.user_id=?");
+            inspector.inspect("select u from users u where u.id in (?,?,?)");
+            inspector.inspect("select u from users u where u.id in (?, ?)");
+            inspector.inspect("/* load Entry */ select e from entries e where e.id=?");
+
+            assertThat(scope.count()).isEqualTo(5);
+            assertThat(scope.shapes()).containsExactly(
+                    Map.entry("select c from credits c where c.user_id=?", 2),
+                    Map.entry("select u from users u where u.id in (?...)", 2),
+                    Map.entry("select e from entries e where e.id=?", 1));
+            assertThat(scope.mostRepeated())
+                    .isEqualTo(new StatementCounter.Scope.Shape("select c from credits c where c.user_id=?", 2));
+        }
+    }
+
+    @Test
+    void shouldCountNestedStatementsInEnclosingScopeAndStopOnClose() {
+        try (var outer = StatementCounter.open()) {
+            try (var inner = StatementCounter.open()) {
+                inspector.inspect("select 1");
+                assertThat(inner.count()).isEqualTo(1);
+            }
+            inspector.inspect("select 2");
+            assertThat(outer.count()).isEqualTo(2);
+            outer.close();
+            inspector.inspect("select 3");
+            assertThat(outer.count()).isEqualTo(2);
+            assertThat(outer.mostRepeated().count()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package app.meads;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Pins how many SQL statements an operation issues as the data behind it grows. Each size
+ * seeds its own dataset and returns the operation to measure, which then runs against an empty
+ * persistence context inside a {@link StatementCounter} scope, with its pending writes flushed
+ * before the scope closes. Seeds should create fresh divisions, products and users so every
+ * size starts with the same caches missing.
+ */
+public final class StatementCounts {
+
+    private StatementCounts() {}
+
+    /**
+     * Fails, listing the statements per shape at both sizes, as soon as a size issues different
+     * statements than the first one.
+     */
+    public static void assertIndependentOfSize(EntityManager entityManager,
+                                               IntFunction<Runnable> seed, int... sizes) {
+        Map<String, Integer> baseline = null;
+        for (int size : sizes) {
+            var operation = seed.apply(size);
+            entityManager.flush();
+            entityManager.clear();
+            Map<String, Integer> shapes;
+            try (var scope = StatementCounter.open()) {
+                operation.run();
+                entityManager.flush();
+                shapes = new LinkedHashMap<>(scope.shapes());
+            }
+            if (baseline == null) {
+                baseline = shapes;
+            } else if (!shapes.equals(baseline)) {
+                fail(diff(sizes[0], baseline, size, shapes));
+            }
+        }
+    }
+
+    private static String diff(int baselineSize, Map<String, Integer> baseline,
+                               int size, Map<String, Integer> shapes) {
+        var message = new StringBuilder("Statements changed with the dataset size (%d at size %d, %d at size %d):"
+                .formatted(total(baseline), baselineSize, total(shapes), size));
+        var allShapes = new LinkedHashSet<>(baseline.keySet());
+        allShapes.addAll(shapes.keySet());
+        for (var shape : allShapes) {
+            int before = baseline.getOrDefault(shape, 0);
+            int after = shapes.getOrDefault(shape, 0);
+            var marker = after > before ? '+' : after < before ? '-' : ' ';
+            message.append("%n%c %4d -> %-4d %s".formatted(marker, before, after, shape));
+        }
+        return message.toString();
+    }
+
+    private static int total(Map<String, Integer> shapes) {
+        return shapes.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,76 @@
+package app.meads;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares primary-key index size and insert throughput for random (v4) and time-ordered
+ * (v7) UUID keys. Excluded from the default build; run with {@code ./mvnw test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class UuidV7InsertBenchmarkTest {
+
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS uuid_bench_v4");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS uuid_bench_v7");
+    }
+
+    @Test
+    void shouldProduceSmallerIndexWithTimeOrderedKeys() {
+        var v4 = run("uuid_bench_v4", UUID::randomUUID);
+        var v7 = run("uuid_bench_v7", UuidV7::randomUUID);
+
+        log.info("UUIDv4: {} rows in {} ms ({} rows/s), pkey index {} KB",
+                ROWS, v4.millis(), v4.rowsPerSecond(), v4.indexBytes() / 1024);
+        log.info("UUIDv7: {} rows in {} ms ({} rows/s), pkey index {} KB",
+                ROWS, v7.millis(), v7.rowsPerSecond(), v7.indexBytes() / 1024);
+
+        // Appending at the right edge leaves leaf pages packed instead of half-split
+        assertThat(v7.indexBytes()).isLessThan(v4.indexBytes());
+    }
+
+    private Result run(String table, Supplier<UUID> ids) {
+        jdbcTemplate.execute("CREATE TABLE " + table
+                + " (id UUID PRIMARY KEY, created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW())");
+        var start = System.nanoTime();
+        for (int inserted = 0; inserted < ROWS; inserted += BATCH_SIZE) {
+            var batch = new ArrayList<Object[]>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batch.add(new Object[]{ids.get()});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO " + table + " (id) VALUES (?)", batch);
+        }
+        var millis = (System.nanoTime() - start) / 1_000_000;
+        var indexBytes = jdbcTemplate.queryForObject(
+                "SELECT pg_relation_size('" + table + "_pkey')", Long.class);
+        return new Result(millis, indexBytes);
+    }
+
+    private record Result(long millis, long indexBytes) {
+        long rowsPerSecond() {
+            return millis == 0 ? ROWS : ROWS * 1000L / millis;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package app.meads;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidV7Test {
+
+    @Test
+    void shouldSetVersionAndVariant() {
+        var uuid = UuidV7.randomUUID();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEmbedCurrentTimestamp() {
+        var before = System.currentTimeMillis();
+        var uuid = UuidV7.randomUUID();
+        var after = System.currentTimeMillis();
+
+        // The counter may borrow a millisecond or two under heavy generation
+        assertThat(UuidV7.timestampMillis(uuid)).isBetween(before, after + 2);
+    }
+
+    @Test
+    void shouldGenerateStrictlyIncreasingIds() {
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7.randomUUID());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            // UUID.compareTo compares signed halves; v7 timestamps stay positive until 10889
+            assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+            assertThat(ids.get(i).toString()).isGreaterThan(ids.get(i - 1).toString());
+        }
+    }
+
+    @Test
+    void shouldBuildFromComponents() {
+        var uuid = UuidV7.build(0x0190_0000_0000L, 0xABC, -1L);
+
+        assertThat(uuid.toString()).isEqualTo("01900000-0000-7abc-bfff-ffffffffffff");
+    }
+
+    @Test
+    void shouldRejectTimestampOfNonV7Uuid() {
+        assertThatThrownBy(() -> UuidV7.timestampMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
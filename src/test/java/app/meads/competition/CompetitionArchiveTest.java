@@ -0,0 +1,190 @@
+package app.meads.competition;
+
+import app.meads.BusinessRuleException;
+import app.meads.TestcontainersConfiguration;
+import app.meads.competition.internal.CompetitionArchiver;
+import app.meads.competition.internal.CompetitionRepository;
+import app.meads.competition.internal.DivisionCategoryRepository;
+import app.meads.competition.internal.DivisionRepository;
+import app.meads.competition.internal.ParticipantRepository;
+import app.meads.competition.internal.ParticipantRoleRepository;
+import app.meads.entry.Carbonation;
+import app.meads.entry.Entry;
+import app.meads.entry.EntryCredit;
+import app.meads.entry.Sweetness;
+import app.meads.entry.internal.EntryCreditRepository;
+import app.meads.entry.internal.EntryRepository;
+import app.meads.identity.Role;
+import app.meads.identity.User;
+import app.meads.identity.UserStatus;
+import app.meads.identity.internal.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs without a test transaction: archiving commits its purge in batches, so the rows are
+ * removed by hand afterwards.
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class CompetitionArchiveTest {
+
+    @Autowired CompetitionService competitionService;
+    @Autowired CompetitionArchiver competitionArchiver;
+    @Autowired List<CompetitionArchiveContributor> archiveContributors;
+    @Autowired CompetitionRepository competitionRepository;
+    @Autowired DivisionRepository divisionRepository;
+    @Autowired DivisionCategoryRepository divisionCategoryRepository;
+    @Autowired ParticipantRepository participantRepository;
+    @Autowired ParticipantRoleRepository participantRoleRepository;
+    @Autowired EntryRepository entryRepository;
+    @Autowired EntryCreditRepository entryCreditRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Value("${app.archives.storage-dir:data/archives}")
+    String storageDir;
+
+    User admin;
+    User entrant;
+    Competition competition;
+    Division division;
+    Entry entry;
+
+    @BeforeEach
+    void setUp() {
+        var suffix = UUID.randomUUID().toString().substring(0, 8);
+        admin = userRepository.save(new User("archive-admin-" + suffix + "@test.com", "Admin",
+                UserStatus.ACTIVE, Role.SYSTEM_ADMIN));
+        entrant = userRepository.save(new User("archive-entrant-" + suffix + "@test.com", "Entrant",
+                UserStatus.ACTIVE, Role.USER));
+        competition = competitionRepository.save(new Competition("Archive Test", "archive-" + suffix,
+                LocalDate.of(2025, 6, 15), LocalDate.of(2025, 6, 17), "Porto"));
+        division = new Division(competition.getId(), "Home", "home", ScoringSystem.MJP,
+                LocalDateTime.of(2025, 5, 31, 23, 59), "UTC");
+        division = divisionRepository.save(division);
+        var parent = divisionCategoryRepository.save(new DivisionCategory(division.getId(), null,
+                "M1", "Traditional", "Traditional", null, 0));
+        var subcategory = divisionCategoryRepository.save(new DivisionCategory(division.getId(), null,
+                "M1A", "Dry", "Dry traditional", parent.getId(), 1));
+        var participant = participantRepository.save(new Participant(competition.getId(), entrant.getId()));
+        participantRoleRepository.save(new ParticipantRole(participant.getId(), CompetitionRole.ENTRANT));
+        entryCreditRepository.save(new EntryCredit(division.getId(), entrant.getId(), 1, "ADMIN", null));
+        entry = entryRepository.save(new Entry(division.getId(), entrant.getId(), 1, "ARC001",
+                "Archived Mead", subcategory.getId(), Sweetness.DRY, new BigDecimal("12.5"),
+                Carbonation.STILL, "Wildflower honey", null, false, null, null));
+        while (division.getStatus() != DivisionStatus.RESULTS_PUBLISHED) {
+            division.advanceStatus();
+        }
+        division = divisionRepository.save(division);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        var divisions = "SELECT id FROM divisions WHERE competition_id = ?";
+        jdbcTemplate.update("DELETE FROM entries WHERE division_id IN (" + divisions + ")", competition.getId());
+        jdbcTemplate.update("DELETE FROM entry_credits WHERE division_id IN (" + divisions + ")", competition.getId());
+        jdbcTemplate.update("DELETE FROM division_categories WHERE parent_id IS NOT NULL AND division_id IN ("
+                + divisions + ")", competition.getId());
+        jdbcTemplate.update("DELETE FROM division_categories WHERE division_id IN (" + divisions + ")",
+                competition.getId());
+        jdbcTemplate.update("DELETE FROM participant_roles WHERE participant_id IN "
+                + "(SELECT id FROM participants WHERE competition_id = ?)", competition.getId());
+        jdbcTemplate.update("DELETE FROM participants WHERE competition_id = ?", competition.getId());
+        jdbcTemplate.update("DELETE FROM divisions WHERE competition_id = ?", competition.getId());
+        jdbcTemplate.update("DELETE FROM competitions WHERE id = ?", competition.getId());
+        for (var fileName : jdbcTemplate.queryForList(
+                "SELECT file_name FROM competition_archives WHERE competition_id = ?", String.class,
+                competition.getId())) {
+            Files.deleteIfExists(Path.of(storageDir).resolve(fileName));
+        }
+        jdbcTemplate.update("DELETE FROM competition_archives WHERE competition_id = ?", competition.getId());
+        userRepository.deleteAll(List.of(admin, entrant));
+    }
+
+    @Test
+    void shouldPurgeArchivedCompetitionAndRestoreItUnchanged() {
+        var archive = competitionService.archiveCompetition(competition.getId(), admin.getId());
+
+        assertThat(Files.exists(Path.of(storageDir).resolve(archive.fileName()))).isTrue();
+        assertThat(competitionRepository.existsById(competition.getId())).isFalse();
+        assertThat(divisionRepository.findById(division.getId())).isEmpty();
+        assertThat(entryRepository.findById(entry.getId())).isEmpty();
+        assertThat(participantRepository.findByCompetitionId(competition.getId())).isEmpty();
+        assertThat(competitionService.findCompetitionArchives())
+                .filteredOn(a -> a.id().equals(archive.id()))
+                .singleElement()
+                .satisfies(a -> {
+                    assertThat(a.status()).isEqualTo(CompetitionArchive.Status.ARCHIVED);
+                    assertThat(a.rows()).isEqualTo(8);
+                });
+        assertThat(competitionArchiver.isUserArchived(entrant.getId())).isTrue();
+
+        competitionService.restoreCompetition(archive.id(), admin.getId());
+
+        assertThat(competitionRepository.findById(competition.getId()))
+                .hasValueSatisfying(c -> assertThat(c.getShortName()).isEqualTo(competition.getShortName()));
+        assertThat(divisionRepository.findById(division.getId()))
+                .hasValueSatisfying(d -> assertThat(d.getStatus()).isEqualTo(DivisionStatus.RESULTS_PUBLISHED));
+        assertThat(entryRepository.findById(entry.getId())).hasValueSatisfying(e -> {
+            assertThat(e.getMeadName()).isEqualTo("Archived Mead");
+            assertThat(e.getAbv()).isEqualByComparingTo("12.5");
+        });
+        assertThat(entryCreditRepository.findByDivisionIdAndUserId(division.getId(), entrant.getId()))
+                .hasSize(1);
+        assertThat(participantRepository.findByCompetitionId(competition.getId())).hasSize(1);
+        assertThat(competitionService.findCompetitionArchives())
+                .filteredOn(a -> a.id().equals(archive.id()))
+                .singleElement()
+                .satisfies(a -> assertThat(a.status()).isEqualTo(CompetitionArchive.Status.RESTORED));
+        assertThat(competitionArchiver.isUserArchived(entrant.getId())).isFalse();
+    }
+
+    @Test
+    void shouldDiscardArchiveWhenCompetitionGainsRowsBeforePurge() {
+        var contributed = archiveContributors.stream()
+                .flatMap(contributor -> contributor.archivedTables().stream())
+                .toList();
+        competitionArchiver.export(competition, contributed);
+        entryCreditRepository.save(new EntryCredit(division.getId(), entrant.getId(), 2, "ADMIN", null));
+
+        assertThatThrownBy(() -> competitionService.archiveCompetition(competition.getId(), admin.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.archive.competition-changed");
+        assertThat(competitionRepository.existsById(competition.getId())).isTrue();
+        assertThat(entryRepository.findById(entry.getId())).isPresent();
+        assertThat(entryCreditRepository.findByDivisionIdAndUserId(division.getId(), entrant.getId()))
+                .hasSize(2);
+        assertThat(competitionService.findCompetitionArchives())
+                .noneMatch(a -> a.competitionId().equals(competition.getId()));
+        assertThat(competitionArchiver.isUserArchived(entrant.getId())).isFalse();
+    }
+
+    @Test
+    void shouldRejectArchiveBeforeResultsArePublished() {
+        division.revertStatus();
+        divisionRepository.save(division);
+
+        assertThatThrownBy(() -> competitionService.archiveCompetition(competition.getId(), admin.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.competition.archive-not-finished");
+        assertThat(competitionRepository.existsById(competition.getId())).isTrue();
+    }
+}
@@ -0,0 +1,119 @@
+package app.meads.competition;
+
+import app.meads.BusinessRuleException;
+import app.meads.TestcontainersConfiguration;
+import app.meads.competition.internal.CompetitionDocumentRepository;
+import app.meads.competition.internal.CompetitionRepository;
+import app.meads.competition.internal.DivisionCategoryRepository;
+import app.meads.competition.internal.DivisionRepository;
+import app.meads.entry.ProductMapping;
+import app.meads.entry.internal.ProductMappingRepository;
+import app.meads.identity.Role;
+import app.meads.identity.User;
+import app.meads.identity.UserStatus;
+import app.meads.identity.internal.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+class CompetitionCloneTest {
+
+    @Autowired CompetitionService competitionService;
+    @Autowired CompetitionRepository competitionRepository;
+    @Autowired DivisionRepository divisionRepository;
+    @Autowired DivisionCategoryRepository divisionCategoryRepository;
+    @Autowired CompetitionDocumentRepository competitionDocumentRepository;
+    @Autowired ProductMappingRepository productMappingRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManager entityManager;
+
+    User admin;
+    Competition source;
+    Division division;
+    DivisionCategory parent;
+    DivisionCategory subcategory;
+    CompetitionDocument document;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(new User("clone-admin@test.com", "Admin",
+                UserStatus.ACTIVE, Role.SYSTEM_ADMIN));
+        source = new Competition("CHIP 2026", "clone-source-2026",
+                LocalDate.of(2026, 6, 15), LocalDate.of(2026, 6, 17), "Porto");
+        source.updateContactEmail("info@chip.pt");
+        source = competitionRepository.save(source);
+        division = new Division(source.getId(), "Home", "home", ScoringSystem.MJP,
+                LocalDateTime.of(2026, 5, 31, 23, 59), "Europe/Lisbon");
+        division.advanceStatus();
+        division = divisionRepository.save(division);
+        parent = divisionCategoryRepository.save(new DivisionCategory(division.getId(), null,
+                "M1", "Traditional", "Traditional", null, 0));
+        subcategory = divisionCategoryRepository.save(new DivisionCategory(division.getId(), null,
+                "M1A", "Dry", "Dry traditional", parent.getId(), 1));
+        document = competitionDocumentRepository.save(CompetitionDocument.createPdf(source.getId(), "Rules",
+                "rules".getBytes(StandardCharsets.UTF_8), "application/pdf", 0, null));
+        productMappingRepository.save(new ProductMapping(division.getId(), "101", "SKU-1", "Entry Pack", 1));
+        entityManager.flush();
+    }
+
+    @Test
+    void shouldCopyConfigurationWithRemappedIds() {
+        var clone = competitionService.cloneCompetition(source.getId(), "CHIP 2027", "clone-source-2027",
+                LocalDate.of(2027, 6, 14), LocalDate.of(2027, 6, 16), admin.getId());
+        entityManager.clear();
+
+        assertThat(clone.getShortName()).isEqualTo("clone-source-2027");
+        assertThat(clone.getContactEmail()).isEqualTo("info@chip.pt");
+        assertThat(clone.getLocation()).isEqualTo("Porto");
+
+        var divisions = divisionRepository.findByCompetitionId(clone.getId());
+        assertThat(divisions).singleElement().satisfies(copy -> {
+            assertThat(copy.getId()).isNotEqualTo(division.getId());
+            assertThat(copy.getShortName()).isEqualTo("home");
+            assertThat(copy.getStatus()).isEqualTo(DivisionStatus.DRAFT);
+            assertThat(copy.getRegistrationDeadline()).isEqualTo(LocalDateTime.of(2027, 5, 30, 23, 59));
+            assertThat(copy.getRegistrationDeadlineTimezone()).isEqualTo("Europe/Lisbon");
+        });
+        var copyId = divisions.getFirst().getId();
+
+        var categories = divisionCategoryRepository.findByDivisionIdOrderByCode(copyId);
+        assertThat(categories).extracting(DivisionCategory::getCode).containsExactly("M1", "M1A");
+        var copiedParent = categories.getFirst();
+        assertThat(copiedParent.getId()).isNotEqualTo(parent.getId());
+        assertThat(categories.getLast().getParentId()).isEqualTo(copiedParent.getId());
+
+        assertThat(competitionDocumentRepository.findByCompetitionIdOrderByDisplayOrder(clone.getId()))
+                .singleElement().satisfies(copy -> {
+                    assertThat(copy.getId()).isNotEqualTo(document.getId());
+                    assertThat(copy.getContentHash()).isEqualTo(document.getContentHash());
+                });
+        assertThat(productMappingRepository.findByDivisionId(copyId))
+                .extracting(ProductMapping::getJumpsellerProductId).containsExactly("101");
+
+        // The source is untouched
+        assertThat(divisionCategoryRepository.findByDivisionIdOrderByCode(division.getId())).hasSize(2);
+        assertThat(productMappingRepository.findByDivisionId(division.getId())).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectCloneWithExistingShortName() {
+        assertThatThrownBy(() -> competitionService.cloneCompetition(source.getId(), "Copy", "clone-source-2026",
+                LocalDate.of(2027, 6, 14), LocalDate.of(2027, 6, 16), admin.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.competition.shortname-exists");
+    }
+}
@@ -77,7 +77,9 @@ class CompetitionDocumentRepositoryTest {
         var found = competitionDocumentRepository.findById(saved.getId()).orElseThrow();
         assertThat(found.getName()).isEqualTo("Rules PDF");
         assertThat(found.getType()).isEqualTo(DocumentType.PDF);
-        assertThat(found.getData()).isEqualTo(new byte[]{1, 2, 3});
+        assertThat(found.getContentHash()).isEqualTo(doc.getContentHash());
+        assertThat(found.getSizeBytes()).isEqualTo(3L);
+        assertThat(competitionDocumentRepository.existsByContentHash(doc.getContentHash())).isTrue();
     }
 
     @Test
@@ -20,7 +20,10 @@ class CompetitionDocumentTest {
         assertThat(doc.getCompetitionId()).isEqualTo(COMPETITION_ID);
         assertThat(doc.getName()).isEqualTo("Rules");
         assertThat(doc.getType()).isEqualTo(DocumentType.PDF);
-        assertThat(doc.getData()).isEqualTo(new byte[]{1, 2, 3});
+        assertThat(doc.getContentHash())
+                .isEqualTo("039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81");
+        assertThat(doc.getSizeBytes()).isEqualTo(3L);
+        assertThat(doc.getDownloadUrl()).isEqualTo("competition-documents/" + doc.getId());
         assertThat(doc.getContentType()).isEqualTo("application/pdf");
         assertThat(doc.getUrl()).isNull();
         assertThat(doc.getDisplayOrder()).isZero();
@@ -34,7 +37,8 @@ class CompetitionDocumentTest {
         assertThat(doc.getId()).isNotNull();
         assertThat(doc.getType()).isEqualTo(DocumentType.LINK);
         assertThat(doc.getUrl()).isEqualTo("https://example.com/mjp.pdf");
-        assertThat(doc.getData()).isNull();
+        assertThat(doc.getContentHash()).isNull();
+        assertThat(doc.getDownloadUrl()).isNull();
         assertThat(doc.getContentType()).isNull();
         assertThat(doc.getDisplayOrder()).isEqualTo(1);
     }
@@ -145,6 +145,19 @@ class CompetitionListViewTest {
         assertThat(createButton).isNotNull();
     }
 
+    @Test
+    @WithMockUser(username = ADMIN_EMAIL, roles = "SYSTEM_ADMIN")
+    void shouldOpenArchivedCompetitionsDialog() {
+        UI.getCurrent().navigate("competitions");
+
+        _click(_get(Button.class, spec -> spec.withText("Archived Competitions")));
+
+        var dialog = _get(Dialog.class);
+        assertThat(dialog.isOpened()).isTrue();
+        assertThat(dialog.getHeaderTitle()).isEqualTo("Archived Competitions");
+        assertThat(_find(dialog, Grid.class)).hasSize(1);
+    }
+
     @Test
     @WithMockUser(username = ADMIN_EMAIL, roles = "SYSTEM_ADMIN")
     void shouldOpenCreateCompetitionDialogWhenCreateButtonClicked() {
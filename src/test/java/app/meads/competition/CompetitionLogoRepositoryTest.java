@@ -0,0 +1,74 @@
+package app.meads.competition;
+
+import app.meads.TestcontainersConfiguration;
+import app.meads.competition.internal.CompetitionLogoRepository;
+import app.meads.competition.internal.CompetitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+class CompetitionLogoRepositoryTest {
+
+    @Autowired
+    CompetitionLogoRepository competitionLogoRepository;
+
+    @Autowired
+    CompetitionRepository competitionRepository;
+
+    private UUID competitionId;
+
+    @BeforeEach
+    void setup() {
+        var competition = competitionRepository.save(new Competition(
+                "Logo Test", "logo-test-" + UUID.randomUUID().toString().substring(0, 8),
+                LocalDate.of(2026, 6, 15), LocalDate.of(2026, 6, 17), "Porto"));
+        competitionId = competition.getId();
+    }
+
+    @Test
+    void shouldFindHashAndVariantContentWithoutLoadingEntity() {
+        var logo = new CompetitionLogo(competitionId, new byte[]{1, 2, 3, 4}, "image/jpeg",
+                new byte[]{1, 2}, "image/jpeg");
+        competitionLogoRepository.saveAndFlush(logo);
+
+        assertThat(competitionLogoRepository.findHashByCompetitionId(competitionId))
+                .contains(logo.getHash());
+        var header = competitionLogoRepository.findHeaderContentByCompetitionId(competitionId).orElseThrow();
+        assertThat(header.data()).containsExactly(1, 2);
+        assertThat(header.contentType()).isEqualTo("image/jpeg");
+        var original = competitionLogoRepository.findOriginalContentByCompetitionId(competitionId).orElseThrow();
+        assertThat(original.data()).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void shouldFallBackToOriginalWhenNoHeaderVariant() {
+        competitionLogoRepository.saveAndFlush(
+                new CompetitionLogo(competitionId, new byte[]{5, 6}, "image/png", null, null));
+
+        var header = competitionLogoRepository.findHeaderContentByCompetitionId(competitionId).orElseThrow();
+        assertThat(header.data()).containsExactly(5, 6);
+        assertThat(header.contentType()).isEqualTo("image/png");
+    }
+
+    @Test
+    void shouldDeleteByCompetitionId() {
+        competitionLogoRepository.saveAndFlush(
+                new CompetitionLogo(competitionId, new byte[]{5, 6}, "image/png", null, null));
+
+        var deleted = competitionLogoRepository.deleteByCompetitionId(competitionId);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(competitionLogoRepository.findHashByCompetitionId(competitionId)).isEmpty();
+    }
+}
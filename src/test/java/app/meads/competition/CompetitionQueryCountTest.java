@@ -0,0 +1,56 @@
+package app.meads.competition;
+
+import app.meads.TestcontainersConfiguration;
+import app.meads.competition.internal.CompetitionRepository;
+import app.meads.competition.internal.ParticipantRepository;
+import app.meads.competition.internal.ParticipantRoleRepository;
+import app.meads.identity.Role;
+import app.meads.identity.User;
+import app.meads.identity.UserStatus;
+import app.meads.identity.internal.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static app.meads.StatementCounts.assertIndependentOfSize;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+class CompetitionQueryCountTest {
+
+    @Autowired CompetitionService competitionService;
+    @Autowired CompetitionRepository competitionRepository;
+    @Autowired ParticipantRepository participantRepository;
+    @Autowired ParticipantRoleRepository participantRoleRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManager entityManager;
+
+    private void addParticipant(Competition competition, User user, CompetitionRole role) {
+        var participant = participantRepository.save(new Participant(competition.getId(), user.getId()));
+        participantRoleRepository.save(new ParticipantRole(participant.getId(), role));
+    }
+
+    @Test
+    void shouldFindAdministeredCompetitionsInConstantStatements() {
+        assertIndependentOfSize(entityManager, size -> {
+            var user = userRepository.save(new User("admin-" + size + "@test.com", "Admin " + size,
+                    UserStatus.ACTIVE, Role.USER));
+            for (int i = 0; i < size; i++) {
+                var competition = competitionRepository.save(new Competition("Competition " + size + "-" + i,
+                        "query-count-" + size + "-" + i, LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 3), null));
+                addParticipant(competition, user, CompetitionRole.ADMIN);
+            }
+            var entered = competitionRepository.save(new Competition("Entered " + size, "query-count-entered-" + size,
+                    LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 3), null));
+            addParticipant(entered, user, CompetitionRole.ENTRANT);
+            return () -> assertThat(competitionService.findCompetitionsByAdmin(user.getId())).hasSize(size);
+        }, 1, 5, 25);
+    }
+}
@@ -49,7 +49,7 @@ class CompetitionRepositoryTest {
 
         assertThat(found).isPresent();
         assertThat(found.get().hasLogo()).isTrue();
-        assertThat(found.get().getLogo()).isEqualTo(logo);
+        assertThat(found.get().getLogoHash()).hasSize(64);
         assertThat(found.get().getLogoContentType()).isEqualTo("image/png");
     }
 
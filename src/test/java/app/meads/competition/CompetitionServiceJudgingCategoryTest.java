@@ -1,11 +1,18 @@
 package app.meads.competition;
 
 import app.meads.BusinessRuleException;
+import app.meads.competition.internal.AccessCodeAllocator;
 import app.meads.competition.internal.CategoryRepository;
+import app.meads.competition.internal.CompetitionArchiver;
+import app.meads.competition.internal.CompetitionCloner;
 import app.meads.competition.internal.CompetitionDocumentRepository;
+import app.meads.competition.internal.CompetitionLogoRepository;
 import app.meads.competition.internal.CompetitionRepository;
 import app.meads.competition.internal.DivisionCategoryRepository;
+import app.meads.competition.internal.DivisionReferenceCache;
 import app.meads.competition.internal.DivisionRepository;
+import app.meads.competition.internal.DocumentContent;
+import app.meads.competition.internal.ParticipantBatchWriter;
 import app.meads.competition.internal.ParticipantRepository;
 import app.meads.competition.internal.ParticipantRoleRepository;
 import app.meads.identity.Role;
@@ -48,6 +55,13 @@ class CompetitionServiceJudgingCategoryTest {
     @Mock DivisionCategoryRepository divisionCategoryRepository;
     @Mock CategoryRepository categoryRepository;
     @Mock CompetitionDocumentRepository competitionDocumentRepository;
+    @Mock CompetitionLogoRepository competitionLogoRepository;
+    @Mock DocumentContent documentContent;
+    @Mock AccessCodeAllocator accessCodeAllocator;
+    @Mock ParticipantBatchWriter participantBatchWriter;
+    @Mock DivisionReferenceCache divisionReferenceCache;
+    @Mock CompetitionArchiver competitionArchiver;
+    @Mock CompetitionCloner competitionCloner;
     @Mock UserService userService;
     @Mock ApplicationEventPublisher eventPublisher;
 
@@ -55,6 +69,8 @@ class CompetitionServiceJudgingCategoryTest {
     List<DivisionDeletionGuard> deletionGuards = new ArrayList<>();
     List<ParticipantRemovalCleanup> removalCleanups = new ArrayList<>();
     List<JudgingCategoryDeletionGuard> judgingCategoryDeletionGuards = new ArrayList<>();
+    List<CompetitionArchiveContributor> archiveContributors = new ArrayList<>();
+    List<CompetitionCloneContributor> cloneContributors = new ArrayList<>();
 
     @BeforeEach
     void setUp() {
@@ -62,9 +78,11 @@ class CompetitionServiceJudgingCategoryTest {
                 competitionRepository, divisionRepository,
                 participantRepository, participantRoleRepository,
                 divisionCategoryRepository, categoryRepository,
-                competitionDocumentRepository, userService,
+                competitionDocumentRepository, competitionLogoRepository,
+                documentContent, accessCodeAllocator, participantBatchWriter, divisionReferenceCache,
+                competitionArchiver, competitionCloner, userService,
                 eventPublisher, revertGuards, deletionGuards, removalCleanups,
-                judgingCategoryDeletionGuards);
+                judgingCategoryDeletionGuards, archiveContributors, cloneContributors);
     }
 
     private User createAdmin() {
@@ -265,6 +283,7 @@ class CompetitionServiceJudgingCategoryTest {
         competitionService.removeJudgingCategory(division.getId(), category.getId(), admin.getId());
 
         then(divisionCategoryRepository).should().delete(category);
+        then(divisionReferenceCache).should().evictCategories(division.getId());
     }
 
     @Test
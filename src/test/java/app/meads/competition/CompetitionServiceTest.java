@@ -1,13 +1,22 @@
 package app.meads.competition;
 
 import app.meads.BusinessRuleException;
+import app.meads.ImportReport;
+import app.meads.competition.internal.AccessCodeAllocator;
 import app.meads.competition.internal.CategoryRepository;
+import app.meads.competition.internal.CompetitionArchiver;
+import app.meads.competition.internal.CompetitionCloner;
 import app.meads.competition.internal.CompetitionDocumentRepository;
+import app.meads.competition.internal.CompetitionLogoRepository;
 import app.meads.competition.internal.CompetitionRepository;
 import app.meads.competition.internal.DivisionCategoryRepository;
+import app.meads.competition.internal.DivisionReferenceCache;
 import app.meads.competition.internal.DivisionRepository;
+import app.meads.competition.internal.DocumentContent;
+import app.meads.competition.internal.ParticipantBatchWriter;
 import app.meads.competition.internal.ParticipantRepository;
 import app.meads.competition.internal.ParticipantRoleRepository;
+import app.meads.competition.internal.ParticipantRow;
 import app.meads.identity.Role;
 import app.meads.identity.User;
 import app.meads.identity.UserService;
@@ -18,23 +27,32 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.atLeast;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 
@@ -64,6 +82,27 @@ class CompetitionServiceTest {
     @Mock
     CompetitionDocumentRepository competitionDocumentRepository;
 
+    @Mock
+    CompetitionLogoRepository competitionLogoRepository;
+
+    @Mock
+    DocumentContent documentContent;
+
+    @Mock
+    AccessCodeAllocator accessCodeAllocator;
+
+    @Mock
+    ParticipantBatchWriter participantBatchWriter;
+
+    @Mock
+    DivisionReferenceCache divisionReferenceCache;
+
+    @Mock
+    CompetitionArchiver competitionArchiver;
+
+    @Mock
+    CompetitionCloner competitionCloner;
+
     @Mock
     UserService userService;
 
@@ -78,15 +117,21 @@ class CompetitionServiceTest {
 
     List<JudgingCategoryDeletionGuard> judgingCategoryDeletionGuards = new ArrayList<>();
 
+    List<CompetitionArchiveContributor> archiveContributors = new ArrayList<>();
+
+    List<CompetitionCloneContributor> cloneContributors = new ArrayList<>();
+
     @BeforeEach
     void setUp() {
         competitionService = new CompetitionService(
                 competitionRepository, divisionRepository,
                 participantRepository, participantRoleRepository,
                 divisionCategoryRepository, categoryRepository,
-                competitionDocumentRepository, userService,
+                competitionDocumentRepository, competitionLogoRepository,
+                documentContent, accessCodeAllocator, participantBatchWriter, divisionReferenceCache,
+                competitionArchiver, competitionCloner, userService,
                 eventPublisher, revertGuards, deletionGuards, removalCleanups,
-                judgingCategoryDeletionGuards);
+                judgingCategoryDeletionGuards, archiveContributors, cloneContributors);
     }
 
     private Competition createCompetition() {
@@ -233,6 +278,29 @@ class CompetitionServiceTest {
         assertThat(result.hasLogo()).isTrue();
         assertThat(result.getLogoContentType()).isEqualTo("image/png");
         then(competitionRepository).should().save(competition);
+        then(competitionLogoRepository).should().save(argThat(l ->
+                l.getCompetitionId().equals(competition.getId())
+                        && l.getHash().equals(competition.getLogoHash())));
+    }
+
+    @Test
+    void shouldReplaceExistingLogoBlobInPlace() {
+        var admin = createAdmin();
+        var competition = createCompetition();
+        var existing = new CompetitionLogo(competition.getId(), new byte[]{9, 9}, "image/jpeg", null, null);
+        given(competitionRepository.findById(competition.getId())).willReturn(Optional.of(competition));
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(competitionLogoRepository.findById(competition.getId())).willReturn(Optional.of(existing));
+        given(competitionRepository.save(any(Competition.class)))
+                .willAnswer(inv -> inv.getArgument(0));
+
+        competitionService.updateCompetitionLogo(
+                competition.getId(), new byte[]{1, 2, 3}, "image/png", admin.getId());
+
+        assertThat(existing.getData()).containsExactly(1, 2, 3);
+        assertThat(existing.getContentType()).isEqualTo("image/png");
+        assertThat(existing.getHash()).isEqualTo(competition.getLogoHash());
+        then(competitionLogoRepository).should(never()).save(any());
     }
 
     @Test
@@ -249,6 +317,7 @@ class CompetitionServiceTest {
                 competition.getId(), null, null, admin.getId());
 
         assertThat(result.hasLogo()).isFalse();
+        then(competitionLogoRepository).should().deleteByCompetitionId(competition.getId());
     }
 
     // --- updateCompetitionContactEmail ---
@@ -304,6 +373,7 @@ class CompetitionServiceTest {
         competitionService.deleteCompetition(competition.getId(), admin.getId());
 
         then(competitionDocumentRepository).should().deleteAll(List.of());
+        then(competitionLogoRepository).should().deleteByCompetitionId(competition.getId());
         then(competitionRepository).should().delete(competition);
     }
 
@@ -311,24 +381,18 @@ class CompetitionServiceTest {
     void shouldDeleteCompetitionAndCleanUpParticipants() {
         var admin = createAdmin();
         var competition = createCompetition();
-        var userId = UUID.randomUUID();
-        var participant = new Participant(competition.getId(), userId);
-        var role = new ParticipantRole(participant.getId(), CompetitionRole.JUDGE);
         given(competitionRepository.findById(competition.getId())).willReturn(Optional.of(competition));
         given(userService.findById(admin.getId())).willReturn(admin);
         given(divisionRepository.findByCompetitionId(competition.getId())).willReturn(List.of());
         given(competitionDocumentRepository.findByCompetitionIdOrderByDisplayOrder(competition.getId()))
                 .willReturn(List.of());
-        given(participantRepository.findByCompetitionId(competition.getId()))
-                .willReturn(List.of(participant));
-        given(participantRoleRepository.findByParticipantId(participant.getId()))
-                .willReturn(List.of(role));
 
         competitionService.deleteCompetition(competition.getId(), admin.getId());
 
-        then(participantRoleRepository).should().deleteAll(List.of(role));
-        then(participantRepository).should().deleteAll(List.of(participant));
-        then(competitionRepository).should().delete(competition);
+        var inOrder = inOrder(participantRoleRepository, participantRepository, competitionRepository);
+        inOrder.verify(participantRoleRepository).deleteByCompetitionId(competition.getId());
+        inOrder.verify(participantRepository).deleteByCompetitionId(competition.getId());
+        inOrder.verify(competitionRepository).delete(competition);
     }
 
     @Test
@@ -353,6 +417,201 @@ class CompetitionServiceTest {
 
     // --- createDivision ---
 
+    @Test
+    void shouldCloneCompetitionAndLetModulesCopyTheirConfiguration() {
+        var admin = createAdmin();
+        var source = createCompetition();
+        var contributor = mock(CompetitionCloneContributor.class);
+        cloneContributors.add(contributor);
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(competitionRepository.findById(source.getId())).willReturn(Optional.of(source));
+        given(competitionRepository.existsByShortName("test-competition-2027")).willReturn(false);
+        given(competitionCloner.copy(eq(source.getId()), any(Competition.class), eq(364)))
+                .willReturn(new CompetitionCloner.Cloned(2, 40, 3));
+        var clone = new Competition("Test Competition 2027", "test-competition-2027",
+                LocalDate.of(2027, 6, 14), LocalDate.of(2027, 6, 16), "Porto");
+        given(competitionRepository.findById(argThat(id -> !id.equals(source.getId()))))
+                .willReturn(Optional.of(clone));
+
+        var result = competitionService.cloneCompetition(source.getId(), "Test Competition 2027",
+                "test-competition-2027", LocalDate.of(2027, 6, 14), LocalDate.of(2027, 6, 16), admin.getId());
+
+        assertThat(result).isSameAs(clone);
+        then(competitionCloner).should().copy(eq(source.getId()), argThat(target ->
+                target.getShortName().equals("test-competition-2027")
+                        && target.getStartDate().equals(LocalDate.of(2027, 6, 14))), eq(364));
+        then(contributor).should().copyConfiguration(eq(source.getId()), any(UUID.class));
+    }
+
+    @Test
+    void shouldRejectCloneWhenShortNameExists() {
+        var admin = createAdmin();
+        var source = createCompetition();
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(competitionRepository.findById(source.getId())).willReturn(Optional.of(source));
+        given(competitionRepository.existsByShortName("test-competition")).willReturn(true);
+
+        assertThatThrownBy(() -> competitionService.cloneCompetition(source.getId(), "Copy",
+                "test-competition", LocalDate.of(2027, 6, 14), LocalDate.of(2027, 6, 16), admin.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.competition.shortname-exists");
+
+        then(competitionCloner).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldRejectCloneByNonAdmin() {
+        var user = createRegularUser();
+        given(userService.findById(user.getId())).willReturn(user);
+
+        assertThatThrownBy(() -> competitionService.cloneCompetition(UUID.randomUUID(), "Copy",
+                "copy", LocalDate.of(2027, 6, 14), LocalDate.of(2027, 6, 16), user.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.auth.unauthorized");
+
+        then(competitionCloner).shouldHaveNoInteractions();
+    }
+
+    private Division createDivisionWithStatus(UUID competitionId, DivisionStatus status) {
+        var division = new Division(competitionId, "Home", "home", ScoringSystem.MJP,
+                LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
+        while (division.getStatus() != status) {
+            division.advanceStatus();
+        }
+        return division;
+    }
+
+    private CompetitionArchive createArchive(Competition competition, CompetitionArchive.Status status) {
+        return new CompetitionArchive(UUID.randomUUID(), competition.getId(), competition.getShortName(),
+                competition.getName(), "test-competition.zip", 1024, "abc", 42, status, Instant.now(), null);
+    }
+
+    @Test
+    void shouldArchiveFinishedCompetitionAndPurgeItsRows() {
+        var admin = createAdmin();
+        var competition = createCompetition();
+        var division = createDivisionWithStatus(competition.getId(), DivisionStatus.RESULTS_PUBLISHED);
+        var contributor = mock(CompetitionArchiveContributor.class);
+        var table = new CompetitionArchiveContributor.Table("entries", "id", "division_id = :competitionId");
+        given(contributor.archivedTables()).willReturn(List.of(table));
+        archiveContributors.add(contributor);
+        var archive = createArchive(competition, CompetitionArchive.Status.PURGING);
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(competitionArchiver.findPurging(competition.getId())).willReturn(Optional.empty());
+        given(competitionRepository.findById(competition.getId())).willReturn(Optional.of(competition));
+        given(divisionRepository.findByCompetitionId(competition.getId())).willReturn(List.of(division));
+        given(competitionArchiver.export(competition, List.of(table))).willReturn(archive);
+        given(competitionArchiver.knownTables(List.of(table))).willReturn(Map.of());
+        given(competitionArchiver.purge(archive, Map.of())).willReturn(new CompetitionArchiver.Contents(
+                List.of(division.getId()), List.of("shared", "unique")));
+
+        var result = competitionService.archiveCompetition(competition.getId(), admin.getId());
+
+        assertThat(result).isEqualTo(archive);
+        then(contributor).should().checkArchiveAllowed(competition.getId());
+        then(documentContent).should().releaseAfterCommit(List.of("shared", "unique"));
+        then(divisionReferenceCache).should().evictDivision(division.getId());
+        then(eventPublisher).should().publishEvent(
+                new CompetitionArchivedEvent(competition.getId(), List.of(division.getId()), false));
+    }
+
+    @Test
+    void shouldRejectArchiveWhenAnyDivisionHasNoPublishedResults() {
+        var admin = createAdmin();
+        var competition = createCompetition();
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(competitionArchiver.findPurging(competition.getId())).willReturn(Optional.empty());
+        given(competitionRepository.findById(competition.getId())).willReturn(Optional.of(competition));
+        given(divisionRepository.findByCompetitionId(competition.getId())).willReturn(List.of(
+                createDivisionWithStatus(competition.getId(), DivisionStatus.RESULTS_PUBLISHED),
+                createDivisionWithStatus(competition.getId(), DivisionStatus.DELIBERATION)));
+
+        assertThatThrownBy(() -> competitionService.archiveCompetition(competition.getId(), admin.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.competition.archive-not-finished");
+
+        then(competitionArchiver).should(never()).export(any(), any());
+    }
+
+    @Test
+    void shouldResumeInterruptedPurgeWithoutExportingAgain() {
+        var admin = createAdmin();
+        var competition = createCompetition();
+        var archive = createArchive(competition, CompetitionArchive.Status.PURGING);
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(competitionArchiver.findPurging(competition.getId())).willReturn(Optional.of(archive));
+        given(competitionArchiver.knownTables(List.of())).willReturn(Map.of());
+        given(competitionArchiver.purge(archive, Map.of()))
+                .willReturn(new CompetitionArchiver.Contents(List.of(), List.of()));
+
+        competitionService.archiveCompetition(competition.getId(), admin.getId());
+
+        then(competitionArchiver).should(never()).export(any(), any());
+        then(competitionArchiver).should().purge(archive, Map.of());
+    }
+
+    @Test
+    void shouldRejectArchiveByNonAdmin() {
+        var user = createRegularUser();
+        given(userService.findById(user.getId())).willReturn(user);
+
+        assertThatThrownBy(() -> competitionService.archiveCompetition(UUID.randomUUID(), user.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.auth.unauthorized");
+
+        then(competitionArchiver).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldRestoreArchivedCompetition() {
+        var admin = createAdmin();
+        var competition = createCompetition();
+        var archive = createArchive(competition, CompetitionArchive.Status.ARCHIVED);
+        var divisionId = UUID.randomUUID();
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(competitionArchiver.findById(archive.id())).willReturn(Optional.of(archive));
+        given(competitionRepository.existsByShortName(competition.getShortName())).willReturn(false);
+        given(competitionArchiver.knownTables(List.of())).willReturn(Map.of());
+        given(competitionArchiver.restore(archive, Map.of()))
+                .willReturn(new CompetitionArchiver.Contents(List.of(divisionId), List.of()));
+
+        competitionService.restoreCompetition(archive.id(), admin.getId());
+
+        then(divisionReferenceCache).should().evictCategories(divisionId);
+        then(eventPublisher).should().publishEvent(
+                new CompetitionArchivedEvent(competition.getId(), List.of(divisionId), true));
+    }
+
+    @Test
+    void shouldRejectRestoreWhenShortNameIsTaken() {
+        var admin = createAdmin();
+        var competition = createCompetition();
+        var archive = createArchive(competition, CompetitionArchive.Status.ARCHIVED);
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(competitionArchiver.findById(archive.id())).willReturn(Optional.of(archive));
+        given(competitionRepository.existsByShortName(competition.getShortName())).willReturn(true);
+
+        assertThatThrownBy(() -> competitionService.restoreCompetition(archive.id(), admin.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.competition.shortname-exists");
+
+        then(competitionArchiver).should(never()).restore(any(), any());
+    }
+
+    @Test
+    void shouldRejectRestoreWhileCompetitionStillExists() {
+        var admin = createAdmin();
+        var competition = createCompetition();
+        var archive = createArchive(competition, CompetitionArchive.Status.PURGING);
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(competitionArchiver.findById(archive.id())).willReturn(Optional.of(archive));
+        given(competitionRepository.existsById(competition.getId())).willReturn(true);
+
+        assertThatThrownBy(() -> competitionService.restoreCompetition(archive.id(), admin.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.archive.not-restorable");
+    }
+
     @Test
     void shouldCreateDivisionWhenRequestedBySystemAdmin() {
         var competition = createCompetition();
@@ -483,6 +742,7 @@ class CompetitionServiceTest {
         assertThat(result.getStatus()).isEqualTo(DivisionStatus.REGISTRATION_OPEN);
         then(divisionRepository).should().save(division);
         then(eventPublisher).should().publishEvent(any(DivisionStatusAdvancedEvent.class));
+        then(divisionReferenceCache).should().evictDivision(division.getId());
     }
 
     @Test
@@ -751,7 +1011,7 @@ class CompetitionServiceTest {
         given(userService.findById(user.getId())).willReturn(user);
         given(participantRepository.findByCompetitionIdAndUserId(competition.getId(), user.getId()))
                 .willReturn(Optional.of(existingParticipant));
-        given(participantRepository.existsByAccessCode(any())).willReturn(false);
+        given(accessCodeAllocator.allocate()).willReturn("AB3K9XYZ");
         given(participantRepository.save(any(Participant.class)))
                 .willAnswer(inv -> inv.getArgument(0));
         given(participantRoleRepository.existsByParticipantIdAndRole(
@@ -806,7 +1066,7 @@ class CompetitionServiceTest {
         given(userService.findById(user.getId())).willReturn(user);
         given(participantRepository.findByCompetitionIdAndUserId(competition.getId(), user.getId()))
                 .willReturn(Optional.of(existingParticipant));
-        given(participantRepository.existsByAccessCode(any())).willReturn(false);
+        given(accessCodeAllocator.allocate()).willReturn("AB3K9XYZ");
         given(participantRepository.save(any(Participant.class)))
                 .willAnswer(inv -> inv.getArgument(0));
         given(participantRoleRepository.existsByParticipantIdAndRole(
@@ -841,7 +1101,7 @@ class CompetitionServiceTest {
                 existingParticipant.getId(), CompetitionRole.JUDGE)).willReturn(false);
         given(participantRoleRepository.findByParticipantId(existingParticipant.getId()))
                 .willReturn(List.of(new ParticipantRole(existingParticipant.getId(), CompetitionRole.ENTRANT)));
-        given(participantRepository.existsByAccessCode(any())).willReturn(false);
+        given(accessCodeAllocator.allocate()).willReturn("AB3K9XYZ");
         given(participantRepository.save(any(Participant.class)))
                 .willAnswer(inv -> inv.getArgument(0));
         given(participantRoleRepository.save(any(ParticipantRole.class)))
@@ -891,7 +1151,7 @@ class CompetitionServiceTest {
         given(userService.findById(user.getId())).willReturn(user);
         given(participantRepository.findByCompetitionIdAndUserId(competition.getId(), user.getId()))
                 .willReturn(Optional.of(existingParticipant));
-        given(participantRepository.existsByAccessCode(any())).willReturn(false);
+        given(accessCodeAllocator.allocate()).willReturn("AB3K9XYZ");
         given(participantRepository.save(any(Participant.class)))
                 .willAnswer(inv -> inv.getArgument(0));
         given(participantRoleRepository.existsByParticipantIdAndRole(
@@ -944,7 +1204,7 @@ class CompetitionServiceTest {
         given(userService.findById(user.getId())).willReturn(user);
         given(participantRepository.findByCompetitionIdAndUserId(competition.getId(), user.getId()))
                 .willReturn(Optional.of(existingParticipant));
-        given(participantRepository.existsByAccessCode(any())).willReturn(false);
+        given(accessCodeAllocator.allocate()).willReturn("AB3K9XYZ");
         given(participantRepository.save(any(Participant.class)))
                 .willAnswer(inv -> inv.getArgument(0));
         given(participantRoleRepository.existsByParticipantIdAndRole(
@@ -1059,7 +1319,7 @@ class CompetitionServiceTest {
     }
 
     @Test
-    void shouldRegenerateAccessCodeWhenCollisionDetected() {
+    void shouldAssignAllocatedAccessCodeWithoutProbing() {
         var admin = createAdmin();
         var user = createRegularUser();
         var competition = createCompetition();
@@ -1069,10 +1329,7 @@ class CompetitionServiceTest {
         given(userService.findById(user.getId())).willReturn(user);
         given(participantRepository.findByCompetitionIdAndUserId(competition.getId(), user.getId()))
                 .willReturn(Optional.empty());
-        // First generated code collides, second does not
-        given(participantRepository.existsByAccessCode(any()))
-                .willReturn(true)
-                .willReturn(false);
+        given(accessCodeAllocator.allocate()).willReturn("AB3K9XYZ");
         given(participantRepository.save(any(Participant.class)))
                 .willAnswer(inv -> inv.getArgument(0));
         given(participantRoleRepository.existsByParticipantIdAndRole(
@@ -1083,10 +1340,9 @@ class CompetitionServiceTest {
         competitionService.addParticipant(
                 competition.getId(), user.getId(), CompetitionRole.JUDGE, admin.getId());
 
-        // existsByAccessCode should have been called at least twice (collision + success)
-        then(participantRepository).should(atLeast(2)).existsByAccessCode(any());
+        then(accessCodeAllocator).should().allocate();
         then(participantRepository).should().save(argThat(
-                (Participant p) -> p.getAccessCode() != null));
+                (Participant p) -> "AB3K9XYZ".equals(p.getAccessCode())));
     }
 
     // --- removeParticipant ---
@@ -1260,6 +1516,125 @@ class CompetitionServiceTest {
         then(userService).should().findOrCreateByEmail("user@example.com");
     }
 
+    // --- importParticipants ---
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldPreviewParticipantImportWithoutWriting() {
+        var admin = createAdmin();
+        var user = createRegularUser();
+        var competition = createCompetition();
+        var participant = new Participant(competition.getId(), user.getId());
+        given(competitionRepository.findById(competition.getId())).willReturn(Optional.of(competition));
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(userService.findIdsByEmail(Set.of("user@example.com", "new@example.com")))
+                .willReturn(Map.of("user@example.com", user.getId()));
+        given(participantRepository.findByCompetitionIdAndUserIdIn(competition.getId(), List.of(user.getId())))
+                .willReturn(List.of(participant));
+        given(participantRoleRepository.findByParticipantIdIn(List.of(participant.getId())))
+                .willReturn(List.of(new ParticipantRole(participant.getId(), CompetitionRole.ENTRANT)));
+
+        var report = competitionService.importParticipants(competition.getId(), csv("""
+                email,role,name
+                user@example.com,Entrant,
+                user@example.com,judge,
+                new@example.com,STEWARD,New Steward
+                """), true, admin.getId());
+
+        assertThat(report.rows()).isEqualTo(3);
+        assertThat(report.changes()).isEqualTo(2);
+        assertThat(report.unchanged()).isEqualTo(1);
+        assertThat(report.newUsers()).isEqualTo(1);
+        assertThat(report.problems()).isEmpty();
+        assertThat(report.applied()).isFalse();
+        then(userService).should(never()).findOrCreateIdsByEmail(any());
+        then(participantBatchWriter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldReportEveryProblemAndWriteNothing() {
+        var admin = createAdmin();
+        var user = createRegularUser();
+        var competition = createCompetition();
+        var participant = new Participant(competition.getId(), user.getId());
+        given(competitionRepository.findById(competition.getId())).willReturn(Optional.of(competition));
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(userService.findIdsByEmail(Set.of("user@example.com", "judge@example.com")))
+                .willReturn(Map.of("user@example.com", user.getId()));
+        given(participantRepository.findByCompetitionIdAndUserIdIn(competition.getId(), List.of(user.getId())))
+                .willReturn(List.of(participant));
+        given(participantRoleRepository.findByParticipantIdIn(List.of(participant.getId())))
+                .willReturn(List.of(new ParticipantRole(participant.getId(), CompetitionRole.ENTRANT)));
+
+        var report = competitionService.importParticipants(competition.getId(), csv("""
+                email;role
+                not-an-email;JUDGE
+                judge@example.com;Chef
+                user@example.com;Steward
+                judge@example.com;Judge
+                judge@example.com;JUDGE
+                """), false, admin.getId());
+
+        assertThat(report.applied()).isFalse();
+        assertThat(report.problems())
+                .extracting(ImportReport.Problem::line, ImportReport.Problem::messageKey)
+                .containsExactly(
+                        tuple(2, "error.import.invalid-email"),
+                        tuple(3, "error.import.invalid-role"),
+                        tuple(4, "error.participant.incompatible-role"),
+                        tuple(6, "error.import.duplicate-row"));
+        then(participantBatchWriter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldApplyParticipantImportWithBatchInserts() {
+        var admin = createAdmin();
+        var competition = createCompetition();
+        var judgeId = UUID.randomUUID();
+        var entrantId = UUID.randomUUID();
+        given(competitionRepository.findById(competition.getId())).willReturn(Optional.of(competition));
+        given(userService.findById(admin.getId())).willReturn(admin);
+        given(userService.findIdsByEmail(Set.of("judge@example.com", "entrant@example.com"))).willReturn(Map.of());
+        given(userService.findOrCreateIdsByEmail(Map.of(
+                "judge@example.com", "Jane Judge", "entrant@example.com", "entrant@example.com")))
+                .willReturn(Map.of("judge@example.com", judgeId, "entrant@example.com", entrantId));
+        given(accessCodeAllocator.allocate(1)).willReturn(List.of("ABCD2345"));
+
+        var report = competitionService.importParticipants(competition.getId(), csv("""
+                email,role,name
+                judge@example.com,JUDGE,Jane Judge
+                entrant@example.com,ENTRANT,
+                """), false, admin.getId());
+
+        assertThat(report.applied()).isTrue();
+        assertThat(report.changes()).isEqualTo(2);
+        assertThat(report.newUsers()).isEqualTo(2);
+        then(participantBatchWriter).should().insertParticipants(argThat(participants ->
+                participants.size() == 2 && participants.stream().anyMatch(p ->
+                        p.getUserId().equals(judgeId) && "ABCD2345".equals(p.getAccessCode()))));
+        then(participantBatchWriter).should().assignAccessCodes(Map.of());
+        then(participantBatchWriter).should().insertRoles(argThat(roles -> roles.size() == 2));
+        then(participantRepository).should(never()).save(any());
+    }
+
+    @Test
+    void shouldRejectParticipantImportWhenNotAuthorized() {
+        var user = createRegularUser();
+        var competition = createCompetition();
+        given(competitionRepository.findById(competition.getId())).willReturn(Optional.of(competition));
+        given(userService.findById(user.getId())).willReturn(user);
+        given(participantRepository.findByCompetitionIdAndUserId(competition.getId(), user.getId()))
+                .willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> competitionService.importParticipants(competition.getId(),
+                csv("email,role\n"), true, user.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessage("error.auth.unauthorized");
+    }
+
     // --- isAuthorizedForCompetition ---
 
     @Test
@@ -1295,44 +1670,19 @@ class CompetitionServiceTest {
         var comp1 = createCompetition();
         var comp2 = new Competition("Other Competition", "other-competition",
                 LocalDate.of(2026, 9, 1), LocalDate.of(2026, 9, 30), "Porto");
-        var participant1 = new Participant(comp1.getId(), user.getId());
-        var participant2 = new Participant(comp2.getId(), user.getId());
-        given(participantRepository.findByUserId(user.getId()))
-                .willReturn(List.of(participant1, participant2));
-        given(participantRoleRepository.existsByParticipantIdAndRole(
-                participant1.getId(), CompetitionRole.ADMIN)).willReturn(true);
-        given(participantRoleRepository.existsByParticipantIdAndRole(
-                participant2.getId(), CompetitionRole.ADMIN)).willReturn(true);
-        given(competitionRepository.findById(comp1.getId()))
-                .willReturn(Optional.of(comp1));
-        given(competitionRepository.findById(comp2.getId()))
-                .willReturn(Optional.of(comp2));
+        given(competitionRepository.findByParticipantRole(user.getId(), CompetitionRole.ADMIN))
+                .willReturn(List.of(comp1, comp2));
 
         var result = competitionService.findCompetitionsByAdmin(user.getId());
 
-        assertThat(result).hasSize(2);
-        assertThat(result).containsExactlyInAnyOrder(comp1, comp2);
+        assertThat(result).containsExactly(comp1, comp2);
+        then(participantRepository).shouldHaveNoInteractions();
     }
 
     @Test
     void shouldReturnEmptyWhenUserIsNotAdminOfAnyCompetition() {
         var user = createRegularUser();
-        var comp = createCompetition();
-        var participant = new Participant(comp.getId(), user.getId());
-        given(participantRepository.findByUserId(user.getId()))
-                .willReturn(List.of(participant));
-        given(participantRoleRepository.existsByParticipantIdAndRole(
-                participant.getId(), CompetitionRole.ADMIN)).willReturn(false);
-
-        var result = competitionService.findCompetitionsByAdmin(user.getId());
-
-        assertThat(result).isEmpty();
-    }
-
-    @Test
-    void shouldReturnEmptyWhenUserHasNoParticipations() {
-        var user = createRegularUser();
-        given(participantRepository.findByUserId(user.getId()))
+        given(competitionRepository.findByParticipantRole(user.getId(), CompetitionRole.ADMIN))
                 .willReturn(List.of());
 
         var result = competitionService.findCompetitionsByAdmin(user.getId());
@@ -1461,22 +1811,51 @@ class CompetitionServiceTest {
     // --- findDivisionCategories ---
 
     @Test
+    @SuppressWarnings("unchecked")
     void shouldFindDivisionCategories() {
         var divisionId = UUID.randomUUID();
         var dc1 = new DivisionCategory(divisionId, null,
                 "M1A", "Traditional Mead", "A traditional mead", null, 0);
         var dc2 = new DivisionCategory(divisionId, null,
                 "M1B", "Semi-Sweet Mead", "A semi-sweet mead", null, 1);
+        given(divisionReferenceCache.getDivisionCategories(eq(divisionId), any()))
+                .willAnswer(inv -> ((Supplier<List<DivisionCategory>>) inv.getArgument(1)).get());
         given(divisionCategoryRepository.findByDivisionIdOrderByCode(divisionId))
                 .willReturn(List.of(dc1, dc2));
 
         var result = competitionService.findDivisionCategories(divisionId);
 
-        assertThat(result).hasSize(2);
+        assertThat(result).extracting(DivisionCategory::getId).containsExactly(dc1.getId(), dc2.getId());
+        assertThat(result).doesNotContain(dc1, dc2);
         then(divisionCategoryRepository).should()
                 .findByDivisionIdOrderByCode(divisionId);
     }
 
+    @Test
+    void shouldServeDivisionFromCacheAsACopy() {
+        var division = new Division(UUID.randomUUID(),
+                "Home", "home", ScoringSystem.MJP,
+                LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
+        given(divisionReferenceCache.getDivision(eq(division.getId()), any())).willReturn(division);
+
+        var result = competitionService.findDivisionById(division.getId());
+
+        assertThat(result).isNotSameAs(division).usingRecursiveComparison().isEqualTo(division);
+        then(divisionRepository).should(never()).findById(any());
+    }
+
+    @Test
+    void shouldReadCurrentDivisionPastTheReferenceCache() {
+        var division = new Division(UUID.randomUUID(), "Home", "home", ScoringSystem.MJP,
+                LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
+        given(divisionRepository.findById(division.getId())).willReturn(Optional.of(division));
+
+        var result = competitionService.findCurrentDivision(division.getId());
+
+        assertThat(result).isSameAs(division);
+        then(divisionReferenceCache).should(never()).getDivision(any(), any());
+    }
+
     // --- addCatalogCategory ---
 
     @Test
@@ -1636,6 +2015,7 @@ class CompetitionServiceTest {
                 division.getId(), dc.getId(), admin.getId());
 
         then(divisionCategoryRepository).should().delete(dc);
+        then(divisionReferenceCache).should().evictCategories(division.getId());
     }
 
     @Test
@@ -1816,6 +2196,8 @@ class CompetitionServiceTest {
         assertThat(result.getName()).isEqualTo("Rules");
         assertThat(result.getType()).isEqualTo(DocumentType.PDF);
         assertThat(result.getDisplayOrder()).isZero();
+        assertThat(result.getSizeBytes()).isEqualTo(3L);
+        then(documentContent).should().store(result.getContentHash(), new byte[]{1, 2, 3});
     }
 
     @Test
@@ -1889,6 +2271,23 @@ class CompetitionServiceTest {
         competitionService.removeDocument(doc.getId(), admin.getId());
 
         then(competitionDocumentRepository).should().delete(doc);
+        then(documentContent).should().releaseAfterCommit(List.of());
+    }
+
+    @Test
+    void shouldReleaseStoredContentWhenDocumentRemoved() {
+        var admin = createAdmin();
+        var competition = createCompetition();
+        var doc = CompetitionDocument.createPdf(competition.getId(), "Rules",
+                new byte[]{1, 2, 3}, "application/pdf", 0, null);
+        given(competitionDocumentRepository.findById(doc.getId()))
+                .willReturn(Optional.of(doc));
+        given(userService.findById(admin.getId())).willReturn(admin);
+
+        competitionService.removeDocument(doc.getId(), admin.getId());
+
+        then(competitionDocumentRepository).should().delete(doc);
+        then(documentContent).should().releaseAfterCommit(List.of(doc.getContentHash()));
     }
 
     @Test
@@ -2042,25 +2441,95 @@ class CompetitionServiceTest {
     @Test
     void shouldFindAdminEmailsByCompetitionId() {
         var competition = createCompetition();
-        var admin = createAdmin();
-        var otherUser = mock(User.class);
-        given(otherUser.getEmail()).willReturn("other-admin@test.com");
-        var otherUserId = UUID.randomUUID();
-        var adminParticipant = new Participant(competition.getId(), admin.getId());
-        var otherParticipant = new Participant(competition.getId(), otherUserId);
-
-        given(participantRepository.findByCompetitionId(competition.getId()))
-                .willReturn(List.of(adminParticipant, otherParticipant));
-        given(participantRoleRepository.existsByParticipantIdAndRole(
-                adminParticipant.getId(), CompetitionRole.ADMIN)).willReturn(true);
-        given(participantRoleRepository.existsByParticipantIdAndRole(
-                otherParticipant.getId(), CompetitionRole.ADMIN)).willReturn(true);
-        given(userService.findById(admin.getId())).willReturn(admin);
-        given(userService.findById(otherUserId)).willReturn(otherUser);
+        given(participantRepository.findUserEmailsByCompetitionIdAndRole(
+                competition.getId(), CompetitionRole.ADMIN))
+                .willReturn(List.of("admin@example.com", "other-admin@test.com"));
 
         var emails = competitionService.findAdminEmailsByCompetitionId(competition.getId());
 
-        assertThat(emails).containsExactlyInAnyOrder(admin.getEmail(), "other-admin@test.com");
+        assertThat(emails).containsExactlyInAnyOrder("admin@example.com", "other-admin@test.com");
+        then(userService).shouldHaveNoInteractions();
+    }
+
+    // --- findRolesByCompetition ---
+
+    @Test
+    void shouldFindRolesByCompetitionInSingleQuery() {
+        var competition = createCompetition();
+        var role = new ParticipantRole(UUID.randomUUID(), CompetitionRole.JUDGE);
+        given(participantRoleRepository.findByCompetitionId(competition.getId()))
+                .willReturn(List.of(role));
+
+        var result = competitionService.findRolesByCompetition(competition.getId());
+
+        assertThat(result).containsExactly(role);
+        then(participantRoleRepository).should(never()).findByParticipantId(any());
+    }
+
+    // --- findParticipantSummaries ---
+
+    @Test
+    void shouldBuildParticipantSummariesWithRolesForPage() {
+        var competitionId = UUID.randomUUID();
+        var participantId = UUID.randomUUID();
+        var row = mock(ParticipantRow.class);
+        given(row.getParticipantId()).willReturn(participantId);
+        given(row.getUserId()).willReturn(UUID.randomUUID());
+        given(row.getName()).willReturn("Judge Person");
+        given(row.getEmail()).willReturn("judge@test.com");
+        given(row.getHasPassword()).willReturn(false);
+        given(participantRepository.findRowsByCompetitionId(
+                competitionId, "%judge%", PageRequest.of(0, 50, Sort.by("name", "participantId"))))
+                .willReturn(List.of(row));
+        given(participantRoleRepository.findByParticipantIdIn(List.of(participantId)))
+                .willReturn(List.of(
+                        new ParticipantRole(participantId, CompetitionRole.JUDGE),
+                        new ParticipantRole(participantId, CompetitionRole.ENTRANT)));
+
+        var result = competitionService.findParticipantSummaries(
+                competitionId, " Judge ", PageRequest.of(0, 50));
+
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().email()).isEqualTo("judge@test.com");
+        assertThat(result.getFirst().roles())
+                .containsExactly(CompetitionRole.ENTRANT, CompetitionRole.JUDGE);
+    }
+
+    @Test
+    void shouldBreakParticipantSortTiesById() {
+        var competitionId = UUID.randomUUID();
+        given(participantRepository.findRowsByCompetitionId(
+                competitionId, "%", PageRequest.of(2, 50, Sort.by(Sort.Direction.DESC, "email")
+                        .and(Sort.by("participantId")))))
+                .willReturn(List.of());
+
+        var result = competitionService.findParticipantSummaries(
+                competitionId, null, PageRequest.of(2, 50, Sort.by(Sort.Direction.DESC, "email")));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void shouldNotLoadRolesWhenParticipantPageIsEmpty() {
+        var competitionId = UUID.randomUUID();
+        given(participantRepository.findRowsByCompetitionId(any(), any(), any()))
+                .willReturn(List.of());
+
+        var result = competitionService.findParticipantSummaries(
+                competitionId, null, PageRequest.of(0, 50));
+
+        assertThat(result).isEmpty();
+        then(participantRoleRepository).should(never()).findByParticipantIdIn(any());
+    }
+
+    @Test
+    void shouldCountParticipantSummariesWithMatchAllPatternWhenFilterBlank() {
+        var competitionId = UUID.randomUUID();
+        given(participantRepository.countRowsByCompetitionId(competitionId, "%"))
+                .willReturn(3000L);
+
+        assertThat(competitionService.countParticipantSummaries(competitionId, "  "))
+                .isEqualTo(3000L);
     }
 
     @Test
@@ -52,10 +52,23 @@ class CompetitionTest {
         competition.updateLogo(logo, "image/png");
 
         assertThat(competition.hasLogo()).isTrue();
-        assertThat(competition.getLogo()).isEqualTo(logo);
+        assertThat(competition.getLogoHash()).hasSize(64);
         assertThat(competition.getLogoContentType()).isEqualTo("image/png");
     }
 
+    @Test
+    void shouldChangeLogoUrlWhenLogoChanges() {
+        var competition = createCompetition();
+        assertThat(competition.getLogoUrl()).isNull();
+
+        competition.updateLogo(new byte[]{1, 2, 3}, "image/png");
+        var firstUrl = competition.getLogoUrl();
+        competition.updateLogo(new byte[]{4, 5, 6}, "image/png");
+
+        assertThat(firstUrl).startsWith("competition-logos/" + competition.getId() + "?v=");
+        assertThat(competition.getLogoUrl()).isNotEqualTo(firstUrl);
+    }
+
     @Test
     void shouldRemoveLogoWhenNullPassed() {
         var competition = createCompetition();
@@ -64,6 +77,8 @@ class CompetitionTest {
         competition.updateLogo(null, null);
 
         assertThat(competition.hasLogo()).isFalse();
+        assertThat(competition.getLogoContentType()).isNull();
+        assertThat(competition.getLogoUrl()).isNull();
     }
 
     @Test
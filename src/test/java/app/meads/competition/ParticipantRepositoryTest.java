@@ -3,6 +3,8 @@ package app.meads.competition;
 import app.meads.TestcontainersConfiguration;
 import app.meads.competition.internal.CompetitionRepository;
 import app.meads.competition.internal.ParticipantRepository;
+import app.meads.competition.internal.ParticipantRoleRepository;
+import app.meads.competition.internal.ParticipantRow;
 import app.meads.identity.Role;
 import app.meads.identity.User;
 import app.meads.identity.UserStatus;
@@ -11,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -25,6 +29,9 @@ class ParticipantRepositoryTest {
     @Autowired
     ParticipantRepository participantRepository;
 
+    @Autowired
+    ParticipantRoleRepository participantRoleRepository;
+
     @Autowired
     CompetitionRepository competitionRepository;
 
@@ -101,4 +108,50 @@ class ParticipantRepositoryTest {
         assertThat(found.get().getCompetitionId()).isEqualTo(competition.getId());
         assertThat(found.get().getUserId()).isEqualTo(user.getId());
     }
+
+    @Test
+    void shouldFindParticipantRowsFilteredSortedAndPaged() {
+        var competition = createAndSaveCompetition();
+        var alice = userRepository.save(new User("p-rows-alice@test.com", "Alice",
+                UserStatus.ACTIVE, Role.USER));
+        var bob = userRepository.save(new User("p-rows-bob@test.com", "Bob",
+                UserStatus.ACTIVE, Role.USER));
+        var carol = userRepository.save(new User("p-rows-carol@test.com", "Carol",
+                UserStatus.ACTIVE, Role.USER));
+        participantRepository.save(new Participant(competition.getId(), carol.getId()));
+        participantRepository.save(new Participant(competition.getId(), alice.getId()));
+        participantRepository.save(new Participant(competition.getId(), bob.getId()));
+
+        var firstPage = participantRepository.findRowsByCompetitionId(
+                competition.getId(), "%", PageRequest.of(0, 2, Sort.by("name")));
+        var filtered = participantRepository.findRowsByCompetitionId(
+                competition.getId(), "%bob%", PageRequest.of(0, 10, Sort.by("name")));
+
+        assertThat(firstPage).extracting(ParticipantRow::getName).containsExactly("Alice", "Bob");
+        assertThat(firstPage.getFirst().getEmail()).isEqualTo("p-rows-alice@test.com");
+        assertThat(firstPage.getFirst().getHasPassword()).isFalse();
+        assertThat(filtered).extracting(ParticipantRow::getUserId).containsExactly(bob.getId());
+        assertThat(participantRepository.countRowsByCompetitionId(competition.getId(), "%"))
+                .isEqualTo(3);
+        assertThat(participantRepository.countRowsByCompetitionId(competition.getId(), "%carol%"))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldFindUserEmailsByCompetitionIdAndRole() {
+        var competition = createAndSaveCompetition();
+        var admin = createAndSaveUser("p-admin-email@test.com");
+        var judge = createAndSaveUser("p-judge-email@test.com");
+        var adminParticipant = participantRepository.save(
+                new Participant(competition.getId(), admin.getId()));
+        var judgeParticipant = participantRepository.save(
+                new Participant(competition.getId(), judge.getId()));
+        participantRoleRepository.save(new ParticipantRole(adminParticipant.getId(), CompetitionRole.ADMIN));
+        participantRoleRepository.save(new ParticipantRole(judgeParticipant.getId(), CompetitionRole.JUDGE));
+
+        var emails = participantRepository.findUserEmailsByCompetitionIdAndRole(
+                competition.getId(), CompetitionRole.ADMIN);
+
+        assertThat(emails).containsExactly("p-admin-email@test.com");
+    }
 }
@@ -91,4 +91,24 @@ class ParticipantRoleRepositoryTest {
         assertThat(participantRoleRepository.existsByParticipantIdAndRole(
                 participant.getId(), CompetitionRole.JUDGE)).isFalse();
     }
+
+    @Test
+    void shouldFindByCompetitionId() {
+        var competition = createAndSaveCompetition();
+        var other = competitionRepository.save(new Competition("Other Competition", "other-competition",
+                LocalDate.of(2026, 9, 1), LocalDate.of(2026, 9, 3), "Lisbon"));
+        var judge = createAndSaveParticipant(competition.getId(), "pr-comp-judge@test.com");
+        var steward = createAndSaveParticipant(competition.getId(), "pr-comp-steward@test.com");
+        var outsider = createAndSaveParticipant(other.getId(), "pr-comp-outsider@test.com");
+        participantRoleRepository.save(new ParticipantRole(judge.getId(), CompetitionRole.JUDGE));
+        participantRoleRepository.save(new ParticipantRole(judge.getId(), CompetitionRole.ENTRANT));
+        participantRoleRepository.save(new ParticipantRole(steward.getId(), CompetitionRole.STEWARD));
+        participantRoleRepository.save(new ParticipantRole(outsider.getId(), CompetitionRole.JUDGE));
+
+        var results = participantRoleRepository.findByCompetitionId(competition.getId());
+
+        assertThat(results).hasSize(3);
+        assertThat(results).extracting(ParticipantRole::getParticipantId)
+                .doesNotContain(outsider.getId());
+    }
 }
@@ -0,0 +1,83 @@
+package app.meads.competition.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class AccessCodeAllocatorTest {
+
+    @Mock
+    ParticipantRepository participantRepository;
+
+    @Test
+    void shouldAllocateDistinctEightCharacterCodesFromSequence() {
+        var allocator = new AccessCodeAllocator(participantRepository,
+                "test-secret-key-minimum-32-characters-long");
+        given(participantRepository.nextAccessCodeSequence()).willReturn(1L, 2L);
+
+        var first = allocator.allocate();
+        var second = allocator.allocate();
+
+        assertThat(first).matches("[ABCDEFGHJKLMNPQRSTUVWXYZ23456789]{8}");
+        assertThat(second).matches("[ABCDEFGHJKLMNPQRSTUVWXYZ23456789]{8}");
+        assertThat(first).isNotEqualTo(second);
+        then(participantRepository).should(times(2)).nextAccessCodeSequence();
+    }
+
+    @Test
+    void shouldAllocateBatchOfCodesWithOneSequenceQuery() {
+        var allocator = new AccessCodeAllocator(participantRepository,
+                "test-secret-key-minimum-32-characters-long");
+        given(participantRepository.nextAccessCodeSequences(3)).willReturn(List.of(7L, 8L, 9L));
+        given(participantRepository.findTakenAccessCodes(anyList())).willReturn(List.of());
+
+        var codes = allocator.allocate(3);
+
+        assertThat(codes).hasSize(3).doesNotHaveDuplicates()
+                .allMatch(code -> code.matches("[ABCDEFGHJKLMNPQRSTUVWXYZ23456789]{8}"));
+        then(participantRepository).should().nextAccessCodeSequences(3);
+        then(participantRepository).should().findTakenAccessCodes(codes);
+        then(participantRepository).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    void shouldSkipCodeAlreadyHeldByAnEarlierParticipant() {
+        var allocator = new AccessCodeAllocator(participantRepository,
+                "test-secret-key-minimum-32-characters-long");
+        given(participantRepository.nextAccessCodeSequence()).willReturn(1L, 2L);
+        given(participantRepository.existsByAccessCode(anyString())).willReturn(true, false);
+
+        var code = allocator.allocate();
+
+        then(participantRepository).should(times(2)).nextAccessCodeSequence();
+        then(participantRepository).should().existsByAccessCode(code);
+    }
+
+    @Test
+    void shouldReplaceTakenCodesInBatch() {
+        var allocator = new AccessCodeAllocator(participantRepository,
+                "test-secret-key-minimum-32-characters-long");
+        given(participantRepository.nextAccessCodeSequences(3)).willReturn(List.of(7L, 8L, 9L));
+        given(participantRepository.nextAccessCodeSequences(1)).willReturn(List.of(10L));
+        given(participantRepository.findTakenAccessCodes(anyList())).willAnswer(inv -> {
+            List<String> candidates = inv.getArgument(0);
+            return candidates.size() == 3 ? List.of(candidates.get(1)) : List.of();
+        });
+
+        var codes = allocator.allocate(3);
+
+        assertThat(codes).hasSize(3).doesNotHaveDuplicates();
+        then(participantRepository).should().nextAccessCodeSequences(1);
+    }
+}
@@ -0,0 +1,142 @@
+package app.meads.competition.internal;
+
+import app.meads.competition.CompetitionDocument;
+import app.meads.identity.Role;
+import app.meads.identity.User;
+import app.meads.identity.UserService;
+import app.meads.identity.UserStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CompetitionDocumentControllerTest {
+
+    MockMvc mockMvc;
+
+    @Mock
+    CompetitionDocumentRepository competitionDocumentRepository;
+
+    @Mock
+    ParticipantRepository participantRepository;
+
+    @Mock
+    UserService userService;
+
+    @TempDir
+    Path tempDir;
+
+    CompetitionDocument pdf;
+    User user = new User("entrant@test.com", "Entrant", UserStatus.ACTIVE, Role.USER);
+
+    @BeforeEach
+    void setUp() {
+        var documentStore = new DocumentStore(tempDir.toString());
+        var data = new byte[]{10, 11, 12, 13, 14, 15};
+        pdf = CompetitionDocument.createPdf(UUID.randomUUID(), "Rules", data, "application/pdf", 0, null);
+        documentStore.write(pdf.getContentHash(), data);
+        mockMvc = MockMvcBuilders.standaloneSetup(new CompetitionDocumentController(
+                        competitionDocumentRepository, documentStore, participantRepository, userService))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        var principal = org.springframework.security.core.userdetails.User.builder()
+                .username(user.getEmail()).password("password").authorities(List.of()).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+        lenient().when(userService.findByEmail(user.getEmail())).thenReturn(user);
+        lenient().when(participantRepository.existsByCompetitionIdAndUserId(pdf.getCompetitionId(), user.getId()))
+                .thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldStreamWholeDocumentWithEtag() throws Exception {
+        given(competitionDocumentRepository.findById(pdf.getId())).willReturn(Optional.of(pdf));
+
+        mockMvc.perform(get("/competition-documents/{id}", pdf.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(content().bytes(new byte[]{10, 11, 12, 13, 14, 15}))
+                .andExpect(header().string("ETag", "\"" + pdf.getContentHash() + "\""))
+                .andExpect(header().string("Content-Disposition", containsString("Rules.pdf")));
+    }
+
+    @Test
+    void shouldServePartialContentForRangeRequest() throws Exception {
+        given(competitionDocumentRepository.findById(pdf.getId())).willReturn(Optional.of(pdf));
+
+        mockMvc.perform(get("/competition-documents/{id}", pdf.getId()).header("Range", "bytes=2-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 2-3/6"))
+                .andExpect(content().bytes(new byte[]{12, 13}));
+    }
+
+    @Test
+    void shouldReturn304WhenEtagMatches() throws Exception {
+        given(competitionDocumentRepository.findById(pdf.getId())).willReturn(Optional.of(pdf));
+
+        mockMvc.perform(get("/competition-documents/{id}", pdf.getId())
+                        .header("If-None-Match", "\"" + pdf.getContentHash() + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void shouldReturn404ForLinkDocument() throws Exception {
+        var link = CompetitionDocument.createLink(UUID.randomUUID(), "Guide", "https://example.com", 0, null);
+        given(competitionDocumentRepository.findById(link.getId())).willReturn(Optional.of(link));
+
+        mockMvc.perform(get("/competition-documents/{id}", link.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReturn403ForUserOutsideTheCompetition() throws Exception {
+        var otherCompetitionDoc = CompetitionDocument.createPdf(UUID.randomUUID(), "Rules",
+                new byte[]{10, 11, 12, 13, 14, 15}, "application/pdf", 0, null);
+        given(competitionDocumentRepository.findById(otherCompetitionDoc.getId()))
+                .willReturn(Optional.of(otherCompetitionDoc));
+
+        mockMvc.perform(get("/competition-documents/{id}", otherCompetitionDoc.getId()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldServeAnyCompetitionDocumentToSystemAdmin() throws Exception {
+        var admin = new User("admin@test.com", "Admin", UserStatus.ACTIVE, Role.SYSTEM_ADMIN);
+        var principal = org.springframework.security.core.userdetails.User.builder()
+                .username(admin.getEmail()).password("password").authorities(List.of()).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+        given(userService.findByEmail(admin.getEmail())).willReturn(admin);
+        given(competitionDocumentRepository.findById(pdf.getId())).willReturn(Optional.of(pdf));
+
+        mockMvc.perform(get("/competition-documents/{id}", pdf.getId()))
+                .andExpect(status().isOk());
+    }
+}
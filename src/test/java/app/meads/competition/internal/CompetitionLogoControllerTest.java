@@ -0,0 +1,98 @@
+package app.meads.competition.internal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CompetitionLogoControllerTest {
+
+    MockMvc mockMvc;
+
+    @InjectMocks
+    CompetitionLogoController controller;
+
+    @Mock
+    CompetitionLogoRepository competitionLogoRepository;
+
+    UUID competitionId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void shouldServeHeaderVariantWithImmutableCachingWhenVersioned() throws Exception {
+        given(competitionLogoRepository.findHashByCompetitionId(competitionId)).willReturn(Optional.of("abc"));
+        given(competitionLogoRepository.findHeaderContentByCompetitionId(competitionId))
+                .willReturn(Optional.of(new LogoContent("image/png", new byte[]{1, 2, 3})));
+
+        mockMvc.perform(get("/competition-logos/{id}", competitionId).param("v", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(new byte[]{1, 2, 3}))
+                .andExpect(header().string("ETag", "\"abc-header\""))
+                .andExpect(header().string("Cache-Control", containsString("immutable")));
+    }
+
+    @Test
+    void shouldRequireRevalidationWhenVersionIsStale() throws Exception {
+        given(competitionLogoRepository.findHashByCompetitionId(competitionId)).willReturn(Optional.of("abc"));
+        given(competitionLogoRepository.findHeaderContentByCompetitionId(competitionId))
+                .willReturn(Optional.of(new LogoContent("image/png", new byte[]{1})));
+
+        mockMvc.perform(get("/competition-logos/{id}", competitionId).param("v", "old"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("no-cache")));
+    }
+
+    @Test
+    void shouldReturn304WithoutLoadingBytesWhenEtagMatches() throws Exception {
+        given(competitionLogoRepository.findHashByCompetitionId(competitionId)).willReturn(Optional.of("abc"));
+
+        mockMvc.perform(get("/competition-logos/{id}", competitionId)
+                        .header("If-None-Match", "\"abc-header\""))
+                .andExpect(status().isNotModified());
+
+        then(competitionLogoRepository).should(never()).findHeaderContentByCompetitionId(any());
+    }
+
+    @Test
+    void shouldServeOriginalWhenRequested() throws Exception {
+        given(competitionLogoRepository.findHashByCompetitionId(competitionId)).willReturn(Optional.of("abc"));
+        given(competitionLogoRepository.findOriginalContentByCompetitionId(competitionId))
+                .willReturn(Optional.of(new LogoContent("image/jpeg", new byte[]{7})));
+
+        mockMvc.perform(get("/competition-logos/{id}", competitionId).param("original", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(header().string("ETag", "\"abc-original\""));
+    }
+
+    @Test
+    void shouldReturn404WhenCompetitionHasNoLogo() throws Exception {
+        given(competitionLogoRepository.findHashByCompetitionId(competitionId)).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/competition-logos/{id}", competitionId))
+                .andExpect(status().isNotFound());
+    }
+}
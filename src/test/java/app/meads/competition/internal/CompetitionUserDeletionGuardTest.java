@@ -20,6 +20,9 @@ class CompetitionUserDeletionGuardTest {
     @Mock
     private ParticipantRepository participantRepository;
 
+    @Mock
+    private CompetitionArchiver competitionArchiver;
+
     @InjectMocks
     private CompetitionUserDeletionGuard guard;
 
@@ -33,6 +36,17 @@ class CompetitionUserDeletionGuardTest {
                 .hasMessageContaining("error.user.cannot-delete-has-data");
     }
 
+    @Test
+    void shouldBlockDeletionWhenUserIsReferencedByAnArchive() {
+        var userId = UUID.randomUUID();
+        given(participantRepository.existsByUserId(userId)).willReturn(false);
+        given(competitionArchiver.isUserArchived(userId)).willReturn(true);
+
+        assertThatThrownBy(() -> guard.checkDeletionAllowed(userId))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.user.cannot-delete-has-data");
+    }
+
     @Test
     void shouldAllowDeletionWhenUserHasNoParticipantRecords() {
         var userId = UUID.randomUUID();
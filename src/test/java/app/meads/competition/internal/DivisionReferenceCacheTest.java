@@ -0,0 +1,115 @@
+package app.meads.competition.internal;
+
+import app.meads.BusinessRuleException;
+import app.meads.competition.Division;
+import app.meads.competition.DivisionCategory;
+import app.meads.competition.ScoringSystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DivisionReferenceCacheTest {
+
+    DivisionReferenceCache cache;
+    UUID divisionId = UUID.randomUUID();
+    AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new DivisionReferenceCache(new ConcurrentMapCacheManager(
+                DivisionReferenceCache.DIVISIONS,
+                DivisionReferenceCache.DIVISION_CATEGORIES,
+                DivisionReferenceCache.JUDGING_CATEGORIES));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Division loadDivision() {
+        loads.incrementAndGet();
+        return new Division(UUID.randomUUID(), "Home", "home", ScoringSystem.MJP,
+                LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
+    }
+
+    private List<DivisionCategory> loadCategories() {
+        loads.incrementAndGet();
+        return List.of(new DivisionCategory(divisionId, null, "M1A", "Traditional Mead",
+                "A traditional mead", null, 0));
+    }
+
+    @Test
+    void shouldLoadDivisionOnce() {
+        var first = cache.getDivision(divisionId, this::loadDivision);
+        var second = cache.getDivision(divisionId, this::loadDivision);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldPropagateLoaderExceptionAndCacheNothing() {
+        assertThatThrownBy(() -> cache.getDivision(divisionId, () -> {
+            throw new BusinessRuleException("error.division.not-found");
+        }))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.division.not-found");
+
+        cache.getDivision(divisionId, this::loadDivision);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldEvictDivisionWithoutTouchingCategories() {
+        cache.getDivision(divisionId, this::loadDivision);
+        cache.getDivisionCategories(divisionId, this::loadCategories);
+
+        cache.evictDivision(divisionId);
+        cache.getDivision(divisionId, this::loadDivision);
+        cache.getDivisionCategories(divisionId, this::loadCategories);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void shouldEvictRegistrationAndJudgingCategoriesTogether() {
+        cache.getDivisionCategories(divisionId, this::loadCategories);
+        cache.getJudgingCategories(divisionId, this::loadCategories);
+
+        cache.evictCategories(divisionId);
+        cache.getDivisionCategories(divisionId, this::loadCategories);
+        cache.getJudgingCategories(divisionId, this::loadCategories);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void shouldEvictAgainWhenTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.getDivision(divisionId, this::loadDivision);
+
+        cache.evictDivision(divisionId);
+        // A concurrent reader repopulates before the writer commits
+        cache.getDivision(divisionId, this::loadDivision);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        cache.getDivision(divisionId, this::loadDivision);
+
+        assertThat(loads).hasValue(3);
+    }
+}
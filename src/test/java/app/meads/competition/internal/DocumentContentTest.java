@@ -0,0 +1,121 @@
+package app.meads.competition.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentContentTest {
+
+    private static final String SHARED = "039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81";
+    private static final String UNIQUE = "787c798e39a5bc1910355bae6d0cd87a36b2e10fd0202a83e3bb6b005da83472";
+
+    @TempDir
+    Path tempDir;
+
+    @Mock CompetitionDocumentRepository documentRepository;
+    @Mock JdbcTemplate jdbcTemplate;
+    @Mock PlatformTransactionManager transactionManager;
+
+    DocumentStore documentStore;
+    DocumentContent documentContent;
+
+    @BeforeEach
+    void setUp() {
+        documentStore = new DocumentStore(tempDir.toString());
+        documentContent = new DocumentContent(documentStore, documentRepository, jdbcTemplate, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldDeleteOnlyUnreferencedContentUnderTheHashLock() {
+        documentStore.write(SHARED, new byte[]{1, 2, 3});
+        documentStore.write(UNIQUE, new byte[]{4, 5, 6});
+        given(documentRepository.existsByContentHash(SHARED)).willReturn(true);
+        given(documentRepository.existsByContentHash(UNIQUE)).willReturn(false);
+
+        documentContent.releaseAfterCommit(List.of(SHARED, UNIQUE, UNIQUE));
+
+        assertThat(documentStore.exists(SHARED)).isTrue();
+        assertThat(documentStore.exists(UNIQUE)).isFalse();
+        then(jdbcTemplate).should().query(anyString(), any(RowCallbackHandler.class), eq("document:" + SHARED));
+        then(jdbcTemplate).should().query(anyString(), any(RowCallbackHandler.class), eq("document:" + UNIQUE));
+        then(transactionManager).should(times(2)).commit(any());
+    }
+
+    @Test
+    void shouldWaitForCommitBeforeReleasing() {
+        documentStore.write(UNIQUE, new byte[]{4, 5, 6});
+        TransactionSynchronizationManager.initSynchronization();
+
+        documentContent.releaseAfterCommit(List.of(UNIQUE));
+
+        assertThat(documentStore.exists(UNIQUE)).isTrue();
+        given(documentRepository.existsByContentHash(UNIQUE)).willReturn(false);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(documentStore.exists(UNIQUE)).isFalse();
+    }
+
+    @Test
+    void shouldReleaseStoredContentWhenTransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        documentContent.store(UNIQUE, new byte[]{4, 5, 6});
+
+        assertThat(documentStore.exists(UNIQUE)).isTrue();
+        then(jdbcTemplate).should().query(anyString(), any(RowCallbackHandler.class), eq("document:" + UNIQUE));
+        given(documentRepository.existsByContentHash(UNIQUE)).willReturn(false);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(documentStore.exists(UNIQUE)).isFalse();
+    }
+
+    @Test
+    void shouldKeepStoredContentWhenTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        documentContent.store(UNIQUE, new byte[]{4, 5, 6});
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(documentStore.exists(UNIQUE)).isTrue();
+        then(documentRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldLockEachHashOnceInOrder() {
+        documentContent.lock(List.of(UNIQUE, SHARED, UNIQUE));
+
+        var inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq("document:" + SHARED));
+        inOrder.verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq("document:" + UNIQUE));
+        inOrder.verifyNoMoreInteractions();
+    }
+}
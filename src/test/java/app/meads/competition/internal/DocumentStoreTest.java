@@ -0,0 +1,58 @@
+package app.meads.competition.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentStoreTest {
+
+    private static final String HASH = "039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldWriteContentUnderFanOutDirectory() throws Exception {
+        var store = new DocumentStore(tempDir.toString());
+
+        store.write(HASH, new byte[]{1, 2, 3});
+
+        var path = store.path(HASH);
+        assertThat(path).isEqualTo(tempDir.resolve("03").resolve(HASH));
+        assertThat(Files.readAllBytes(path)).containsExactly(1, 2, 3);
+        assertThat(store.exists(HASH)).isTrue();
+    }
+
+    @Test
+    void shouldKeepExistingFileWhenSameContentWrittenTwice() {
+        var store = new DocumentStore(tempDir.toString());
+        store.write(HASH, new byte[]{1, 2, 3});
+
+        store.write(HASH, new byte[]{1, 2, 3});
+
+        assertThat(store.exists(HASH)).isTrue();
+    }
+
+    @Test
+    void shouldDeleteContent() {
+        var store = new DocumentStore(tempDir.toString());
+        store.write(HASH, new byte[]{1, 2, 3});
+
+        store.delete(HASH);
+
+        assertThat(store.exists(HASH)).isFalse();
+    }
+
+    @Test
+    void shouldRejectMalformedHash() {
+        var store = new DocumentStore(tempDir.toString());
+
+        assertThatThrownBy(() -> store.path("../../etc/passwd"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
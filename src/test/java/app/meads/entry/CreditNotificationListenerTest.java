@@ -15,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -39,7 +40,7 @@ class CreditNotificationListenerTest {
         var division = mock(Division.class);
         given(division.getName()).willReturn("Home");
         given(division.getCompetitionId()).willReturn(competitionId);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
 
         var competition = mock(Competition.class);
         given(competition.getName()).willReturn("CHIP 2026");
@@ -64,4 +65,43 @@ class CreditNotificationListenerTest {
                 eq("admin@chip.pt"),
                 any(Locale.class));
     }
+
+    @Test
+    void shouldSendImportedCreditNotificationsAndSkipFailedDeliveries() {
+        var divisionId = UUID.randomUUID();
+        var competitionId = UUID.randomUUID();
+
+        var division = mock(Division.class);
+        given(division.getName()).willReturn("Home");
+        given(division.getCompetitionId()).willReturn(competitionId);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+
+        var competition = mock(Competition.class);
+        given(competition.getName()).willReturn("CHIP 2026");
+        given(competition.getContactEmail()).willReturn("admin@chip.pt");
+        given(competitionService.findCompetitionById(competitionId)).willReturn(competition);
+
+        var first = mock(User.class);
+        var firstId = UUID.randomUUID();
+        given(first.getId()).willReturn(firstId);
+        given(first.getEmail()).willReturn("first@test.com");
+        var second = mock(User.class);
+        var secondId = UUID.randomUUID();
+        given(second.getId()).willReturn(secondId);
+        given(second.getEmail()).willReturn("second@test.com");
+        given(userService.findAllByIds(List.of(firstId, secondId))).willReturn(List.of(first, second));
+        given(jwtMagicLinkService.generateLink(anyString(), any(Duration.class))).willReturn("link");
+        willThrow(new IllegalStateException("SMTP down")).given(emailService).sendCreditNotification(
+                eq("first@test.com"), anyInt(), anyString(), anyString(), anyString(), anyString(), any());
+
+        listener.on(new CreditsImportedEvent(divisionId, List.of(
+                new CreditsImportedEvent.Grant(firstId, 2),
+                new CreditsImportedEvent.Grant(secondId, 1)), "ADMIN"));
+
+        then(emailService).should().sendCreditNotification(
+                eq("second@test.com"), eq(1), eq("Home"), eq("CHIP 2026"), eq("link"),
+                eq("admin@chip.pt"), any(Locale.class));
+        then(competitionService).should().findCurrentDivision(divisionId);
+        then(userService).should(never()).findById(any());
+    }
 }
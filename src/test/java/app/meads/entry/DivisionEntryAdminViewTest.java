@@ -22,6 +22,7 @@ import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.H2;
 import com.vaadin.flow.component.tabs.TabSheet;
+import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.server.VaadinServletRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +40,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -46,6 +48,7 @@ import java.util.UUID;
 
 import static com.github.mvysny.kaributesting.v10.LocatorJ.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import com.vaadin.flow.component.html.Span;
 
 @SpringBootTest
@@ -166,7 +169,25 @@ class DivisionEntryAdminViewTest {
 
         var tabSheet = _get(TabSheet.class);
         assertThat(tabSheet).isNotNull();
-        assertThat(tabSheet.getTabCount()).isEqualTo(4);
+        assertThat(tabSheet.getTabCount()).isEqualTo(6);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @WithMockUser(username = ADMIN_EMAIL, roles = "SYSTEM_ADMIN")
+    void shouldLoadStatisticsWhenTabIsSelected() {
+        UI.getCurrent().navigate("competitions/" + competition.getShortName()
+                + "/divisions/" + division.getShortName() + "/entry-admin");
+
+        var tabSheet = _get(TabSheet.class);
+        tabSheet.setSelectedIndex(5); // Statistics tab
+
+        var summary = _get(Span.class, spec -> spec.withId("stats-summary-label"));
+        assertThat(summary.getText()).startsWith("Total entries: 0 (active: 0)");
+        var statsGrid = _get(Grid.class, spec -> spec.withId("stats-grid"));
+        // Every status, sweetness and strength is listed even when nothing is counted yet
+        assertThat(statsGrid.getGenericDataView().getItems().count()).isEqualTo(EntryStatus.values().length
+                + Sweetness.values().length + Strength.values().length);
     }
 
     @SuppressWarnings("unchecked")
@@ -210,6 +231,9 @@ class DivisionEntryAdminViewTest {
                 Sweetness.DRY, new BigDecimal("12.0"),
                 Carbonation.STILL, "Honey", null, false, null, null);
         entryService.submitEntry(entry.getId(), admin.getId());
+        // The summary reads the statistics projection, which follows the entry events asynchronously
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(
+                entryService.getDivisionStats(division.getId()).byStatus()).containsEntry(EntryStatus.SUBMITTED, 1L));
 
         UI.getCurrent().navigate("competitions/" + competition.getShortName()
                 + "/divisions/" + division.getShortName() + "/entry-admin");
@@ -332,4 +356,96 @@ class DivisionEntryAdminViewTest {
         assertThat(items).hasSize(1);
         assertThat(((Entry) items.getFirst()).getFinalCategoryId()).isEqualTo(judgingCategory.getId());
     }
+
+    @Test
+    @WithMockUser(username = ADMIN_EMAIL, roles = "SYSTEM_ADMIN")
+    void shouldQueueScannedLabelsAndApplyThemAsOneBatch() {
+        division.advanceStatus(); // DRAFT → REGISTRATION_OPEN
+        division.advanceStatus(); // → REGISTRATION_CLOSED
+        division = divisionRepository.save(division);
+
+        var admin = userRepository.findByEmail(ADMIN_EMAIL).orElseThrow();
+        var category = divisionCategoryRepository.save(new DivisionCategory(
+                division.getId(), null, "M1A", "Dry Mead", "Dry mead", null, 1));
+        var first = new Entry(division.getId(), admin.getId(), 1, "RCV001",
+                "First Mead", category.getId(), Sweetness.DRY,
+                new BigDecimal("12.0"), Carbonation.STILL, "Honey", null, false, null, null);
+        first.submit();
+        var second = new Entry(division.getId(), admin.getId(), 2, "RCV002",
+                "Second Mead", category.getId(), Sweetness.DRY,
+                new BigDecimal("12.0"), Carbonation.STILL, "Honey", null, false, null, null);
+        second.submit();
+        entryRepository.save(first);
+        entryRepository.save(second);
+
+        UI.getCurrent().navigate("competitions/" + competition.getShortName()
+                + "/divisions/" + division.getShortName() + "/entry-admin");
+
+        var tabSheet = _get(TabSheet.class);
+        tabSheet.setSelectedIndex(2); // Receiving tab
+
+        var scanField = _get(TextField.class, spec -> spec.withId("receiving-scan-field"));
+        var feedback = _get(Span.class, spec -> spec.withId("receiving-feedback"));
+
+        scanField.setValue(competition.getShortName() + "-1");
+        assertThat(feedback.getText()).isEqualTo("Entry 1 queued");
+        assertThat(scanField.getValue()).isEmpty();
+
+        scanField.setValue(competition.getShortName() + "-2");
+        scanField.setValue("UNKNOWN-99");
+        assertThat(feedback.getText()).isEqualTo("No entry in this division has code UNKNOWN-99");
+        assertThat(_get(Span.class, spec -> spec.withId("receiving-status-label")).getText())
+                .isEqualTo("Queued: 2 · Still awaiting: 0");
+
+        _click(_get(Button.class, spec -> spec.withId("receiving-apply-button")));
+
+        assertThat(entryRepository.findById(first.getId()).orElseThrow().getStatus())
+                .isEqualTo(EntryStatus.RECEIVED);
+        assertThat(entryRepository.findById(second.getId()).orElseThrow().getStatus())
+                .isEqualTo(EntryStatus.RECEIVED);
+        scanField.setValue(competition.getShortName() + "-1");
+        assertThat(feedback.getText()).isEqualTo("Entry 1 was already received");
+    }
+
+    @Test
+    @WithMockUser(username = ADMIN_EMAIL, roles = "SYSTEM_ADMIN")
+    void shouldApplyQueuedScansWhenLeavingTheTabOrView() {
+        division.advanceStatus(); // DRAFT → REGISTRATION_OPEN
+        division.advanceStatus(); // → REGISTRATION_CLOSED
+        division = divisionRepository.save(division);
+
+        var admin = userRepository.findByEmail(ADMIN_EMAIL).orElseThrow();
+        var category = divisionCategoryRepository.save(new DivisionCategory(
+                division.getId(), null, "M1A", "Dry Mead", "Dry mead", null, 1));
+        var first = new Entry(division.getId(), admin.getId(), 1, "RCV001",
+                "First Mead", category.getId(), Sweetness.DRY,
+                new BigDecimal("12.0"), Carbonation.STILL, "Honey", null, false, null, null);
+        first.submit();
+        var second = new Entry(division.getId(), admin.getId(), 2, "RCV002",
+                "Second Mead", category.getId(), Sweetness.DRY,
+                new BigDecimal("12.0"), Carbonation.STILL, "Honey", null, false, null, null);
+        second.submit();
+        entryRepository.save(first);
+        entryRepository.save(second);
+
+        UI.getCurrent().navigate("competitions/" + competition.getShortName()
+                + "/divisions/" + division.getShortName() + "/entry-admin");
+
+        var tabSheet = _get(TabSheet.class);
+        tabSheet.setSelectedIndex(2); // Receiving tab
+        _get(TextField.class, spec -> spec.withId("receiving-scan-field"))
+                .setValue(competition.getShortName() + "-1");
+        tabSheet.setSelectedIndex(1); // Entries tab
+
+        assertThat(entryRepository.findById(first.getId()).orElseThrow().getStatus())
+                .isEqualTo(EntryStatus.RECEIVED);
+
+        tabSheet.setSelectedIndex(2);
+        _get(TextField.class, spec -> spec.withId("receiving-scan-field"))
+                .setValue(competition.getShortName() + "-2");
+        UI.getCurrent().navigate("competitions/" + competition.getShortName());
+
+        assertThat(entryRepository.findById(second.getId()).orElseThrow().getStatus())
+                .isEqualTo(EntryStatus.RECEIVED);
+    }
 }
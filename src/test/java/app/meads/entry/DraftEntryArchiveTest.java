@@ -0,0 +1,133 @@
+package app.meads.entry;
+
+import app.meads.TestcontainersConfiguration;
+import app.meads.competition.Competition;
+import app.meads.competition.Division;
+import app.meads.competition.DivisionCategory;
+import app.meads.competition.ScoringSystem;
+import app.meads.competition.internal.CompetitionRepository;
+import app.meads.competition.internal.DivisionCategoryRepository;
+import app.meads.competition.internal.DivisionRepository;
+import app.meads.entry.internal.DraftEntryArchive;
+import app.meads.entry.internal.EntryRepository;
+import app.meads.identity.Role;
+import app.meads.identity.User;
+import app.meads.identity.UserStatus;
+import app.meads.identity.internal.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+class DraftEntryArchiveTest {
+
+    @Autowired
+    DraftEntryArchive draftEntryArchive;
+
+    @Autowired
+    CompetitionRepository competitionRepository;
+
+    @Autowired
+    DivisionRepository divisionRepository;
+
+    @Autowired
+    DivisionCategoryRepository divisionCategoryRepository;
+
+    @Autowired
+    EntryRepository entryRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    Competition competition;
+    Division division;
+    DivisionCategory category;
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        competition = competitionRepository.save(new Competition("Test Competition", "test-competition",
+                LocalDate.of(2026, 6, 15), LocalDate.of(2026, 6, 17), "Porto"));
+        division = new Division(competition.getId(),
+                "Home", "home", ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
+        division.advanceStatus();
+        division = divisionRepository.save(division);
+        category = divisionCategoryRepository.save(new DivisionCategory(division.getId(), null,
+                "M1", "Traditional", "Traditional", null, 0));
+        user = userRepository.save(new User("entrant@test.com", "Entrant",
+                UserStatus.ACTIVE, Role.USER));
+    }
+
+    private Entry saveEntry(int number) {
+        return entryRepository.save(new Entry(division.getId(), user.getId(), number, "ABC23" + number,
+                "Mead " + number, category.getId(), Sweetness.DRY, new BigDecimal("12.5"),
+                Carbonation.STILL, "Wildflower honey", null, false, null, null));
+    }
+
+    private void closeRegistration() {
+        division.advanceStatus();
+        division = divisionRepository.save(division);
+    }
+
+    @Test
+    void shouldDiscardOnlyDraftsOnceRegistrationIsClosed() {
+        var draft = saveEntry(1);
+        saveEntry(2).submit();
+        closeRegistration();
+
+        var discarded = draftEntryArchive.discard(division.getId());
+        entityManager.clear();
+
+        assertThat(discarded).extracting("entryId", "userId", "entryNumber", "meadName")
+                .containsExactly(tuple(draft.getId(), user.getId(), 1, "Mead 1"));
+        assertThat(entryRepository.findById(draft.getId())).isEmpty();
+        assertThat(entryRepository.findByDivisionIdAndUserId(division.getId(), user.getId()))
+                .extracting(Entry::getEntryNumber).containsExactly(2);
+        assertThat(draftEntryArchive.existsByDivisionId(division.getId())).isTrue();
+        assertThat(draftEntryArchive.discard(division.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldKeepDraftsWhileRegistrationIsOpen() {
+        saveEntry(1);
+
+        assertThat(draftEntryArchive.discard(division.getId())).isEmpty();
+        assertThat(draftEntryArchive.existsByDivisionId(division.getId())).isFalse();
+    }
+
+    @Test
+    void shouldRestoreDiscardedDraftsUnchanged() {
+        var draft = saveEntry(1);
+        closeRegistration();
+        draftEntryArchive.discard(division.getId());
+
+        var restored = draftEntryArchive.restore(division.getId());
+        entityManager.clear();
+
+        assertThat(restored).extracting("entryId", "userId")
+                .containsExactly(tuple(draft.getId(), user.getId()));
+        assertThat(entryRepository.findById(draft.getId())).hasValueSatisfying(entry -> {
+            assertThat(entry.getStatus()).isEqualTo(EntryStatus.DRAFT);
+            assertThat(entry.getMeadName()).isEqualTo("Mead 1");
+            assertThat(entry.getEntryCode()).isEqualTo("ABC231");
+        });
+        assertThat(draftEntryArchive.existsByDivisionId(division.getId())).isFalse();
+        assertThat(draftEntryArchive.restore(division.getId())).isEmpty();
+    }
+}
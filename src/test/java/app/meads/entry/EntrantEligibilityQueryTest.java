@@ -0,0 +1,174 @@
+package app.meads.entry;
+
+import app.meads.TestcontainersConfiguration;
+import app.meads.competition.Competition;
+import app.meads.competition.CompetitionRole;
+import app.meads.competition.Division;
+import app.meads.competition.DivisionCategory;
+import app.meads.competition.Participant;
+import app.meads.competition.ParticipantRole;
+import app.meads.competition.ScoringSystem;
+import app.meads.competition.internal.CompetitionRepository;
+import app.meads.competition.internal.DivisionCategoryRepository;
+import app.meads.competition.internal.DivisionRepository;
+import app.meads.competition.internal.ParticipantRepository;
+import app.meads.competition.internal.ParticipantRoleRepository;
+import app.meads.entry.internal.EntrantEligibilityQuery;
+import app.meads.entry.internal.EntryCreditRepository;
+import app.meads.entry.internal.EntryRepository;
+import app.meads.identity.Role;
+import app.meads.identity.User;
+import app.meads.identity.UserStatus;
+import app.meads.identity.internal.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+class EntrantEligibilityQueryTest {
+
+    @Autowired
+    EntrantEligibilityQuery eligibilityQuery;
+
+    @Autowired
+    CompetitionRepository competitionRepository;
+
+    @Autowired
+    DivisionRepository divisionRepository;
+
+    @Autowired
+    DivisionCategoryRepository divisionCategoryRepository;
+
+    @Autowired
+    ParticipantRepository participantRepository;
+
+    @Autowired
+    ParticipantRoleRepository participantRoleRepository;
+
+    @Autowired
+    EntryCreditRepository creditRepository;
+
+    @Autowired
+    EntryRepository entryRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    Competition competition;
+    Division home;
+    Division pro;
+    User user;
+
+    @BeforeEach
+    void setUp() {
+        competition = competitionRepository.save(new Competition("Test Competition", "test-competition",
+                LocalDate.of(2026, 6, 15), LocalDate.of(2026, 6, 17), "Porto"));
+        home = divisionRepository.save(new Division(competition.getId(),
+                "Home", "home", ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC"));
+        pro = divisionRepository.save(new Division(competition.getId(),
+                "Pro", "pro", ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC"));
+        user = userRepository.save(new User("entrant@test.com", "Entrant",
+                UserStatus.ACTIVE, Role.USER));
+    }
+
+    private Entry saveEntry(int number, DivisionCategory category) {
+        return entryRepository.save(new Entry(home.getId(), user.getId(), number, "ABC23" + number,
+                "Mead " + number, category.getId(), Sweetness.DRY, new BigDecimal("12.5"),
+                Carbonation.STILL, "Wildflower honey", null, false, null, null));
+    }
+
+    @Test
+    void shouldReturnEmptySnapshotForUnknownEntrant() {
+        var eligibility = eligibilityQuery.load(home.getId(), user.getId());
+
+        assertThat(eligibility.creditBalance()).isZero();
+        assertThat(eligibility.activeEntries()).isZero();
+        assertThat(eligibility.activeEntriesByCategory()).isEmpty();
+        assertThat(eligibility.creditConflict()).isFalse();
+        assertThat(eligibility.incompatibleRole()).isFalse();
+    }
+
+    @Test
+    void shouldCountBalanceAndActiveEntriesPerCategoryGroup() {
+        var main = divisionCategoryRepository.save(new DivisionCategory(home.getId(), null,
+                "M2", "Fruit Mead", "Fruit mead", null, 1));
+        var melomel = divisionCategoryRepository.save(new DivisionCategory(home.getId(), null,
+                "M2A", "Melomel", "Melomel", main.getId(), 2));
+        var cyser = divisionCategoryRepository.save(new DivisionCategory(home.getId(), null,
+                "M2B", "Cyser", "Cyser", main.getId(), 3));
+        var traditional = divisionCategoryRepository.save(new DivisionCategory(home.getId(), null,
+                "M1", "Traditional", "Traditional", null, 0));
+        creditRepository.save(new EntryCredit(home.getId(), user.getId(), 5, "WEBHOOK", "line-1"));
+        creditRepository.save(new EntryCredit(home.getId(), user.getId(), -1, "ADMIN", "admin@test.com"));
+        saveEntry(1, melomel);
+        saveEntry(2, cyser);
+        saveEntry(3, traditional);
+        saveEntry(4, melomel).withdraw();
+
+        var eligibility = eligibilityQuery.load(home.getId(), user.getId());
+
+        assertThat(eligibility.creditBalance()).isEqualTo(4);
+        assertThat(eligibility.activeEntries()).isEqualTo(3);
+        assertThat(eligibility.remainingCredits()).isEqualTo(1);
+        assertThat(eligibility.activeEntriesInCategory(melomel.getId())).isEqualTo(1);
+        assertThat(eligibility.activeEntriesInCategory(main.getId())).isZero();
+        assertThat(eligibility.activeEntriesInMainCategoryGroup(cyser.getId())).isEqualTo(2);
+        assertThat(eligibility.activeEntriesInMainCategoryGroup(traditional.getId())).isEqualTo(1);
+        assertThat(eligibility.creditConflict()).isFalse();
+    }
+
+    @Test
+    void shouldFlagCreditsInAnotherDivisionOfSameCompetition() {
+        creditRepository.save(new EntryCredit(pro.getId(), user.getId(), 1, "WEBHOOK", "line-1"));
+
+        assertThat(eligibilityQuery.load(home.getId(), user.getId()).creditConflict()).isTrue();
+        assertThat(eligibilityQuery.load(pro.getId(), user.getId()).creditConflict()).isFalse();
+    }
+
+    @Test
+    void shouldFlagRoleIncompatibleWithEntrant() {
+        var participant = participantRepository.save(new Participant(competition.getId(), user.getId()));
+        participantRoleRepository.save(new ParticipantRole(participant.getId(), CompetitionRole.STEWARD));
+
+        assertThat(eligibilityQuery.load(home.getId(), user.getId()).incompatibleRole()).isTrue();
+    }
+
+    @Test
+    void shouldAllowJudgeToBecomeEntrant() {
+        var participant = participantRepository.save(new Participant(competition.getId(), user.getId()));
+        participantRoleRepository.save(new ParticipantRole(participant.getId(), CompetitionRole.JUDGE));
+
+        assertThat(eligibilityQuery.load(home.getId(), user.getId()).incompatibleRole()).isFalse();
+    }
+
+    @Test
+    void shouldFindCreditBlockersForManyUsersInOneQuery() {
+        var steward = userRepository.save(new User("steward@test.com", "Steward", UserStatus.ACTIVE, Role.USER));
+        var judge = userRepository.save(new User("judge@test.com", "Judge", UserStatus.ACTIVE, Role.USER));
+        creditRepository.save(new EntryCredit(pro.getId(), user.getId(), 1, "WEBHOOK", "line-1"));
+        var stewardParticipant = participantRepository.save(new Participant(competition.getId(), steward.getId()));
+        participantRoleRepository.save(new ParticipantRole(stewardParticipant.getId(), CompetitionRole.STEWARD));
+        var judgeParticipant = participantRepository.save(new Participant(competition.getId(), judge.getId()));
+        participantRoleRepository.save(new ParticipantRole(judgeParticipant.getId(), CompetitionRole.JUDGE));
+
+        var blockers = eligibilityQuery.findCreditBlockers(home.getId(),
+                List.of(user.getId(), steward.getId(), judge.getId()));
+
+        assertThat(blockers).containsExactlyInAnyOrderEntriesOf(Map.of(
+                user.getId(), "error.credits.mutual-exclusivity",
+                steward.getId(), "error.credits.incompatible-role"));
+    }
+}
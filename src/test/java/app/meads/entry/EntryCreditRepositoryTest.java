@@ -3,10 +3,16 @@ package app.meads.entry;
 import app.meads.TestcontainersConfiguration;
 import app.meads.competition.Competition;
 import app.meads.competition.Division;
+import app.meads.competition.DivisionCategory;
+import app.meads.competition.Participant;
 import app.meads.competition.ScoringSystem;
 import app.meads.competition.internal.CompetitionRepository;
+import app.meads.competition.internal.DivisionCategoryRepository;
 import app.meads.competition.internal.DivisionRepository;
+import app.meads.competition.internal.ParticipantRepository;
+import app.meads.entry.internal.EntrantCreditRow;
 import app.meads.entry.internal.EntryCreditRepository;
+import app.meads.entry.internal.EntryRepository;
 import app.meads.identity.Role;
 import app.meads.identity.User;
 import app.meads.identity.UserStatus;
@@ -15,13 +21,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @SpringBootTest
 @Import(TestcontainersConfiguration.class)
@@ -40,6 +50,15 @@ class EntryCreditRepositoryTest {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    DivisionCategoryRepository divisionCategoryRepository;
+
+    @Autowired
+    EntryRepository entryRepository;
+
+    @Autowired
+    ParticipantRepository participantRepository;
+
     private Division createAndSaveDivision() {
         var competition = competitionRepository.save(new Competition("Test Competition", "test-competition",
                 LocalDate.of(2026, 6, 15), LocalDate.of(2026, 6, 17), "Porto"));
@@ -120,4 +139,64 @@ class EntryCreditRepositoryTest {
         assertThat(divisionIds).containsExactlyInAnyOrder(
                 divisionA.getId(), divisionB.getId());
     }
+
+    @Test
+    void shouldProjectEntrantDivisionOverviews() {
+        var division = createAndSaveDivision();
+        var user = createAndSaveUser();
+        var category = divisionCategoryRepository.save(new DivisionCategory(
+                division.getId(), null, "M1A", "Traditional Mead",
+                "Traditional mead description", null, 1));
+        creditRepository.save(new EntryCredit(division.getId(), user.getId(), 3,
+                "WEBHOOK", "order-line-1"));
+        creditRepository.save(new EntryCredit(division.getId(), user.getId(), -1,
+                "ADMIN", "admin@test.com"));
+        entryRepository.save(new Entry(division.getId(), user.getId(), 1, "ABC234",
+                "My Mead", category.getId(), Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
+                "Wildflower honey", null, false, null, null));
+        var withdrawn = new Entry(division.getId(), user.getId(), 2, "ABC235",
+                "Other Mead", category.getId(), Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
+                "Wildflower honey", null, false, null, null);
+        withdrawn.withdraw();
+        entryRepository.save(withdrawn);
+
+        var overviews = creditRepository.findEntrantDivisionOverviews(user.getId());
+
+        assertThat(overviews).containsExactly(new EntrantDivisionOverview(
+                division.getCompetitionId(), "Test Competition", "test-competition",
+                division.getId(), "Home", "home", 2, 1));
+    }
+
+    @Test
+    void shouldProjectEntrantCreditRowsOfParticipantsWithCreditsOrEntries() {
+        var division = createAndSaveDivision();
+        var holder = createAndSaveUser();
+        var spent = userRepository.save(new User("spent@test.com", "Spent Entrant",
+                UserStatus.ACTIVE, Role.USER));
+        var idle = userRepository.save(new User("idle@test.com", "Idle Entrant",
+                UserStatus.ACTIVE, Role.USER));
+        for (var user : List.of(holder, spent, idle)) {
+            participantRepository.save(new Participant(division.getCompetitionId(), user.getId()));
+        }
+        var category = divisionCategoryRepository.save(new DivisionCategory(
+                division.getId(), null, "M1A", "Traditional Mead",
+                "Traditional mead description", null, 1));
+        creditRepository.save(new EntryCredit(division.getId(), holder.getId(), 2, "ADMIN", null));
+        creditRepository.save(new EntryCredit(division.getId(), spent.getId(), 1, "ADMIN", null));
+        creditRepository.save(new EntryCredit(division.getId(), spent.getId(), -1, "ADMIN", null));
+        entryRepository.save(new Entry(division.getId(), spent.getId(), 1, "ABC234",
+                "My Mead", category.getId(), Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
+                "Wildflower honey", null, false, null, null));
+        var page = PageRequest.of(0, 10);
+
+        var rows = creditRepository.findEntrantCreditRows(division.getId(), "", "%", page);
+
+        assertThat(rows).extracting(EntrantCreditRow::getName, EntrantCreditRow::getCreditBalance,
+                        EntrantCreditRow::getEntryCount)
+                .containsExactly(tuple("Entrant", 2, 0L), tuple("Spent Entrant", 0, 1L));
+        assertThat(creditRepository.findEntrantCreditRows(division.getId(), "spent", "%spent%", page))
+                .extracting(EntrantCreditRow::getUserId).containsExactly(spent.getId());
+        assertThat(creditRepository.countEntrantCreditRows(division.getId(), "%")).isEqualTo(2);
+        assertThat(creditRepository.countEntrantCreditRows(division.getId(), "%idle%")).isZero();
+    }
 }
@@ -0,0 +1,184 @@
+package app.meads.entry;
+
+import app.meads.TestcontainersConfiguration;
+import app.meads.competition.Competition;
+import app.meads.competition.CompetitionService;
+import app.meads.competition.Division;
+import app.meads.competition.DivisionCategory;
+import app.meads.competition.ScoringSystem;
+import app.meads.competition.internal.CompetitionRepository;
+import app.meads.competition.internal.DivisionCategoryRepository;
+import app.meads.competition.internal.DivisionRepository;
+import app.meads.entry.internal.EntryCreditRepository;
+import app.meads.entry.internal.EntryRepository;
+import app.meads.entry.internal.JumpsellerOrderRepository;
+import app.meads.entry.internal.ProductMappingRepository;
+import app.meads.identity.Role;
+import app.meads.identity.User;
+import app.meads.identity.UserStatus;
+import app.meads.identity.internal.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static app.meads.StatementCounts.assertIndependentOfSize;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the statement counts of the entry hot paths, so a query per entrant, entry or division
+ * fails the build instead of surfacing once a competition grows.
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+class EntryQueryCountTest {
+
+    private static final int[] SIZES = {1, 5, 25};
+
+    @Autowired EntryService entryService;
+    @Autowired WebhookService webhookService;
+    @Autowired CompetitionService competitionService;
+    @Autowired LabelPdfService labelPdfService;
+    @Autowired CompetitionRepository competitionRepository;
+    @Autowired DivisionRepository divisionRepository;
+    @Autowired DivisionCategoryRepository divisionCategoryRepository;
+    @Autowired EntryRepository entryRepository;
+    @Autowired EntryCreditRepository creditRepository;
+    @Autowired ProductMappingRepository productMappingRepository;
+    @Autowired JumpsellerOrderRepository orderRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManager entityManager;
+
+    private int sequence;
+
+    private record OpenDivision(Division division, DivisionCategory category) {}
+
+    private OpenDivision openDivision() {
+        var name = "query-count-" + ++sequence;
+        var competition = competitionRepository.save(new Competition(name, name,
+                LocalDate.of(2026, 6, 15), LocalDate.of(2026, 6, 17), "Porto"));
+        var division = new Division(competition.getId(), "Home", "home", ScoringSystem.MJP,
+                LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
+        division.advanceStatus();
+        division = divisionRepository.save(division);
+        var category = divisionCategoryRepository.save(new DivisionCategory(division.getId(), null,
+                "M1", "Traditional", "Traditional", null, 0));
+        return new OpenDivision(division, category);
+    }
+
+    private User user(String prefix) {
+        return userRepository.save(new User(prefix + "-" + ++sequence + "@test.com", prefix + " " + sequence,
+                UserStatus.ACTIVE, Role.USER));
+    }
+
+    private Entry entry(OpenDivision open, User user, int number) {
+        var entry = new Entry(open.division().getId(), user.getId(), number, "QC%04d".formatted(number),
+                "Mead " + number, open.category().getId(), Sweetness.DRY, new BigDecimal("12.5"),
+                Carbonation.STILL, "Wildflower honey", null, false, null, null);
+        entry.submit();
+        return entryRepository.save(entry);
+    }
+
+    private void credit(OpenDivision open, User user, int amount) {
+        creditRepository.save(new EntryCredit(open.division().getId(), user.getId(), amount, "ADMIN", "admin"));
+    }
+
+    @Test
+    void shouldLoadEntrantDivisionOverviewsInConstantStatements() {
+        assertIndependentOfSize(entityManager, size -> {
+            var entrant = user("entrant");
+            for (int i = 0; i < size; i++) {
+                var open = openDivision();
+                credit(open, entrant, 2);
+                entry(open, entrant, 1);
+            }
+            return () -> assertThat(entryService.findEntrantDivisionOverviews(entrant.getId())).hasSize(size);
+        }, SIZES);
+    }
+
+    @Test
+    void shouldLoadCreditSummariesInConstantStatements() {
+        assertIndependentOfSize(entityManager, size -> {
+            var open = openDivision();
+            for (int i = 0; i < size; i++) {
+                var entrant = user("entrant");
+                credit(open, entrant, 2);
+                entry(open, entrant, i + 1);
+            }
+            var divisionId = open.division().getId();
+            return () -> {
+                assertThat(entryService.findCreditSummaries(divisionId, null, PageRequest.of(0, 50))).hasSize(size);
+                assertThat(entryService.countCreditSummaries(divisionId, null)).isEqualTo(size);
+            };
+        }, SIZES);
+    }
+
+    @Test
+    void shouldCreateEntryInConstantStatements() {
+        assertIndependentOfSize(entityManager, size -> {
+            var open = openDivision();
+            var entrant = user("entrant");
+            credit(open, entrant, size + 1);
+            for (int i = 0; i < size; i++) {
+                entry(open, entrant, 1000 + i);
+            }
+            return () -> entryService.createEntry(open.division().getId(), entrant.getId(), "New Mead",
+                    open.category().getId(), Sweetness.MEDIUM, new BigDecimal("12.0"), Carbonation.STILL,
+                    "Orange blossom honey", null, false, null, null);
+        }, SIZES);
+    }
+
+    @Test
+    void shouldProcessOrderPaidInConstantStatements() {
+        assertIndependentOfSize(entityManager, size -> {
+            var open = openDivision();
+            var productId = "qc-product-" + sequence;
+            productMappingRepository.save(new ProductMapping(open.division().getId(), productId, null,
+                    "Entry Pack", 1));
+            for (int i = 0; i < size; i++) {
+                var earlier = user("buyer");
+                var order = new JumpsellerOrder("qc-order-" + sequence, earlier.getEmail(), earlier.getName(), "{}");
+                order.markProcessed();
+                orderRepository.save(order);
+                credit(open, earlier, 1);
+            }
+            var payload = """
+                    {"order": {"id": "qc-order-new-%d", "customer": {"email": "new-buyer-%d@test.com"},
+                    "shipping_address": {"name": "New", "surname": "Buyer", "country_code": "PT"},
+                    "products": [{"id": "%s", "sku": "", "name": "Entry Pack", "qty": 2}]}}
+                    """.formatted(size, size, productId);
+            return () -> webhookService.processOrderPaid(payload);
+        }, SIZES);
+    }
+
+    @Test
+    void shouldLoadLabelDataInConstantStatements() {
+        assertIndependentOfSize(entityManager, size -> {
+            var open = openDivision();
+            var entrant = user("entrant");
+            for (int i = 0; i < size; i++) {
+                entry(open, entrant, i + 1);
+            }
+            var divisionId = open.division().getId();
+            return () -> {
+                var division = competitionService.findDivisionById(divisionId);
+                var competition = competitionService.findCompetitionById(division.getCompetitionId());
+                var categories = competitionService.findDivisionCategories(divisionId).stream()
+                        .collect(Collectors.toMap(DivisionCategory::getId, Function.identity()));
+                var entries = entryService.findEntriesByDivision(divisionId);
+                assertThat(labelPdfService.generateLabels(entries, competition, division, categories::get))
+                        .isNotEmpty();
+            };
+        }, SIZES);
+    }
+}
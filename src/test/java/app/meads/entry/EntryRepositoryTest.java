@@ -17,11 +17,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -173,4 +177,62 @@ class EntryRepositoryTest {
         assertThat(found.getWoodAgeingDetails()).isEqualTo("French oak, 12 months");
         assertThat(found.getAdditionalInformation()).isEqualTo("Competition special");
     }
+
+    @Test
+    void shouldMarkOnlySubmittedEntriesOfDivisionReceived() {
+        var division = createAndSaveDivision();
+        var user = createAndSaveUser();
+        var category = createAndSaveCategory(division);
+
+        var submitted = new Entry(division.getId(), user.getId(), 1, "AAA111",
+                "Submitted Mead", category.getId(), Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
+                "Wildflower honey", null, false, null, null);
+        submitted.submit();
+        var draft = new Entry(division.getId(), user.getId(), 2, "BBB222",
+                "Draft Mead", category.getId(), Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
+                "Wildflower honey", null, false, null, null);
+        entryRepository.saveAll(List.of(submitted, draft));
+
+        int updated = entryRepository.markReceived(division.getId(),
+                List.of(submitted.getId(), draft.getId(), UUID.randomUUID()), Instant.now());
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(entryRepository.findById(submitted.getId()).orElseThrow().getStatus())
+                .isEqualTo(EntryStatus.RECEIVED);
+        assertThat(entryRepository.findById(draft.getId()).orElseThrow().getStatus())
+                .isEqualTo(EntryStatus.DRAFT);
+        assertThat(entryRepository.markReceived(UUID.randomUUID(), List.of(submitted.getId()), Instant.now()))
+                .isZero();
+    }
+
+    @Test
+    void shouldSearchDivisionEntriesRankingClosestMatchesFirst() {
+        var division = createAndSaveDivision();
+        var user = createAndSaveUser();
+        var category = createAndSaveCategory(division);
+
+        var blossom = new Entry(division.getId(), user.getId(), 1, "AAA111",
+                "Blossom Mead", category.getId(), Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
+                "Orange blossom", null, false, null, null);
+        var tupelo = new Entry(division.getId(), user.getId(), 2, "BBB222",
+                "Tupelo Gold", category.getId(), Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
+                "Tupelo and orange blossom", null, false, null, null);
+        tupelo.submit();
+        var percent = new Entry(division.getId(), user.getId(), 3, "CCC333",
+                "100% Buckwheat", category.getId(), Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
+                "Buckwheat", null, false, null, null);
+        entryRepository.saveAll(List.of(blossom, tupelo, percent));
+        var page = PageRequest.of(0, 10);
+
+        assertThat(entryRepository.search(division.getId(), null, "blossom mead", "%blossom%", page))
+                .extracting(Entry::getMeadName).containsExactly("Blossom Mead", "Tupelo Gold");
+        assertThat(entryRepository.search(division.getId(), "SUBMITTED", "blossom", "%blossom%", page))
+                .extracting(Entry::getMeadName).containsExactly("Tupelo Gold");
+        assertThat(entryRepository.search(division.getId(), null, "", "%", PageRequest.of(1, 2)))
+                .extracting(Entry::getMeadName).containsExactly("100% Buckwheat");
+        assertThat(entryRepository.search(division.getId(), null, "entrant@test", "%entrant@test%", page))
+                .hasSize(3);
+        assertThat(entryRepository.countSearch(division.getId(), null, "%100\\%%")).isEqualTo(1);
+        assertThat(entryRepository.countSearch(division.getId(), "RECEIVED", "%")).isZero();
+    }
 }
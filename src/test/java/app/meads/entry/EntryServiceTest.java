@@ -1,6 +1,7 @@
 package app.meads.entry;
 
 import app.meads.BusinessRuleException;
+import app.meads.ImportReport;
 import app.meads.competition.Competition;
 import app.meads.competition.CategoryScope;
 import app.meads.competition.CompetitionRole;
@@ -8,10 +9,17 @@ import app.meads.competition.CompetitionService;
 import app.meads.competition.Division;
 import app.meads.competition.DivisionCategory;
 import app.meads.competition.ScoringSystem;
+import app.meads.entry.internal.DivisionStatsProjection;
+import app.meads.entry.internal.EntrantEligibilityQuery;
+import app.meads.entry.internal.EntrantOverviewCache;
+import app.meads.entry.internal.EntryCodeAllocator;
+import app.meads.entry.internal.EntryCreditBatchWriter;
 import app.meads.entry.internal.EntryCreditRepository;
+import app.meads.entry.internal.EntryNumberAllocator;
 import app.meads.entry.internal.EntryRepository;
 import app.meads.entry.internal.JumpsellerOrderLineItemRepository;
 import app.meads.entry.internal.JumpsellerOrderRepository;
+import app.meads.entry.internal.ProductMappingCache;
 import app.meads.entry.internal.ProductMappingRepository;
 import app.meads.identity.Role;
 import app.meads.identity.User;
@@ -25,17 +33,25 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -72,10 +88,37 @@ class EntryServiceTest {
     @Mock
     ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    EntryCodeAllocator entryCodeAllocator;
+
+    @Mock
+    EntryNumberAllocator entryNumberAllocator;
+
+    @Mock
+    EntrantEligibilityQuery entrantEligibilityQuery;
+
+    @Mock
+    EntrantOverviewCache entrantOverviewCache;
+
+    @Mock
+    ProductMappingCache productMappingCache;
+
+    @Mock
+    EntryCreditBatchWriter creditBatchWriter;
+
+    @Mock
+    DivisionStatsProjection divisionStatsProjection;
+
     private User createSystemAdmin() {
         return new User("admin@test.com", "Admin", UserStatus.ACTIVE, Role.SYSTEM_ADMIN);
     }
 
+    private EntrantEligibility eligibility(UUID divisionId, UUID userId,
+                                          int creditBalance, long activeEntries) {
+        return new EntrantEligibility(divisionId, userId, creditBalance, activeEntries,
+                Map.of(), Map.of(), false, false);
+    }
+
     private Division createRegistrationOpenDivision(UUID competitionId) {
         var division = new Division(competitionId, "Home", "home", ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
         division.advanceStatus(); // DRAFT → REGISTRATION_OPEN
@@ -108,7 +151,7 @@ class EntryServiceTest {
         var division = createRegistrationOpenDivision(competitionId);
         var adminUser = createSystemAdmin();
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
         given(productMappingRepository.existsByDivisionIdAndJumpsellerProductId(
                 divisionId, "PROD-001")).willReturn(false);
         given(productMappingRepository.save(any(ProductMapping.class)))
@@ -123,6 +166,7 @@ class EntryServiceTest {
         assertThat(result.getJumpsellerSku()).isEqualTo("SKU-001");
         assertThat(result.getProductName()).isEqualTo("Mead Entry Pack");
         assertThat(result.getCreditsPerUnit()).isEqualTo(1);
+        then(productMappingCache).should().evict("PROD-001");
     }
 
     @Test
@@ -132,7 +176,7 @@ class EntryServiceTest {
         var division = createRegistrationOpenDivision(competitionId);
         var adminUser = createSystemAdmin();
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
         given(productMappingRepository.existsByDivisionIdAndJumpsellerProductId(
                 divisionId, "PROD-001")).willReturn(true);
 
@@ -149,7 +193,7 @@ class EntryServiceTest {
         var division = createRegistrationClosedDivision(competitionId);
         var adminUser = createSystemAdmin();
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
 
         assertThatThrownBy(() -> entryService.createProductMapping(
                 divisionId, "PROD-001", "SKU-001", "Mead Entry Pack", 1, adminUser.getId()))
@@ -165,7 +209,7 @@ class EntryServiceTest {
         var adminUser = createSystemAdmin();
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
         given(productMappingRepository.findById(mapping.getId())).willReturn(Optional.of(mapping));
-        given(competitionService.findDivisionById(mapping.getDivisionId())).willReturn(division);
+        given(competitionService.findCurrentDivision(mapping.getDivisionId())).willReturn(division);
 
         assertThatThrownBy(() -> entryService.updateProductMapping(
                 mapping.getId(), "New Name", 2, adminUser.getId()))
@@ -181,13 +225,29 @@ class EntryServiceTest {
         var adminUser = createSystemAdmin();
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
         given(productMappingRepository.findById(mapping.getId())).willReturn(Optional.of(mapping));
-        given(competitionService.findDivisionById(mapping.getDivisionId())).willReturn(division);
+        given(competitionService.findCurrentDivision(mapping.getDivisionId())).willReturn(division);
 
         assertThatThrownBy(() -> entryService.removeProductMapping(mapping.getId(), adminUser.getId()))
                 .isInstanceOf(BusinessRuleException.class)
                 .hasMessageContaining("error.product.registration-closed");
     }
 
+    @Test
+    void shouldEvictCachedMappingsWhenProductMappingRemoved() {
+        var competitionId = UUID.randomUUID();
+        var division = createRegistrationOpenDivision(competitionId);
+        var mapping = new ProductMapping(division.getId(), "PROD-001", "SKU-001", "Mead Entry Pack", 1);
+        var adminUser = createSystemAdmin();
+        given(userService.findById(adminUser.getId())).willReturn(adminUser);
+        given(productMappingRepository.findById(mapping.getId())).willReturn(Optional.of(mapping));
+        given(competitionService.findCurrentDivision(mapping.getDivisionId())).willReturn(division);
+
+        entryService.removeProductMapping(mapping.getId(), adminUser.getId());
+
+        then(productMappingRepository).should().delete(mapping);
+        then(productMappingCache).should().evict("PROD-001");
+    }
+
     @Test
     void shouldRejectCreateProductMappingWhenNotAuthorized() {
         var divisionId = UUID.randomUUID();
@@ -212,7 +272,7 @@ class EntryServiceTest {
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
         given(productMappingRepository.findById(mapping.getId()))
                 .willReturn(Optional.of(mapping));
-        given(competitionService.findDivisionById(mapping.getDivisionId())).willReturn(division);
+        given(competitionService.findCurrentDivision(mapping.getDivisionId())).willReturn(division);
         given(productMappingRepository.save(any(ProductMapping.class)))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
@@ -244,7 +304,7 @@ class EntryServiceTest {
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
         given(productMappingRepository.findById(mapping.getId()))
                 .willReturn(Optional.of(mapping));
-        given(competitionService.findDivisionById(mapping.getDivisionId())).willReturn(division);
+        given(competitionService.findCurrentDivision(mapping.getDivisionId())).willReturn(division);
 
         entryService.removeProductMapping(mapping.getId(), adminUser.getId());
 
@@ -269,9 +329,12 @@ class EntryServiceTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void shouldFindProductMappingsByProductId() {
         var mapping = new ProductMapping(UUID.randomUUID(), "PROD-001", "SKU-001",
                 "Entry Pack", 1);
+        given(productMappingCache.get(eq("PROD-001"), any()))
+                .willAnswer(inv -> ((Supplier<List<ProductMapping>>) inv.getArgument(1)).get());
         given(productMappingRepository.findByJumpsellerProductId("PROD-001"))
                 .willReturn(List.of(mapping));
 
@@ -281,6 +344,18 @@ class EntryServiceTest {
         assertThat(result.getFirst().getJumpsellerProductId()).isEqualTo("PROD-001");
     }
 
+    @Test
+    void shouldServeProductMappingsFromCache() {
+        var mapping = new ProductMapping(UUID.randomUUID(), "PROD-001", "SKU-001",
+                "Entry Pack", 1);
+        given(productMappingCache.get(eq("PROD-001"), any())).willReturn(List.of(mapping));
+
+        var result = entryService.findProductMappingsByProductId("PROD-001");
+
+        assertThat(result).containsExactly(mapping);
+        then(productMappingRepository).should(never()).findByJumpsellerProductId(any());
+    }
+
     // --- Credit tests ---
 
     @Test
@@ -304,10 +379,10 @@ class EntryServiceTest {
         var entrant = new User("entrant@test.com", "Entrant", UserStatus.ACTIVE, Role.USER);
 
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
         given(userService.findOrCreateByEmail("entrant@test.com")).willReturn(entrant);
-        given(creditRepository.findDistinctDivisionIdsByUserId(entrant.getId()))
-                .willReturn(List.of());
+        given(entrantEligibilityQuery.load(divisionId, entrant.getId()))
+                .willReturn(eligibility(divisionId, entrant.getId(), 0, 0));
         given(creditRepository.save(any(EntryCredit.class)))
                 .willAnswer(inv -> inv.getArgument(0));
 
@@ -335,12 +410,11 @@ class EntryServiceTest {
         var entrant = new User("entrant@test.com", "Entrant", UserStatus.ACTIVE, Role.USER);
 
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
         given(userService.findOrCreateByEmail("entrant@test.com")).willReturn(entrant);
-        given(creditRepository.findDistinctDivisionIdsByUserId(entrant.getId()))
-                .willReturn(List.of(otherDivision.getId()));
-        given(competitionService.findDivisionsByCompetition(competitionId))
-                .willReturn(List.of(division, otherDivision));
+        given(entrantEligibilityQuery.load(divisionId, entrant.getId()))
+                .willReturn(new EntrantEligibility(divisionId, entrant.getId(), 0, 0,
+                        Map.of(), Map.of(), true, false));
 
         assertThatThrownBy(() -> entryService.addCredits(
                 divisionId, "entrant@test.com", 3, adminUser.getId()))
@@ -357,10 +431,10 @@ class EntryServiceTest {
         var entrant = new User("entrant@test.com", "Entrant", UserStatus.ACTIVE, Role.USER);
 
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
         given(userService.findOrCreateByEmail("entrant@test.com")).willReturn(entrant);
-        given(creditRepository.findDistinctDivisionIdsByUserId(entrant.getId()))
-                .willReturn(List.of());
+        given(entrantEligibilityQuery.load(divisionId, entrant.getId()))
+                .willReturn(eligibility(divisionId, entrant.getId(), 0, 0));
         given(creditRepository.save(any(EntryCredit.class)))
                 .willAnswer(inv -> inv.getArgument(0));
 
@@ -380,9 +454,9 @@ class EntryServiceTest {
         var adminUser = createSystemAdmin();
 
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId))
-                .willReturn(5);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 5, 0));
         given(creditRepository.save(any(EntryCredit.class)))
                 .willAnswer(inv -> inv.getArgument(0));
 
@@ -403,9 +477,9 @@ class EntryServiceTest {
         var adminUser = createSystemAdmin();
 
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId))
-                .willReturn(2);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 2, 0));
 
         assertThatThrownBy(() -> entryService.removeCredits(
                 divisionId, userId, 5, adminUser.getId()))
@@ -422,12 +496,9 @@ class EntryServiceTest {
         var adminUser = createSystemAdmin();
 
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId))
-                .willReturn(5);
-        given(entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN))
-                .willReturn(4L);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 5, 4));
 
         assertThatThrownBy(() -> entryService.removeCredits(
                 divisionId, userId, 3, adminUser.getId()))
@@ -442,7 +513,7 @@ class EntryServiceTest {
         var division = createRegistrationClosedDivision(competitionId);
         var adminUser = createSystemAdmin();
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
 
         assertThatThrownBy(() -> entryService.addCredits(
                 divisionId, "entrant@test.com", 3, adminUser.getId()))
@@ -458,7 +529,7 @@ class EntryServiceTest {
         var userId = UUID.randomUUID();
         var adminUser = createSystemAdmin();
         given(userService.findById(adminUser.getId())).willReturn(adminUser);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
 
         assertThatThrownBy(() -> entryService.removeCredits(
                 divisionId, userId, 3, adminUser.getId()))
@@ -475,10 +546,9 @@ class EntryServiceTest {
         var otherDivision = new Division(competitionId, "Pro", "pro", ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
         var division = new Division(competitionId, "Home", "home", ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
 
-        given(creditRepository.findDistinctDivisionIdsByUserId(userId))
-                .willReturn(List.of(otherDivision.getId()));
-        given(competitionService.findDivisionsByCompetition(competitionId))
-                .willReturn(List.of(division, otherDivision));
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(new EntrantEligibility(divisionId, userId, 0, 0,
+                        Map.of(), Map.of(), true, false));
 
         var result = entryService.hasCreditsInOtherDivision(competitionId, divisionId, userId);
 
@@ -491,8 +561,8 @@ class EntryServiceTest {
         var divisionId = UUID.randomUUID();
         var userId = UUID.randomUUID();
 
-        given(creditRepository.findDistinctDivisionIdsByUserId(userId))
-                .willReturn(List.of());
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 0, 0));
 
         var result = entryService.hasCreditsInOtherDivision(competitionId, divisionId, userId);
 
@@ -506,14 +576,108 @@ class EntryServiceTest {
         var userId = UUID.randomUUID();
         var division = new Division(competitionId, "Home", "home", ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
 
-        given(creditRepository.findDistinctDivisionIdsByUserId(userId))
-                .willReturn(List.of(divisionId));
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 3, 0));
 
         var result = entryService.hasCreditsInOtherDivision(competitionId, divisionId, userId);
 
         assertThat(result).isFalse();
     }
 
+    // --- Credit import tests ---
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldPreviewCreditImportWithEveryProblemAndWriteNothing() {
+        var competitionId = UUID.randomUUID();
+        var divisionId = UUID.randomUUID();
+        var division = createRegistrationOpenDivision(competitionId);
+        var adminUser = createSystemAdmin();
+        var stewardId = UUID.randomUUID();
+        given(userService.findById(adminUser.getId())).willReturn(adminUser);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(userService.findIdsByEmail(Set.of("steward@test.com", "new@test.com")))
+                .willReturn(Map.of("steward@test.com", stewardId));
+        given(entrantEligibilityQuery.findCreditBlockers(divisionId, List.of(stewardId)))
+                .willReturn(Map.of(stewardId, "error.credits.incompatible-role"));
+
+        var report = entryService.importCredits(divisionId, csv("""
+                email,credits
+                steward@test.com,2
+                new@test.com,3
+                bad-email,1
+                other@test.com,zero
+                new@test.com,1
+                """), false, adminUser.getId());
+
+        assertThat(report.applied()).isFalse();
+        assertThat(report.rows()).isEqualTo(5);
+        assertThat(report.newUsers()).isEqualTo(1);
+        assertThat(report.problems())
+                .extracting(ImportReport.Problem::line, ImportReport.Problem::messageKey)
+                .containsExactly(
+                        tuple(2, "error.credits.incompatible-role"),
+                        tuple(4, "error.import.invalid-email"),
+                        tuple(5, "error.import.invalid-amount"),
+                        tuple(6, "error.import.duplicate-row"));
+        then(creditBatchWriter).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldApplyCreditImportWithBatchInsertsAndOneEvent() {
+        var competitionId = UUID.randomUUID();
+        var divisionId = UUID.randomUUID();
+        var division = createRegistrationOpenDivision(competitionId);
+        var adminUser = createSystemAdmin();
+        var existingId = UUID.randomUUID();
+        var newId = UUID.randomUUID();
+        given(userService.findById(adminUser.getId())).willReturn(adminUser);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(userService.findIdsByEmail(Set.of("existing@test.com", "new@test.com")))
+                .willReturn(Map.of("existing@test.com", existingId));
+        given(entrantEligibilityQuery.findCreditBlockers(divisionId, List.of(existingId))).willReturn(Map.of());
+        given(userService.findOrCreateIdsByEmail(Map.of(
+                "existing@test.com", "existing@test.com", "new@test.com", "New Entrant")))
+                .willReturn(Map.of("existing@test.com", existingId, "new@test.com", newId));
+
+        var report = entryService.importCredits(divisionId, csv("""
+                Email;Credits;Name
+                existing@test.com;2;
+                new@test.com;1;New Entrant
+                """), false, adminUser.getId());
+
+        assertThat(report.applied()).isTrue();
+        assertThat(report.changes()).isEqualTo(2);
+        then(creditBatchWriter).should().insert(argThat(credits -> credits.size() == 2
+                && credits.stream().allMatch(c -> "ADMIN".equals(c.getSourceType())
+                        && "admin@test.com".equals(c.getSourceReference()))));
+        then(competitionService).should().ensureEntrantParticipants(competitionId, List.of(existingId, newId));
+        then(creditRepository).should(never()).save(any());
+        var eventCaptor = ArgumentCaptor.forClass(CreditsImportedEvent.class);
+        then(eventPublisher).should().publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().grants()).containsExactly(
+                new CreditsImportedEvent.Grant(existingId, 2), new CreditsImportedEvent.Grant(newId, 1));
+    }
+
+    @Test
+    void shouldRejectCreditImportWhenRegistrationClosed() {
+        var competitionId = UUID.randomUUID();
+        var divisionId = UUID.randomUUID();
+        var adminUser = createSystemAdmin();
+        given(userService.findById(adminUser.getId())).willReturn(adminUser);
+        given(competitionService.findCurrentDivision(divisionId))
+                .willReturn(createRegistrationClosedDivision(competitionId));
+
+        assertThatThrownBy(() -> entryService.importCredits(divisionId,
+                csv("email,credits\n"), true, adminUser.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessage("error.credits.registration-closed");
+    }
+
     // --- Entry tests (Phase 6) ---
 
     // Cycle 1: createEntry validates credits > active entries
@@ -526,13 +690,11 @@ class EntryServiceTest {
         var categoryId = UUID.randomUUID();
         var division = createRegistrationOpenDivision(competitionId);
 
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId)).willReturn(3);
-        given(entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN)).willReturn(2L);
-        given(entryRepository.findMaxEntryNumberByDivisionId(divisionId)).willReturn(0);
-        given(entryRepository.existsByDivisionIdAndEntryCode(eq(divisionId), anyString()))
-                .willReturn(false);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 3, 2));
+        given(entryNumberAllocator.next(divisionId)).willReturn(1);
+        given(entryCodeAllocator.allocate(eq(divisionId), anyInt())).willReturn("ABC234");
         given(entryRepository.save(any(Entry.class)))
                 .willAnswer(inv -> inv.getArgument(0));
 
@@ -554,10 +716,9 @@ class EntryServiceTest {
         var categoryId = UUID.randomUUID();
         var division = createRegistrationOpenDivision(competitionId);
 
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId)).willReturn(2);
-        given(entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN)).willReturn(2L);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 2, 2));
 
         assertThatThrownBy(() -> entryService.createEntry(divisionId, userId,
                 "My Mead", categoryId, Sweetness.DRY,  new BigDecimal("12.5"), Carbonation.STILL,
@@ -576,7 +737,7 @@ class EntryServiceTest {
         var categoryId = UUID.randomUUID();
         var division = new Division(competitionId, "Home", "home", ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC"); // DRAFT
 
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
 
         assertThatThrownBy(() -> entryService.createEntry(divisionId, userId,
                 "My Mead", categoryId, Sweetness.DRY,  new BigDecimal("12.5"), Carbonation.STILL,
@@ -595,13 +756,11 @@ class EntryServiceTest {
         var categoryId = UUID.randomUUID();
         var division = createRegistrationOpenDivision(competitionId);
 
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId)).willReturn(5);
-        given(entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN)).willReturn(0L);
-        given(entryRepository.findMaxEntryNumberByDivisionId(divisionId)).willReturn(7);
-        given(entryRepository.existsByDivisionIdAndEntryCode(eq(divisionId), anyString()))
-                .willReturn(false);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 5, 0));
+        given(entryNumberAllocator.next(divisionId)).willReturn(8);
+        given(entryCodeAllocator.allocate(eq(divisionId), anyInt())).willReturn("ABC234");
         given(entryRepository.save(any(Entry.class)))
                 .willAnswer(inv -> inv.getArgument(0));
 
@@ -622,13 +781,11 @@ class EntryServiceTest {
         var categoryId = UUID.randomUUID();
         var division = createRegistrationOpenDivision(competitionId);
 
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId)).willReturn(1);
-        given(entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN)).willReturn(0L);
-        given(entryRepository.findMaxEntryNumberByDivisionId(divisionId)).willReturn(0);
-        given(entryRepository.existsByDivisionIdAndEntryCode(eq(divisionId), anyString()))
-                .willReturn(false);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 1, 0));
+        given(entryNumberAllocator.next(divisionId)).willReturn(1);
+        given(entryCodeAllocator.allocate(eq(divisionId), anyInt())).willReturn("ABC234");
         given(entryRepository.save(any(Entry.class)))
                 .willAnswer(inv -> inv.getArgument(0));
 
@@ -636,8 +793,8 @@ class EntryServiceTest {
                 Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
                 "Wildflower honey", null, false, null, null);
 
-        assertThat(result.getEntryCode()).hasSize(6);
-        assertThat(result.getEntryCode()).matches("[ABCDEFGHJKLMNPQRSTUVWXYZ23456789]{6}");
+        assertThat(result.getEntryCode()).isEqualTo("ABC234");
+        then(entryCodeAllocator).should().allocate(divisionId, 1);
     }
 
     // Cycle 5: createEntry rejects if subcategory limit exceeded
@@ -650,12 +807,10 @@ class EntryServiceTest {
         var categoryId = UUID.randomUUID();
         var division = createRegistrationOpenDivisionWithLimits(competitionId, 2, null, null);
 
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId)).willReturn(5);
-        given(entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN)).willReturn(2L);
-        given(entryRepository.countByDivisionIdAndUserIdAndInitialCategoryIdAndStatusNot(
-                divisionId, userId, categoryId, EntryStatus.WITHDRAWN)).willReturn(2L);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(new EntrantEligibility(divisionId, userId, 5, 2,
+                        Map.of(categoryId, 2L), Map.of(categoryId, categoryId), false, false));
 
         assertThatThrownBy(() -> entryService.createEntry(divisionId, userId,
                 "My Mead", categoryId, Sweetness.DRY,  new BigDecimal("12.5"), Carbonation.STILL,
@@ -681,16 +836,16 @@ class EntryServiceTest {
         var subCategoryB = new DivisionCategory(divisionId, null, "M2B",
                 "Cyser", "Cyser description", parentCategory.getId(), 3);
 
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId)).willReturn(10);
-        given(entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN)).willReturn(3L);
-        given(competitionService.findDivisionCategories(divisionId))
-                .willReturn(List.of(parentCategory, subCategoryA, subCategoryB));
-        given(entryRepository.countByDivisionIdAndUserIdAndInitialCategoryIdInAndStatusNot(
-                eq(divisionId), eq(userId),
-                eq(List.of(parentCategory.getId(), subCategoryA.getId(), subCategoryB.getId())),
-                eq(EntryStatus.WITHDRAWN))).willReturn(3L);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        // 3 active entries spread over the M2 group, none elsewhere
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(new EntrantEligibility(divisionId, userId, 10, 3,
+                        Map.of(parentCategory.getId(), 1L, subCategoryA.getId(), 0L,
+                                subCategoryB.getId(), 2L),
+                        Map.of(parentCategory.getId(), parentCategory.getId(),
+                                subCategoryA.getId(), parentCategory.getId(),
+                                subCategoryB.getId(), parentCategory.getId()),
+                        false, false));
 
         assertThatThrownBy(() -> entryService.createEntry(divisionId, userId,
                 "My Mead", subCategoryA.getId(), Sweetness.DRY,  new BigDecimal("12.5"), Carbonation.STILL,
@@ -707,10 +862,9 @@ class EntryServiceTest {
         var categoryId = UUID.randomUUID();
         var division = createRegistrationOpenDivisionWithLimits(competitionId, null, null, 5);
 
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId)).willReturn(10);
-        given(entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN)).willReturn(5L);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 10, 5));
 
         assertThatThrownBy(() -> entryService.createEntry(divisionId, userId,
                 "My Mead", categoryId, Sweetness.DRY,  new BigDecimal("12.5"), Carbonation.STILL,
@@ -730,13 +884,11 @@ class EntryServiceTest {
         var division = createRegistrationOpenDivision(competitionId);
         // limits are null by default (unlimited)
 
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId)).willReturn(10);
-        given(entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN)).willReturn(5L);
-        given(entryRepository.findMaxEntryNumberByDivisionId(divisionId)).willReturn(5);
-        given(entryRepository.existsByDivisionIdAndEntryCode(eq(divisionId), anyString()))
-                .willReturn(false);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 10, 5));
+        given(entryNumberAllocator.next(divisionId)).willReturn(6);
+        given(entryCodeAllocator.allocate(eq(divisionId), anyInt())).willReturn("ABC234");
         given(entryRepository.save(any(Entry.class)))
                 .willAnswer(inv -> inv.getArgument(0));
 
@@ -761,7 +913,7 @@ class EntryServiceTest {
         var newCategoryId = UUID.randomUUID();
 
         given(entryRepository.findById(entry.getId())).willReturn(Optional.of(entry));
-        given(competitionService.findDivisionById(entry.getDivisionId())).willReturn(division);
+        given(competitionService.findCurrentDivision(entry.getDivisionId())).willReturn(division);
         given(entryRepository.save(any(Entry.class)))
                 .willAnswer(inv -> inv.getArgument(0));
 
@@ -801,7 +953,7 @@ class EntryServiceTest {
                 "Wildflower honey", null, false, null, null);
 
         given(entryRepository.findById(entry.getId())).willReturn(Optional.of(entry));
-        given(competitionService.findDivisionById(entry.getDivisionId())).willReturn(division);
+        given(competitionService.findCurrentDivision(entry.getDivisionId())).willReturn(division);
 
         assertThatThrownBy(() -> entryService.updateEntry(entry.getId(), userId,
                 "New Mead", UUID.randomUUID(), Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
@@ -1116,6 +1268,47 @@ class EntryServiceTest {
         var result = entryService.markReceived(entry.getId(), adminUser.getId());
 
         assertThat(result.getStatus()).isEqualTo(EntryStatus.RECEIVED);
+        then(eventPublisher).should().publishEvent(
+                EntriesChangedEvent.of(divisionId, entry.getId(), EntryStatus.SUBMITTED, EntryStatus.RECEIVED));
+    }
+
+    @Test
+    void shouldMarkScannedEntriesReceivedInOneUpdate() {
+        var divisionId = UUID.randomUUID();
+        var adminUser = createSystemAdmin();
+        var entryIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        var submittedIds = entryIds.subList(0, 2);
+
+        given(userService.findById(adminUser.getId())).willReturn(adminUser);
+        given(entryRepository.lockSubmittedIds(divisionId, entryIds)).willReturn(submittedIds);
+        given(entryRepository.markReceived(eq(divisionId), eq(submittedIds), any(Instant.class)))
+                .willReturn(2);
+
+        var received = entryService.markReceived(divisionId, entryIds, adminUser.getId());
+
+        assertThat(received).isEqualTo(2);
+        then(userService).should().findById(adminUser.getId());
+        then(entryRepository).should(never()).findById(any());
+        then(entryRepository).should(never()).save(any(Entry.class));
+        then(eventPublisher).should().publishEvent(new EntriesChangedEvent(divisionId, submittedIds.stream()
+                .map(id -> new EntriesChangedEvent.Change(id, EntryStatus.SUBMITTED, EntryStatus.RECEIVED))
+                .toList()));
+    }
+
+    @Test
+    void shouldRejectBatchReceiveWhenNotAuthorized() {
+        var divisionId = UUID.randomUUID();
+        var regularUser = new User("user@test.com", "User", UserStatus.ACTIVE, Role.USER);
+        given(userService.findById(regularUser.getId())).willReturn(regularUser);
+        given(competitionService.isAuthorizedForDivision(divisionId, regularUser.getId()))
+                .willReturn(false);
+
+        assertThatThrownBy(() -> entryService.markReceived(
+                divisionId, List.of(UUID.randomUUID()), regularUser.getId()))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.auth.unauthorized");
+        then(entryRepository).should(never()).markReceived(any(), any(), any());
     }
 
     // Cycle 13: withdrawEntry — admin only
@@ -1221,13 +1414,11 @@ class EntryServiceTest {
         then(entryRepository).should().delete(entry);
 
         // Now createEntry should work (2 credits, 1 active entry after deletion)
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(divisionId, userId)).willReturn(2);
-        given(entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                divisionId, userId, EntryStatus.WITHDRAWN)).willReturn(1L);
-        given(entryRepository.findMaxEntryNumberByDivisionId(divisionId)).willReturn(1);
-        given(entryRepository.existsByDivisionIdAndEntryCode(eq(divisionId), anyString()))
-                .willReturn(false);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, userId))
+                .willReturn(eligibility(divisionId, userId, 2, 1));
+        given(entryNumberAllocator.next(divisionId)).willReturn(2);
+        given(entryCodeAllocator.allocate(eq(divisionId), anyInt())).willReturn("ABC234");
         given(entryRepository.save(any(Entry.class)))
                 .willAnswer(inv -> inv.getArgument(0));
 
@@ -1241,6 +1432,40 @@ class EntryServiceTest {
 
     // --- Entrant overview tests ---
 
+    @SuppressWarnings("unchecked")
+    private void givenOverviewCacheMiss(UUID userId) {
+        given(entrantOverviewCache.get(eq(userId), any()))
+                .willAnswer(inv -> ((Supplier<List<EntrantDivisionOverview>>) inv.getArgument(1)).get());
+    }
+
+    @Test
+    void shouldServeEntrantDivisionOverviewsFromCache() {
+        var userId = UUID.randomUUID();
+        var cached = List.of(new EntrantDivisionOverview(UUID.randomUUID(), "CHIP 2026", "chip-2026",
+                UUID.randomUUID(), "Amadora", "amadora", 2, 0));
+        given(entrantOverviewCache.get(eq(userId), any())).willReturn(cached);
+
+        assertThat(entryService.findEntrantDivisionOverviews(userId)).isSameAs(cached);
+        then(creditRepository).should(never()).findEntrantDivisionOverviews(any());
+    }
+
+    @Test
+    void shouldPublishEntrantChangeWhenEntryWithdrawn() {
+        var divisionId = UUID.randomUUID();
+        var entrantId = UUID.randomUUID();
+        var adminUser = createSystemAdmin();
+        var entry = new Entry(divisionId, entrantId, 1, "ABC123",
+                "My Mead", UUID.randomUUID(), Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
+                "Wildflower honey", null, false, null, null);
+        given(userService.findById(adminUser.getId())).willReturn(adminUser);
+        given(entryRepository.findById(entry.getId())).willReturn(Optional.of(entry));
+        given(entryRepository.save(any(Entry.class))).willAnswer(inv -> inv.getArgument(0));
+
+        entryService.withdrawEntry(entry.getId(), adminUser.getId());
+
+        then(eventPublisher).should().publishEvent(new EntrantDivisionChangedEvent(divisionId, entrantId));
+    }
+
     @Test
     void shouldReturnEntrantDivisionOverviews() {
         var userId = UUID.randomUUID();
@@ -1248,17 +1473,11 @@ class EntryServiceTest {
                 LocalDate.of(2026, 6, 11), LocalDate.of(2026, 6, 14), "Amarante");
         var division = new Division(competition.getId(), "Amadora", "amadora", ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
 
-        given(creditRepository.findDistinctDivisionIdsByUserId(userId))
-                .willReturn(List.of(division.getId()));
-        given(competitionService.findDivisionById(division.getId()))
-                .willReturn(division);
-        given(competitionService.findCompetitionById(competition.getId()))
-                .willReturn(competition);
-        given(creditRepository.sumAmountByDivisionIdAndUserId(division.getId(), userId))
-                .willReturn(3);
-        given(entryRepository.countByDivisionIdAndUserIdAndStatusNot(
-                division.getId(), userId, EntryStatus.WITHDRAWN))
-                .willReturn(1L);
+        givenOverviewCacheMiss(userId);
+        given(creditRepository.findEntrantDivisionOverviews(userId))
+                .willReturn(List.of(new EntrantDivisionOverview(
+                        competition.getId(), competition.getName(), competition.getShortName(),
+                        division.getId(), division.getName(), division.getShortName(), 3, 1)));
 
         var overviews = entryService.findEntrantDivisionOverviews(userId);
 
@@ -1296,7 +1515,8 @@ class EntryServiceTest {
     @Test
     void shouldReturnEmptyOverviewsWhenNoCredits() {
         var userId = UUID.randomUUID();
-        given(creditRepository.findDistinctDivisionIdsByUserId(userId))
+        givenOverviewCacheMiss(userId);
+        given(creditRepository.findEntrantDivisionOverviews(userId))
                 .willReturn(List.of());
 
         var overviews = entryService.findEntrantDivisionOverviews(userId);
@@ -1497,10 +1717,10 @@ class EntryServiceTest {
         var adminUser = createSystemAdmin();
         var targetUser = new User("entrant@test.com", "Entrant", UserStatus.ACTIVE, Role.USER);
 
-        given(competitionService.findDivisionById(division.getId())).willReturn(division);
+        given(competitionService.findCurrentDivision(division.getId())).willReturn(division);
         given(userService.findByEmail("entrant@test.com")).willReturn(targetUser);
-        given(entryRepository.findMaxEntryNumberByDivisionId(division.getId())).willReturn(3);
-        given(entryRepository.existsByDivisionIdAndEntryCode(eq(division.getId()), anyString())).willReturn(false);
+        given(entryNumberAllocator.next(division.getId())).willReturn(4);
+        given(entryCodeAllocator.allocate(eq(division.getId()), anyInt())).willReturn("ABC234");
         given(entryRepository.save(any(Entry.class))).willAnswer(inv -> inv.getArgument(0));
 
         var result = entryService.adminCreateEntry(division.getId(), "entrant@test.com",
@@ -1521,7 +1741,7 @@ class EntryServiceTest {
         var categoryId = UUID.randomUUID();
         var adminUser = createSystemAdmin();
 
-        given(competitionService.findDivisionById(division.getId())).willReturn(division);
+        given(competitionService.findCurrentDivision(division.getId())).willReturn(division);
         given(userService.findByEmail("unknown@test.com"))
                 .willThrow(new BusinessRuleException("error.user.not-found"));
 
@@ -1545,6 +1765,17 @@ class EntryServiceTest {
         assertThat(result).isEqualTo(7);
     }
 
+    @Test
+    void shouldReadDivisionStatsFromProjection() {
+        var divisionId = UUID.randomUUID();
+        var stats = new DivisionStats(Map.of(EntryStatus.SUBMITTED, 3L), Map.of(), Map.of("PT", 3L),
+                Map.of(), Map.of(), 5, 2);
+        given(divisionStatsProjection.load(divisionId)).willReturn(stats);
+
+        assertThat(entryService.getDivisionStats(divisionId)).isEqualTo(stats);
+        then(entryRepository).shouldHaveNoInteractions();
+    }
+
     // Cycle 19: assignFinalCategory
 
     @Test
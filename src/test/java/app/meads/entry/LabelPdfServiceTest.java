@@ -3,6 +3,7 @@ package app.meads.entry;
 import app.meads.competition.Competition;
 import app.meads.competition.Division;
 import app.meads.competition.DivisionCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,7 +34,7 @@ class LabelPdfServiceTest {
         messageSource.setBasename("messages");
         messageSource.setDefaultEncoding("UTF-8");
         messageSource.setFallbackToSystemLocale(false);
-        labelPdfService = new LabelPdfService(messageSource);
+        labelPdfService = new LabelPdfService(messageSource, new SimpleMeterRegistry());
     }
 
     @Test
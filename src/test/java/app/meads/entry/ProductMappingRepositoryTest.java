@@ -85,6 +85,25 @@ class ProductMappingRepositoryTest {
         assertThat(found.getFirst().getDivisionId()).isEqualTo(division.getId());
     }
 
+    @Test
+    void shouldFindByJumpsellerProductIdOrderedByCompetitionStartDate() {
+        var nextYear = competitionRepository.save(new Competition("Next Year", "next-year",
+                LocalDate.of(2027, 6, 15), LocalDate.of(2027, 6, 17), "Porto"));
+        var nextYearDivision = divisionRepository.save(new Division(nextYear.getId(),
+                "Home", "home", ScoringSystem.MJP, LocalDateTime.of(2027, 12, 31, 23, 59), "UTC"));
+        var thisYearDivision = createAndSaveDivision();
+
+        productMappingRepository.save(new ProductMapping(nextYearDivision.getId(), "PROD-001",
+                "SKU-001", "Entry Pack", 1));
+        productMappingRepository.save(new ProductMapping(thisYearDivision.getId(), "PROD-001",
+                "SKU-001", "Entry Pack", 1));
+
+        var found = productMappingRepository.findByJumpsellerProductId("PROD-001");
+
+        assertThat(found).extracting(ProductMapping::getDivisionId)
+                .containsExactly(thisYearDivision.getId(), nextYearDivision.getId());
+    }
+
     @Test
     void shouldNotFindByNonExistentDivisionId() {
         var found = productMappingRepository.findByDivisionId(UUID.randomUUID());
@@ -1,37 +1,107 @@
 package app.meads.entry;
 
+import app.meads.competition.Competition;
+import app.meads.competition.CompetitionService;
+import app.meads.competition.Division;
 import app.meads.competition.DivisionStatus;
 import app.meads.competition.DivisionStatusAdvancedEvent;
+import app.meads.entry.internal.DraftEntryArchive;
+import app.meads.entry.internal.DraftEntryArchive.DiscardedDraft;
 import app.meads.entry.internal.RegistrationClosedListener;
+import app.meads.identity.EmailService;
+import app.meads.identity.JwtMagicLinkService;
+import app.meads.identity.User;
+import app.meads.identity.UserService;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
-import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
 
+@ExtendWith(MockitoExtension.class)
 class RegistrationClosedListenerTest {
 
+    @Mock DraftEntryArchive draftEntryArchive;
+    @Mock CompetitionService competitionService;
+    @Mock UserService userService;
+    @Mock EmailService emailService;
+    @Mock JwtMagicLinkService jwtMagicLinkService;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @InjectMocks RegistrationClosedListener listener;
+
     @Test
-    void shouldHandleRegistrationClosedEventWithoutError() {
-        var listener = new RegistrationClosedListener();
+    void shouldDiscardDraftsAndSendOneEmailPerEntrant() {
+        var divisionId = UUID.randomUUID();
+        var competitionId = UUID.randomUUID();
+        var firstId = UUID.randomUUID();
+        var secondId = UUID.randomUUID();
+        var draftIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        given(draftEntryArchive.discard(divisionId)).willReturn(List.of(
+                new DiscardedDraft(draftIds.get(0), firstId, 3, "Wildflower"),
+                new DiscardedDraft(draftIds.get(1), secondId, 5, "Cyser"),
+                new DiscardedDraft(draftIds.get(2), firstId, 7, "Melomel")));
+
+        var division = mock(Division.class);
+        given(division.getName()).willReturn("Home");
+        given(division.getCompetitionId()).willReturn(competitionId);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        var competition = mock(Competition.class);
+        given(competition.getName()).willReturn("CHIP 2026");
+        given(competition.getContactEmail()).willReturn("admin@chip.pt");
+        given(competitionService.findCompetitionById(competitionId)).willReturn(competition);
+
+        var first = mock(User.class);
+        given(first.getId()).willReturn(firstId);
+        given(first.getEmail()).willReturn("first@test.com");
+        var second = mock(User.class);
+        given(second.getId()).willReturn(secondId);
+        given(second.getEmail()).willReturn("second@test.com");
+        given(userService.findAllByIds(List.of(firstId, secondId))).willReturn(List.of(first, second));
+        given(jwtMagicLinkService.generateLink(anyString(), any(Duration.class))).willReturn("link");
+        willThrow(new IllegalStateException("SMTP down")).given(emailService).sendDraftsDiscarded(
+                eq("second@test.com"), anyString(), anyString(), anyList(), anyString(), anyString(), any());
 
-        var event = new DivisionStatusAdvancedEvent(
-                UUID.randomUUID(),
-                DivisionStatus.REGISTRATION_OPEN,
-                DivisionStatus.REGISTRATION_CLOSED);
+        listener.on(new DivisionStatusAdvancedEvent(divisionId,
+                DivisionStatus.REGISTRATION_OPEN, DivisionStatus.REGISTRATION_CLOSED));
 
-        assertThatCode(() -> listener.on(event)).doesNotThrowAnyException();
+        then(emailService).should().sendDraftsDiscarded(
+                eq("first@test.com"), eq("CHIP 2026"), eq("Home"),
+                eq(List.of("#3 — Wildflower", "#7 — Melomel")), eq("link"),
+                eq("admin@chip.pt"), any(Locale.class));
+        then(eventPublisher).should().publishEvent(new EntrantDivisionChangedEvent(divisionId, firstId));
+        then(eventPublisher).should().publishEvent(new EntrantDivisionChangedEvent(divisionId, secondId));
+        then(eventPublisher).should().publishEvent(new EntriesChangedEvent(divisionId, draftIds.stream()
+                .map(id -> new EntriesChangedEvent.Change(id, EntryStatus.DRAFT, null))
+                .toList()));
     }
 
     @Test
-    void shouldIgnoreNonRegistrationClosedEvents() {
-        var listener = new RegistrationClosedListener();
+    void shouldSendNothingWhenDraftsWereAlreadyDiscarded() {
+        var divisionId = UUID.randomUUID();
+        given(draftEntryArchive.discard(divisionId)).willReturn(List.of());
+
+        listener.on(new DivisionStatusAdvancedEvent(divisionId,
+                DivisionStatus.REGISTRATION_OPEN, DivisionStatus.REGISTRATION_CLOSED));
 
-        var event = new DivisionStatusAdvancedEvent(
-                UUID.randomUUID(),
-                DivisionStatus.DRAFT,
-                DivisionStatus.REGISTRATION_OPEN);
+        then(competitionService).shouldHaveNoInteractions();
+        then(emailService).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldIgnoreNonRegistrationClosedEvents() {
+        listener.on(new DivisionStatusAdvancedEvent(UUID.randomUUID(),
+                DivisionStatus.DRAFT, DivisionStatus.REGISTRATION_OPEN));
 
-        assertThatCode(() -> listener.on(event)).doesNotThrowAnyException();
+        then(draftEntryArchive).shouldHaveNoInteractions();
     }
 }
@@ -45,7 +45,7 @@ class SubmissionConfirmationListenerTest {
         var division = mock(Division.class);
         given(division.getName()).willReturn("Amadora");
         given(division.getCompetitionId()).willReturn(competitionId);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
 
         var competition = mock(Competition.class);
         given(competition.getName()).willReturn("CHIP 2026");
@@ -83,7 +83,7 @@ class SubmissionConfirmationListenerTest {
         var division = mock(Division.class);
         given(division.getName()).willReturn("Pro");
         given(division.getCompetitionId()).willReturn(competitionId);
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
 
         var competition = mock(Competition.class);
         given(competition.getName()).willReturn("Test Comp");
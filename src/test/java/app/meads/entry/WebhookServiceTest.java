@@ -3,9 +3,11 @@ package app.meads.entry;
 import app.meads.competition.CompetitionService;
 import app.meads.competition.Division;
 import app.meads.competition.ScoringSystem;
+import app.meads.entry.internal.EntrantEligibilityQuery;
 import app.meads.entry.internal.EntryCreditRepository;
 import app.meads.entry.internal.JumpsellerOrderLineItemRepository;
 import app.meads.entry.internal.JumpsellerOrderRepository;
+import app.meads.entry.internal.ProductMappingCache;
 import app.meads.entry.internal.ProductMappingRepository;
 import app.meads.identity.Role;
 import app.meads.identity.User;
@@ -22,7 +24,9 @@ import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -43,6 +47,9 @@ class WebhookServiceTest {
     @Mock
     ProductMappingRepository productMappingRepository;
 
+    @Mock
+    ProductMappingCache productMappingCache;
+
     @Mock
     EntryCreditRepository creditRepository;
 
@@ -55,12 +62,27 @@ class WebhookServiceTest {
     @Mock
     ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    EntrantEligibilityQuery entrantEligibilityQuery;
+
     private static final String HOOKS_TOKEN = "test-secret-token";
 
     private WebhookService createService() {
         return new WebhookService(orderRepository, lineItemRepository,
-                productMappingRepository, creditRepository,
-                competitionService, userService, eventPublisher, HOOKS_TOKEN);
+                productMappingRepository, productMappingCache, creditRepository,
+                competitionService, userService, eventPublisher, entrantEligibilityQuery, HOOKS_TOKEN);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenProductMappingCacheMiss() {
+        given(productMappingCache.get(any(), any()))
+                .willAnswer(inv -> ((Supplier<List<ProductMapping>>) inv.getArgument(1)).get());
+    }
+
+    private EntrantEligibility eligibility(UUID divisionId, UUID userId,
+                                          boolean creditConflict, boolean incompatibleRole) {
+        return new EntrantEligibility(divisionId, userId, 0, 0, Map.of(), Map.of(),
+                creditConflict, incompatibleRole);
     }
 
     private String computeHmac(String payload, String secret) throws Exception {
@@ -160,11 +182,12 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-001")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.findDistinctDivisionIdsByUserId(user.getId()))
-                .willReturn(List.of());
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, user.getId()))
+                .willReturn(eligibility(divisionId, user.getId(), false, false));
         given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -205,6 +228,7 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-002")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("999"))
                 .willReturn(List.of());
         given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
@@ -240,18 +264,18 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-003")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mappingA));
         given(productMappingRepository.findByJumpsellerProductId("102"))
                 .willReturn(List.of(mappingB));
-        given(competitionService.findDivisionById(divisionA.getId())).willReturn(divisionA);
-        given(competitionService.findDivisionById(divisionB.getId())).willReturn(divisionB);
+        given(competitionService.findCurrentDivision(divisionA.getId())).willReturn(divisionA);
+        given(competitionService.findCurrentDivision(divisionB.getId())).willReturn(divisionB);
         // User already has credits in divisionA (from first product processing)
-        given(creditRepository.findDistinctDivisionIdsByUserId(user.getId()))
-                .willReturn(List.of())
-                .willReturn(List.of(divisionA.getId()));
-        given(competitionService.findDivisionsByCompetition(competitionId))
-                .willReturn(List.of(divisionA, divisionB));
+        given(entrantEligibilityQuery.load(divisionA.getId(), user.getId()))
+                .willReturn(eligibility(divisionA.getId(), user.getId(), false, false));
+        given(entrantEligibilityQuery.load(divisionB.getId(), user.getId()))
+                .willReturn(eligibility(divisionB.getId(), user.getId(), true, false));
         given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -294,13 +318,12 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-ROLE")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.findDistinctDivisionIdsByUserId(user.getId()))
-                .willReturn(List.of());
-        given(competitionService.hasIncompatibleRolesForEntrant(competitionId, user.getId()))
-                .willReturn(true);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, user.getId()))
+                .willReturn(eligibility(divisionId, user.getId(), false, true));
         given(userService.findOrCreateByEmail("admin@test.com", "Comp Admin")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -334,9 +357,10 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-LATE")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
         given(userService.findOrCreateByEmail("late@test.com", "Late Buyer")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -355,6 +379,83 @@ class WebhookServiceTest {
         then(competitionService).should(never()).ensureEntrantParticipant(any(), any());
     }
 
+    @Test
+    void shouldCreditDivisionOpenForRegistrationWhenProductIsMappedInSeveralEditions() {
+        var service = createService();
+        var lastYearId = UUID.randomUUID();
+        var lastYear = new Division(UUID.randomUUID(), "Home", "home", ScoringSystem.MJP,
+                LocalDateTime.of(2025, 12, 31, 23, 59), "UTC");
+        lastYear.advanceStatus();
+        lastYear.advanceStatus();
+        var thisYearId = UUID.randomUUID();
+        var thisYear = new Division(UUID.randomUUID(), "Home", "home", ScoringSystem.MJP,
+                LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
+        thisYear.advanceStatus();
+        var user = new User("entrant@test.com", "Test Entrant", UserStatus.ACTIVE, Role.USER);
+
+        var payload = buildPayload("ORDER-NEXT", "entrant@test.com", "Test Entrant",
+                buildProduct("101", "SKU-001", "Entry Pack", 1));
+
+        given(orderRepository.existsByJumpsellerOrderId("ORDER-NEXT")).willReturn(false);
+        given(orderRepository.save(any(JumpsellerOrder.class)))
+                .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
+        given(productMappingRepository.findByJumpsellerProductId("101")).willReturn(List.of(
+                new ProductMapping(lastYearId, "101", "SKU-001", "Entry Pack", 1),
+                new ProductMapping(thisYearId, "101", "SKU-001", "Entry Pack", 1)));
+        given(competitionService.findCurrentDivision(lastYearId)).willReturn(lastYear);
+        given(competitionService.findCurrentDivision(thisYearId)).willReturn(thisYear);
+        given(entrantEligibilityQuery.load(thisYearId, user.getId()))
+                .willReturn(eligibility(thisYearId, user.getId(), false, false));
+        given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
+        given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
+                .willAnswer(inv -> inv.getArgument(0));
+        given(creditRepository.save(any(EntryCredit.class)))
+                .willAnswer(inv -> inv.getArgument(0));
+
+        service.processOrderPaid(payload);
+
+        then(creditRepository).should().save(argThat(credit -> credit.getDivisionId().equals(thisYearId)));
+    }
+
+    @Test
+    void shouldCreditOpenDivisionOverDraftCloneOfNextEdition() {
+        var service = createService();
+        var cloneId = UUID.randomUUID();
+        var clone = new Division(UUID.randomUUID(), "Home", "home", ScoringSystem.MJP,
+                LocalDateTime.of(2027, 12, 31, 23, 59), "UTC");
+        var sourceId = UUID.randomUUID();
+        var source = new Division(UUID.randomUUID(), "Home", "home", ScoringSystem.MJP,
+                LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
+        source.advanceStatus();
+        var user = new User("entrant@test.com", "Test Entrant", UserStatus.ACTIVE, Role.USER);
+
+        var payload = buildPayload("ORDER-CLONE", "entrant@test.com", "Test Entrant",
+                buildProduct("101", "SKU-001", "Entry Pack", 1));
+
+        given(orderRepository.existsByJumpsellerOrderId("ORDER-CLONE")).willReturn(false);
+        given(orderRepository.save(any(JumpsellerOrder.class)))
+                .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
+        given(productMappingRepository.findByJumpsellerProductId("101")).willReturn(List.of(
+                new ProductMapping(cloneId, "101", "SKU-001", "Entry Pack", 1),
+                new ProductMapping(sourceId, "101", "SKU-001", "Entry Pack", 1)));
+        given(competitionService.findCurrentDivision(cloneId)).willReturn(clone);
+        given(competitionService.findCurrentDivision(sourceId)).willReturn(source);
+        given(entrantEligibilityQuery.load(sourceId, user.getId()))
+                .willReturn(eligibility(sourceId, user.getId(), false, false));
+        given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
+        given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
+                .willAnswer(inv -> inv.getArgument(0));
+        given(creditRepository.save(any(EntryCredit.class)))
+                .willAnswer(inv -> inv.getArgument(0));
+
+        service.processOrderPaid(payload);
+
+        then(creditRepository).should().save(argThat(credit -> credit.getDivisionId().equals(sourceId)));
+        then(creditRepository).should(never()).save(argThat(credit -> credit.getDivisionId().equals(cloneId)));
+    }
+
     @Test
     void shouldCreateUserForUnknownEmail() {
         var service = createService();
@@ -370,11 +471,12 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-004")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.findDistinctDivisionIdsByUserId(newUser.getId()))
-                .willReturn(List.of());
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, newUser.getId()))
+                .willReturn(eligibility(divisionId, newUser.getId(), false, false));
         given(userService.findOrCreateByEmail("new@test.com", "New Entrant")).willReturn(newUser);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -407,13 +509,12 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-005")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.findDistinctDivisionIdsByUserId(user.getId()))
-                .willReturn(List.of(otherDivision.getId()));
-        given(competitionService.findDivisionsByCompetition(competitionId))
-                .willReturn(List.of(division, otherDivision));
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, user.getId()))
+                .willReturn(eligibility(divisionId, user.getId(), true, false));
         given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -444,11 +545,12 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-010")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.findDistinctDivisionIdsByUserId(user.getId()))
-                .willReturn(List.of());
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, user.getId()))
+                .willReturn(eligibility(divisionId, user.getId(), false, false));
         given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -477,11 +579,12 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-011")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.findDistinctDivisionIdsByUserId(user.getId()))
-                .willReturn(List.of());
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, user.getId()))
+                .willReturn(eligibility(divisionId, user.getId(), false, false));
         given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -510,11 +613,12 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-012")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.findDistinctDivisionIdsByUserId(user.getId()))
-                .willReturn(List.of());
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, user.getId()))
+                .willReturn(eligibility(divisionId, user.getId(), false, false));
         given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -542,11 +646,12 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-BILLING")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.findDistinctDivisionIdsByUserId(user.getId()))
-                .willReturn(List.of());
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, user.getId()))
+                .willReturn(eligibility(divisionId, user.getId(), false, false));
         given(userService.findOrCreateByEmail("entrant@test.com", "Maria Silva")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -597,13 +702,12 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-EVENT")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.findDistinctDivisionIdsByUserId(user.getId()))
-                .willReturn(List.of(otherDivision.getId()));
-        given(competitionService.findDivisionsByCompetition(competitionId))
-                .willReturn(List.of(division, otherDivision));
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, user.getId()))
+                .willReturn(eligibility(divisionId, user.getId(), true, false));
         given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -636,11 +740,12 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-OK")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.findDistinctDivisionIdsByUserId(user.getId()))
-                .willReturn(List.of());
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, user.getId()))
+                .willReturn(eligibility(divisionId, user.getId(), false, false));
         given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
@@ -668,11 +773,12 @@ class WebhookServiceTest {
         given(orderRepository.existsByJumpsellerOrderId("ORDER-EVT")).willReturn(false);
         given(orderRepository.save(any(JumpsellerOrder.class)))
                 .willAnswer(inv -> inv.getArgument(0));
+        givenProductMappingCacheMiss();
         given(productMappingRepository.findByJumpsellerProductId("101"))
                 .willReturn(List.of(mapping));
-        given(competitionService.findDivisionById(divisionId)).willReturn(division);
-        given(creditRepository.findDistinctDivisionIdsByUserId(user.getId()))
-                .willReturn(List.of());
+        given(competitionService.findCurrentDivision(divisionId)).willReturn(division);
+        given(entrantEligibilityQuery.load(divisionId, user.getId()))
+                .willReturn(eligibility(divisionId, user.getId(), false, false));
         given(userService.findOrCreateByEmail("entrant@test.com", "Test Entrant")).willReturn(user);
         given(lineItemRepository.save(any(JumpsellerOrderLineItem.class)))
                 .willAnswer(inv -> inv.getArgument(0));
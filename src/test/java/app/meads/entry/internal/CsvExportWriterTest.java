@@ -0,0 +1,57 @@
+package app.meads.entry.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvExportWriterTest {
+
+    private String write(List<?>... rows) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var writer = new CsvExportWriter(out)) {
+            for (var row : rows) {
+                writer.row(row);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldWriteRowsWithByteOrderMark() throws IOException {
+        var csv = write(List.of("entry_number", "mead_name"), List.of(1, "Traditional"));
+
+        assertThat(csv).isEqualTo("\uFEFFentry_number,mead_name\r\n1,Traditional\r\n");
+    }
+
+    @Test
+    void shouldQuoteFieldsWithSeparatorsQuotesAndLineBreaks() {
+        assertThat(CsvExportWriter.escape("Orange blossom, Acacia")).isEqualTo("\"Orange blossom, Acacia\"");
+        assertThat(CsvExportWriter.escape("The \"Best\" Mead")).isEqualTo("\"The \"\"Best\"\" Mead\"");
+        assertThat(CsvExportWriter.escape("line one\nline two")).isEqualTo("\"line one\nline two\"");
+    }
+
+    @Test
+    void shouldNeutralizeFormulaLikeText() {
+        assertThat(CsvExportWriter.escape("=HYPERLINK(\"x\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+        assertThat(CsvExportWriter.escape("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(CsvExportWriter.escape(new BigDecimal("-1.5"))).isEqualTo("-1.5");
+    }
+
+    @Test
+    void shouldFormatNullsAndTimestamps() throws IOException {
+        var instant = Instant.parse("2026-06-15T10:15:30.123Z");
+
+        var csv = write(Arrays.asList(null, Timestamp.from(instant), true));
+
+        assertThat(csv).isEqualTo("\uFEFF,2026-06-15T10:15:30Z,true\r\n");
+    }
+}
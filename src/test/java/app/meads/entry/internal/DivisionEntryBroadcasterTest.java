@@ -0,0 +1,108 @@
+package app.meads.entry.internal;
+
+import app.meads.entry.CreditsAwardedEvent;
+import app.meads.entry.EntriesChangedEvent;
+import app.meads.entry.EntryStatus;
+import app.meads.entry.OrderRequiresReviewEvent;
+import app.meads.entry.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class DivisionEntryBroadcasterTest {
+
+    @Mock
+    TaskScheduler taskScheduler;
+
+    DivisionEntryBroadcaster broadcaster;
+    UUID divisionId = UUID.randomUUID();
+    UUID competitionId = UUID.randomUUID();
+    List<DivisionEntryBroadcaster.Changes> pushed = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new DivisionEntryBroadcaster(taskScheduler, Duration.ofMillis(500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void flushScheduled() {
+        var flush = ArgumentCaptor.forClass(Runnable.class);
+        then(taskScheduler).should().schedule(flush.capture(), any(Instant.class));
+        flush.getValue().run();
+    }
+
+    @Test
+    void shouldCoalesceBurstIntoOnePushWithNetEntryChanges() {
+        broadcaster.subscribe(divisionId, competitionId, pushed::add);
+        var advanced = UUID.randomUUID();
+        var discarded = UUID.randomUUID();
+        var entrantId = UUID.randomUUID();
+
+        broadcaster.on(EntriesChangedEvent.of(divisionId, advanced, EntryStatus.DRAFT, EntryStatus.SUBMITTED));
+        broadcaster.on(EntriesChangedEvent.of(divisionId, advanced, EntryStatus.SUBMITTED, EntryStatus.RECEIVED));
+        broadcaster.on(EntriesChangedEvent.of(divisionId, discarded, null, EntryStatus.DRAFT));
+        broadcaster.on(EntriesChangedEvent.of(divisionId, discarded, EntryStatus.DRAFT, null));
+        broadcaster.on(new CreditsAwardedEvent(divisionId, entrantId, 2, "WEBHOOK"));
+        flushScheduled();
+
+        assertThat(pushed).singleElement().satisfies(changes -> {
+            assertThat(changes.entries()).containsOnlyKeys(advanced);
+            assertThat(changes.entries().get(advanced))
+                    .isEqualTo(new EntriesChangedEvent.Change(advanced, EntryStatus.DRAFT, EntryStatus.RECEIVED));
+            assertThat(changes.entriesAddedOrRemoved()).isFalse();
+            assertThat(changes.entrants()).containsExactly(entrantId);
+            assertThat(changes.orders()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldCollectChangesOnlyOnceTheirTransactionCommits() {
+        broadcaster.subscribe(divisionId, competitionId, pushed::add);
+        TransactionSynchronizationManager.initSynchronization();
+
+        broadcaster.on(new OrderRequiresReviewEvent(UUID.randomUUID(), "1001", "Ana", "ana@test.com",
+                Set.of(competitionId), Set.of("Home"), OrderStatus.NEEDS_REVIEW));
+
+        then(taskScheduler).shouldHaveNoInteractions();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        flushScheduled();
+        assertThat(pushed).singleElement().satisfies(changes -> assertThat(changes.orders()).isTrue());
+    }
+
+    @Test
+    void shouldIgnoreDivisionsNobodyWatches() {
+        var registration = broadcaster.subscribe(divisionId, competitionId, pushed::add);
+        registration.remove();
+
+        broadcaster.on(EntriesChangedEvent.of(divisionId, UUID.randomUUID(), null, EntryStatus.DRAFT));
+
+        then(taskScheduler).should(never()).schedule(any(Runnable.class), any(Instant.class));
+        assertThat(pushed).isEmpty();
+    }
+}
@@ -0,0 +1,170 @@
+package app.meads.entry.internal;
+
+import app.meads.TestcontainersConfiguration;
+import app.meads.competition.Competition;
+import app.meads.competition.Division;
+import app.meads.competition.DivisionCategory;
+import app.meads.competition.ScoringSystem;
+import app.meads.competition.internal.CompetitionRepository;
+import app.meads.competition.internal.DivisionCategoryRepository;
+import app.meads.competition.internal.DivisionRepository;
+import app.meads.entry.Carbonation;
+import app.meads.entry.Entry;
+import app.meads.entry.EntryCredit;
+import app.meads.entry.EntryStatus;
+import app.meads.entry.Strength;
+import app.meads.entry.Sweetness;
+import app.meads.identity.Role;
+import app.meads.identity.User;
+import app.meads.identity.UserStatus;
+import app.meads.identity.internal.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+class DivisionStatsProjectionTest {
+
+    @Autowired
+    DivisionStatsProjection projection;
+
+    @Autowired
+    CompetitionRepository competitionRepository;
+
+    @Autowired
+    DivisionRepository divisionRepository;
+
+    @Autowired
+    DivisionCategoryRepository divisionCategoryRepository;
+
+    @Autowired
+    EntryCreditRepository creditRepository;
+
+    @Autowired
+    EntryRepository entryRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    Division division;
+    DivisionCategory traditional;
+    DivisionCategory melomel;
+    User portuguese;
+    User unknownCountry;
+
+    @BeforeEach
+    void setUp() {
+        var competition = competitionRepository.save(new Competition("Test Competition", "test-competition",
+                LocalDate.of(2026, 6, 15), LocalDate.of(2026, 6, 17), "Porto"));
+        division = divisionRepository.save(new Division(competition.getId(),
+                "Home", "home", ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC"));
+        traditional = divisionCategoryRepository.save(new DivisionCategory(division.getId(), null,
+                "M1", "Traditional", "Traditional", null, 0));
+        melomel = divisionCategoryRepository.save(new DivisionCategory(division.getId(), null,
+                "M2", "Melomel", "Melomel", null, 1));
+        portuguese = new User("pt@test.com", "Portuguese", UserStatus.ACTIVE, Role.USER);
+        portuguese.updateCountry("PT");
+        portuguese = userRepository.saveAndFlush(portuguese);
+        unknownCountry = userRepository.saveAndFlush(new User("nowhere@test.com", "Nowhere",
+                UserStatus.ACTIVE, Role.USER));
+    }
+
+    private Entry saveEntry(User user, int number, DivisionCategory category, Sweetness sweetness) {
+        return entryRepository.saveAndFlush(new Entry(division.getId(), user.getId(), number, "ABC23" + number,
+                "Mead " + number, category.getId(), sweetness, new BigDecimal("12.5"),
+                Carbonation.STILL, "Wildflower honey", null, false, null, null));
+    }
+
+    @Test
+    void shouldCountEntriesPerStatusCategoryCountryAndStyle() {
+        var first = saveEntry(portuguese, 1, traditional, Sweetness.DRY);
+        var second = saveEntry(portuguese, 2, melomel, Sweetness.SWEET);
+        var third = saveEntry(unknownCountry, 3, melomel, Sweetness.SWEET);
+        third.submit();
+        entryRepository.flush();
+
+        projection.applyEntries(List.of(first.getId(), second.getId(), third.getId()));
+
+        var stats = projection.load(division.getId());
+        assertThat(stats.byStatus()).isEqualTo(Map.of(EntryStatus.DRAFT, 2L, EntryStatus.SUBMITTED, 1L));
+        assertThat(stats.byCategory()).isEqualTo(Map.of(traditional.getId(), 1L, melomel.getId(), 2L));
+        assertThat(stats.byCountry()).isEqualTo(Map.of("PT", 2L, "", 1L));
+        assertThat(stats.bySweetness()).isEqualTo(Map.of(Sweetness.DRY, 1L, Sweetness.SWEET, 2L));
+        assertThat(stats.byStrength()).isEqualTo(Map.of(Strength.STANDARD, 3L));
+        assertThat(stats.totalEntries()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldMoveChangedEntriesAndDropDeletedOnes() {
+        var kept = saveEntry(portuguese, 1, traditional, Sweetness.DRY);
+        var withdrawn = saveEntry(portuguese, 2, melomel, Sweetness.DRY);
+        var deleted = saveEntry(unknownCountry, 3, melomel, Sweetness.DRY);
+        projection.applyEntries(List.of(kept.getId(), withdrawn.getId(), deleted.getId()));
+
+        withdrawn.withdraw();
+        entryRepository.delete(deleted);
+        entryRepository.flush();
+        projection.applyEntries(List.of(withdrawn.getId(), deleted.getId()));
+
+        var stats = projection.load(division.getId());
+        assertThat(stats.byStatus()).isEqualTo(Map.of(EntryStatus.DRAFT, 1L, EntryStatus.WITHDRAWN, 1L));
+        assertThat(stats.activeEntries()).isEqualTo(1);
+        assertThat(stats.byCategory()).isEqualTo(Map.of(traditional.getId(), 1L));
+        assertThat(stats.byCountry()).isEqualTo(Map.of("PT", 1L));
+    }
+
+    @Test
+    void shouldNotCountRedeliveredChangesTwice() {
+        var entry = saveEntry(portuguese, 1, traditional, Sweetness.DRY);
+
+        projection.applyEntries(List.of(entry.getId()));
+        projection.applyEntries(List.of(entry.getId()));
+
+        assertThat(projection.load(division.getId()).byStatus()).isEqualTo(Map.of(EntryStatus.DRAFT, 1L));
+    }
+
+    @Test
+    void shouldTrackCreditBalancesAndEntrantsWithCredits() {
+        creditRepository.saveAndFlush(new EntryCredit(division.getId(), portuguese.getId(), 3, "WEBHOOK", "line-1"));
+        creditRepository.saveAndFlush(new EntryCredit(division.getId(), unknownCountry.getId(), 1, "ADMIN", "admin"));
+        projection.applyEntrants(division.getId(), List.of(portuguese.getId(), unknownCountry.getId()));
+
+        creditRepository.saveAndFlush(new EntryCredit(division.getId(), unknownCountry.getId(), -1, "ADMIN", "admin"));
+        projection.applyEntrants(division.getId(), List.of(unknownCountry.getId()));
+
+        var stats = projection.load(division.getId());
+        assertThat(stats.creditBalance()).isEqualTo(3);
+        assertThat(stats.entrants()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCorrectCountersThatDriftedOnRebuild() {
+        var entry = saveEntry(unknownCountry, 1, traditional, Sweetness.DRY);
+        creditRepository.saveAndFlush(new EntryCredit(division.getId(), unknownCountry.getId(), 2, "ADMIN", "admin"));
+        projection.applyEntries(List.of(entry.getId()));
+        // Country changes publish no event, and these credits were never applied
+        unknownCountry.updateCountry("ES");
+        userRepository.flush();
+
+        assertThat(projection.rebuild(division.getId())).isEqualTo(4);
+
+        var stats = projection.load(division.getId());
+        assertThat(stats.byCountry()).isEqualTo(Map.of("ES", 1L));
+        assertThat(stats.creditBalance()).isEqualTo(2);
+        assertThat(stats.entrants()).isEqualTo(1);
+        assertThat(projection.rebuild(division.getId())).isZero();
+    }
+}
@@ -0,0 +1,92 @@
+package app.meads.entry.internal;
+
+import app.meads.entry.CreditsAwardedEvent;
+import app.meads.entry.CreditsImportedEvent;
+import app.meads.entry.EntrantDivisionChangedEvent;
+import app.meads.entry.EntrantDivisionOverview;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntrantOverviewCacheTest {
+
+    EntrantOverviewCache cache;
+    UUID userId = UUID.randomUUID();
+    AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new EntrantOverviewCache(new ConcurrentMapCacheManager(EntrantOverviewCache.CACHE_NAME));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private List<EntrantDivisionOverview> load() {
+        loads.incrementAndGet();
+        return List.of(new EntrantDivisionOverview(UUID.randomUUID(), "CHIP 2026", "chip-2026",
+                UUID.randomUUID(), "Amadora", "amadora", 2, loads.get()));
+    }
+
+    @Test
+    void shouldLoadOncePerUser() {
+        var first = cache.get(userId, this::load);
+        var second = cache.get(userId, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldEvictEveryUserOfCreditImport() {
+        var otherUserId = UUID.randomUUID();
+        cache.get(userId, this::load);
+        cache.get(otherUserId, this::load);
+
+        cache.on(new CreditsImportedEvent(UUID.randomUUID(), List.of(
+                new CreditsImportedEvent.Grant(userId, 1),
+                new CreditsImportedEvent.Grant(otherUserId, 2)), "ADMIN"));
+        cache.get(userId, this::load);
+        cache.get(otherUserId, this::load);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void shouldEvictOnCreditsAwarded() {
+        cache.get(userId, this::load);
+
+        cache.on(new CreditsAwardedEvent(UUID.randomUUID(), userId, 1, "WEBHOOK"));
+        cache.get(userId, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldEvictAgainWhenTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.get(userId, this::load);
+
+        cache.on(new EntrantDivisionChangedEvent(UUID.randomUUID(), userId));
+        // A concurrent reader repopulates before the writer commits
+        cache.get(userId, this::load);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        cache.get(userId, this::load);
+
+        assertThat(loads).hasValue(3);
+    }
+}
@@ -0,0 +1,80 @@
+package app.meads.entry.internal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class EntryCodeAllocatorTest {
+
+    @Mock
+    EntryRepository entryRepository;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    EntryCodeAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new EntryCodeAllocator(entryRepository, jdbcTemplate, "test-secret-key-minimum-32-characters-long");
+    }
+
+    @Test
+    void shouldAllocateSixCharacterCodes() {
+        var code = allocator.allocate(UUID.randomUUID(), 1);
+
+        assertThat(code).matches("[ABCDEFGHJKLMNPQRSTUVWXYZ23456789]{6}");
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void shouldAllocateDistinctCodesForDistinctEntryNumbers() {
+        var divisionId = UUID.randomUUID();
+        var codes = new HashSet<String>();
+
+        for (int entryNumber = 1; entryNumber <= 10_000; entryNumber++) {
+            codes.add(allocator.allocate(divisionId, entryNumber));
+        }
+
+        assertThat(codes).hasSize(10_000);
+    }
+
+    @Test
+    void shouldReturnSameCodeForSameDivisionAndEntryNumber() {
+        var divisionId = UUID.randomUUID();
+
+        assertThat(allocator.allocate(divisionId, 5)).isEqualTo(allocator.allocate(divisionId, 5));
+    }
+
+    @Test
+    void shouldSkipCodeAlreadyHeldByAnEarlierEntry() {
+        var divisionId = UUID.randomUUID();
+        var derived = allocator.allocate(divisionId, 5);
+        given(entryRepository.existsByDivisionIdAndEntryCode(eq(divisionId), anyString()))
+                .willAnswer(inv -> derived.equals(inv.getArgument(1)));
+
+        var code = allocator.allocate(divisionId, 5);
+
+        assertThat(code).isNotEqualTo(derived).matches("[ABCDEFGHJKLMNPQRSTUVWXYZ23456789]{6}");
+        then(jdbcTemplate).should().query(anyString(), any(RowCallbackHandler.class), eq("entry-code:" + divisionId));
+        // The replacement is taken from far above any entry number
+        for (int entryNumber = 6; entryNumber <= 1_000; entryNumber++) {
+            assertThat(allocator.allocate(divisionId, entryNumber)).isNotEqualTo(code);
+        }
+    }
+}
@@ -25,6 +25,9 @@ class EntryDivisionDeletionGuardTest {
     @Mock
     private ProductMappingRepository productMappingRepository;
 
+    @Mock
+    private DraftEntryArchive draftEntryArchive;
+
     @InjectMocks
     private EntryDivisionDeletionGuard guard;
 
@@ -49,6 +52,18 @@ class EntryDivisionDeletionGuardTest {
                 .hasMessageContaining("error.division.cannot-delete-has-data");
     }
 
+    @Test
+    void shouldBlockDeletionWhenDiscardedDraftsExist() {
+        var divisionId = UUID.randomUUID();
+        given(entryRepository.existsByDivisionId(divisionId)).willReturn(false);
+        given(entryCreditRepository.existsByDivisionId(divisionId)).willReturn(false);
+        given(draftEntryArchive.existsByDivisionId(divisionId)).willReturn(true);
+
+        assertThatThrownBy(() -> guard.checkDeletionAllowed(divisionId))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("error.division.cannot-delete-has-data");
+    }
+
     @Test
     void shouldBlockDeletionWhenProductMappingsExist() {
         var divisionId = UUID.randomUUID();
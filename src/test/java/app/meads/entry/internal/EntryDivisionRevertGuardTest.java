@@ -2,17 +2,25 @@ package app.meads.entry.internal;
 
 import app.meads.BusinessRuleException;
 import app.meads.competition.DivisionStatus;
+import app.meads.entry.EntrantDivisionChangedEvent;
+import app.meads.entry.EntriesChangedEvent;
+import app.meads.entry.EntryStatus;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class EntryDivisionRevertGuardTest {
@@ -20,6 +28,12 @@ class EntryDivisionRevertGuardTest {
     @Mock
     private EntryRepository entryRepository;
 
+    @Mock
+    private DraftEntryArchive draftEntryArchive;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EntryDivisionRevertGuard guard;
 
@@ -50,4 +64,26 @@ class EntryDivisionRevertGuardTest {
         assertThatNoException().isThrownBy(() -> guard.checkRevertAllowed(
                 divisionId, DivisionStatus.JUDGING, DivisionStatus.REGISTRATION_CLOSED));
     }
+
+    @Test
+    void shouldRestoreDiscardedDraftsWhenRegistrationReopens() {
+        var divisionId = UUID.randomUUID();
+        var userId = UUID.randomUUID();
+        var entryId = UUID.randomUUID();
+        given(draftEntryArchive.restore(divisionId)).willReturn(List.of(
+                new DraftEntryArchive.DiscardedDraft(entryId, userId, 3, "Wildflower")));
+
+        guard.checkRevertAllowed(divisionId, DivisionStatus.REGISTRATION_CLOSED, DivisionStatus.REGISTRATION_OPEN);
+
+        then(eventPublisher).should().publishEvent(new EntrantDivisionChangedEvent(divisionId, userId));
+        then(eventPublisher).should().publishEvent(
+                EntriesChangedEvent.of(divisionId, entryId, null, EntryStatus.DRAFT));
+    }
+
+    @Test
+    void shouldNotRestoreDraftsOnLaterReverts() {
+        guard.checkRevertAllowed(UUID.randomUUID(), DivisionStatus.JUDGING, DivisionStatus.REGISTRATION_CLOSED);
+
+        then(draftEntryArchive).should(never()).restore(any());
+    }
 }
@@ -0,0 +1,137 @@
+package app.meads.entry.internal;
+
+import app.meads.competition.Competition;
+import app.meads.competition.CompetitionService;
+import app.meads.competition.Division;
+import app.meads.competition.ScoringSystem;
+import app.meads.identity.Role;
+import app.meads.identity.User;
+import app.meads.identity.UserService;
+import app.meads.identity.UserStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class EntryExportControllerTest {
+
+    MockMvc mockMvc;
+
+    @InjectMocks
+    EntryExportController controller;
+
+    @Mock
+    EntryExporter exporter;
+
+    @Mock
+    CompetitionService competitionService;
+
+    @Mock
+    UserService userService;
+
+    User user = new User("organizer@test.com", "Organizer", UserStatus.ACTIVE, Role.USER);
+    Competition competition = new Competition("CHIP 2026", "chip-2026",
+            LocalDate.of(2026, 6, 15), LocalDate.of(2026, 6, 17), "Porto");
+    Division division = new Division(competition.getId(), "Amadora", "amadora",
+            ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC");
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+        var principal = org.springframework.security.core.userdetails.User.builder()
+                .username(user.getEmail()).password("password").authorities(List.of()).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void givenDivisionExists() {
+        given(userService.findByEmail(user.getEmail())).willReturn(user);
+        given(competitionService.findCurrentDivision(division.getId())).willReturn(division);
+        given(competitionService.findCompetitionById(competition.getId())).willReturn(competition);
+    }
+
+    @Test
+    void shouldStreamDivisionExportAsCsvAttachment() throws Exception {
+        givenDivisionExists();
+        given(competitionService.isAuthorizedForDivision(division.getId(), user.getId())).willReturn(true);
+        given(exporter.export(eq(EntryExporter.Dataset.ENTRIES), eq(EntryExporter.Scope.DIVISION),
+                eq(division.getId()), any())).willAnswer(invocation -> {
+                    ExportWriter writer = invocation.getArgument(3);
+                    writer.row(List.of("entry_number", "mead_name"));
+                    writer.row(List.of(1, "Traditional"));
+                    return 1L;
+                });
+
+        var result = mockMvc.perform(get("/api/exports/entries")
+                        .param("divisionId", division.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"entries-chip-2026-amadora.csv\""))
+                .andExpect(content().string("\uFEFFentry_number,mead_name\r\n1,Traditional\r\n"));
+    }
+
+    @Test
+    void shouldRejectExportWhenNotAuthorized() throws Exception {
+        givenDivisionExists();
+        given(competitionService.isAuthorizedForDivision(division.getId(), user.getId())).willReturn(false);
+
+        mockMvc.perform(get("/api/exports/credits")
+                        .param("divisionId", division.getId().toString())
+                        .param("format", "xlsx"))
+                .andExpect(status().isForbidden());
+
+        then(exporter).should(never()).export(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectUnknownDatasetOrAmbiguousScope() throws Exception {
+        mockMvc.perform(get("/api/exports/judges")
+                        .param("divisionId", UUID.randomUUID().toString()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/exports/entries")
+                        .param("divisionId", UUID.randomUUID().toString())
+                        .param("competitionId", UUID.randomUUID().toString()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/exports/entries")
+                        .param("divisionId", UUID.randomUUID().toString())
+                        .param("format", "pdf"))
+                .andExpect(status().isBadRequest());
+    }
+}
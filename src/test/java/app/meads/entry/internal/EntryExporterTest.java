@@ -0,0 +1,175 @@
+package app.meads.entry.internal;
+
+import app.meads.TestcontainersConfiguration;
+import app.meads.competition.Competition;
+import app.meads.competition.Division;
+import app.meads.competition.DivisionCategory;
+import app.meads.competition.ScoringSystem;
+import app.meads.competition.internal.CompetitionRepository;
+import app.meads.competition.internal.DivisionCategoryRepository;
+import app.meads.competition.internal.DivisionRepository;
+import app.meads.entry.Carbonation;
+import app.meads.entry.Entry;
+import app.meads.entry.EntryCredit;
+import app.meads.entry.JumpsellerOrder;
+import app.meads.entry.JumpsellerOrderLineItem;
+import app.meads.entry.Sweetness;
+import app.meads.identity.Role;
+import app.meads.identity.User;
+import app.meads.identity.UserStatus;
+import app.meads.identity.internal.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+class EntryExporterTest {
+
+    @Autowired
+    EntryExporter exporter;
+
+    @Autowired
+    CompetitionRepository competitionRepository;
+
+    @Autowired
+    DivisionRepository divisionRepository;
+
+    @Autowired
+    DivisionCategoryRepository divisionCategoryRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EntryRepository entryRepository;
+
+    @Autowired
+    EntryCreditRepository creditRepository;
+
+    @Autowired
+    JumpsellerOrderRepository orderRepository;
+
+    @Autowired
+    JumpsellerOrderLineItemRepository lineItemRepository;
+
+    Competition competition;
+    Division home;
+    Division pro;
+    User entrant;
+
+    /** Collects rows in memory so assertions can inspect them. */
+    static class RecordingWriter implements ExportWriter {
+
+        final List<List<String>> rows = new ArrayList<>();
+
+        @Override
+        public void row(List<?> values) {
+            rows.add(values.stream().map(ExportWriter::text).toList());
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        var suffix = UUID.randomUUID().toString().substring(0, 8);
+        competition = competitionRepository.save(new Competition("Export Competition", "export-" + suffix,
+                LocalDate.of(2026, 6, 15), LocalDate.of(2026, 6, 17), "Porto"));
+        home = divisionRepository.save(new Division(competition.getId(), "Home", "home",
+                ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC"));
+        pro = divisionRepository.save(new Division(competition.getId(), "Pro", "pro",
+                ScoringSystem.MJP, LocalDateTime.of(2026, 12, 31, 23, 59), "UTC"));
+        entrant = userRepository.save(new User("export-" + suffix + "@test.com", "Export Entrant",
+                UserStatus.ACTIVE, Role.USER));
+    }
+
+    private Entry saveEntry(Division division, int number, String meadName) {
+        var category = divisionCategoryRepository.save(new DivisionCategory(
+                division.getId(), null, "M1A-" + number, "Traditional Mead", "Traditional", null, 1));
+        return entryRepository.save(new Entry(division.getId(), entrant.getId(), number, "EXP00" + number,
+                meadName, category.getId(), Sweetness.DRY, new BigDecimal("12.5"), Carbonation.STILL,
+                "Wildflower honey", null, false, null, null));
+    }
+
+    private RecordingWriter export(EntryExporter.Dataset dataset, EntryExporter.Scope scope, UUID scopeId)
+            throws IOException {
+        // The exporter reads through JDBC, so pending JPA inserts must reach the database first
+        entryRepository.flush();
+        var writer = new RecordingWriter();
+        try (writer) {
+            exporter.export(dataset, scope, scopeId, writer);
+        }
+        return writer;
+    }
+
+    @Test
+    void shouldExportDivisionEntriesWithCategoryAndEntrantData() throws IOException {
+        saveEntry(home, 2, "Second Mead");
+        saveEntry(home, 1, "First Mead");
+        saveEntry(pro, 1, "Pro Mead");
+
+        var writer = export(EntryExporter.Dataset.ENTRIES, EntryExporter.Scope.DIVISION, home.getId());
+
+        var header = writer.rows.getFirst();
+        assertThat(header).startsWith("division", "entry_number", "entry_code", "mead_name", "category_code");
+        assertThat(header).contains("entrant_email", "final_category_code");
+        assertThat(writer.rows).hasSize(3);
+        assertThat(writer.rows.get(1)).startsWith("home", "1", "EXP001", "First Mead", "M1A-1");
+        assertThat(writer.rows.get(1)).contains(entrant.getEmail(), "Export Entrant");
+        assertThat(writer.rows.get(2).get(3)).isEqualTo("Second Mead");
+    }
+
+    @Test
+    void shouldExportCompetitionCreditLedgerAcrossDivisions() throws IOException {
+        creditRepository.save(new EntryCredit(home.getId(), entrant.getId(), 3, "WEBHOOK", "order-1"));
+        creditRepository.save(new EntryCredit(pro.getId(), entrant.getId(), -1, "ADMIN", "correction"));
+
+        var writer = export(EntryExporter.Dataset.CREDITS, EntryExporter.Scope.COMPETITION, competition.getId());
+
+        assertThat(writer.rows.getFirst()).containsExactly("division", "entrant_name", "entrant_email",
+                "amount", "source_type", "source_reference", "created_at");
+        assertThat(writer.rows).hasSize(3);
+        assertThat(writer.rows.subList(1, 3)).extracting(row -> row.get(3))
+                .containsExactlyInAnyOrder("3", "-1");
+    }
+
+    @Test
+    void shouldExportOrderLinesOfDivision() throws IOException {
+        var order = new JumpsellerOrder("JS-" + UUID.randomUUID(), entrant.getEmail(), "Export Entrant", "{}");
+        order.markProcessed();
+        orderRepository.save(order);
+        var lineItem = new JumpsellerOrderLineItem(order.getId(), "PROD-1", "SKU-1", "Home Entry", 2);
+        lineItem.markProcessed(home.getId(), 2);
+        lineItemRepository.save(lineItem);
+
+        var writer = export(EntryExporter.Dataset.ORDERS, EntryExporter.Scope.DIVISION, home.getId());
+
+        assertThat(writer.rows).hasSize(2);
+        assertThat(writer.rows.get(1)).startsWith(order.getJumpsellerOrderId(), "Export Entrant");
+        assertThat(writer.rows.get(1)).contains("Home Entry", "PROCESSED");
+    }
+
+    @Test
+    void shouldWriteHeaderOnlyWhenScopeIsEmpty() throws IOException {
+        var writer = export(EntryExporter.Dataset.ENTRIES, EntryExporter.Scope.DIVISION, UUID.randomUUID());
+
+        assertThat(writer.rows).hasSize(1);
+    }
+}
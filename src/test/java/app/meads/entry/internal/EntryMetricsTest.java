@@ -0,0 +1,52 @@
+package app.meads.entry.internal;
+
+import app.meads.entry.CreditsAwardedEvent;
+import app.meads.entry.CreditsImportedEvent;
+import app.meads.entry.EntriesChangedEvent;
+import app.meads.entry.EntryStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntryMetricsTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    EntryMetrics metrics = new EntryMetrics(meterRegistry);
+    UUID divisionId = UUID.randomUUID();
+
+    private double changes(String operation, String status) {
+        return meterRegistry.get("meads.entries.changes")
+                .tags("operation", operation, "status", status).counter().count();
+    }
+
+    @Test
+    void shouldCountEntryChangesByOperationAndResultingStatus() {
+        metrics.on(new EntriesChangedEvent(divisionId, List.of(
+                new EntriesChangedEvent.Change(UUID.randomUUID(), null, EntryStatus.DRAFT),
+                new EntriesChangedEvent.Change(UUID.randomUUID(), null, EntryStatus.DRAFT),
+                new EntriesChangedEvent.Change(UUID.randomUUID(), EntryStatus.DRAFT, EntryStatus.SUBMITTED),
+                new EntriesChangedEvent.Change(UUID.randomUUID(), EntryStatus.DRAFT, null))));
+
+        assertThat(changes("created", "DRAFT")).isEqualTo(2);
+        assertThat(changes("updated", "SUBMITTED")).isEqualTo(1);
+        assertThat(changes("deleted", "none")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountAwardedCreditsPerSourceAndSkipRemovals() {
+        metrics.on(new CreditsAwardedEvent(divisionId, UUID.randomUUID(), 3, "WEBHOOK"));
+        metrics.on(new CreditsAwardedEvent(divisionId, UUID.randomUUID(), -1, "ADMIN"));
+        metrics.on(new CreditsImportedEvent(divisionId, List.of(
+                new CreditsImportedEvent.Grant(UUID.randomUUID(), 2),
+                new CreditsImportedEvent.Grant(UUID.randomUUID(), 1)), "ADMIN"));
+
+        assertThat(meterRegistry.get("meads.credits.awarded").tag("source", "WEBHOOK").counter().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("meads.credits.awarded").tag("source", "ADMIN").counter().count())
+                .isEqualTo(3);
+    }
+}
@@ -0,0 +1,66 @@
+package app.meads.entry.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class EntryNumberAllocatorTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    UUID divisionId = UUID.randomUUID();
+
+    @Test
+    void shouldBumpCounterInCallerTransactionWhenBlockSizeIsOne() {
+        var allocator = new EntryNumberAllocator(jdbcTemplate, transactionManager, 1);
+        given(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(divisionId), eq(1)))
+                .willReturn(7, 8);
+
+        assertThat(allocator.next(divisionId)).isEqualTo(7);
+        assertThat(allocator.next(divisionId)).isEqualTo(8);
+        then(transactionManager).should(never()).getTransaction(any());
+    }
+
+    @Test
+    void shouldServeNumbersFromReservedBlock() {
+        var allocator = new EntryNumberAllocator(jdbcTemplate, transactionManager, 3);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        given(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(divisionId), eq(3)))
+                .willReturn(3, 6);
+
+        assertThat(allocator.next(divisionId)).isEqualTo(1);
+        assertThat(allocator.next(divisionId)).isEqualTo(2);
+        assertThat(allocator.next(divisionId)).isEqualTo(3);
+        assertThat(allocator.next(divisionId)).isEqualTo(4);
+
+        then(jdbcTemplate).should(times(2))
+                .queryForObject(anyString(), eq(Integer.class), eq(divisionId), eq(3));
+    }
+
+    @Test
+    void shouldRejectNonPositiveBlockSize() {
+        assertThatThrownBy(() -> new EntryNumberAllocator(jdbcTemplate, transactionManager, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,5 +1,7 @@
 package app.meads.entry.internal;
 
+import app.meads.entry.EntrantDivisionChangedEvent;
+import app.meads.entry.EntriesChangedEvent;
 import app.meads.entry.Entry;
 import app.meads.entry.EntryCredit;
 import org.junit.jupiter.api.Test;
@@ -7,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,6 +26,12 @@ class EntryParticipantRemovalCleanupTest {
     @Mock
     private EntryCreditRepository entryCreditRepository;
 
+    @Mock
+    private DraftEntryArchive draftEntryArchive;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EntryParticipantRemovalCleanup cleanup;
 
@@ -31,7 +40,9 @@ class EntryParticipantRemovalCleanupTest {
         var competitionId = UUID.randomUUID();
         var userId = UUID.randomUUID();
 
+        var divisionId = UUID.randomUUID();
         var entries = List.of(mock(Entry.class), mock(Entry.class));
+        entries.forEach(entry -> given(entry.getDivisionId()).willReturn(divisionId));
         var credits = List.of(mock(EntryCredit.class));
         given(entryRepository.findByUserIdAndCompetitionId(userId, competitionId))
                 .willReturn(entries);
@@ -42,6 +53,10 @@ class EntryParticipantRemovalCleanupTest {
 
         verify(entryRepository).deleteAll(entries);
         verify(entryCreditRepository).deleteAll(credits);
+        verify(draftEntryArchive).deleteByUserIdAndCompetitionId(userId, competitionId);
+        verify(eventPublisher).publishEvent(any(EntrantDivisionChangedEvent.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof EntriesChangedEvent changed
+                && changed.divisionId().equals(divisionId) && changed.changes().size() == 2));
     }
 
     @Test
@@ -58,5 +73,6 @@ class EntryParticipantRemovalCleanupTest {
 
         verify(entryRepository).deleteAll(List.of());
         verify(entryCreditRepository).deleteAll(List.of());
+        verifyNoInteractions(eventPublisher);
     }
 }
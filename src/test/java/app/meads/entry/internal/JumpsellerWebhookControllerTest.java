@@ -1,16 +1,17 @@
 package app.meads.entry.internal;
 
 import app.meads.entry.WebhookService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -24,14 +25,16 @@ class JumpsellerWebhookControllerTest {
 
     MockMvc mockMvc;
 
-    @InjectMocks
     JumpsellerWebhookController controller;
 
     @Mock
     WebhookService webhookService;
 
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach
     void setUp() {
+        controller = new JumpsellerWebhookController(webhookService, meterRegistry);
         mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
     }
 
@@ -65,6 +68,8 @@ class JumpsellerWebhookControllerTest {
                 .andExpect(status().isUnauthorized());
 
         then(webhookService).should(never()).processOrderPaid(payload);
+        assertThat(meterRegistry.get("meads.webhook.order-paid").tag("outcome", "unauthorized").timer().count())
+                .isEqualTo(1);
     }
 
     @Test
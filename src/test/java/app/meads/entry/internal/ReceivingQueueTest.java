@@ -0,0 +1,107 @@
+package app.meads.entry.internal;
+
+import app.meads.entry.Carbonation;
+import app.meads.entry.Entry;
+import app.meads.entry.Sweetness;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceivingQueueTest {
+
+    private final UUID divisionId = UUID.randomUUID();
+    private final List<String> lookups = new ArrayList<>();
+
+    private Entry entry(int number) {
+        return new Entry(divisionId, UUID.randomUUID(), number, "CODE" + number,
+                "Mead " + number, UUID.randomUUID(), Sweetness.DRY, new BigDecimal("12.5"),
+                Carbonation.STILL, "Wildflower honey", null, false, null, null);
+    }
+
+    private ReceivingQueue queue(List<Entry> entries) {
+        return new ReceivingQueue(code -> {
+            lookups.add(code);
+            return entries.stream()
+                    .filter(entry -> code.equals("COMP-HM-" + entry.getEntryNumber()))
+                    .findFirst()
+                    .orElse(null);
+        });
+    }
+
+    @Test
+    void shouldQueueSubmittedEntryOnce() {
+        var submitted = entry(1);
+        submitted.submit();
+        var queue = queue(List.of(submitted));
+
+        var first = queue.scan("comp-hm-1 ");
+        var second = queue.scan("COMP-HM-1");
+
+        assertThat(first.outcome()).isEqualTo(ReceivingQueue.Outcome.QUEUED);
+        assertThat(first.entry()).isSameAs(submitted);
+        assertThat(second.outcome()).isEqualTo(ReceivingQueue.Outcome.ALREADY_QUEUED);
+        assertThat(queue.pending()).containsExactly(submitted.getId());
+        assertThat(lookups).containsExactly("COMP-HM-1", "COMP-HM-1");
+    }
+
+    @Test
+    void shouldReportEntriesThatCannotBeReceived() {
+        var received = entry(1);
+        received.submit();
+        received.markReceived();
+        var draft = entry(2);
+        var queue = queue(List.of(received, draft));
+
+        assertThat(queue.scan("COMP-HM-1").outcome()).isEqualTo(ReceivingQueue.Outcome.ALREADY_RECEIVED);
+        assertThat(queue.scan("COMP-HM-2").outcome()).isEqualTo(ReceivingQueue.Outcome.NOT_SUBMITTED);
+        assertThat(queue.scan("COMP-HM-3").outcome()).isEqualTo(ReceivingQueue.Outcome.UNKNOWN);
+        assertThat(queue.scan("  ").outcome()).isEqualTo(ReceivingQueue.Outcome.UNKNOWN);
+        assertThat(queue.pending()).isEmpty();
+    }
+
+    @Test
+    void shouldDropQueuedScansThatAreNoLongerSubmittedOnRefresh() {
+        var applied = entry(1);
+        applied.submit();
+        var stillPending = entry(2);
+        stillPending.submit();
+        var deleted = entry(3);
+        deleted.submit();
+        var queue = queue(List.of(applied, stillPending, deleted));
+        queue.scan("COMP-HM-1");
+        queue.scan("COMP-HM-2");
+        queue.scan("COMP-HM-3");
+
+        applied.markReceived();
+        queue.refresh(List.of(applied, stillPending));
+
+        assertThat(queue.pending()).containsExactly(stillPending.getId());
+        assertThat(queue.scan("COMP-HM-1").outcome()).isEqualTo(ReceivingQueue.Outcome.ALREADY_RECEIVED);
+    }
+
+    @Test
+    void shouldDropQueuedScansOfChangedOrRemovedEntries() {
+        var withdrawn = entry(1);
+        withdrawn.submit();
+        var removed = entry(2);
+        removed.submit();
+        var unchanged = entry(3);
+        unchanged.submit();
+        var queue = queue(List.of(withdrawn, removed, unchanged));
+        queue.scan("COMP-HM-1");
+        queue.scan("COMP-HM-2");
+        queue.scan("COMP-HM-3");
+
+        withdrawn.withdraw();
+        queue.update(withdrawn);
+        queue.remove(removed.getId());
+        queue.update(unchanged);
+
+        assertThat(queue.pending()).containsExactly(unchanged.getId());
+    }
+}
@@ -0,0 +1,42 @@
+package app.meads.entry.internal;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XlsxExportWriterTest {
+
+    @Test
+    void shouldStreamMoreRowsThanTheWindowIntoOneSheet() throws IOException {
+        int rows = XlsxExportWriter.ROW_WINDOW * 5;
+        var out = new ByteArrayOutputStream();
+        try (var writer = new XlsxExportWriter(out, "entries")) {
+            writer.row(List.of("entry_number", "mead_name", "wood_aged", "notes"));
+            for (int i = 1; i <= rows; i++) {
+                writer.row(Arrays.asList(i, "=Mead " + i, i % 2 == 0, null));
+            }
+        }
+
+        try (var workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            var sheet = workbook.getSheet("entries");
+            assertThat(sheet.getLastRowNum()).isEqualTo(rows);
+            assertThat(sheet.getRow(0).getCell(1).getStringCellValue()).isEqualTo("mead_name");
+            var last = sheet.getRow(rows);
+            assertThat(last.getCell(0).getNumericCellValue()).isEqualTo(rows);
+            // Text is never interpreted as a formula
+            assertThat(last.getCell(1).getCellType()).isEqualTo(CellType.STRING);
+            assertThat(last.getCell(1).getStringCellValue()).isEqualTo("=Mead " + rows);
+            assertThat(last.getCell(2).getBooleanCellValue()).isTrue();
+            assertThat(last.getCell(3, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK).getCellType()).isEqualTo(CellType.BLANK);
+        }
+    }
+}
@@ -329,7 +329,7 @@ class UserListViewTest {
         _click(saveButton);
 
         // Assert - grid should display updated values
-        var gridItems = grid.getListDataView().getItems().toList();
+        var gridItems = grid.getGenericDataView().getItems().toList();
         var updatedUserInGrid = gridItems.stream()
                 .filter(u -> u.getId().equals(user.getId()))
                 .findFirst()
@@ -340,6 +340,36 @@ class UserListViewTest {
         assertThat(updatedUserInGrid.getStatus()).isEqualTo(UserStatus.ACTIVE);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @WithMockUser(roles = "SYSTEM_ADMIN")
+    void shouldFilterGridByRoleAndTextOnServer() {
+        var admin = userRepository.save(new User(
+                "role-filter-" + UUID.randomUUID() + "@example.com",
+                "Role Filter Admin",
+                UserStatus.ACTIVE,
+                Role.SYSTEM_ADMIN
+        ));
+
+        UI.getCurrent().navigate("users");
+        Grid<User> grid = _get(Grid.class);
+        Select<Role> roleFilter = _find(Select.class).stream()
+                .filter(select -> "All roles".equals(select.getPlaceholder()))
+                .findFirst()
+                .orElseThrow();
+
+        roleFilter.setValue(Role.SYSTEM_ADMIN);
+
+        var items = grid.getGenericDataView().getItems().toList();
+        assertThat(items).isNotEmpty().allMatch(u -> u.getRole() == Role.SYSTEM_ADMIN);
+        assertThat(items).extracting(User::getId).contains(admin.getId());
+
+        _get(TextField.class).setValue(admin.getEmail());
+
+        assertThat(grid.getGenericDataView().getItems().toList())
+                .extracting(User::getId).containsExactly(admin.getId());
+    }
+
     @Test
     @WithMockUser(roles = "SYSTEM_ADMIN")
     void shouldShowErrorWhenSaveFails() {
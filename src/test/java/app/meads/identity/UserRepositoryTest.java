@@ -6,8 +6,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -142,4 +148,58 @@ class UserRepositoryTest {
         assertThat(found.get().isMfaEnabled()).isFalse();
         assertThat(found.get().getTotpSecret()).isNull();
     }
+
+    @Test
+    void shouldSearchUsersByNameEmailOrMeaderyRankingClosestMatchesFirst() {
+        var exact = new User("quillon@search.test", "Quillon Hive", UserStatus.ACTIVE, Role.USER);
+        var meadery = new User("owner@search.test", "Owner", UserStatus.ACTIVE, Role.USER);
+        meadery.updateMeaderyName("Quillon Hive Meadery");
+        userRepository.saveAll(List.of(meadery, exact));
+        var page = PageRequest.of(0, 10);
+
+        assertThat(userRepository.search(null, null, null, "quillon hive", "%quillon hive%", page))
+                .extracting(User::getEmail).containsExactly("quillon@search.test", "owner@search.test");
+        assertThat(userRepository.search(null, null, null, "owner", "%owner%", page))
+                .extracting(User::getEmail).containsExactly("owner@search.test");
+        assertThat(userRepository.countSearch(null, null, null, "%search.test%")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRestrictUserSearchByStatusRoleAndCountry() {
+        var admin = new User("admin@filter.test", "Filter Admin", UserStatus.ACTIVE, Role.SYSTEM_ADMIN);
+        var pending = new User("pending@filter.test", "Filter Pending", UserStatus.PENDING, Role.USER);
+        pending.updateCountry("PT");
+        var active = new User("active@filter.test", "Filter Active", UserStatus.ACTIVE, Role.USER);
+        active.updateCountry("ES");
+        userRepository.saveAll(List.of(admin, pending, active));
+        var page = PageRequest.of(0, 10);
+        var pattern = "%filter.test%";
+
+        assertThat(userRepository.search("ACTIVE", null, null, "filter.test", pattern, page))
+                .extracting(User::getEmail).containsExactlyInAnyOrder("admin@filter.test", "active@filter.test");
+        assertThat(userRepository.search(null, "USER", "PT", "filter.test", pattern, page))
+                .extracting(User::getEmail).containsExactly("pending@filter.test");
+        assertThat(userRepository.countSearch("ACTIVE", "USER", null, pattern)).isEqualTo(1);
+        assertThat(userRepository.countSearch(null, "SYSTEM_ADMIN", "ES", pattern)).isZero();
+    }
+
+    @Test
+    void shouldPageUsersWithDuplicateNamesWithoutRepeatsOrGaps() {
+        var users = new ArrayList<User>();
+        for (int i = 0; i < 5; i++) {
+            users.add(new User("same-" + i + "@page.test", "Same Name", UserStatus.ACTIVE, Role.USER));
+        }
+        userRepository.saveAll(users);
+        var pattern = "%page.test%";
+
+        var paged = new ArrayList<UUID>();
+        for (int page = 0; page < 3; page++) {
+            userRepository.search(null, null, null, "", pattern, PageRequest.of(page, 2))
+                    .forEach(user -> paged.add(user.getId()));
+        }
+
+        // Postgres orders uuids bytewise, which is the order of their hex strings
+        assertThat(paged).containsExactlyElementsOf(users.stream().map(User::getId)
+                .sorted(Comparator.comparing(UUID::toString)).toList());
+    }
 }
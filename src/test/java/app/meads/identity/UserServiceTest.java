@@ -1,6 +1,7 @@
 package app.meads.identity;
 
 import app.meads.BusinessRuleException;
+import app.meads.identity.internal.PendingUserBatchWriter;
 import app.meads.identity.internal.TotpService;
 import app.meads.identity.internal.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,12 +9,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.eq;
@@ -44,13 +49,16 @@ class UserServiceTest {
     @Mock
     TotpService totpService;
 
+    @Mock
+    PendingUserBatchWriter pendingUserBatchWriter;
+
     List<UserDeletionGuard> deletionGuards = new ArrayList<>();
 
     @BeforeEach
     void setUp() {
         deletionGuards.clear();
         userService = new UserService(userRepository, jwtMagicLinkService,
-                passwordEncoder, deletionGuards, totpService);
+                passwordEncoder, deletionGuards, totpService, pendingUserBatchWriter);
     }
 
     @Test
@@ -212,6 +220,20 @@ class UserServiceTest {
         then(userRepository).should().findAll(any(Sort.class));
     }
 
+    @Test
+    void shouldSearchUsersWithEscapedPatternAndUnsortedPage() {
+        var user = new User("a_b@example.com", "A B", UserStatus.ACTIVE, Role.USER);
+        given(userRepository.search("ACTIVE", null, "PT", "a_b", "%a\\_b%", PageRequest.of(2, 25)))
+                .willReturn(List.of(user));
+        given(userRepository.countSearch("ACTIVE", null, "PT", "%a\\_b%")).willReturn(51L);
+
+        var result = userService.searchUsers(" A_B ", UserStatus.ACTIVE, null, "PT",
+                PageRequest.of(2, 25, Sort.by("email")));
+
+        assertThat(result).containsExactly(user);
+        assertThat(userService.countUsers(" A_B ", UserStatus.ACTIVE, null, "PT")).isEqualTo(51);
+    }
+
     @Test
     void shouldFindUserById() {
         User user = new User("user@example.com", "User", UserStatus.ACTIVE, Role.USER);
@@ -299,6 +321,36 @@ class UserServiceTest {
         then(userRepository).should().save(any(User.class));
     }
 
+    @Test
+    void shouldResolveExistingAndBatchCreateMissingUsersByEmail() {
+        var existing = new User("existing@example.com", "Existing User", UserStatus.ACTIVE, Role.USER);
+        var created = new User("new@example.com", "New User", UserStatus.PENDING, Role.USER);
+        var namesByEmail = new LinkedHashMap<String, String>();
+        namesByEmail.put("existing@example.com", "Ignored");
+        namesByEmail.put("new@example.com", "New User");
+        given(userRepository.findByEmailIn(namesByEmail.keySet())).willReturn(List.of(existing));
+        given(userRepository.findByEmailIn(Set.of("new@example.com"))).willReturn(List.of(created));
+
+        var ids = userService.findOrCreateIdsByEmail(namesByEmail);
+
+        assertThat(ids).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "existing@example.com", existing.getId(),
+                "new@example.com", created.getId()));
+        then(pendingUserBatchWriter).should().insert(Map.of("new@example.com", "New User"));
+        then(userRepository).should(never()).save(any());
+    }
+
+    @Test
+    void shouldNotInsertWhenAllImportedEmailsExist() {
+        var existing = new User("existing@example.com", "Existing User", UserStatus.ACTIVE, Role.USER);
+        given(userRepository.findByEmailIn(Set.of("existing@example.com"))).willReturn(List.of(existing));
+
+        var ids = userService.findOrCreateIdsByEmail(Map.of("existing@example.com", "Existing User"));
+
+        assertThat(ids).containsOnlyKeys("existing@example.com");
+        then(pendingUserBatchWriter).should(never()).insert(any());
+    }
+
     // --- setPassword tests ---
 
     @Test
@@ -1,6 +1,7 @@
 package app.meads.identity.internal;
 
 import app.meads.identity.JwtMagicLinkService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,6 +48,8 @@ class SmtpEmailServiceTest {
 
     SmtpEmailService emailService;
 
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach
     void setup() {
         given(mailSender.createMimeMessage()).willReturn(mimeMessage);
@@ -57,7 +60,7 @@ class SmtpEmailServiceTest {
         org.mockito.Mockito.lenient().when(messageSource.getMessage(any(String.class), any(), any(String.class), any(Locale.class)))
                 .thenAnswer(inv -> inv.getArgument(2));
         emailService = new SmtpEmailService(mailSender, jwtMagicLinkService,
-                templateEngine, messageSource, "MEADS <noreply@meads.app>", 5, 50);
+                templateEngine, messageSource, "MEADS <noreply@meads.app>", 5, 50, meterRegistry);
     }
 
     @Test
@@ -133,6 +136,7 @@ class SmtpEmailServiceTest {
 
         assertThatCode(() -> emailService.sendMagicLink("user@example.com", Locale.ENGLISH))
                 .doesNotThrowAnyException();
+        assertThat(meterRegistry.get("meads.email.send").tag("outcome", "failed").timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -172,6 +176,23 @@ class SmtpEmailServiceTest {
         assertThat(ctx.getVariable("ctaLabel")).isEqualTo("email.submission.cta");
     }
 
+    @Test
+    void shouldSendDraftsDiscardedNoticeWithEntryLines() {
+        emailService.sendDraftsDiscarded(
+                "entrant@test.com", "CHIP 2026", "Amadora",
+                java.util.List.of("#3 — Wildflower", "#7 — Melomel"),
+                "http://localhost:8080/login/magic?token=abc", "admin@chip.pt", Locale.ENGLISH);
+
+        verify(mailSender).send(any(MimeMessage.class));
+        var contextCaptor = ArgumentCaptor.forClass(IContext.class);
+        verify(templateEngine).process(eq("email/email-base"), contextCaptor.capture());
+        var ctx = contextCaptor.getValue();
+        assertThat(ctx.getVariable("heading")).isEqualTo("email.drafts-discarded.heading");
+        assertThat(ctx.getVariable("entryLines")).isEqualTo(
+                java.util.List.of("#3 — Wildflower", "#7 — Melomel"));
+        assertThat(ctx.getVariable("contactEmail")).isEqualTo("admin@chip.pt");
+    }
+
     @Test
     void shouldNotSendMagicLinkWhenRateLimited() {
         given(jwtMagicLinkService.generateLink(eq("user@example.com"), any()))
@@ -0,0 +1,175 @@
+package app.meads.internal;
+
+import app.meads.ClusterJobRunner;
+import app.meads.TestcontainersConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.modulith.events.EventPublication;
+import org.springframework.modulith.events.IncompleteEventPublications;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+@Transactional
+class EventPublicationMaintenanceTest {
+
+    @Autowired
+    EventPublicationMaintenance maintenance;
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    IncompleteEventPublications incompletePublications;
+
+    @Autowired
+    ClusterJobRunner jobRunner;
+
+    private UUID insertPublication(Instant publishedAt, Instant completedAt) {
+        var id = UUID.randomUUID();
+        var params = new HashMap<String, Object>();
+        params.put("id", id);
+        params.put("publishedAt", Timestamp.from(publishedAt));
+        params.put("completedAt", completedAt != null ? Timestamp.from(completedAt) : null);
+        params.put("status", completedAt != null ? "COMPLETED" : "PUBLISHED");
+        jdbcTemplate.update("""
+                INSERT INTO event_publication (id, listener_id, event_type, serialized_event,
+                                               publication_date, completion_date, status)
+                VALUES (:id, 'test.Listener.on(test.Event)', 'test.Event', '{}',
+                        :publishedAt, :completedAt, :status)""", params);
+        return id;
+    }
+
+    private List<UUID> remaining(List<UUID> ids) {
+        return jdbcTemplate.queryForList("SELECT id FROM event_publication WHERE id IN (:ids)",
+                Map.of("ids", ids), UUID.class);
+    }
+
+    private EventPublicationMaintenance maintenance(int batchSize, int maxAttempts) {
+        return new EventPublicationMaintenance(jdbcTemplate, transactionManager, incompletePublications,
+                jobRunner, Duration.ofDays(30), batchSize, Duration.ofMinutes(5), Duration.ofHours(1),
+                maxAttempts, Duration.ofHours(1), Duration.ofSeconds(30));
+    }
+
+    private EventPublication publication(Instant publishedAt) {
+        var publication = mock(EventPublication.class);
+        given(publication.getIdentifier()).willReturn(UUID.randomUUID());
+        given(publication.getPublicationDate()).willReturn(publishedAt);
+        return publication;
+    }
+
+    @Test
+    void shouldPurgeOnlyCompletedPublicationsPastRetentionInBatches() {
+        var now = Instant.now();
+        var old = List.of(
+                insertPublication(now.minus(Duration.ofDays(45)), now.minus(Duration.ofDays(44))),
+                insertPublication(now.minus(Duration.ofDays(42)), now.minus(Duration.ofDays(41))),
+                insertPublication(now.minus(Duration.ofDays(40)), now.minus(Duration.ofDays(40))));
+        var recent = insertPublication(now.minus(Duration.ofDays(2)), now.minus(Duration.ofDays(1)));
+        var incomplete = insertPublication(now.minus(Duration.ofDays(60)), null);
+
+        maintenance(2, 10).purgeCompleted();
+
+        assertThat(remaining(old)).isEmpty();
+        assertThat(remaining(List.of(recent, incomplete))).containsExactlyInAnyOrder(recent, incomplete);
+    }
+
+    @Test
+    void shouldReportIncompleteBacklog() {
+        var now = Instant.now();
+        var before = maintenance.backlog().incomplete();
+        insertPublication(now.minus(Duration.ofDays(400)), null);
+        insertPublication(now.minus(Duration.ofMinutes(1)), null);
+        insertPublication(now.minus(Duration.ofMinutes(1)), now);
+
+        var backlog = maintenance.backlog();
+
+        assertThat(backlog.incomplete()).isEqualTo(before + 2);
+        assertThat(backlog.oldestPublication()).isBeforeOrEqualTo(now.minus(Duration.ofDays(400)));
+    }
+
+    @Test
+    void shouldPublishBacklogAsGauges() {
+        var registry = new SimpleMeterRegistry();
+        maintenance.bindTo(registry);
+        var before = registry.get("meads.events.incomplete").gauge().value();
+        insertPublication(Instant.now().minus(Duration.ofDays(400)), null);
+
+        assertThat(registry.get("meads.events.incomplete").gauge().value()).isEqualTo(before + 1);
+        assertThat(registry.get("meads.events.oldest.incomplete.age").gauge().value())
+                .isGreaterThanOrEqualTo(Duration.ofDays(400).toSeconds());
+    }
+
+    @Test
+    void shouldNotResubmitPublicationsThatMayStillBeRunning() {
+        var now = Instant.now();
+
+        assertThat(maintenance(1000, 10).isDue(publication(now.minus(Duration.ofMinutes(1))),
+                EventPublicationMaintenance.Attempts.NONE, now)).isFalse();
+    }
+
+    @Test
+    void shouldBackOffBetweenResubmissions() {
+        var now = Instant.now();
+        var maintenance = maintenance(1000, 10);
+        var publication = publication(now.minus(Duration.ofHours(1)));
+        var once = new EventPublicationMaintenance.Attempts(1, now);
+        var twice = new EventPublicationMaintenance.Attempts(2, now.plus(Duration.ofMinutes(5)));
+
+        assertThat(maintenance.isDue(publication, EventPublicationMaintenance.Attempts.NONE, now)).isTrue();
+        assertThat(maintenance.isDue(publication, once, now.plus(Duration.ofMinutes(4)))).isFalse();
+        assertThat(maintenance.isDue(publication, once, now.plus(Duration.ofMinutes(5)))).isTrue();
+        // Second backoff doubles to 10 minutes
+        assertThat(maintenance.isDue(publication, twice, now.plus(Duration.ofMinutes(14)))).isFalse();
+        assertThat(maintenance.isDue(publication, twice, now.plus(Duration.ofMinutes(15)))).isTrue();
+    }
+
+    @Test
+    void shouldStopResubmittingAfterMaxAttempts() {
+        var now = Instant.now();
+        var maintenance = maintenance(1000, 1);
+        var publication = publication(now.minus(Duration.ofHours(1)));
+        given(publication.getEvent()).willReturn(new Object());
+
+        assertThat(maintenance.isDue(publication, EventPublicationMaintenance.Attempts.NONE, now)).isTrue();
+        assertThat(maintenance.isDue(publication, new EventPublicationMaintenance.Attempts(1, now),
+                now.plus(Duration.ofDays(1)))).isFalse();
+    }
+
+    @Test
+    void shouldKeepAttemptsOnThePublicationRowAcrossInstances() {
+        var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        var stuck = insertPublication(now.minus(Duration.ofHours(1)), null);
+        var young = insertPublication(now.minus(Duration.ofMinutes(1)), null);
+
+        assertThat(maintenance(1000, 10).loadAttempts(now)).containsEntry(stuck,
+                EventPublicationMaintenance.Attempts.NONE).doesNotContainKey(young);
+
+        maintenance(1000, 10).recordAttempts(Map.of(stuck, 3), now);
+
+        // A restarted or different instance picks up the same backoff
+        assertThat(maintenance(1000, 10).loadAttempts(now))
+                .containsEntry(stuck, new EventPublicationMaintenance.Attempts(3, now));
+    }
+}
@@ -0,0 +1,81 @@
+package app.meads.internal;
+
+import app.meads.StatementCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.spy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class QueryBudgetInterceptorTest {
+
+    static final StatementCounter INSPECTOR = new StatementCounter();
+
+    @RestController
+    static class TestController {
+
+        @GetMapping("/sync")
+        String sync() {
+            INSPECTOR.inspect("select e from entries e where e.division_id=?");
+            return "done";
+        }
+
+        @GetMapping("/async")
+        Callable<String> async() {
+            INSPECTOR.inspect("select e from entries e where e.division_id=?");
+            return () -> "done";
+        }
+    }
+
+    QueryBudget queryBudget = spy(new QueryBudget(new SimpleMeterRegistry(), 50, 10, Duration.ofMinutes(1)));
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new TestController())
+                .addInterceptors(new QueryBudgetInterceptor(queryBudget))
+                .build();
+    }
+
+    @Test
+    void shouldReportSynchronousRequestOnCompletion() throws Exception {
+        mockMvc.perform(get("/sync")).andExpect(content().string("done"));
+
+        var scope = ArgumentCaptor.forClass(StatementCounter.Scope.class);
+        then(queryBudget).should().finish(scope.capture(), eq("http"), any());
+        assertThat(scope.getValue().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFinishScopeWhenAsyncHandlingStartsAndSkipAsyncDispatch() throws Exception {
+        var result = mockMvc.perform(get("/async"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var scope = ArgumentCaptor.forClass(StatementCounter.Scope.class);
+        then(queryBudget).should().finish(scope.capture(), eq("http"), any());
+        // The request thread no longer carries the scope
+        INSPECTOR.inspect("select 1");
+        assertThat(scope.getValue().count()).isEqualTo(1);
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(content().string("done"));
+
+        then(queryBudget).should().finish(any(), any(), any());
+    }
+}
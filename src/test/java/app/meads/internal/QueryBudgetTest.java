@@ -0,0 +1,46 @@
+package app.meads.internal;
+
+import app.meads.StatementCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryBudgetTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    QueryBudget queryBudget = new QueryBudget(meterRegistry, 5, 2, Duration.ofMinutes(1));
+    StatementCounter inspector = new StatementCounter();
+
+    @Test
+    void shouldCountRequestsThatRepeatAStatementPerRow() {
+        var scope = StatementCounter.open();
+        inspector.inspect("select e from entries e where e.division_id=?");
+        for (int i = 0; i < 3; i++) {
+            inspector.inspect("select c from entry_credits c where c.user_id=?");
+        }
+
+        queryBudget.finish(scope, "ui-event", () -> "DivisionEntryAdminView");
+
+        assertThat(meterRegistry.get("meads.request.over-budget")
+                .tags("kind", "ui-event", "target", "DivisionEntryAdminView", "budget", "repeats")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("meads.request.over-budget").tag("budget", "statements").counter()).isNull();
+        assertThat(meterRegistry.get("meads.request.statements").summary().totalAmount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldNotResolveTargetOfRequestsWithoutStatements() {
+        var scope = StatementCounter.open();
+
+        queryBudget.finish(scope, "ui-event", () -> {
+            throw new AssertionError("target resolved");
+        });
+
+        assertThat(meterRegistry.getMeters()).isEmpty();
+        inspector.inspect("select 1");
+        assertThat(scope.count()).isZero();
+    }
+}